@@ -136,6 +136,16 @@ public void incrementCount() {
         m_count++;
     }
 
+    /**
+     * Adds the given value to the count, e.g., a negative one to remove occurrences again.
+     *
+     * @param delta the value to add
+     * @since 6.12
+     */
+    public void addCount(final int delta) {
+        m_count += delta;
+    }
+
     /**
      * {@inheritDoc}
      */
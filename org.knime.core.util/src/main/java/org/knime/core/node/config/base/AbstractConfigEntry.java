@@ -61,6 +61,9 @@
  */
 public abstract class AbstractConfigEntry implements Serializable, TreeNode {
 
+    // the implicitly computed UID of earlier versions (same for the derived entries), keeps serialized configs readable
+    private static final long serialVersionUID = -7441015688994412121L;
+
     /** The type of the stored value. */
     private final ConfigEntries m_type;
 
@@ -110,6 +113,9 @@ public final String getKey() {
      */
     final void setKey(final String key) {
         m_key = checkKey(key);
+        if (m_parent instanceof ConfigBase parent) {
+            parent.invalidateContentHashCode();
+        }
     }
 
     /**
@@ -188,6 +194,26 @@ public final boolean isIdentical(final AbstractConfigEntry ace) {
      */
     abstract boolean hasIdenticalValue(AbstractConfigEntry ace);
 
+    /**
+     * Hash code over key, type, and value of this entry. Unlike {@link #hashCode()} it takes the value into account
+     * and it is consistent with {@link #isIdentical(AbstractConfigEntry)}: identical entries have the same content hash
+     * code, so entries (and entire config trees) with different content hash codes can't be identical.
+     *
+     * @return the content hash code of this entry
+     * @since 6.12
+     */
+    public final int getContentHashCode() {
+        return (31 * m_key.hashCode() + m_type.ordinal()) * 31 + valueHashCode();
+    }
+
+    /**
+     * Derived classes must compute a hash code of their value that is consistent with
+     * {@link #hasIdenticalValue(AbstractConfigEntry)}.
+     *
+     * @return hash code of the value
+     */
+    abstract int valueHashCode();
+
     /**
      * {@inheritDoc}
      */
@@ -49,15 +49,20 @@
 import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.OutputStream;
+import java.lang.ref.WeakReference;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.security.spec.InvalidKeySpecException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -97,6 +102,13 @@ public abstract class ConfigBase extends AbstractConfigEntry
 
     private static final long serialVersionUID = 6392086975749370153L;
 
+    /**
+     * The serialized form of earlier versions that held the children in a {@link LinkedHashMap}; still used to stay
+     * compatible with configs written using Java serialization.
+     */
+    private static final ObjectStreamField[] serialPersistentFields =
+        {new ObjectStreamField("m_map", LinkedHashMap.class)};
+
     private static IEncrypter createEncrypter(final String key ) {
         try {
         	// limit key strength using small iteration count -- gives performance boost but doesn't lose a lot
@@ -110,15 +122,39 @@ private static IEncrypter createEncrypter(final String key ) {
 
     private static final String CFG_ARRAY_SIZE = "array-size";
 
-    private final LinkedHashMap<String, AbstractConfigEntry> m_map;
+    /**
+     * The children of this config in insertion order. Not final as it is restored in
+     * {@link #readObject(ObjectInputStream)}.
+     */
+    private ConfigEntryMap m_map;
+
+    /**
+     * Cached hash code of the entries in this subtree, see {@link #valueHashCode()}; {@code 0} if not yet computed
+     * or invalidated by a modification of this config or one of its descendants.
+     */
+    private transient int m_valueHashCode;
+
+    /**
+     * The config this one is a lazy copy of (see {@link #copyOnWriteTo(ConfigBaseWO)}) as long as the entries have not
+     * been copied from it, {@code null} otherwise. The entries are copied on first access via {@link #map()}.
+     */
+    private transient ConfigBase m_copySource;
+
+    /**
+     * The lazy copies that have this config as {@link #m_copySource}, weakly referenced as they are often discarded
+     * without ever being accessed; {@code null} if there are none. Stale references are only pruned occasionally.
+     */
+    private transient List<WeakReference<ConfigBase>> m_pendingCopies;
 
     protected void put(final AbstractConfigEntry e) {
+        detachCopiesBeforeWrite();
         m_map.put(e.getKey(), e);
         e.setParent(this); // (tg)
+        invalidateContentHashCode();
     }
 
     protected AbstractConfigEntry get(final String key) {
-        return m_map.get(key);
+        return map().get(key);
     }
 
     /**
@@ -128,7 +164,7 @@ protected AbstractConfigEntry get(final String key) {
      */
     public ConfigBase(final String key) {
         super(ConfigEntries.config, key);
-        m_map = new LinkedHashMap<String, AbstractConfigEntry>(1, 0.8f);
+        m_map = new ConfigEntryMap();
     }
 
     /**
@@ -179,7 +215,7 @@ protected final void addConfigBase(final ConfigBase config) {
     @Override
     public final ConfigBase getConfigBase(final String key)
         throws InvalidSettingsException {
-        Object o = m_map.get(key);
+        Object o = map().get(key);
         if (o == null || !(o instanceof ConfigBase)) {
             throw new InvalidSettingsException(
                     "ConfigBase for key \"" + key + "\" not found.");
@@ -197,6 +233,8 @@ public final ConfigBase getConfigBase(final String key)
      * @since 6.3
      */
     public final AbstractConfigEntry removeConfig(final String key) {
+        detachCopiesBeforeWrite();
+        invalidateContentHashCode();
         return m_map.remove(key);
     }
 
@@ -220,7 +258,7 @@ public void addInt(final String key, final int value) {
      */
     @Override
     public int getInt(final String key) throws InvalidSettingsException {
-        Object o = m_map.get(key);
+        Object o = map().get(key);
         if (o == null || !(o instanceof ConfigIntEntry)) {
             throw new InvalidSettingsException(
                     "Int for key \"" + key + "\" not found.");
@@ -248,7 +286,7 @@ public void addDouble(final String key, final double value) {
      */
     @Override
     public double getDouble(final String key) throws InvalidSettingsException {
-        Object o = m_map.get(key);
+        Object o = map().get(key);
         if (o == null || !(o instanceof ConfigDoubleEntry)) {
             throw new InvalidSettingsException(
                     "Double for key \"" + key + "\" not found.");
@@ -276,7 +314,7 @@ public void addFloat(final String key, final float value) {
      */
     @Override
     public float getFloat(final String key) throws InvalidSettingsException {
-        Object o = m_map.get(key);
+        Object o = map().get(key);
         if (o == null || !(o instanceof ConfigFloatEntry)) {
             throw new InvalidSettingsException(
                     "Float for key \"" + key + "\" not found.");
@@ -304,7 +342,7 @@ public void addChar(final String key, final char value) {
      */
     @Override
     public char getChar(final String key) throws InvalidSettingsException {
-        Object o = m_map.get(key);
+        Object o = map().get(key);
         if (o == null || !(o instanceof ConfigCharEntry)) {
             throw new InvalidSettingsException(
                     "Char for key \"" + key + "\" not found.");
@@ -332,7 +370,7 @@ public void addShort(final String key, final short value) {
      */
     @Override
     public short getShort(final String key) throws InvalidSettingsException {
-        Object o = m_map.get(key);
+        Object o = map().get(key);
         if (o == null || !(o instanceof ConfigShortEntry)) {
             throw new InvalidSettingsException(
                     "Short for key \"" + key + "\" not found.");
@@ -360,7 +398,7 @@ public void addLong(final String key, final long value) {
      */
     @Override
     public long getLong(final String key) throws InvalidSettingsException {
-        Object o = m_map.get(key);
+        Object o = map().get(key);
         if (o == null || !(o instanceof ConfigLongEntry)) {
             throw new InvalidSettingsException(
                     "Long for key \"" + key + "\" not found.");
@@ -389,7 +427,7 @@ public void addByte(final String key, final byte value) {
      */
     @Override
     public byte getByte(final String key) throws InvalidSettingsException {
-        Object o = m_map.get(key);
+        Object o = map().get(key);
         if (o == null || !(o instanceof ConfigByteEntry)) {
             throw new InvalidSettingsException(
                     "Byte for key \"" + key + "\" not found.");
@@ -418,7 +456,7 @@ public void addString(final String key, final String value) {
      */
     @Override
     public String getString(final String key) throws InvalidSettingsException {
-        Object o = m_map.get(key);
+        Object o = map().get(key);
         if (o == null || !(o instanceof ConfigStringEntry)) {
             throw new InvalidSettingsException(
                     "String for key \"" + key + "\" not found.");
@@ -433,7 +471,7 @@ public String getString(final String key) throws InvalidSettingsException {
      */
     @Override
     public Set<String> keySet() {
-        return Collections.unmodifiableSet(m_map.keySet());
+        return Collections.unmodifiableSet(map().keySet());
     }
 
     /**
@@ -446,17 +484,26 @@ public boolean hasIdenticalValue(final AbstractConfigEntry otherConfig) {
         // this should be save as the super ensures identical classes
         ConfigBase otherCfg = (ConfigBase)otherConfig;
 
-        if (this.m_map.size() != otherCfg.m_map.size()) {
+        if (this == otherCfg || m_copySource == otherCfg || otherCfg.m_copySource == this) {
+            // a pending lazy copy has the content of its source as the source detaches it before any modification
+            return true;
+        }
+        if (map().size() != otherCfg.map().size()) {
            return false;
         }
+        // cached per subtree, so comparing the same (unmodified) configs again only compares the hash codes
+        // unless they are identical
+        if (valueHashCode() != otherCfg.valueHashCode()) {
+            return false;
+        }
 
-        for (String myKey : this.m_map.keySet()) {
+        for (String myKey : map().keySet()) {
             // The other config must contain all keys we've stored.
-            if (!otherCfg.m_map.containsKey(myKey)) {
+            if (!otherCfg.map().containsKey(myKey)) {
                 return false;
             }
-            AbstractConfigEntry ce = this.m_map.get(myKey);
-            AbstractConfigEntry otherCe = otherCfg.m_map.get(myKey);
+            AbstractConfigEntry ce = map().get(myKey);
+            AbstractConfigEntry otherCe = otherCfg.map().get(myKey);
             if (ce == null) {
                 if (otherCe != null) {
                     return false;
@@ -473,6 +520,43 @@ public boolean hasIdenticalValue(final AbstractConfigEntry otherConfig) {
 
     }
 
+    /**
+     * Order-independent hash code over the content hash codes of all entries, consistent with
+     * {@link #hasIdenticalValue(AbstractConfigEntry)}. It is cached for each subtree until this config or one of its
+     * descendants is modified, i.e., re-computing it after a modification only visits the modified path.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    final int valueHashCode() {
+        var hashCode = m_valueHashCode;
+        if (hashCode == 0) {
+            for (AbstractConfigEntry e : map().values()) {
+                // mix the hash codes of the entries before summing them up so that swapped values don't cancel out
+                hashCode += mix(e == null ? 0 : e.getContentHashCode());
+            }
+            m_valueHashCode = hashCode;
+        }
+        return hashCode;
+    }
+
+    /** Finalization step of MurmurHash3, spreads the bits of the argument over the entire int. */
+    private static int mix(final int hashCode) {
+        var h = hashCode;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        return h ^ (h >>> 16);
+    }
+
+    /** Invalidates the cached hash code of this config and of all its ancestors. */
+    final void invalidateContentHashCode() {
+        for (TreeNode node = this; node instanceof ConfigBase config; node = config.getParent()) {
+            config.m_valueHashCode = 0;
+        }
+    }
+
     /**
      * Checks if this key for a particular type is in this Config.
      *
@@ -482,7 +566,7 @@ public boolean hasIdenticalValue(final AbstractConfigEntry otherConfig) {
      */
     @Override
     public boolean containsKey(final String key) {
-        return m_map.containsKey(key);
+        return map().containsKey(key);
     }
 
     /**
@@ -495,7 +579,7 @@ public boolean containsKey(final String key) {
     @Override
     public boolean getBoolean(final String key)
             throws InvalidSettingsException {
-        Object o = m_map.get(key);
+        Object o = map().get(key);
         if (o == null || !(o instanceof ConfigBooleanEntry)) {
             throw new InvalidSettingsException(
                     "Boolean for key \"" + key + "\" not found.");
@@ -523,7 +607,7 @@ public void addBoolean(final String key, final boolean value) {
      */
     @Override
     public int getInt(final String key, final int def) {
-        Object o = m_map.get(key);
+        Object o = map().get(key);
         if (o == null || !(o instanceof ConfigIntEntry)) {
             return def;
         }
@@ -595,7 +679,7 @@ public void addIntArray(final String key, final int... values) {
      */
     @Override
     public double getDouble(final String key, final double def) {
-        Object o = m_map.get(key);
+        Object o = map().get(key);
         if (o == null || !(o instanceof ConfigDoubleEntry)) {
             return def;
         }
@@ -650,7 +734,7 @@ public double[] getDoubleArray(final String key, final double... def) {
      */
     @Override
     public float getFloat(final String key, final float def) {
-        Object o = m_map.get(key);
+        Object o = map().get(key);
         if (o == null || !(o instanceof ConfigFloatEntry)) {
             return def;
         }
@@ -741,7 +825,7 @@ public void addFloatArray(final String key, final float... values) {
      */
     @Override
     public char getChar(final String key, final char def) {
-        Object o = m_map.get(key);
+        Object o = map().get(key);
         if (o == null || !(o instanceof ConfigCharEntry)) {
             return def;
         }
@@ -836,7 +920,7 @@ public void addByteArray(final String key, final byte... values) {
      */
     @Override
     public byte getByte(final String key, final byte def) {
-        Object o = m_map.get(key);
+        Object o = map().get(key);
         if (o == null || !(o instanceof ConfigByteEntry)) {
             return def;
         }
@@ -949,7 +1033,7 @@ public void addShortArray(final String key, final short... values) {
      */
     @Override
     public short getShort(final String key, final short def) {
-        Object o = m_map.get(key);
+        Object o = map().get(key);
         if (o == null || !(o instanceof ConfigShortEntry)) {
             return def;
         }
@@ -982,7 +1066,7 @@ public void addLongArray(final String key, final long... values) {
      */
     @Override
     public long getLong(final String key, final long def) {
-        Object o = m_map.get(key);
+        Object o = map().get(key);
         if (o == null || !(o instanceof ConfigLongEntry)) {
             return def;
         }
@@ -1032,7 +1116,7 @@ public void addCharArray(final String key, final char... values) {
      */
     @Override
     public boolean getBoolean(final String key, final boolean def) {
-        Object o = m_map.get(key);
+        Object o = map().get(key);
         if (o == null || !(o instanceof ConfigBooleanEntry)) {
             return def;
         }
@@ -1106,7 +1190,7 @@ public void addBooleanArray(final String key, final boolean... values) {
      */
     @Override
     public String getString(final String key, final String def) {
-        Object o = m_map.get(key);
+        Object o = map().get(key);
         if (o == null || !(o instanceof ConfigStringEntry)) {
             return def;
         }
@@ -1177,7 +1261,7 @@ public void addStringArray(final String key, final String... values) {
      * @return The ConfigBase entry for the key.
      */
     public AbstractConfigEntry getEntry(final String key) {
-        return m_map.get(key);
+        return map().get(key);
     }
 
     /**
@@ -1236,7 +1320,7 @@ public String toString() {
     private void toString(final int indent, final StringBuffer sb) {
         assert (indent >= 0);
         sb.ensureCapacity(1000);
-        for (String key : m_map.keySet()) {
+        for (String key : map().keySet()) {
             for (int t = 0; t < indent * TAB_SIZE; t++) {
                 sb.append(SPACE);
             }
@@ -1265,6 +1349,22 @@ private void toString(final int indent, final StringBuffer sb) {
 
     /* --- write and read from file --- */
 
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        final ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("m_map", new LinkedHashMap<>(map()));
+        out.writeFields();
+    }
+
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        final ObjectInputStream.GetField fields = in.readFields();
+        @SuppressWarnings("unchecked")
+        final var map = (Map<String, AbstractConfigEntry>)fields.get("m_map", null);
+        m_map = new ConfigEntryMap();
+        if (map != null) {
+            m_map.putAll(map);
+        }
+    }
+
     /**
      * Writes this ConfigBase into the given stream.
      *
@@ -1362,8 +1462,8 @@ public void copyTo(final ConfigBaseWO dest) {
             copyFrom.copyFrom(this);
             return;
         }
-        for (Map.Entry<String, AbstractConfigEntry> e : m_map.entrySet()) {
-            AbstractConfigEntry ace = e.getValue();
+        for (int i = 0; i < map().size(); i++) {
+            AbstractConfigEntry ace = map().entryAt(i);
             if (ace instanceof ConfigBase configBaseAce) {
                 ConfigBase config = dest.addConfigBase(ace.getKey());
                 configBaseAce.copyTo(config);
@@ -1376,6 +1476,133 @@ public void copyTo(final ConfigBaseWO dest) {
         }
     }
 
+    /**
+     * Copies this config to the given destination like {@link #copyTo(ConfigBaseWO)}, but lazily: instead of copying
+     * the entire tree, the destination shares the subtrees of this config until they are accessed through the copy or
+     * modified in this config. Reading or modifying an entry of either config only copies the configs on the path to
+     * that entry, so copying a large config is O(1) and the copy only pays for what is actually used of it.
+     *
+     * The copy and this config are still independent in every observable way. However, they share state internally
+     * until all subtrees have been copied, so unlike after {@link #copyTo(ConfigBaseWO)}, they must not be used by
+     * different threads without synchronizing on a common lock while either of them is modified. Several copies of a
+     * config that is neither modified nor itself a lazy copy may be read by different threads, reading a copy only
+     * registers its sub configs with the source under the source's monitor. If the destination is not a
+     * {@link ConfigBase} or implements {@link CopyFromConfigBase}, this method is equivalent to
+     * {@link #copyTo(ConfigBaseWO)}.
+     *
+     * @param dest the destination this ConfigBase object is copied to
+     * @since 6.12
+     */
+    public void copyOnWriteTo(final ConfigBaseWO dest) {
+        if (!(dest instanceof ConfigBase destConfig) || dest instanceof CopyFromConfigBase || dest == this) {
+            copyTo(dest);
+            return;
+        }
+        destConfig.detachCopiesBeforeWrite();
+        if (destConfig.m_map.isEmpty()) {
+            registerCopy(destConfig);
+            destConfig.invalidateContentHashCode();
+            return;
+        }
+        // merge into the existing entries (as copyTo does), sharing only the sub configs
+        final ConfigEntryMap map = map();
+        for (int i = 0; i < map.size(); i++) {
+            final AbstractConfigEntry ace = map.entryAt(i);
+            if (ace instanceof ConfigBase configBaseAce) {
+                configBaseAce.registerCopy(destConfig.addConfigBase(ace.getKey()));
+            } else {
+                destConfig.addEntry(ace);
+            }
+        }
+    }
+
+    /**
+     * Returns the entries of this config, copying them from the {@link #m_copySource} first if this is a pending lazy
+     * copy. Leaf entries are immutable and shared (as in {@link #copyTo(ConfigBaseWO)}); each sub config becomes a
+     * lazy copy of the respective sub config of the source.
+     */
+    private ConfigEntryMap map() {
+        final ConfigBase source = m_copySource;
+        if (source != null) {
+            m_copySource = null;
+            final ConfigEntryMap sourceMap = source.map();
+            for (int i = 0; i < sourceMap.size(); i++) {
+                final AbstractConfigEntry ace = sourceMap.entryAt(i);
+                if (ace instanceof ConfigBase configBaseAce) {
+                    final ConfigBase child = getInstance(ace.getKey());
+                    child.setParent(this);
+                    configBaseAce.registerCopy(child);
+                    m_map.put(ace.getKey(), child);
+                } else {
+                    // not re-parented: reading a copy must not modify the source
+                    m_map.put(ace.getKey(), ace);
+                }
+            }
+        }
+        return m_map;
+    }
+
+    /**
+     * Makes the given empty config a pending lazy copy of this config. Synchronized on this config since reading a
+     * lazy copy registers its sub configs here, so copies of the same source that are read by different threads
+     * would otherwise modify {@link #m_pendingCopies} concurrently.
+     */
+    private void registerCopy(final ConfigBase copy) {
+        copy.m_copySource = this;
+        synchronized (this) {
+            if (m_pendingCopies == null) {
+                m_pendingCopies = new ArrayList<>(2);
+            } else if (m_pendingCopies.size() >= 16 && Integer.bitCount(m_pendingCopies.size()) == 1) {
+                // amortized pruning of copies that were discarded or have copied their entries in the meantime
+                m_pendingCopies.removeIf(ref -> {
+                    final ConfigBase pending = ref.get();
+                    return pending == null || pending.m_copySource != this;
+                });
+            }
+            m_pendingCopies.add(new WeakReference<>(copy));
+        }
+    }
+
+    /** Removes and returns the pending lazy copies of this config, see {@link #registerCopy(ConfigBase)}. */
+    private synchronized List<WeakReference<ConfigBase>> takePendingCopies() {
+        final List<WeakReference<ConfigBase>> copies = m_pendingCopies;
+        m_pendingCopies = null;
+        return copies;
+    }
+
+    /**
+     * Prepares a modification of this config: its own entries are copied if it is a lazy copy, and all pending lazy
+     * copies of this config and its ancestors copy the entries on the path to this config, so that they don't see
+     * the modification.
+     */
+    private void detachCopiesBeforeWrite() {
+        map();
+        boolean hasPendingCopies = false;
+        for (TreeNode node = this; node instanceof ConfigBase config && !hasPendingCopies; node = config.getParent()) {
+            hasPendingCopies = config.m_pendingCopies != null;
+        }
+        if (!hasPendingCopies) {
+            return;
+        }
+        // top-down, since a copy of an ancestor becomes a pending copy of the next config on the path once it has
+        // copied its entries
+        final ArrayDeque<ConfigBase> path = new ArrayDeque<>();
+        for (TreeNode node = this; node instanceof ConfigBase config; node = config.getParent()) {
+            path.push(config);
+        }
+        for (ConfigBase config : path) {
+            final List<WeakReference<ConfigBase>> copies = config.takePendingCopies();
+            if (copies != null) {
+                for (WeakReference<ConfigBase> ref : copies) {
+                    final ConfigBase copy = ref.get();
+                    if (copy != null && copy.m_copySource == config) {
+                        copy.map();
+                    }
+                }
+            }
+        }
+    }
+
     // tree node methods
 
     /**
@@ -1385,12 +1612,7 @@ public void copyTo(final ConfigBaseWO dest) {
      */
     @Override
     public TreeNode getChildAt(final int childIndex) {
-        Iterator<String> it = m_map.keySet().iterator();
-        for (int i = 0; i < childIndex; i++) {
-            it.next();
-        }
-        TreeNode node = m_map.get(it.next());
-        return node;
+        return map().entryAt(childIndex);
     }
 
     /**
@@ -1399,7 +1621,7 @@ public TreeNode getChildAt(final int childIndex) {
      */
     @Override
     public int getChildCount() {
-        return m_map.size();
+        return map().size();
     }
 
     /**
@@ -1410,12 +1632,10 @@ public int getChildCount() {
      */
     @Override
     public int getIndex(final TreeNode node) {
-        int i = 0;
-        for (Map.Entry<String, AbstractConfigEntry> e : m_map.entrySet()) {
-            if (e.getValue().equals(node)) {
+        for (int i = 0; i < map().size(); i++) {
+            if (map().entryAt(i).equals(node)) {
                 return i;
             }
-            i++;
         }
         return -1;
     }
@@ -1426,7 +1646,7 @@ public int getIndex(final TreeNode node) {
      */
     @Override
     public final boolean isLeaf() {
-        return m_map.isEmpty();
+        return map().isEmpty();
     }
 
     /**
@@ -1436,7 +1656,7 @@ public final boolean isLeaf() {
      */
     @Override
     public final Enumeration<TreeNode> children() {
-        return new Vector<TreeNode>(m_map.values()).elements();
+        return new Vector<TreeNode>(map().values()).elements();
     }
 
     /**
@@ -1477,7 +1697,7 @@ public void addEncryptedPassword(final String key, final String encrypted) {
      */
     @Override
     public String getPassword(final String key, final String encryptionKey) throws InvalidSettingsException {
-        Object o = m_map.get(key);
+        Object o = map().get(key);
         if (!(o instanceof ConfigPasswordEntry)) {
             throw new InvalidSettingsException("Password for key \"" + key + "\" not found.");
         }
@@ -1494,7 +1714,7 @@ public String getPassword(final String key, final String encryptionKey) throws I
      */
     @Override
     public String getPassword(final String key, final String encryptionKey, final String def) {
-        Object o = m_map.get(key);
+        Object o = map().get(key);
         if (!(o instanceof ConfigPasswordEntry)) {
             return def;
         }
@@ -1517,7 +1737,7 @@ public void addTransientString(final String key, final String value) {
      * @since 5.3 */
     @Override
     public String getTransientString(final String key) {
-        Object o = m_map.get(key);
+        Object o = map().get(key);
         if (!(o instanceof ConfigTransientStringEntry)) {
             return null;
         } else {
@@ -1530,7 +1750,7 @@ public String getTransientString(final String key) {
      */
     @Override
     AbstractJSONEntry toJSONEntry() {
-        Map<String, AbstractJSONEntry> jsonMap = m_map.entrySet().stream()
+        Map<String, AbstractJSONEntry> jsonMap = map().entrySet().stream()
                 .collect(Collectors.toMap(Entry::getKey, e -> e.getValue().toJSONEntry()));
         return new JSONTree(jsonMap);
     }
@@ -1538,7 +1758,7 @@ AbstractJSONEntry toJSONEntry() {
     /** Converts this to a JSON root element that can then be serialized.
      * @return A new root element. */
     JSONRoot toJSONRoot() {
-        Map<String, AbstractJSONEntry> jsonMap = m_map.entrySet().stream()
+        Map<String, AbstractJSONEntry> jsonMap = map().entrySet().stream()
                 .collect(Collectors.toMap(Entry::getKey, e -> e.getValue().toJSONEntry()));
         return new JSONRoot(getKey(), jsonMap);
     }
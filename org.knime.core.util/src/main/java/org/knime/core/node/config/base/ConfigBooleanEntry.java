@@ -57,6 +57,8 @@
  */
 public final class ConfigBooleanEntry extends AbstractConfigEntry {
 
+    private static final long serialVersionUID = 2907722021221858986L;
+
     /** The boolean value. */
     private final boolean m_boolean;
 
@@ -104,6 +106,14 @@ protected boolean hasIdenticalValue(final AbstractConfigEntry ace) {
         return ((ConfigBooleanEntry)ace).m_boolean == m_boolean;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    int valueHashCode() {
+        return Boolean.hashCode(m_boolean);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -55,6 +55,8 @@
  */
 public final class ConfigByteEntry extends AbstractConfigEntry {
 
+    private static final long serialVersionUID = -7126835219858843920L;
+
     /** The byte value. */
     private final byte m_byte;
 
@@ -102,6 +104,14 @@ protected boolean hasIdenticalValue(final AbstractConfigEntry ace) {
         return ((ConfigByteEntry) ace).m_byte == m_byte;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    int valueHashCode() {
+        return Byte.hashCode(m_byte);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -55,6 +55,8 @@
  */
 public final class ConfigCharEntry extends AbstractConfigEntry {
 
+    private static final long serialVersionUID = -8004924822874681297L;
+
     /** The char value. */
     private final char m_char;
 
@@ -106,6 +108,14 @@ protected boolean hasIdenticalValue(final AbstractConfigEntry ace) {
         return ((ConfigCharEntry) ace).m_char == m_char;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    int valueHashCode() {
+        return Character.hashCode(m_char);
+    }
+
     /**
      * {@inheritDoc}
      */
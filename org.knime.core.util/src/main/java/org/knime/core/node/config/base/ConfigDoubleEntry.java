@@ -55,6 +55,8 @@
  */
 public final class ConfigDoubleEntry extends AbstractConfigEntry {
 
+    private static final long serialVersionUID = -4209870998018312566L;
+
     /** The double value. */
     private final double m_double;
 
@@ -102,6 +104,14 @@ protected boolean hasIdenticalValue(final AbstractConfigEntry ace) {
         return Double.compare(((ConfigDoubleEntry) ace).m_double, m_double) == 0;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    int valueHashCode() {
+        return Double.hashCode(m_double);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,335 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.core.node.config.base;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+/**
+ * Insertion-ordered map from key to entry that holds the children of a {@link ConfigBase}. Replaces a
+ * {@link java.util.LinkedHashMap} which needs a node object with four references and a hash per mapping (plus the
+ * table), whereas this map stores keys and entries in two parallel arrays. Small maps (the vast majority of configs
+ * have only a handful of children) are searched linearly; once a map grows beyond {@value #INDEX_THRESHOLD} mappings,
+ * an open-addressed hash index from key to position is added.
+ *
+ * In contrast to a linked map, the entry at a given position can be accessed in O(1), which is what the
+ * {@link javax.swing.tree.TreeNode} methods of {@link ConfigBase} need. Removing a mapping is O(n), but removals are
+ * rare compared to additions and lookups.
+ *
+ * Keys must not be {@code null}. The views returned by {@link #keySet()}, {@link #values()}, and {@link #entrySet()}
+ * are read-only and their iterators fail fast if the map is structurally modified during iteration. They are created
+ * on each call (instead of being cached in fields) to keep the map small.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ConfigEntryMap extends AbstractMap<String, AbstractConfigEntry> {
+
+    /** Maps with up to this many mappings are searched linearly, larger ones use a hash index. */
+    static final int INDEX_THRESHOLD = 8;
+
+    private static final String[] NO_KEYS = new String[0];
+
+    private static final AbstractConfigEntry[] NO_ENTRIES = new AbstractConfigEntry[0];
+
+    private String[] m_keys = NO_KEYS;
+
+    private AbstractConfigEntry[] m_entries = NO_ENTRIES;
+
+    private int m_size;
+
+    /**
+     * Open-addressed (linear probing) table holding position + 1 of each key in {@link #m_keys}, 0 marks a free slot.
+     * The length is a power of two and at least twice the size. {@code null} as long as the map is small.
+     */
+    private int[] m_index;
+
+    /** Number of structural modifications, for fail-fast iterators. */
+    private int m_modCount;
+
+    @Override
+    public int size() {
+        return m_size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return m_size == 0;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public AbstractConfigEntry get(final Object key) {
+        final var pos = indexOf(key);
+        return pos < 0 ? null : m_entries[pos];
+    }
+
+    /**
+     * @param pos position in insertion order
+     * @return the key at the given position
+     * @throws IndexOutOfBoundsException if the position is not in [0, size)
+     */
+    String keyAt(final int pos) {
+        return m_keys[Objects.checkIndex(pos, m_size)];
+    }
+
+    /**
+     * @param pos position in insertion order
+     * @return the entry at the given position
+     * @throws IndexOutOfBoundsException if the position is not in [0, size)
+     */
+    AbstractConfigEntry entryAt(final int pos) {
+        return m_entries[Objects.checkIndex(pos, m_size)];
+    }
+
+    /**
+     * @param key the key to look up, may be {@code null}
+     * @return the position of the key in insertion order, or -1 if the key is not present
+     */
+    int indexOf(final Object key) {
+        if (!(key instanceof String)) {
+            return -1;
+        }
+        final var hash = key.hashCode();
+        if (m_index == null) {
+            for (var i = 0; i < m_size; i++) {
+                final var k = m_keys[i];
+                if (k.hashCode() == hash && k.equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        final var mask = m_index.length - 1;
+        for (var slot = spread(hash) & mask; m_index[slot] != 0; slot = (slot + 1) & mask) {
+            final var pos = m_index[slot] - 1;
+            if (m_keys[pos].equals(key)) {
+                return pos;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Adds the mapping at the end or, if the key is already present, replaces the entry at its position.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public AbstractConfigEntry put(final String key, final AbstractConfigEntry entry) {
+        Objects.requireNonNull(key, "Key must not be null");
+        final var pos = indexOf(key);
+        if (pos >= 0) {
+            final var previous = m_entries[pos];
+            m_entries[pos] = entry;
+            return previous;
+        }
+        if (m_size == m_keys.length) {
+            final var capacity = Math.max(2, m_size + (m_size >> 1) + 1);
+            m_keys = Arrays.copyOf(m_keys, capacity);
+            m_entries = Arrays.copyOf(m_entries, capacity);
+        }
+        m_keys[m_size] = key;
+        m_entries[m_size] = entry;
+        m_size++;
+        m_modCount++;
+        if (m_index != null && 2 * m_size <= m_index.length) {
+            insertIntoIndex(m_size - 1);
+        } else if (m_size > INDEX_THRESHOLD) {
+            rebuildIndex();
+        }
+        return null;
+    }
+
+    @Override
+    public AbstractConfigEntry remove(final Object key) {
+        final var pos = indexOf(key);
+        if (pos < 0) {
+            return null;
+        }
+        final var previous = m_entries[pos];
+        final var numMoved = m_size - pos - 1;
+        System.arraycopy(m_keys, pos + 1, m_keys, pos, numMoved);
+        System.arraycopy(m_entries, pos + 1, m_entries, pos, numMoved);
+        m_size--;
+        m_keys[m_size] = null;
+        m_entries[m_size] = null;
+        m_modCount++;
+        // positions after the removed key have changed
+        if (m_size > INDEX_THRESHOLD) {
+            rebuildIndex();
+        } else {
+            m_index = null;
+        }
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        m_keys = NO_KEYS;
+        m_entries = NO_ENTRIES;
+        m_size = 0;
+        m_index = null;
+        m_modCount++;
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return new AbstractSet<String>() {
+            @Override
+            public Iterator<String> iterator() {
+                return new PositionIterator<>(i -> m_keys[i]);
+            }
+
+            @Override
+            public boolean contains(final Object o) {
+                return containsKey(o);
+            }
+
+            @Override
+            public int size() {
+                return m_size;
+            }
+        };
+    }
+
+    @Override
+    public Collection<AbstractConfigEntry> values() {
+        return new AbstractCollection<AbstractConfigEntry>() {
+            @Override
+            public Iterator<AbstractConfigEntry> iterator() {
+                return new PositionIterator<>(i -> m_entries[i]);
+            }
+
+            @Override
+            public int size() {
+                return m_size;
+            }
+        };
+    }
+
+    @Override
+    public Set<Entry<String, AbstractConfigEntry>> entrySet() {
+        return new AbstractSet<Entry<String, AbstractConfigEntry>>() {
+            @Override
+            public Iterator<Entry<String, AbstractConfigEntry>> iterator() {
+                return new PositionIterator<>(i -> new SimpleImmutableEntry<>(m_keys[i], m_entries[i]));
+            }
+
+            @Override
+            public int size() {
+                return m_size;
+            }
+        };
+    }
+
+    private void rebuildIndex() {
+        // at least twice the size, i.e., a load factor of at most 0.5
+        m_index = new int[Integer.highestOneBit(m_size) << 2];
+        for (var i = 0; i < m_size; i++) {
+            insertIntoIndex(i);
+        }
+    }
+
+    private void insertIntoIndex(final int pos) {
+        final var mask = m_index.length - 1;
+        var slot = spread(m_keys[pos].hashCode()) & mask;
+        while (m_index[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        m_index[slot] = pos + 1;
+    }
+
+    /** Spreads the higher bits of the hash code to the lower ones, which are used to select the slot. */
+    private static int spread(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /** Iterates the positions in insertion order and maps them to keys, entries, or mappings. */
+    private final class PositionIterator<T> implements Iterator<T> {
+
+        private final IntFunction<T> m_valueAt;
+
+        private final int m_expectedModCount = m_modCount;
+
+        private int m_pos;
+
+        PositionIterator(final IntFunction<T> valueAt) {
+            m_valueAt = valueAt;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return m_pos < m_size;
+        }
+
+        @Override
+        public T next() {
+            if (m_modCount != m_expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (m_pos >= m_size) {
+                throw new NoSuchElementException();
+            }
+            return m_valueAt.apply(m_pos++);
+        }
+    }
+}
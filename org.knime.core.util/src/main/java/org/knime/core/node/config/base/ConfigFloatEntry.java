@@ -55,6 +55,8 @@
  */
 public final class ConfigFloatEntry extends AbstractConfigEntry {
 
+    private static final long serialVersionUID = 63893866614612798L;
+
     /** The float value. */
     private final float m_float;
 
@@ -102,6 +104,14 @@ protected boolean hasIdenticalValue(final AbstractConfigEntry ace) {
         return Float.compare(((ConfigFloatEntry) ace).m_float, m_float) == 0;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    int valueHashCode() {
+        return Float.hashCode(m_float);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -55,6 +55,8 @@
  */
 public final class ConfigIntEntry extends AbstractConfigEntry {
 
+    private static final long serialVersionUID = 7731444779391641799L;
+
     /** The int value. */
     private final int m_int;
 
@@ -102,6 +104,14 @@ protected boolean hasIdenticalValue(final AbstractConfigEntry ace) {
         return ((ConfigIntEntry) ace).m_int == m_int;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    int valueHashCode() {
+        return Integer.hashCode(m_int);
+    }
+
     /**
      * {@inheritDoc}
      */
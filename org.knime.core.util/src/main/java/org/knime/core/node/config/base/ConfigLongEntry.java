@@ -55,6 +55,8 @@
  */
 public final class ConfigLongEntry extends AbstractConfigEntry {
 
+    private static final long serialVersionUID = 4289129652921256250L;
+
     /** The long value. */
     private final long m_long;
 
@@ -102,6 +104,14 @@ protected boolean hasIdenticalValue(final AbstractConfigEntry ace) {
         return ((ConfigLongEntry) ace).m_long == m_long;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    int valueHashCode() {
+        return Long.hashCode(m_long);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -100,6 +100,14 @@ protected boolean hasIdenticalValue(final AbstractConfigEntry ace) {
         return Objects.equals(m_password, e.m_password);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    int valueHashCode() {
+        return Objects.hashCode(m_password);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -55,6 +55,8 @@
  */
 public final class ConfigShortEntry extends AbstractConfigEntry {
 
+    private static final long serialVersionUID = -451295387842138663L;
+
     /** The short value. */
     private final short m_short;
 
@@ -102,6 +104,14 @@ protected boolean hasIdenticalValue(final AbstractConfigEntry ace) {
         return ((ConfigShortEntry) ace).m_short == m_short;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    int valueHashCode() {
+        return Short.hashCode(m_short);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,239 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.core.node.config.base;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Replaces strings read while loading configs (keys and short string values) by canonical instances, so that the many
+ * configs of a loaded workflow don't each hold their own copy of, e.g., {@code "node_settings_file"}, {@code "0"}, or
+ * the class name of a frequently used node factory.
+ *
+ * A string is looked up in a fixed vocabulary of well-known keys and values first, then in a bounded, direct-mapped
+ * table of recently seen strings. The table is lock-free; a string that is not in the table replaces the one in its
+ * slot. So unlike {@link String#intern()}, the table never grows and strings that are not used anymore are evicted
+ * eventually.
+ *
+ * The default instance ({@link #getDefault()}) is used by {@link XMLConfig#load(ConfigBase, java.io.InputStream)} and
+ * {@link JSONConfig#readJSON(ConfigBaseWO, java.io.Reader)}; pass a different instance (e.g.
+ * {@link #disabled()}) to the respective overloads to change that. Instances are thread-safe.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 6.12
+ */
+public final class ConfigStringCanonicalizer {
+
+    /** Number of slots in the table of the default instance. */
+    public static final int DEFAULT_TABLE_SIZE = 1 << 14;
+
+    /** Strings longer than this are not canonicalized by the default instance, they are rarely repeated. */
+    public static final int DEFAULT_MAX_LENGTH = 128;
+
+    /** Array entries are stored with their index as key, so these are the most frequent keys of all. */
+    private static final int NUM_INDEX_KEYS = 256;
+
+    /** Keys and values that occur in (almost) every workflow. */
+    private static final String[] VOCABULARY = {
+        // types and attributes of the XML format
+        "array-size", "config", "entry",
+        // workflow.knime
+        "nodes", "node_id", "node_settings_file", "node_is_meta", "node_type", "ui_classname", "ui_settings",
+        "extrainfo.node.bounds", "connections", "sourceID", "destID", "sourcePort", "destPort", "extraInfoClassName",
+        "extrainfo.conn.bendpoints_size", "annotations", "meta_in_ports", "meta_out_ports", "port_enum",
+        "port_index", "port_name", "port_type", "object_class", "authorInformation", "authored-by", "authored-when",
+        "lastEdited-by", "lastEdited-when", "workflow_credentials", "workflow_variables", "workflow_editor_settings",
+        "created_by", "created_by_nightly", "version", "name", "customDescription", "state", "ui_info",
+        "is_deletable", "isSnapToGrid", "isShowGrid", "gridX", "gridY", "zoomLevel", "curvedConnections",
+        "connectionLineWidth", "hasContent", "isInactive", "filestores", "file_store_location", "file_store_id",
+        // settings.xml
+        "factory", "node-name", "node-bundle-name", "node-bundle-symbolic-name", "node-bundle-vendor",
+        "node-bundle-version", "node-feature-name", "node-feature-symbolic-name", "node-feature-vendor",
+        "node-feature-version", "factory_settings", "node_creation_config", "model", "variables",
+        "internal_node_subsettings", "memory_policy", "nodeAnnotation", "node_file", "flow_stack", "ports",
+        "port_dir_location", "port_spec_class", "port_object_class", "port_object_summary", "port_spec_location",
+        "port_object_location", "port_object_table_spec_location", "port_0", "port_1", "port_2", "port_3",
+        "inports", "outports", "inport_0", "inport_1", "inport_2", "job.manager", "job.manager.settings",
+        "nodecontainer_message", "message", "type", "text", "styles", "bgcolor", "x-coordinate", "y-coordinate",
+        "width", "height", "alignment", "borderSize", "borderColor", "defFontSize", "annotation-version",
+        "contentType", "index", "length", "fontname", "fontstyle", "fontsize", "fgcolor", "used_variable",
+        "exposed_variable", "used_variable_flawed", "variable", "value", "class", "description", "settings.xml",
+        "workflow.knime", "template.knime",
+        // common string values
+        "", "CacheSmallInMemory", "CacheInMemory", "CacheOnDisc", "IDLE", "CONFIGURED", "EXECUTED", "EXECUTING",
+        "MARKEDFOREXEC", "WARNING", "ERROR", "RESET", "CENTER", "LEFT", "RIGHT", "NativeNode", "MetaNode",
+        "SubNode", "org.knime.base", "KNIME AG, Zurich, Switzerland", "KNIME Core", "KNIME Base Nodes",
+        "0.0.0", "STRING", "INTEGER", "DOUBLE", "LONG", "BOOLEAN", "text/plain", "text/html",
+        "org.knime.core.node.BufferedDataTable", "org.knime.core.node.port.flowvariable.FlowVariablePortObject",
+        "org.knime.core.data.def.StringCell", "org.knime.core.data.def.IntCell", "org.knime.core.data.def.DoubleCell",
+        "org.knime.core.data.def.LongCell", "org.knime.core.data.def.BooleanCell"};
+
+    private static final ConfigStringCanonicalizer DEFAULT =
+        new ConfigStringCanonicalizer(DEFAULT_TABLE_SIZE, DEFAULT_MAX_LENGTH);
+
+    private static final ConfigStringCanonicalizer DISABLED = new ConfigStringCanonicalizer(0, -1);
+
+    /** Shared by all instances, never modified after class initialization. */
+    private static final Map<String, String> VOCABULARY_MAP;
+
+    static {
+        final var map = new HashMap<String, String>();
+        Stream.concat(Stream.of(VOCABULARY), IntStream.range(0, NUM_INDEX_KEYS).mapToObj(Integer::toString))
+            .forEach(s -> map.put(s, s));
+        VOCABULARY_MAP = map;
+    }
+
+    private final AtomicReferenceArray<String> m_table;
+
+    private final int m_mask;
+
+    private final int m_maxLength;
+
+    private final LongAdder m_vocabularyHits = new LongAdder();
+
+    private final LongAdder m_tableHits = new LongAdder();
+
+    private final LongAdder m_misses = new LongAdder();
+
+    /**
+     * @param tableSize number of slots of the table of recently seen strings, rounded up to the next power of two;
+     *            0 to only use the fixed vocabulary
+     * @param maxLength strings longer than this are returned unchanged (and don't count as hit or miss)
+     * @throws IllegalArgumentException if the table size is negative or larger than 2<sup>30</sup>
+     */
+    public ConfigStringCanonicalizer(final int tableSize, final int maxLength) {
+        if (tableSize < 0 || tableSize > (1 << 30)) {
+            throw new IllegalArgumentException("Invalid table size: " + tableSize);
+        }
+        final var size = tableSize <= 1 ? tableSize : Integer.highestOneBit(tableSize - 1) << 1;
+        m_table = new AtomicReferenceArray<>(size);
+        m_mask = size - 1;
+        m_maxLength = maxLength;
+    }
+
+    /**
+     * @return the shared instance used when loading configs, with a table of {@value #DEFAULT_TABLE_SIZE} slots
+     */
+    public static ConfigStringCanonicalizer getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * @return an instance that returns all strings unchanged
+     */
+    public static ConfigStringCanonicalizer disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * @param s a string, nullable
+     * @return a string equal to the argument, the canonical instance if there is one
+     */
+    public String canonicalize(final String s) {
+        if (s == null || s.length() > m_maxLength) {
+            return s;
+        }
+        final var fromVocabulary = VOCABULARY_MAP.get(s);
+        if (fromVocabulary != null) {
+            m_vocabularyHits.increment();
+            return fromVocabulary;
+        }
+        if (m_mask < 0) {
+            m_misses.increment();
+            return s;
+        }
+        final var hash = s.hashCode();
+        final var slot = (hash ^ (hash >>> 16)) & m_mask;
+        final var cached = m_table.getAcquire(slot);
+        if (s.equals(cached)) {
+            m_tableHits.increment();
+            return cached;
+        }
+        // a racing thread may overwrite the slot again, that only costs a future miss
+        m_table.setRelease(slot, s);
+        m_misses.increment();
+        return s;
+    }
+
+    /**
+     * @return a snapshot of the hit and miss counts since creation (or the last {@link #resetStatistics()})
+     */
+    public Statistics getStatistics() {
+        return new Statistics(m_vocabularyHits.sum(), m_tableHits.sum(), m_misses.sum());
+    }
+
+    /** Resets the hit and miss counts to zero, not the table. */
+    public void resetStatistics() {
+        m_vocabularyHits.reset();
+        m_tableHits.reset();
+        m_misses.reset();
+    }
+
+    /**
+     * Hit and miss counts of a canonicalizer.
+     *
+     * @param vocabularyHits number of strings found in the fixed vocabulary
+     * @param tableHits number of strings found in the table of recently seen strings
+     * @param misses number of strings that were not found and returned unchanged
+     */
+    public record Statistics(long vocabularyHits, long tableHits, long misses) {
+
+        /**
+         * @return fraction of canonicalized strings that were found, 0 if no string was canonicalized
+         */
+        public double hitRatio() {
+            final var total = vocabularyHits + tableHits + misses;
+            return total == 0 ? 0 : (vocabularyHits + tableHits) / (double)total;
+        }
+    }
+}
@@ -45,6 +45,8 @@
  */
 package org.knime.core.node.config.base;
 
+import java.util.Objects;
+
 import org.knime.core.node.config.base.json.AbstractJSONEntry;
 import org.knime.core.node.config.base.json.JSONString;
 
@@ -97,6 +99,14 @@ protected boolean hasIdenticalValue(final AbstractConfigEntry ace) {
         return (m_string != null && m_string.equals(e.m_string));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    int valueHashCode() {
+        return Objects.hashCode(m_string);
+    }
+
     /**
      * {@inheritDoc}
      */
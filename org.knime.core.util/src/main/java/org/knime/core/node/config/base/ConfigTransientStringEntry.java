@@ -105,6 +105,14 @@ protected boolean hasIdenticalValue(final AbstractConfigEntry ace) {
         return Objects.equals(m_transientString, e.m_transientString);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    int valueHashCode() {
+        return Objects.hashCode(m_transientString);
+    }
+
     /**
      * {@inheritDoc}
      */
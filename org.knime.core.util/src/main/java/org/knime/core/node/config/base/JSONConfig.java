@@ -128,12 +128,42 @@ public static void writeJSON(final ConfigBaseRO config, final Writer writer,
     }
 
     public static <C extends ConfigBaseWO> C readJSON(final C emptyConfig, final Reader reader) throws IOException {
+        return readJSON(emptyConfig, reader, ConfigStringCanonicalizer.getDefault());
+    }
+
+    /** Reads a config from JSON, deduplicating keys and string values with the given canonicalizer.
+     * @param <C> The type of the config.
+     * @param emptyConfig The config to read into, not null.
+     * @param reader The input reader.
+     * @param canonicalizer Replaces keys and string values by canonical instances,
+     * {@link ConfigStringCanonicalizer#disabled()} to keep them as read.
+     * @return The argument config.
+     * @throws IOException On I/O or parse problems
+     * @since 6.12
+     */
+    public static <C extends ConfigBaseWO> C readJSON(final C emptyConfig, final Reader reader,
+        final ConfigStringCanonicalizer canonicalizer) throws IOException {
         ObjectMapper mapper = new ObjectMapper();
         JSONRoot root = mapper.readValue(reader, JSONRoot.class);
-        root.addToConfigBase(getChecked(emptyConfig), (conf, entry) -> conf.put(entry));
+        // keys of sub-configs are JSON field names, which Jackson interns already
+        root.addToConfigBase(getChecked(emptyConfig), (conf, entry) -> conf.put(canonicalize(entry, canonicalizer)));
         return emptyConfig;
     }
 
+    private static AbstractConfigEntry canonicalize(final AbstractConfigEntry entry,
+        final ConfigStringCanonicalizer canonicalizer) {
+        final String key = canonicalizer.canonicalize(entry.getKey());
+        if (entry instanceof ConfigStringEntry stringEntry) {
+            final String value = stringEntry.getString();
+            final String canonicalValue = canonicalizer.canonicalize(value);
+            if (value != canonicalValue) { // NOSONAR identity is what matters here
+                return new ConfigStringEntry(key, canonicalValue);
+            }
+        }
+        entry.setKey(key);
+        return entry;
+    }
+
     /** Performs validation and case of argument.
      * @param config Non-null, cast to ConfigBaseRO
      * @return Cast object
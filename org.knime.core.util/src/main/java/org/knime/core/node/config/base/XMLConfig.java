@@ -65,6 +65,9 @@
 import javax.xml.transform.sax.TransformerHandler;
 import javax.xml.transform.stream.StreamResult;
 
+import org.apache.commons.io.input.CountingInputStream;
+import org.apache.commons.io.output.CountingOutputStream;
+import org.knime.core.util.jfr.ConfigIOEvent;
 import org.knime.core.util.xml.NoExternalEntityResolver;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
@@ -111,10 +114,29 @@ private XMLConfig() {
      */
     public static void load(final ConfigBase c, final InputStream in)
             throws SAXException, IOException, ParserConfigurationException {
+        load(c, in, ConfigStringCanonicalizer.getDefault());
+    }
+
+    /**
+     * Reads from the given input stream into the given config object, deduplicating keys and string values with the
+     * given canonicalizer.
+     *
+     * @param c Where to put the results.
+     * @param in Where to read from, stream will be closed when done.
+     * @param canonicalizer Replaces keys and string values by canonical instances,
+     *            {@link ConfigStringCanonicalizer#disabled()} to keep them as read.
+     * @throws SAXException If stream can't be properly parsed.
+     * @throws IOException If IO problem occur.
+     * @throws ParserConfigurationException If not properly configured.
+     * @throws NullPointerException If any argument is <code>null</code>.
+     * @since 6.12
+     */
+    public static void load(final ConfigBase c, final InputStream in, final ConfigStringCanonicalizer canonicalizer)
+            throws SAXException, IOException, ParserConfigurationException {
         SAXParser saxParser = parserFactory.newSAXParser();
         XMLReader reader = saxParser.getXMLReader();
         XMLContentHandler xmlContentHandler =
-                new XMLContentHandler(c, in.toString());
+                new XMLContentHandler(c, in.toString(), canonicalizer);
         reader.setContentHandler(xmlContentHandler);
 
         // The NoOpEntityResolver is a measure necessary to prevent XXE attacks.
@@ -127,14 +149,20 @@ public static void load(final ConfigBase c, final InputStream in)
 
         reader.setErrorHandler(xmlContentHandler);
 
+        final var event = new ConfigIOEvent();
+        event.begin();
+        // only count bytes if somebody is recording, the wrapper is not free for many small configs
+        final var counting = event.isEnabled() ? new CountingInputStream(in) : null;
         BufferedReader buf = new BufferedReader(
-                new InputStreamReader(in, "UTF-8"));
+                new InputStreamReader(counting != null ? counting : in, "UTF-8"));
         try {
             reader.parse(new InputSource(buf));
         } catch (IOException e) {
             throw e;
         } catch (Exception e) {
             throw new IOException("Unable to parse xml: " + e.getMessage(), e);
+        } finally {
+            event.commit(ConfigIOEvent.LOAD, c.getKey(), counting != null ? counting.getByteCount() : 0);
         }
     }
 
@@ -161,12 +189,17 @@ public static void save(final ConfigBase config, final OutputStream output)
         t.setOutputProperty(OutputKeys.INDENT, "yes");
         t.setOutputProperty(OutputKeys.ENCODING, encoding);
 
+        final var event = new ConfigIOEvent();
+        event.begin();
+        final var counting = event.isEnabled() ? new CountingOutputStream(output) : null;
+        final OutputStream target = counting != null ? counting : output;
+
         // we write the XML header by hand because we need a linebreak after it for KNIME <= 2.6
-        output.write(("<?xml version=\"1.0\" encoding=\"" + encoding + "\"?>\n").getBytes(Charset.forName(encoding)));
+        target.write(("<?xml version=\"1.0\" encoding=\"" + encoding + "\"?>\n").getBytes(Charset.forName(encoding)));
 
         final boolean originalOutputIsBuffered =
                 ((output instanceof BufferedOutputStream) || (output instanceof ByteArrayOutputStream));
-        try (OutputStream os = originalOutputIsBuffered ? output : new BufferedOutputStream(output)) {
+        try (OutputStream os = originalOutputIsBuffered ? target : new BufferedOutputStream(target)) {
             tfh.setResult(new StreamResult(os));
             try {
                 XMLContentHandler.asXML(config, tfh);
@@ -178,6 +211,8 @@ public static void save(final ConfigBase config, final OutputStream output)
             }
         } catch (SAXException se) {
             throw new IOException("Saving xml to " + output.toString() + " failed: " + se.getMessage(), se);
+        } finally {
+            event.commit(ConfigIOEvent.SAVE, config.getKey(), counting != null ? counting.getByteCount() : 0);
         }
     }
 }
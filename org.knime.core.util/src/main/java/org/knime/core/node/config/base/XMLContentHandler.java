@@ -71,6 +71,8 @@ class XMLContentHandler extends DefaultHandler {
 
     private final String m_fileName;
 
+    private final ConfigStringCanonicalizer m_canonicalizer;
+
     private boolean m_isFirst = true;
 
     /**
@@ -81,9 +83,23 @@ class XMLContentHandler extends DefaultHandler {
      * @param fileName The file name for eventual error messages.
      */
     XMLContentHandler(final ConfigBase config, final String fileName) {
+        this(config, fileName, ConfigStringCanonicalizer.getDefault());
+    }
+
+    /**
+     * Creates new instance.
+     *
+     * @param config The config object as root of the xml tree, this class adds
+     *            sub-entrys to this root node.
+     * @param fileName The file name for eventual error messages.
+     * @param canonicalizer Deduplicates the keys and string values read.
+     */
+    XMLContentHandler(final ConfigBase config, final String fileName,
+            final ConfigStringCanonicalizer canonicalizer) {
         m_elementStack = new Stack<ConfigBase>();
         m_elementStack.push(config);
         m_fileName = fileName;
+        m_canonicalizer = canonicalizer;
     }
 
     // for testing purposes only
@@ -166,16 +182,16 @@ public void startElement(final String uri, final String localName,
         if (ConfigEntries.config.name().equals(qName)) {
             if (m_isFirst) {
                 m_isFirst = false;
-                peek.setKey(attributes.getValue("key"));
+                peek.setKey(m_canonicalizer.canonicalize(attributes.getValue("key")));
             } else {
                 // create sub base-config
                 ConfigBase subConfig = peek.addConfigBase(
-                        attributes.getValue("key"));
+                        m_canonicalizer.canonicalize(attributes.getValue("key")));
                 m_elementStack.push(subConfig);
             }
         } else if ("entry".equals(qName)) {
             assert !m_isFirst : "First element in xml is not a config";
-            String key = attributes.getValue("key");
+            String key = m_canonicalizer.canonicalize(attributes.getValue("key"));
             String type = attributes.getValue("type");
             String value = attributes.getValue("value");
 
@@ -193,6 +209,9 @@ public void startElement(final String uri, final String localName,
             boolean isNull = "true".equals(attributes.getValue("isnull"));
             if (isNull) {
                 value = null;
+            } else if (configEntryType == ConfigEntries.xstring) {
+                // other values are parsed, only strings are kept as they are
+                value = m_canonicalizer.canonicalize(value);
             }
             AbstractConfigEntry ab = configEntryType.createEntry(key, value);
             peek.addEntry(ab);
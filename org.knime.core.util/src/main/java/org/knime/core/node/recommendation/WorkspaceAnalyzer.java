@@ -80,7 +80,10 @@
 import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.LogFactory;
+import org.knime.core.hub.events.HubRepositoryItemEventSubject;
+import org.knime.core.hub.events.HubTriggerEvent;
 import org.knime.core.node.NodeFactoryId;
 import org.knime.core.node.NodeFrequencies;
 import org.knime.core.node.NodeInfo;
@@ -101,6 +104,11 @@
  * @since 4.3
  */
 public class WorkspaceAnalyzer {
+    private static final String WORKFLOW_FILE = "workflow.knime";
+
+    /** {@linkplain HubTriggerEvent#getAction() Action} of events about deleted repository items. */
+    private static final String DELETED_ACTION = "deleted";
+
     private final Path m_root;
 
     private final XPathExpression m_connectionXpath;
@@ -131,6 +139,12 @@ public class WorkspaceAnalyzer {
 
     private final Map<NodeTriple, NodeTriple> m_triplets = new HashMap<>();
 
+    /**
+     * Contributions of the analyzed workflows to {@link #m_triplets}: directory of a workflow relative to the root
+     * &rarr; the triplets of its workflow.knime files (also those of its metanodes and components) with their counts.
+     */
+    private final Map<String, Map<NodeTriple, Integer>> m_contributions = new HashMap<>();
+
     private List<Consumer<String>> m_listeners = new ArrayList<Consumer<String>>();
 
     private static class NodePair {
@@ -220,40 +234,82 @@ public void analyze() throws IOException {
     }
 
     /**
-     * Analyzes the directory.
+     * Analyzes the directory. Analyzing a workflow again replaces its previous contribution to the triplets.
      *
      * @param filter a filter for directories that should be excluded during traversal
      * @throws IOException if an I/O error occurs while scanning the directory
      */
     public void analyze(final PathFilter filter) throws IOException {
-        Files.walkFileTree(m_root, new SimpleFileVisitor<Path>() {
-            @Override
-            public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs)
-                throws IOException {
-                if (filter.accept(dir)) {
-                    return FileVisitResult.CONTINUE;
-                } else {
-                    return FileVisitResult.SKIP_SUBTREE;
-                }
-            }
+        Files.walkFileTree(m_root, new WorkflowVisitor(filter));
+    }
 
-            /**
-             * {@inheritDoc}
-             */
-            @Override
-            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
-                if ("workflow.knime".equals(file.getFileName().toString()) && attrs.isRegularFile()) {
-                    try {
-                        m_listeners.stream().forEach(c -> c.accept(file.toString()));
-                        analyzeWorkflow(file);
-                    } catch (IOException | ParserConfigurationException | SAXException | XPathExpressionException ex) {
-                        LogFactory.getLog(WorkspaceAnalyzer.this.getClass())
-                            .error("Error while analyzing workflow file '" + file + "': " + ex.getMessage(), ex);
-                    }
-                }
-                return Thread.currentThread().isInterrupted() ? FileVisitResult.TERMINATE : FileVisitResult.CONTINUE;
+    /**
+     * Analyzes the workflow (or all workflows in the workflow group) in the given directory again, replacing the
+     * previous contributions to the triplets of the workflows in the directory. If the directory doesn't exist
+     * (anymore), the contributions are removed. Use this method to keep the triplets up to date while the workspace
+     * changes, instead of analyzing the whole workspace again.
+     *
+     * @param directory a directory in the analyzed workspace
+     * @throws IOException if an I/O error occurs while scanning the directory
+     * @since 6.12
+     */
+    public void updateWorkflow(final Path directory) throws IOException {
+        removeWorkflow(directory);
+        if (Files.isDirectory(directory)) {
+            Files.walkFileTree(directory, new WorkflowVisitor(PathFilters.acceptAll));
+        }
+    }
+
+    /**
+     * Removes the contributions to the triplets of the workflow (or of all workflows in the workflow group) in the
+     * given directory, e.g., after it has been deleted.
+     *
+     * @param directory a directory in the analyzed workspace
+     * @return whether any contribution has been removed
+     * @since 6.12
+     */
+    public boolean removeWorkflow(final Path directory) {
+        final var key = toKey(directory);
+        final var prefix = key.isEmpty() ? "" : (key + "/");
+        var removed = false;
+        for (var it = m_contributions.entrySet().iterator(); it.hasNext();) {
+            final var contribution = it.next();
+            if (contribution.getKey().equals(key) || contribution.getKey().startsWith(prefix)) {
+                addToTriplets(contribution.getValue(), -1);
+                it.remove();
+                removed = true;
             }
-        });
+        }
+        return removed;
+    }
+
+    /**
+     * Updates the triplets after a repository change described by a KNIME Hub trigger event. The
+     * {@linkplain HubRepositoryItemEventSubject#getPath() path} of the item is resolved against the root directory of
+     * this analyzer. The contributions of deleted items are removed, all other items are
+     * {@linkplain #updateWorkflow(Path) analyzed again}; a moved item is expected to be reported as deleted and added.
+     * Events without an item path are ignored.
+     *
+     * @param event the repository event
+     * @throws IOException if an I/O error occurs while scanning the item's directory
+     * @since 6.12
+     */
+    public void handleEvent(final HubTriggerEvent<HubRepositoryItemEventSubject> event) throws IOException {
+        final var subject = event.getSubject();
+        if (subject == null || subject.getPath() == null) {
+            return;
+        }
+        final var root = absoluteRoot();
+        final var directory = root.resolve(StringUtils.removeStart(subject.getPath(), "/")).normalize();
+        if (!directory.startsWith(root)) {
+            throw new IllegalArgumentException(
+                "Item path '" + subject.getPath() + "' is not inside '" + m_root + "'");
+        }
+        if (DELETED_ACTION.equals(event.getAction())) {
+            removeWorkflow(directory);
+        } else {
+            updateWorkflow(directory);
+        }
     }
 
     /**
@@ -311,7 +367,7 @@ public void addProgressListener(final Consumer<String> listener) {
         m_listeners.add(listener);
     }
 
-    void analyzeWorkflow(final Path workflowFile)
+    void analyzeWorkflow(final Path workflowFile, final Map<NodeTriple, Integer> contribution)
         throws ParserConfigurationException, SAXException, IOException, XPathExpressionException {
         Document doc = createParser().parse(workflowFile.toFile());
 
@@ -324,19 +380,101 @@ void analyzeWorkflow(final Path workflowFile)
             analyzeConnection(conn, workflowFile.getParent(), xpath, pairs);
         }
 
-        processTriplets(pairs);
+        processTriplets(pairs, contribution);
     }
 
-    private void processTriplets(final Collection<NodePair> pairs) {
+    private static void processTriplets(final Collection<NodePair> pairs,
+        final Map<NodeTriple, Integer> contribution) {
         for (NodePair p2 : pairs) {
             // find predecessors for pair 2: p1.id1 -- (p1.id2 == p2.id1) -- p2.id2
             List<NodePair> collect = pairs.stream().filter(p1 -> p1.id2.equals(p2.id1)).collect(Collectors.toList());
             if (collect.isEmpty()) {
-                m_triplets.computeIfAbsent(new NodeTriple(null, p2.node1, p2.node2), k -> k).incrementCount();
+                contribution.merge(new NodeTriple(null, p2.node1, p2.node2), 1, Integer::sum);
             } else {
                 collect.stream().map(p1 -> new NodeTriple(p1.node1, p1.node2, p2.node2))
-                    .forEach(t -> m_triplets.computeIfAbsent(t, k -> k).incrementCount());
+                    .forEach(t -> contribution.merge(t, 1, Integer::sum));
+            }
+        }
+    }
+
+    private void setContribution(final String key, final Map<NodeTriple, Integer> contribution) {
+        final var previous = m_contributions.put(key, contribution);
+        if (previous != null) {
+            addToTriplets(previous, -1);
+        }
+        addToTriplets(contribution, 1);
+    }
+
+    private void addToTriplets(final Map<NodeTriple, Integer> contribution, final int sign) {
+        for (var entry : contribution.entrySet()) {
+            final var triple = entry.getKey();
+            final var total = m_triplets.computeIfAbsent(triple,
+                t -> new NodeTriple(t.getPredecessor().orElse(null), t.getNode().orElse(null), t.getSuccessor()));
+            total.addCount(sign * entry.getValue());
+            if (total.getCount() <= 0) {
+                m_triplets.remove(triple);
+            }
+        }
+    }
+
+    private Path absoluteRoot() {
+        return m_root.toAbsolutePath().normalize();
+    }
+
+    private String toKey(final Path directory) {
+        final var relative = absoluteRoot().relativize(directory.toAbsolutePath().normalize());
+        return relative.toString().replace('\\', '/');
+    }
+
+    /**
+     * Visits all workflow.knime files; those of a workflow and its metanodes and components are one contribution.
+     */
+    private final class WorkflowVisitor extends SimpleFileVisitor<Path> {
+        private final PathFilter m_filter;
+
+        private Path m_workflowDir;
+
+        private Map<NodeTriple, Integer> m_contribution;
+
+        WorkflowVisitor(final PathFilter filter) {
+            m_filter = filter;
+        }
+
+        @Override
+        public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) throws IOException {
+            if (!m_filter.accept(dir)) {
+                return FileVisitResult.SKIP_SUBTREE;
+            }
+            if (m_workflowDir == null && Files.isRegularFile(dir.resolve(WORKFLOW_FILE))) {
+                m_workflowDir = dir;
+                m_contribution = new HashMap<>();
+            }
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
+            if (m_workflowDir != null && WORKFLOW_FILE.equals(file.getFileName().toString())
+                && attrs.isRegularFile()) {
+                try {
+                    m_listeners.stream().forEach(c -> c.accept(file.toString()));
+                    analyzeWorkflow(file, m_contribution);
+                } catch (IOException | ParserConfigurationException | SAXException | XPathExpressionException ex) {
+                    LogFactory.getLog(WorkspaceAnalyzer.this.getClass())
+                        .error("Error while analyzing workflow file '" + file + "': " + ex.getMessage(), ex);
+                }
+            }
+            return Thread.currentThread().isInterrupted() ? FileVisitResult.TERMINATE : FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult postVisitDirectory(final Path dir, final IOException exc) throws IOException {
+            if (dir.equals(m_workflowDir)) {
+                setContribution(toKey(dir), m_contribution);
+                m_workflowDir = null;
+                m_contribution = null;
             }
+            return super.postVisitDirectory(dir, exc);
         }
     }
 
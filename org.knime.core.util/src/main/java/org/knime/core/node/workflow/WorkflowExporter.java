@@ -55,6 +55,7 @@
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -78,6 +79,7 @@
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.jdt.annotation.Owning;
 import org.knime.core.node.util.CheckUtils;
+import org.knime.core.util.jfr.WorkflowExportEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -122,6 +124,9 @@
 
     private static final String WORKFLOW_DATA_DIR = "data";
 
+    /** Written by incremental saves of the workflow storage, describes local files only. */
+    private static final String SETTINGS_MANIFEST_FILE = ".settings_manifest";
+
     /**
      * Exports workflow resources to a compressed archive with size limit enforcement and cancellation support.
      *
@@ -339,7 +344,8 @@ private void addRecursively(final ResourcesCollector collector, final Path root,
                     addRecursively(collector, root, child, childIsData || childIsWFDataDir, false);
                 } else if (Files.isRegularFile(child)) {
                     // Files to exclude on root level. Exclusion here is independent of the "exclude data" option.
-                    if (child.getFileName().startsWith("knime.log")) {
+                    if (child.getFileName().startsWith("knime.log")
+                        || child.getFileName().toString().startsWith(SETTINGS_MANIFEST_FILE)) {
                         continue;
                     }
                     addResource(collector, root, child, Files.size(child), childIsData);
@@ -408,14 +414,41 @@ public ResourcesToCopy(final Map<Path, IPath> paths, final int numFiles, final l
     public void exportInto(final ResourcesToCopy resources, final OutputStream outputStream,
             final FailableDoubleConsumer<E> updater)
             throws E, IOException {
-        try (final var zipper = new Zipper(path -> Objects.equals(resources.markedEntry, path), outputStream)) {
-            final var numBytesWritten = new AtomicLong();
-            final FailableLongConsumer<E> subUpdater =
-                add -> updater.accept(1.0 * numBytesWritten.addAndGet(add) / resources.numBytes());
-            for (final var file : resources.paths().entrySet()) {
-                zipper.addEntry(file.getKey(), file.getValue(), subUpdater);
+        final var event = new WorkflowExportEvent();
+        event.begin();
+        final var numBytesWritten = new AtomicLong();
+        var successful = false;
+        try {
+            try (final var zipper = new Zipper(path -> Objects.equals(resources.markedEntry, path), outputStream)) {
+                final FailableLongConsumer<E> subUpdater =
+                    add -> updater.accept(1.0 * numBytesWritten.addAndGet(add) / resources.numBytes());
+                for (final var file : resources.paths().entrySet()) {
+                    zipper.addEntry(file.getKey(), file.getValue(), subUpdater);
+                }
+            }
+            successful = true;
+        } finally {
+            event.commit(() -> commonAncestor(resources.paths().keySet()), resources.numFiles(),
+                numBytesWritten.get(), successful);
+        }
+    }
+
+    private static String commonAncestor(final Collection<Path> paths) {
+        Path ancestor = null;
+        for (final var path : paths) {
+            var candidate = path.toAbsolutePath();
+            if (ancestor == null) {
+                ancestor = candidate;
+                continue;
+            }
+            while (ancestor != null && !candidate.startsWith(ancestor)) {
+                ancestor = ancestor.getParent();
+            }
+            if (ancestor == null) {
+                return null;
             }
         }
+        return ancestor == null ? null : ancestor.toString();
     }
 
     private final class Zipper implements Closeable {
@@ -0,0 +1,493 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.core.util;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.knime.core.node.util.CheckUtils;
+import org.knime.core.util.metrics.Histogram;
+import org.knime.core.util.metrics.MetricId;
+import org.knime.core.util.metrics.Metrics;
+
+/**
+ * A scheduler for many short timeouts and periodic tasks, based on a hashed timing wheel. A single ticker thread
+ * advances the wheel in fixed ticks and hands expired tasks to a worker {@link Executor}, so slow tasks do not delay
+ * other tasks (unlike with a {@link java.util.Timer} such as the {@link KNIMETimer}). Scheduling and cancelling are
+ * O(1); tasks run at most one tick late (plus the latency of the executor). While no task is scheduled, the ticker
+ * thread does not wake up.
+ * <p>
+ * A periodic task never runs concurrently with itself, its next execution is scheduled after the current one has
+ * finished. If a task throws an exception, the exception is logged and a periodic task is not executed again.
+ * </p>
+ * <p>
+ * The execution time and the lateness (delay between the due time and the actual start) of all tasks are recorded in
+ * {@link Histogram}s, each {@link Timeout} additionally tracks the execution times of its task. The
+ * {@linkplain #getInstance() global instance} publishes these as {@link Metrics}.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 6.12
+ */
+public final class HashedWheelTimer implements AutoCloseable {
+
+    private static final Log LOGGER = LogFactory.getLog(HashedWheelTimer.class);
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger(0);
+
+    /** Tick duration of the global instance. */
+    static final Duration GLOBAL_TICK_DURATION = Duration.ofMillis(10);
+
+    /** Number of buckets of the global instance (about 5s per revolution). */
+    static final int GLOBAL_TICKS_PER_WHEEL = 512;
+
+    private static final class InstanceHolder {
+        private static final HashedWheelTimer INSTANCE = createGlobalInstance();
+    }
+
+    private final String m_name;
+
+    private final long m_tickNanos;
+
+    private final List<Queue<TimeoutImpl>> m_wheel;
+
+    private final int m_mask;
+
+    private final Executor m_workers;
+
+    private final boolean m_isGlobal;
+
+    /** Newly scheduled (and rescheduled) timeouts, transferred into the wheel by the ticker thread. */
+    private final Queue<TimeoutImpl> m_newTimeouts = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger m_pendingCount = new AtomicInteger();
+
+    private final Histogram m_executionMillis = new Histogram();
+
+    private final Histogram m_latenessMillis = new Histogram();
+
+    private final long m_startTime;
+
+    private final Thread m_ticker;
+
+    private volatile boolean m_isClosed;
+
+    /**
+     * Creates and starts a timer.
+     *
+     * @param name name of the timer, used for the ticker thread
+     * @param tickDuration the duration of a tick, i.e. the precision of the timer, at least 1ms
+     * @param ticksPerWheel number of buckets of the wheel, rounded up to the next power of two; timeouts longer than
+     *            {@code tickDuration * ticksPerWheel} are checked once per revolution of the wheel until they expire
+     * @param workers the executor that runs the tasks, e.g. {@link Executors#newVirtualThreadPerTaskExecutor()}
+     */
+    public HashedWheelTimer(final String name, final Duration tickDuration, final int ticksPerWheel,
+        final Executor workers) {
+        this(name, tickDuration, ticksPerWheel, workers, false);
+    }
+
+    private HashedWheelTimer(final String name, final Duration tickDuration, final int ticksPerWheel,
+        final Executor workers, final boolean isGlobal) {
+        CheckUtils.checkArgument(tickDuration.toMillis() >= 1, "Tick duration must be at least 1ms: %s",
+            tickDuration);
+        CheckUtils.checkArgument(ticksPerWheel > 0 && ticksPerWheel <= (1 << 20),
+            "Ticks per wheel must be in [1, 2^20]: %d", ticksPerWheel);
+        m_name = CheckUtils.checkArgumentNotNull(name);
+        m_workers = CheckUtils.checkArgumentNotNull(workers);
+        m_isGlobal = isGlobal;
+        m_tickNanos = tickDuration.toNanos();
+        final var wheelSize = Integer.highestOneBit(ticksPerWheel - 1) << 1;
+        m_wheel = new ArrayList<>(Math.max(1, wheelSize));
+        for (var i = 0; i < Math.max(1, wheelSize); i++) {
+            m_wheel.add(new ArrayDeque<>());
+        }
+        m_mask = m_wheel.size() - 1;
+        m_startTime = System.nanoTime();
+        m_ticker = new Thread(this::tickLoop, "KNIME-Wheel-Timer-%s-%d".formatted(name,
+            THREAD_COUNTER.incrementAndGet()));
+        m_ticker.setDaemon(true);
+        m_ticker.start();
+    }
+
+    /**
+     * Returns the global timer, which runs its tasks on virtual threads. It cannot be closed.
+     *
+     * @return the global timer
+     */
+    public static HashedWheelTimer getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    private static HashedWheelTimer createGlobalInstance() {
+        final var timer = new HashedWheelTimer("Global", GLOBAL_TICK_DURATION, GLOBAL_TICKS_PER_WHEEL,
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("KNIME-Timer-Worker-", 0).factory()), true);
+        Metrics.registerGauge(MetricId.of("knime.timer.pending", "timer", timer.m_name), timer::getPendingCount);
+        for (final var percentile : new int[]{50, 99}) {
+            Metrics.registerGauge(MetricId.of("knime.timer.execution.millis", "timer", timer.m_name, //
+                "percentile", "p" + percentile), () -> timer.m_executionMillis.getValueAtPercentile(percentile));
+            Metrics.registerGauge(MetricId.of("knime.timer.lateness.millis", "timer", timer.m_name, //
+                "percentile", "p" + percentile), () -> timer.m_latenessMillis.getValueAtPercentile(percentile));
+        }
+        return timer;
+    }
+
+    /**
+     * Schedules a task for a single execution.
+     *
+     * @param task the task
+     * @param delay the delay after which the task is executed, negative values are treated as zero
+     * @param unit the unit of the delay
+     * @return the handle of the scheduled task
+     * @throws IllegalStateException if the timer has been closed
+     */
+    public Timeout schedule(final Runnable task, final long delay, final TimeUnit unit) {
+        return add(new TimeoutImpl(task, 0), delay, unit);
+    }
+
+    /**
+     * Schedules a task for repeated execution at a fixed rate, i.e. the executions are due at
+     * {@code initialDelay + n * period}. If an execution takes longer than the period, the next one starts right after
+     * it (on the next tick), executions never overlap.
+     *
+     * @param task the task
+     * @param initialDelay the delay of the first execution, negative values are treated as zero
+     * @param period the positive period between the due times of two executions
+     * @param unit the unit of the delay and period
+     * @return the handle of the scheduled task, to be used for cancellation
+     * @throws IllegalStateException if the timer has been closed
+     */
+    public Timeout scheduleAtFixedRate(final Runnable task, final long initialDelay, final long period,
+        final TimeUnit unit) {
+        CheckUtils.checkArgument(period > 0, "Period must be positive: %d", period);
+        return add(new TimeoutImpl(task, unit.toNanos(period)), initialDelay, unit);
+    }
+
+    /**
+     * Schedules a task for repeated execution with a fixed delay between the end of an execution and the start of the
+     * next one.
+     *
+     * @param task the task
+     * @param initialDelay the delay of the first execution, negative values are treated as zero
+     * @param delay the positive delay between two executions
+     * @param unit the unit of the delays
+     * @return the handle of the scheduled task, to be used for cancellation
+     * @throws IllegalStateException if the timer has been closed
+     */
+    public Timeout scheduleWithFixedDelay(final Runnable task, final long initialDelay, final long delay,
+        final TimeUnit unit) {
+        CheckUtils.checkArgument(delay > 0, "Delay must be positive: %d", delay);
+        return add(new TimeoutImpl(task, -unit.toNanos(delay)), initialDelay, unit);
+    }
+
+    private Timeout add(final TimeoutImpl timeout, final long delay, final TimeUnit unit) {
+        CheckUtils.checkState(!m_isClosed, "Timer has been closed");
+        timeout.m_deadline = System.nanoTime() - m_startTime + Math.max(0, unit.toNanos(delay));
+        enqueue(timeout);
+        return timeout;
+    }
+
+    /** Hands a (re-)scheduled timeout to the ticker thread, waking it up if the wheel is empty. */
+    private void enqueue(final TimeoutImpl timeout) {
+        final var wasEmpty = m_pendingCount.getAndIncrement() == 0;
+        m_newTimeouts.add(timeout);
+        if (wasEmpty) {
+            LockSupport.unpark(m_ticker);
+        }
+    }
+
+    /**
+     * @return the number of scheduled tasks that are not yet due (periodic tasks count as one), including cancelled
+     *         tasks that have not yet been removed from the wheel (which happens at the latest after a revolution)
+     */
+    public int getPendingCount() {
+        return m_pendingCount.get();
+    }
+
+    /**
+     * @return histogram of the execution times of all tasks in milliseconds
+     */
+    public Histogram getExecutionTimes() {
+        return m_executionMillis;
+    }
+
+    /**
+     * @return histogram of the lateness (time between the due time and the start of the execution) of all tasks in
+     *         milliseconds
+     */
+    public Histogram getLateness() {
+        return m_latenessMillis;
+    }
+
+    private void tickLoop() {
+        long tick = 0;
+        while (!m_isClosed) {
+            if (m_pendingCount.get() == 0) {
+                while (m_pendingCount.get() == 0 && !m_isClosed) {
+                    LockSupport.park(this);
+                }
+                // the wheel is empty, so the ticks that have passed meanwhile can be skipped
+                tick = Math.max(tick, (System.nanoTime() - m_startTime) / m_tickNanos);
+            }
+            final var deadline = m_tickNanos * (tick + 1);
+            var sleepNanos = deadline - (System.nanoTime() - m_startTime);
+            while (sleepNanos > 0 && !m_isClosed) {
+                LockSupport.parkNanos(this, sleepNanos);
+                sleepNanos = deadline - (System.nanoTime() - m_startTime);
+            }
+            transferNewTimeouts(tick);
+            expire(m_wheel.get((int)(tick & m_mask)));
+            tick++;
+        }
+        for (final var bucket : m_wheel) {
+            bucket.forEach(TimeoutImpl::cancel);
+            bucket.clear();
+        }
+        m_newTimeouts.forEach(TimeoutImpl::cancel);
+        m_newTimeouts.clear();
+        m_pendingCount.set(0);
+    }
+
+    private void transferNewTimeouts(final long tick) {
+        TimeoutImpl timeout;
+        while ((timeout = m_newTimeouts.poll()) != null) {
+            if (timeout.isCancelled()) {
+                m_pendingCount.decrementAndGet();
+                continue;
+            }
+            // the tick at the end of which the timeout is due, but not in the past
+            final var dueTick = Math.max(tick, (timeout.m_deadline + m_tickNanos - 1) / m_tickNanos - 1);
+            timeout.m_remainingRounds = (dueTick - tick) / m_wheel.size();
+            m_wheel.get((int)(dueTick & m_mask)).add(timeout);
+        }
+    }
+
+    private void expire(final Queue<TimeoutImpl> bucket) {
+        for (final Iterator<TimeoutImpl> it = bucket.iterator(); it.hasNext();) {
+            final var timeout = it.next();
+            if (timeout.isCancelled()) {
+                it.remove();
+                m_pendingCount.decrementAndGet();
+            } else if (timeout.m_remainingRounds <= 0) {
+                it.remove();
+                m_pendingCount.decrementAndGet();
+                try {
+                    m_workers.execute(timeout::run);
+                } catch (RejectedExecutionException e) {
+                    LOGGER.error("Could not execute timer task, the executor rejected it", e);
+                    timeout.m_state.set(TimeoutImpl.DONE);
+                }
+            } else {
+                timeout.m_remainingRounds--;
+            }
+        }
+    }
+
+    /**
+     * Stops the timer, pending tasks are cancelled. Running tasks are not interrupted.
+     *
+     * @throws UnsupportedOperationException for the {@linkplain #getInstance() global instance}
+     */
+    @Override
+    public void close() {
+        if (m_isGlobal) {
+            throw new UnsupportedOperationException("You must not close the global timer!");
+        }
+        m_isClosed = true;
+        LockSupport.unpark(m_ticker);
+    }
+
+    /**
+     * Handle of a task scheduled on a {@link HashedWheelTimer}.
+     */
+    public interface Timeout {
+
+        /**
+         * Cancels the task. A running execution is not interrupted, but a periodic task is not executed again.
+         *
+         * @return {@code true} if the task was cancelled by this call, {@code false} if it had already been cancelled
+         *         or if it was a single-execution task that has already been started
+         */
+        boolean cancel();
+
+        /**
+         * @return whether the task has been cancelled
+         */
+        boolean isCancelled();
+
+        /**
+         * @return whether the task will not be executed (again), either because it was cancelled, it failed, or it
+         *         was a single-execution task that has already been started
+         */
+        boolean isDone();
+
+        /**
+         * @return number of completed executions of the task
+         */
+        long getExecutionCount();
+
+        /**
+         * @return the total time spent executing the task
+         */
+        Duration getTotalExecutionTime();
+
+        /**
+         * @return the duration of the longest execution of the task
+         */
+        Duration getMaxExecutionTime();
+    }
+
+    private final class TimeoutImpl implements Timeout {
+
+        private static final int SCHEDULED = 0;
+
+        private static final int DONE = 1;
+
+        private static final int CANCELLED = 2;
+
+        private final Runnable m_task;
+
+        /** 0 for single execution, positive for a fixed rate, negative for a fixed delay. */
+        private final long m_periodNanos;
+
+        private final AtomicInteger m_state = new AtomicInteger(SCHEDULED);
+
+        private final AtomicLong m_executionCount = new AtomicLong();
+
+        private final AtomicLong m_totalNanos = new AtomicLong();
+
+        private final AtomicLong m_maxNanos = new AtomicLong();
+
+        /** Due time relative to the start of the timer. Written before (re-)adding to the queue of new timeouts. */
+        private volatile long m_deadline;
+
+        /** Only accessed by the ticker thread. */
+        private long m_remainingRounds;
+
+        private TimeoutImpl(final Runnable task, final long periodNanos) {
+            m_task = CheckUtils.checkArgumentNotNull(task);
+            m_periodNanos = periodNanos;
+        }
+
+        private void run() {
+            // a single execution is done once started, a periodic one only if failed or cancelled
+            if (m_periodNanos == 0 ? !m_state.compareAndSet(SCHEDULED, DONE) : (m_state.get() != SCHEDULED)) {
+                return;
+            }
+            final var start = System.nanoTime();
+            m_latenessMillis.record(Math.max(0, start - m_startTime - m_deadline) / 1e6);
+            var failed = false;
+            try {
+                m_task.run();
+            } catch (Throwable t) { // NOSONAR (3rd party client code, must not kill the worker)
+                LOGGER.error("Timer task failed" + (m_periodNanos != 0 ? ", it will not be executed again" : ""), t);
+                failed = true;
+            }
+            final var end = System.nanoTime();
+            final var nanos = end - start;
+            m_executionCount.incrementAndGet();
+            m_totalNanos.addAndGet(nanos);
+            m_maxNanos.accumulateAndGet(nanos, Math::max);
+            m_executionMillis.record(nanos / 1e6);
+            if (m_periodNanos == 0) {
+                return;
+            }
+            if (failed) {
+                m_state.compareAndSet(SCHEDULED, DONE);
+            } else if (m_state.get() == SCHEDULED && !m_isClosed) {
+                m_deadline = m_periodNanos > 0 ? m_deadline + m_periodNanos : end - m_startTime - m_periodNanos;
+                enqueue(this);
+            }
+        }
+
+        @Override
+        public boolean cancel() {
+            // the timeout is removed from the wheel lazily, when its bucket is processed
+            return m_state.compareAndSet(SCHEDULED, CANCELLED);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return m_state.get() == CANCELLED;
+        }
+
+        @Override
+        public boolean isDone() {
+            return m_state.get() != SCHEDULED;
+        }
+
+        @Override
+        public long getExecutionCount() {
+            return m_executionCount.get();
+        }
+
+        @Override
+        public Duration getTotalExecutionTime() {
+            return Duration.ofNanos(m_totalNanos.get());
+        }
+
+        @Override
+        public Duration getMaxExecutionTime() {
+            return Duration.ofNanos(m_maxNanos.get());
+        }
+    }
+}
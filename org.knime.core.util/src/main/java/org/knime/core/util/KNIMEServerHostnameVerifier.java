@@ -48,10 +48,12 @@
  */
 package org.knime.core.util;
 
+import java.security.cert.Certificate;
 import java.security.cert.X509Certificate;
 import java.util.Arrays;
 
 import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLException;
 import javax.net.ssl.SSLPeerUnverifiedException;
 import javax.net.ssl.SSLSession;
 
@@ -64,9 +66,12 @@
  * @since 5.9
  */
 public final class KNIMEServerHostnameVerifier implements HostnameVerifier {
-    private static final HostnameVerifier INSTANCE = new KNIMEServerHostnameVerifier();
+    private static final String DEFAULT_SERVER_INSTALLATION_SUBJECT =
+        "CN=default-server-installation.knime.local,O=KNIME.com AG,L=Atlantis,ST=Utopia,C=AA";
 
-    private final HostnameVerifier m_defaultVerifier = new DefaultHostnameVerifier();
+    private static final KNIMEServerHostnameVerifier INSTANCE = new KNIMEServerHostnameVerifier();
+
+    private final DefaultHostnameVerifier m_defaultVerifier = new DefaultHostnameVerifier();
 
     /**
      * Returns the singleton instance.
@@ -91,12 +96,37 @@ public boolean verify(final String hostname, final SSLSession session) {
             return true;
         }
         try {
-            return Arrays.stream(session.getPeerCertificates()).filter(X509Certificate.class::isInstance)
-                .map(c -> ((X509Certificate)c).getSubjectX500Principal().getName())
-                .anyMatch(
-                    "CN=default-server-installation.knime.local,O=KNIME.com AG,L=Atlantis,ST=Utopia,C=AA"::equals);
+            return isDefaultServerInstallation(session.getPeerCertificates());
         } catch (SSLPeerUnverifiedException ex) { // NOSONAR
             return false;
         }
     }
+
+    /**
+     * Verifies the hostname against the certificate chain presented by the server, with the same semantics as
+     * {@link #verify(String, SSLSession)}. This can be used where the chain is known but no session with verified peer
+     * certificates is available yet, e.g. in trust managers during the handshake.
+     *
+     * @param hostname the hostname of the server
+     * @param chain the certificate chain of the server, starting with the server's certificate
+     * @return {@code true} if the hostname is acceptable
+     * @since 6.12
+     */
+    public static boolean verifyCertificates(final String hostname, final X509Certificate[] chain) {
+        if (chain == null || chain.length == 0) {
+            return false;
+        }
+        try {
+            INSTANCE.m_defaultVerifier.verify(hostname, chain[0]);
+            return true;
+        } catch (SSLException ex) { // NOSONAR
+            return isDefaultServerInstallation(chain);
+        }
+    }
+
+    private static boolean isDefaultServerInstallation(final Certificate[] chain) {
+        return Arrays.stream(chain).filter(X509Certificate.class::isInstance)
+            .map(c -> ((X509Certificate)c).getSubjectX500Principal().getName())
+            .anyMatch(DEFAULT_SERVER_INSTALLATION_SUBJECT::equals);
+    }
 }
@@ -55,7 +55,10 @@
  * which is not aware of execution canceling and such stuff.
  * 
  * <b>Users of this timer must make sure, that the scheduled tasks are
- * fast-running, otherwise other tasks will be blocked.</b>
+ * fast-running, otherwise other tasks will be blocked.</b> Slow tasks or
+ * many short timeouts should rather be scheduled on the
+ * {@link HashedWheelTimer#getInstance() global HashedWheelTimer}, which runs
+ * due tasks concurrently on a worker pool.
  * 
  * @author Thorsten Meinl, University of Konstanz
  */
@@ -0,0 +1,388 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.core.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+
+import org.apache.commons.logging.LogFactory;
+import org.eclipse.jdt.annotation.Owning;
+import org.knime.core.node.util.CheckUtils;
+import org.knime.core.util.metrics.Histogram;
+import org.knime.core.util.metrics.MetricId;
+import org.knime.core.util.metrics.Metrics;
+
+/**
+ * Tracks several measures at once, each with exponentially weighted moving averages (EWMA) over the same set of
+ * intervals, plus a {@link Histogram} of all sampled values for percentiles. Like the {@link LoadTracker}, the
+ * monitor samples all measures periodically on a shared background thread. The averages of an update are published
+ * at once, reading them is a volatile read and an array access, so the monitor is suitable for hot paths such as
+ * admission control of executors.
+ * <p>
+ * Optionally, the averages and the 50th, 90th, and 99th percentiles are registered as gauges with {@link Metrics}
+ * (see {@link Builder#exportAs(String)}) as long as the monitor is running:
+ * </p>
+ * <ul>
+ * <li>{@value #METRIC_LOAD_AVERAGE} with the tags {@code monitor}, {@code measure}, and {@code interval} (as ISO-8601
+ * duration, e.g. {@code PT1M})</li>
+ * <li>{@value #METRIC_LOAD_PERCENTILE} with the tags {@code monitor}, {@code measure}, and {@code percentile} (e.g.
+ * {@code p90})</li>
+ * </ul>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @param <K> The type of the key to distinguish the measures, often an enum or a String
+ * @since 6.12
+ */
+public final class LoadMonitor<K> implements AutoCloseable {
+
+    /** Name of the exported load average gauges. */
+    public static final String METRIC_LOAD_AVERAGE = "knime.load.average";
+
+    /** Name of the exported percentile gauges. */
+    public static final String METRIC_LOAD_PERCENTILE = "knime.load.percentile";
+
+    private static final double[] EXPORTED_PERCENTILES = {50, 90, 99};
+
+    /** The number of times errors retrieving the current value will be logged, avoid log flood. */
+    private static final int MAX_ERROR_LOGS = 10;
+
+    /** Index of each measure in {@link #m_measures} and {@link #m_histograms}. */
+    private final Map<K, Integer> m_measureIndices;
+
+    private final DoubleSupplier[] m_measures;
+
+    private final Histogram[] m_histograms;
+
+    private final List<Duration> m_intervals;
+
+    private final double[] m_intervalsMillis;
+
+    /**
+     * Averages of all measures and intervals (measure-major), replaced (not modified) on every update so that
+     * readers see all averages of an update.
+     */
+    private volatile double[] m_loadAverages;
+
+    private final ScheduledFuture<?> m_updateFuture;
+
+    private final boolean m_isIgnoreCloseInvocation;
+
+    private final List<SafeCloseable> m_metricRegistrations = new ArrayList<>();
+
+    private int m_nrErrorsLogged;
+
+    private long m_lastUpdate;
+
+    private LoadMonitor(final Builder<K> b) {
+        m_measureIndices = new LinkedHashMap<>();
+        m_measures = new DoubleSupplier[b.m_measures.size()];
+        m_histograms = new Histogram[m_measures.length];
+        m_intervals = List.copyOf(b.m_intervals);
+        m_intervalsMillis = m_intervals.stream().mapToDouble(Duration::toMillis).toArray();
+        final var loadAverages = new double[m_measures.length * m_intervalsMillis.length];
+        for (final var measure : b.m_measures.entrySet()) {
+            final var index = m_measureIndices.size();
+            m_measureIndices.put(measure.getKey(), index);
+            m_measures[index] = measure.getValue().measure();
+            m_histograms[index] = new Histogram();
+            for (var i = 0; i < m_intervalsMillis.length; i++) {
+                loadAverages[index * m_intervalsMillis.length + i] = measure.getValue().initialValue();
+            }
+        }
+        m_loadAverages = loadAverages;
+        m_isIgnoreCloseInvocation = b.m_isIgnoreCloseInvocation;
+        if (b.m_exportName != null) {
+            registerMetrics(b.m_exportName);
+        }
+        m_lastUpdate = System.currentTimeMillis();
+        final var updateIntervalInMillis = b.m_updateInterval.toMillis();
+        m_updateFuture = LoadTracker.EXECUTOR.scheduleAtFixedRate(this::update, updateIntervalInMillis,
+            updateIntervalInMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void registerMetrics(final String name) {
+        try {
+            registerGauges(name);
+        } catch (IllegalArgumentException e) {
+            m_metricRegistrations.forEach(SafeCloseable::close);
+            throw e;
+        }
+    }
+
+    private void registerGauges(final String name) {
+        for (final var measure : m_measureIndices.keySet()) {
+            final var measureName = String.valueOf(measure);
+            for (final var interval : m_intervals) {
+                m_metricRegistrations.add(Metrics.registerGauge(MetricId.of(METRIC_LOAD_AVERAGE, //
+                    "monitor", name, "measure", measureName, "interval", interval.toString()),
+                    () -> getLoadAverage(measure, interval)));
+            }
+            for (final var percentile : EXPORTED_PERCENTILES) {
+                m_metricRegistrations.add(Metrics.registerGauge(MetricId.of(METRIC_LOAD_PERCENTILE, //
+                    "monitor", name, "measure", measureName, "percentile", "p%d".formatted((int)percentile)),
+                    () -> getPercentile(measure, percentile)));
+            }
+        }
+    }
+
+    private void update() {
+        final var now = System.currentTimeMillis();
+        final var millisSinceLastUpdate = now - m_lastUpdate;
+        final var loadAverages = m_loadAverages.clone();
+        for (var m = 0; m < m_measures.length; m++) {
+            final double newValue;
+            try {
+                newValue = m_measures[m].getAsDouble();
+            } catch (Exception e) { // NOSONAR (3rd party client code)
+                logError(e);
+                continue;
+            }
+            m_histograms[m].record(newValue);
+            for (var i = 0; i < m_intervalsMillis.length; i++) {
+                final var index = m * m_intervalsMillis.length + i;
+                final var retained = Math.exp(-millisSinceLastUpdate / m_intervalsMillis[i]);
+                loadAverages[index] = retained * loadAverages[index] + (1 - retained) * newValue;
+            }
+        }
+        m_loadAverages = loadAverages;
+        m_lastUpdate = now;
+    }
+
+    private void logError(final Exception e) {
+        m_nrErrorsLogged += 1;
+        if (m_nrErrorsLogged <= MAX_ERROR_LOGS) {
+            var messageBuilder = new StringBuilder("Error computing load value");
+            if (m_nrErrorsLogged == MAX_ERROR_LOGS) {
+                messageBuilder
+                    .append(" - error count exceeded (%d), will not report future errors".formatted(MAX_ERROR_LOGS));
+            }
+            LogFactory.getLog(LoadMonitor.class).error(messageBuilder.toString(), e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (!m_isIgnoreCloseInvocation) {
+            m_updateFuture.cancel(true);
+            m_metricRegistrations.forEach(SafeCloseable::close);
+        }
+    }
+
+    private int indexOf(final K measure) {
+        final var index = m_measureIndices.get(measure);
+        CheckUtils.checkArgument(index != null, "Unknown measure: %s", measure);
+        return index;
+    }
+
+    /**
+     * Retrieve the current load estimate of a measure for the given interval.
+     *
+     * @param measure The key of the measure, as specified during build.
+     * @param interval One of the intervals specified during build.
+     * @return The current load average.
+     * @throws IllegalArgumentException If the measure or interval is unknown.
+     */
+    public double getLoadAverage(final K measure, final Duration interval) {
+        final var intervalIndex = m_intervals.indexOf(interval);
+        CheckUtils.checkArgument(intervalIndex >= 0, "Unknown interval: %s", interval);
+        return m_loadAverages[indexOf(measure) * m_intervalsMillis.length + intervalIndex];
+    }
+
+    /**
+     * Retrieve the current load estimate of a measure for the first (often only) interval that was specified during
+     * build.
+     *
+     * @param measure The key of the measure, as specified during build.
+     * @return The current load average.
+     * @throws IllegalArgumentException If the measure is unknown.
+     */
+    public double getLoadAverage(final K measure) {
+        return m_loadAverages[indexOf(measure) * m_intervalsMillis.length];
+    }
+
+    /**
+     * Retrieve a percentile of all values sampled from a measure since the monitor was started.
+     *
+     * @param measure The key of the measure, as specified during build.
+     * @param percentile The percentile in [0, 100], e.g. 99.
+     * @return The value at the percentile (accurate to within 1%), {@code NaN} if no value has been sampled yet.
+     * @throws IllegalArgumentException If the measure is unknown or the percentile is out of range.
+     */
+    public double getPercentile(final K measure, final double percentile) {
+        return m_histograms[indexOf(measure)].getValueAtPercentile(percentile);
+    }
+
+    /**
+     * @param measure The key of the measure, as specified during build.
+     * @return The number of values sampled from the measure since the monitor was started.
+     * @throws IllegalArgumentException If the measure is unknown.
+     */
+    public long getSampleCount(final K measure) {
+        return m_histograms[indexOf(measure)].getTotalCount();
+    }
+
+    /**
+     * @return the nrErrorsLogged (used in test)
+     */
+    int getNrErrorsLogged() {
+        return m_nrErrorsLogged;
+    }
+
+    /**
+     * Creates a builder for a monitor.
+     *
+     * @param <K> The type of the key to distinguish the measures, often an enum or String. On the builder instance,
+     *            measures need to be added via {@link Builder#addMeasure(Object, DoubleSupplier, double)} and
+     *            intervals via {@link Builder#addInterval(Duration)} (at least one each).
+     * @param updateInterval The update interval for the load updates.
+     * @return A builder to be further configured and finally started via {@link Builder#start()}.
+     */
+    public static <K> Builder<K> builder(final Duration updateInterval) {
+        return new Builder<>(updateInterval);
+    }
+
+    /**
+     * A Builder returned by {@link LoadMonitor#builder(Duration)}.
+     *
+     * @param <K> Types of keys to distinguish the measures.
+     */
+    public static final class Builder<K> {
+
+        private record Measure(DoubleSupplier measure, double initialValue) {
+        }
+
+        private final Duration m_updateInterval;
+
+        private final Map<K, Measure> m_measures = new LinkedHashMap<>();
+
+        private final List<Duration> m_intervals = new ArrayList<>();
+
+        private boolean m_isIgnoreCloseInvocation;
+
+        private String m_exportName;
+
+        private Builder(final Duration updateInterval) {
+            CheckUtils.checkArgument(updateInterval.toMillis() > 0, "Update interval must be positive");
+            m_updateInterval = updateInterval;
+        }
+
+        /**
+         * Adds a measure to track.
+         *
+         * @param key The key to distinguish the measure, must be unique.
+         * @param measure The supplying measure, invoked on the update thread.
+         * @param initialValue The initial value for the load averages of the measure (usually the first value of the
+         *            measure, sometimes some other default when the computation of the value is stateful).
+         * @return this builder
+         */
+        public Builder<K> addMeasure(final K key, final DoubleSupplier measure, final double initialValue) {
+            CheckUtils.checkArgument(!m_measures.containsKey(key), "Measure \"%s\" already added", key);
+            m_measures.put(key, new Measure(CheckUtils.checkArgumentNotNull(measure), initialValue));
+            return this;
+        }
+
+        /**
+         * Adds an interval for which the load averages of all measures are calculated.
+         *
+         * @param interval The interval (e.g. load averages on *nix systems track averages over 1, 5, and 15 minutes).
+         * @return this builder
+         */
+        public Builder<K> addInterval(final Duration interval) {
+            CheckUtils.checkArgument(interval.compareTo(m_updateInterval) > 0,
+                "Observation period (%s) must be larger than update interval (%s)", interval, m_updateInterval);
+            if (!m_intervals.contains(interval)) {
+                m_intervals.add(interval);
+            }
+            return this;
+        }
+
+        /**
+         * Whether to ignore close invocation. If set to {@code true}, the monitor will not be stopped when
+         * {@link LoadMonitor#close()} is invoked. This is usually the case for static monitors.
+         *
+         * @param isIgnoreCloseInvocation That property. Default is false (i.e. close invocation will stop the
+         *            monitor).
+         * @return this builder
+         */
+        public Builder<K> setIgnoreCloseInvocation(final boolean isIgnoreCloseInvocation) {
+            m_isIgnoreCloseInvocation = isIgnoreCloseInvocation;
+            return this;
+        }
+
+        /**
+         * Registers the averages and percentiles as gauges with {@link Metrics} while the monitor is running.
+         *
+         * @param name The name of the monitor, used as {@code monitor} tag of all gauges. Must be unique among all
+         *            exported monitors.
+         * @return this builder
+         */
+        public Builder<K> exportAs(final String name) {
+            m_exportName = CheckUtils.checkArgumentNotNull(name);
+            return this;
+        }
+
+        /**
+         * Starts and returns the monitor.
+         *
+         * @return The monitor
+         * @throws IllegalArgumentException If the export name is already in use.
+         */
+        public @Owning LoadMonitor<K> start() {
+            CheckUtils.checkState(!m_measures.isEmpty(), "At least one measure must be added");
+            CheckUtils.checkState(!m_intervals.isEmpty(), "At least one interval must be added");
+            return new LoadMonitor<>(this);
+        }
+    }
+}
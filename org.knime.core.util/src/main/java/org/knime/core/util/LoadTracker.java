@@ -49,16 +49,16 @@
 package org.knime.core.util;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.DoubleSupplier;
-import java.util.stream.Collectors;
 
 import org.apache.commons.logging.LogFactory;
 import org.eclipse.jdt.annotation.Owning;
@@ -66,7 +66,11 @@
 
 /**
  * A utility to track load averages over different intervals. The load average is calculated as an exponentially
- * weighted moving average (EWMA) over given intervals. The tracker is updated periodically.
+ * weighted moving average (EWMA) over given intervals. The tracker is updated periodically, all averages of an
+ * update are published at once such that readers on any thread see a consistent set of values.
+ * <p>
+ * For tracking multiple measures, percentiles, or exporting the averages as metrics, see {@link LoadMonitor}.
+ * </p>
  *
  * @author Bernd Wiswedel
  * @param <K> The type of the key to distinguish different load averages. This is often an enum or a String and is
@@ -75,19 +79,22 @@
  */
 public final class LoadTracker<K> implements AutoCloseable {
 
-    private static final int INTERVAL_MS_OFFSET = 0;
-
-    private static final int LOAD_AVERAGE_OFFSET = 1;
-
     /** The number of times errors retrieving the current value will be logged, avoid log flood. */
     private static final int MAX_ERROR_LOGS = 10;
 
     private static final AtomicInteger THREAD_COUNTER = new AtomicInteger(0);
 
-    private static final ScheduledExecutorService EXECUTOR = Executors.newScheduledThreadPool(1,
+    /** Also used by the {@link LoadMonitor}. */
+    static final ScheduledExecutorService EXECUTOR = Executors.newScheduledThreadPool(1,
         r -> new Thread(r, "KNIME-LoadTracker-Updater-%d".formatted(THREAD_COUNTER.incrementAndGet())));
 
-    private final Map<K, double[]> m_loadAverageMap;
+    /** Index of each key in {@link #m_intervalsMillis} and {@link #m_loadAverages}. */
+    private final Map<K, Integer> m_keyIndices;
+
+    private final double[] m_intervalsMillis;
+
+    /** Replaced (not modified) on every update, so that readers see all averages of an update. */
+    private volatile double[] m_loadAverages;
 
     private final DoubleSupplier m_measure;
 
@@ -102,11 +109,16 @@
     private LoadTracker(final Builder<K> b, final double initialValue) {
         m_measure = b.m_measure;
         m_lastUpdate = System.currentTimeMillis();
-        m_loadAverageMap = b.m_keyToIntervalMap.entrySet().stream().collect(Collectors.toMap( //
-            Entry::getKey, //
-            e -> new double[] { e.getValue().toMillis(), initialValue }, //
-            (t, u) -> { throw new IllegalStateException(); }, //
-            LinkedHashMap::new));
+        m_keyIndices = new HashMap<>();
+        m_intervalsMillis = new double[b.m_keyToIntervalMap.size()];
+        for (final var entry : b.m_keyToIntervalMap.entrySet()) {
+            final var index = m_keyIndices.size();
+            m_keyIndices.put(entry.getKey(), index);
+            m_intervalsMillis[index] = entry.getValue().toMillis();
+        }
+        final var loadAverages = new double[m_intervalsMillis.length];
+        Arrays.fill(loadAverages, initialValue);
+        m_loadAverages = loadAverages;
         m_isIgnoreCloseInvocation = b.m_isIgnoreCloseInvocation;
         final var updateIntervalInMillis = b.m_updateInterval.toMillis();
         m_updateFuture = EXECUTOR.scheduleAtFixedRate(this::update, updateIntervalInMillis, updateIntervalInMillis,
@@ -132,12 +144,12 @@ private void update() {
 
         final var now = System.currentTimeMillis();
         final var millisSinceLastUpdate = now - m_lastUpdate;
-        for (final var average : m_loadAverageMap.values()) {
-            final var oldValue = average[LOAD_AVERAGE_OFFSET];
-            final var intervalMillis = average[INTERVAL_MS_OFFSET];
-            final var retained = Math.exp(-millisSinceLastUpdate / intervalMillis);
-            average[LOAD_AVERAGE_OFFSET] = retained * oldValue + (1 - retained) * newValue;
+        final var loadAverages = m_loadAverages.clone();
+        for (var i = 0; i < loadAverages.length; i++) {
+            final var retained = Math.exp(-millisSinceLastUpdate / m_intervalsMillis[i]);
+            loadAverages[i] = retained * loadAverages[i] + (1 - retained) * newValue;
         }
+        m_loadAverages = loadAverages;
         m_lastUpdate = now;
     }
 
@@ -163,7 +175,9 @@ public void close() {
      * @see #getLoadAverage()
      */
     public double getLoadAverage(final K key) {
-        return m_loadAverageMap.get(key)[LOAD_AVERAGE_OFFSET];
+        final var index = m_keyIndices.get(key);
+        CheckUtils.checkArgument(index != null, "Unknown key: %s", key);
+        return m_loadAverages[index];
     }
 
     /**
@@ -173,7 +187,7 @@ public double getLoadAverage(final K key) {
      * @see #getLoadAverage(Object)
      */
     public double getLoadAverage() {
-        return m_loadAverageMap.values().iterator().next()[LOAD_AVERAGE_OFFSET];
+        return m_loadAverages[0];
     }
 
     /**
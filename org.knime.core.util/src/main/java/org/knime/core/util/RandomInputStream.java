@@ -49,6 +49,7 @@
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Objects;
 import java.util.Random;
 
 /**
@@ -82,6 +83,46 @@ public int read() throws IOException {
         return m_rand.nextInt() & 0xff;
     }
 
-    // if you really need larger amounts of data this implementation is inefficient. Consider implementing
-    // the other read methods, too.
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (len == 0) {
+            return 0;
+        }
+        if (m_size <= 0) {
+            return -1;
+        }
+        final var n = (int)Math.min(len, m_size);
+        // like Random#nextBytes, but only for the requested range of the array
+        final var end = off + n;
+        for (var i = off; i < end;) {
+            var random = m_rand.nextInt();
+            for (var k = Math.min(end - i, Integer.BYTES); k > 0; k--, random >>= Byte.SIZE) {
+                b[i++] = (byte)random;
+            }
+        }
+        m_size -= n;
+        return n;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long skip(final long n) throws IOException {
+        final var skipped = Math.max(0, Math.min(n, m_size));
+        m_size -= skipped;
+        return skipped;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int available() throws IOException {
+        return (int)Math.max(0, Math.min(m_size, Integer.MAX_VALUE));
+    }
 }
\ No newline at end of file
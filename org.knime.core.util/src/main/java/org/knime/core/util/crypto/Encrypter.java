@@ -69,6 +69,8 @@
 import javax.crypto.spec.PBEKeySpec;
 import javax.crypto.spec.SecretKeySpec;
 
+import org.knime.core.util.jfr.CryptoEvent;
+
 /**
  * Simple class to en-/decrypt strings with a fixed key.
  *
@@ -266,20 +268,38 @@ public Encrypter(final String key, final int keyInitIterationCount)
     @Override
     public synchronized String encrypt(final String data)
         throws BadPaddingException, IllegalBlockSizeException, InvalidKeyException, InvalidAlgorithmParameterException {
-        return m_encrypters[m_encrypters.length - 1].encrypt(data);
+        final var event = new CryptoEvent();
+        event.begin();
+        try {
+            return m_encrypters[m_encrypters.length - 1].encrypt(data);
+        } finally {
+            event.commit(CryptoEvent.ENCRYPT, length(data));
+        }
     }
 
     @Deprecated
     @Override
     public synchronized String encrypt(final String data, final int salt)
         throws BadPaddingException, IllegalBlockSizeException, InvalidKeyException, InvalidAlgorithmParameterException {
-        return m_encrypters[m_encrypters.length - 1].encrypt(data, salt);
+        final var event = new CryptoEvent();
+        event.begin();
+        try {
+            return m_encrypters[m_encrypters.length - 1].encrypt(data, salt);
+        } finally {
+            event.commit(CryptoEvent.ENCRYPT, length(data));
+        }
     }
 
     @Override
     public synchronized String encrypt(final String data, final byte[] salt)
         throws BadPaddingException, IllegalBlockSizeException, InvalidKeyException, InvalidAlgorithmParameterException {
-        return m_encrypters[m_encrypters.length - 1].encrypt(data, salt);
+        final var event = new CryptoEvent();
+        event.begin();
+        try {
+            return m_encrypters[m_encrypters.length - 1].encrypt(data, salt);
+        } finally {
+            event.commit(CryptoEvent.ENCRYPT, length(data));
+        }
     }
 
     /**
@@ -300,7 +320,16 @@ public synchronized String decrypt(final String data) throws BadPaddingException
         if (version < 1 || version > m_encrypters.length) {
             throw new IllegalArgumentException("Could not decrypt data. It is not a valid encrypted string.");
         }
-        return m_encrypters[version - 1].decrypt(data);
+        final var event = new CryptoEvent();
+        event.begin();
+        try {
+            return m_encrypters[version - 1].decrypt(data);
+        } finally {
+            event.commit(CryptoEvent.DECRYPT, data.length());
+        }
     }
 
+    private static long length(final String data) {
+        return data == null ? 0 : data.length();
+    }
 }
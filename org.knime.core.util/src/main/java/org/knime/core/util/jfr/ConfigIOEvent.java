@@ -0,0 +1,110 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.core.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Loading or saving a config from/to XML, see {@link org.knime.core.node.config.base.XMLConfig}. The file is not known
+ * at this level; {@link WorkflowProfiles} attributes these events to the enclosing workflow-level event on the same
+ * thread.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 6.12
+ */
+@Name(ConfigIOEvent.NAME)
+@Label("Config I/O")
+@Category({"KNIME", "Workflow I/O"})
+@Description("Loading or saving a config from/to XML")
+public final class ConfigIOEvent extends Event {
+
+    /** Name of the event type. */
+    public static final String NAME = "org.knime.core.ConfigIO";
+
+    /** Value of {@code operation} for loading. */
+    public static final String LOAD = "load";
+
+    /** Value of {@code operation} for saving. */
+    public static final String SAVE = "save";
+
+    @Label("Operation")
+    @Name("operation")
+    private String m_operation;
+
+    @Label("Config Key")
+    @Name("configKey")
+    private String m_configKey;
+
+    @Label("Bytes")
+    @Name("bytes")
+    @DataAmount
+    private long m_bytes;
+
+    /**
+     * Ends the event and commits it, if it is enabled and exceeds the configured threshold.
+     *
+     * @param operation {@link #LOAD} or {@link #SAVE}
+     * @param configKey key of the root config
+     * @param bytes number of bytes read or written
+     */
+    public void commit(final String operation, final String configKey, final long bytes) {
+        end();
+        if (shouldCommit()) {
+            m_operation = operation;
+            m_configKey = configKey;
+            m_bytes = bytes;
+            commit();
+        }
+    }
+}
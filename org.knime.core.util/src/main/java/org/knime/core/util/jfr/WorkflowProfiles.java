@@ -0,0 +1,254 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.core.util.jfr;
+
+import java.io.IOException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Aggregates the KNIME events of a Java Flight Recording per workflow, to see where the time of loading, reading,
+ * exporting, or saving a workflow goes without attaching a profiler. Record with e.g.
+ * {@code -XX:StartFlightRecording=filename=knime.jfr,settings=profile} or {@code jcmd <pid> JFR.start} and pass the
+ * resulting file to {@link #aggregate(Path)}.
+ * <p>
+ * Events are attributed to the outermost workflow whose path contains their own path, such that metanodes,
+ * components, and their nodes are accounted to the top-level workflow. Events without a path ({@link ConfigIOEvent},
+ * {@link CryptoEvent}) are attributed to the enclosing workflow or node event on the same thread, or to
+ * {@link #UNKNOWN_WORKFLOW} if there is none.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 6.12
+ */
+public final class WorkflowProfiles {
+
+    /** Key of the profile collecting all events that cannot be attributed to a workflow. */
+    public static final String UNKNOWN_WORKFLOW = "<unknown>";
+
+    private static final String WORKFLOW_PATH = "workflowPath";
+
+    private static final Set<String> EVENT_NAMES = Set.of(ConfigIOEvent.NAME, WorkflowLoadEvent.NAME,
+        NodeLoadEvent.NAME, WorkflowReadEvent.NAME, WorkflowExportEvent.NAME, CryptoEvent.NAME);
+
+    /** Events carrying a workflow path that define the roots. */
+    private static final Set<String> WORKFLOW_EVENT_NAMES =
+        Set.of(WorkflowLoadEvent.NAME, WorkflowReadEvent.NAME, WorkflowExportEvent.NAME);
+
+    /**
+     * Aggregated statistics of the events of one type.
+     *
+     * @param count number of events
+     * @param failures number of events of operations that failed, for events recording their outcome
+     * @param duration total duration of all events (nested events of the same type are counted twice)
+     * @param bytes total number of bytes, for events having a byte count
+     * @param nodes total number of nodes, for events having a node count
+     */
+    public record EventStats(long count, long failures, Duration duration, long bytes, long nodes) {
+
+        private static final EventStats EMPTY = new EventStats(0, 0, Duration.ZERO, 0, 0);
+
+        private EventStats add(final RecordedEvent event) {
+            final var failed = event.hasField("successful") && !event.getBoolean("successful");
+            return new EventStats(count + 1, failures + (failed ? 1 : 0), duration.plus(event.getDuration()),
+                bytes + (event.hasField("bytes") ? event.getLong("bytes") : 0),
+                nodes + (event.hasField("nodeCount") ? event.getInt("nodeCount") : 0));
+        }
+    }
+
+    /**
+     * The profile of one workflow.
+     *
+     * @param workflowPath the path of the workflow (directory, archive, or the exported directory), or
+     *            {@link WorkflowProfiles#UNKNOWN_WORKFLOW}
+     * @param events statistics per event type name (e.g. {@link ConfigIOEvent#NAME})
+     */
+    public record WorkflowProfile(String workflowPath, Map<String, EventStats> events) {
+
+        /**
+         * @param eventName name of the event type, e.g. {@link NodeLoadEvent#NAME}
+         * @return the statistics of the events of that type, all zero if there are none
+         */
+        public EventStats get(final String eventName) {
+            return events.getOrDefault(eventName, EventStats.EMPTY);
+        }
+    }
+
+    /**
+     * Reads a recording file and aggregates its KNIME events per workflow.
+     *
+     * @param recording the JFR file
+     * @return profiles by workflow path, in order of the first event of each workflow
+     * @throws IOException if the file cannot be read or is not a valid recording
+     */
+    public static Map<String, WorkflowProfile> aggregate(final Path recording) throws IOException {
+        return aggregate(RecordingFile.readAllEvents(recording));
+    }
+
+    /**
+     * Aggregates the KNIME events among the given events per workflow, other events are ignored.
+     *
+     * @param events the recorded events, e.g. from a {@link jdk.jfr.consumer.RecordingStream}
+     * @return profiles by workflow path, in order of the first event of each workflow
+     */
+    public static Map<String, WorkflowProfile> aggregate(final List<RecordedEvent> events) {
+        final var knimeEvents = events.stream() //
+            .filter(e -> EVENT_NAMES.contains(e.getEventType().getName())) //
+            .sorted(Comparator.comparing(RecordedEvent::getStartTime)) //
+            .toList();
+        final var roots = findRoots(knimeEvents);
+        final var enclosers = new HashMap<Long, List<RecordedEvent>>();
+        for (final var event : knimeEvents) {
+            if (event.hasField(WORKFLOW_PATH) && event.getThread() != null) {
+                enclosers.computeIfAbsent(event.getThread().getJavaThreadId(), k -> new ArrayList<>()).add(event);
+            }
+        }
+
+        final var stats = new LinkedHashMap<String, Map<String, EventStats>>();
+        for (final var event : knimeEvents) {
+            final var workflow = findWorkflowPath(event, enclosers) //
+                .map(path -> rootOf(path, roots)) //
+                .orElse(UNKNOWN_WORKFLOW);
+            stats.computeIfAbsent(workflow, k -> new LinkedHashMap<>()) //
+                .merge(event.getEventType().getName(), EventStats.EMPTY.add(event), WorkflowProfiles::merge);
+        }
+        final var profiles = new LinkedHashMap<String, WorkflowProfile>();
+        stats.forEach((path, eventStats) -> profiles.put(path,
+            new WorkflowProfile(path, Collections.unmodifiableMap(eventStats))));
+        return Collections.unmodifiableMap(profiles);
+    }
+
+    private static EventStats merge(final EventStats a, final EventStats b) {
+        return new EventStats(a.count() + b.count(), a.failures() + b.failures(), a.duration().plus(b.duration()),
+            a.bytes() + b.bytes(), a.nodes() + b.nodes());
+    }
+
+    /** Workflow paths of workflow-level events, shortest first. */
+    private static List<Path> findRoots(final List<RecordedEvent> events) {
+        return events.stream() //
+            .filter(e -> WORKFLOW_EVENT_NAMES.contains(e.getEventType().getName())) //
+            .map(e -> toPath(e.getString(WORKFLOW_PATH))) //
+            .flatMap(Optional::stream) //
+            .distinct() //
+            .sorted(Comparator.comparingInt(Path::getNameCount)) //
+            .toList();
+    }
+
+    private static String rootOf(final String workflowPath, final List<Path> roots) {
+        return toPath(workflowPath) //
+            .flatMap(path -> roots.stream().filter(path::startsWith).findFirst()) //
+            .map(Path::toString) //
+            .orElse(workflowPath);
+    }
+
+    /** The event's own workflow path, or the one of the innermost enclosing event on the same thread. */
+    private static Optional<String> findWorkflowPath(final RecordedEvent event,
+        final Map<Long, List<RecordedEvent>> enclosers) {
+        if (event.hasField(WORKFLOW_PATH)) {
+            return Optional.ofNullable(event.getString(WORKFLOW_PATH));
+        }
+        if (event.getThread() == null) {
+            return Optional.empty();
+        }
+        final var candidates = enclosers.getOrDefault(event.getThread().getJavaThreadId(), List.of());
+        // candidates are sorted by start time, the last one started before the event is the innermost candidate
+        var index = lastStartedAtOrBefore(candidates, event.getStartTime());
+        for (; index >= 0; index--) {
+            final var candidate = candidates.get(index);
+            if (!candidate.getEndTime().isBefore(event.getEndTime())) {
+                return Optional.ofNullable(candidate.getString(WORKFLOW_PATH));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static int lastStartedAtOrBefore(final List<RecordedEvent> events, final Instant time) {
+        var low = 0;
+        var high = events.size() - 1;
+        var result = -1;
+        while (low <= high) {
+            final var mid = (low + high) >>> 1;
+            if (events.get(mid).getStartTime().isAfter(time)) {
+                high = mid - 1;
+            } else {
+                result = mid;
+                low = mid + 1;
+            }
+        }
+        return result;
+    }
+
+    private static Optional<Path> toPath(final String path) {
+        try {
+            return Optional.ofNullable(path).map(Path::of);
+        } catch (InvalidPathException e) { // NOSONAR not a file system path, cannot be related to others
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Hides the constructor.
+     */
+    private WorkflowProfiles() {
+    }
+}
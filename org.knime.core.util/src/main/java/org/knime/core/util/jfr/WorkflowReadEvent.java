@@ -0,0 +1,109 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.core.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Reading the metadata of a workflow, see {@link org.knime.core.util.workflowalizer.Workflowalizer}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 6.12
+ */
+@Name(WorkflowReadEvent.NAME)
+@Label("Workflow Read")
+@Category({"KNIME", "Workflow I/O"})
+@Description("Reading the metadata of a workflow directory or archive")
+public final class WorkflowReadEvent extends Event {
+
+    /** Name of the event type. */
+    public static final String NAME = "org.knime.core.WorkflowRead";
+
+    @Label("Workflow Path")
+    @Name("workflowPath")
+    private String m_workflowPath;
+
+    @Label("Zipped")
+    @Name("zipped")
+    private boolean m_zipped;
+
+    @Label("Node Count")
+    @Name("nodeCount")
+    private int m_nodeCount;
+
+    @Label("Successful")
+    @Name("successful")
+    @Description("Whether the operation completed without an exception")
+    private boolean m_successful;
+
+    /**
+     * Ends the event and commits it, if it is enabled and exceeds the configured threshold.
+     *
+     * @param workflowPath the workflow directory or archive
+     * @param zipped whether the workflow was read from an archive
+     * @param nodeCount number of nodes directly contained in the workflow, 0 if the nodes were not read or reading
+     *            failed
+     * @param successful whether the operation completed without an exception
+     */
+    public void commit(final String workflowPath, final boolean zipped, final int nodeCount,
+        final boolean successful) {
+        end();
+        if (shouldCommit()) {
+            m_workflowPath = workflowPath;
+            m_zipped = zipped;
+            m_nodeCount = nodeCount;
+            m_successful = successful;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.core.util.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.knime.core.node.util.CheckUtils;
+
+/**
+ * Lock-free histogram of non-negative values with log-linear buckets, in the spirit of an HDR histogram. Every power
+ * of two between {@value #MIN_EXPONENT} and {@value #MAX_EXPONENT} is split into {@value #SUB_BUCKETS} equally sized
+ * buckets, so percentiles are accurate to within 1% of the value, independent of its magnitude. Values below
+ * 2<sup>{@value #MIN_EXPONENT}</sup> (including zero and negative values) are counted as zero, values above the range
+ * as its maximum; {@code NaN}s are ignored.
+ * <p>
+ * Recording is wait-free and may happen concurrently with reading, reads see a consistent-enough view for
+ * monitoring but are not an atomic snapshot.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 6.12
+ */
+public final class Histogram {
+
+    /** Exponent of the smallest distinguished power of two (about 6e-8). */
+    public static final int MIN_EXPONENT = -24;
+
+    /** Exponent of the largest distinguished power of two (about 5.5e11). */
+    public static final int MAX_EXPONENT = 39;
+
+    private static final int SUB_BUCKET_BITS = 6;
+
+    /** Number of buckets per power of two. */
+    public static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private static final double MIN_VALUE = Math.scalb(1.0, MIN_EXPONENT);
+
+    /** Bucket 0 holds zero (and everything below the range), then {@link #SUB_BUCKETS} per exponent. */
+    private static final int BUCKET_COUNT = 1 + (MAX_EXPONENT - MIN_EXPONENT + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray m_counts = new AtomicLongArray(BUCKET_COUNT);
+
+    private final LongAdder m_totalCount = new LongAdder();
+
+    /**
+     * Records a value.
+     *
+     * @param value the value, see the class description for the handling of values out of range
+     */
+    public void record(final double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        m_counts.incrementAndGet(indexOf(value));
+        m_totalCount.increment();
+    }
+
+    /**
+     * @return the number of recorded values
+     */
+    public long getTotalCount() {
+        return m_totalCount.sum();
+    }
+
+    /**
+     * Returns the value at the given percentile, i.e. the (representative value of the) smallest bucket such that at
+     * least the given percentage of all recorded values are in it or in smaller buckets.
+     *
+     * @param percentile the percentile in [0, 100]
+     * @return the value at the percentile, {@code NaN} if no value was recorded yet
+     */
+    public double getValueAtPercentile(final double percentile) {
+        CheckUtils.checkArgument(percentile >= 0 && percentile <= 100, "Percentile must be in [0, 100]: %f",
+            percentile);
+        final var counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (var i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = m_counts.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return Double.NaN;
+        }
+        final var rank = Math.max(1, (long)Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (var i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return valueOf(i);
+            }
+        }
+        return valueOf(BUCKET_COUNT - 1);
+    }
+
+    /**
+     * Clears all recorded values. Values recorded concurrently may or may not be retained.
+     */
+    public void reset() {
+        for (var i = 0; i < BUCKET_COUNT; i++) {
+            m_counts.set(i, 0);
+        }
+        m_totalCount.reset();
+    }
+
+    static int indexOf(final double value) {
+        if (!(value >= MIN_VALUE)) {
+            return 0;
+        }
+        final var exponent = Math.getExponent(value);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        // the leading bits of the mantissa determine the linear sub-bucket within the power of two
+        final var subBucket = (int)(Double.doubleToRawLongBits(value) >>> (52 - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return 1 + (exponent - MIN_EXPONENT) * SUB_BUCKETS + subBucket;
+    }
+
+    /** The midpoint of the bucket, which is within 1/128 of any value in it. */
+    static double valueOf(final int index) {
+        if (index == 0) {
+            return 0.0;
+        }
+        final var exponent = (index - 1) / SUB_BUCKETS + MIN_EXPONENT;
+        final var subBucket = (index - 1) % SUB_BUCKETS;
+        return Math.scalb(1.0 + (subBucket + 0.5) / SUB_BUCKETS, exponent);
+    }
+}
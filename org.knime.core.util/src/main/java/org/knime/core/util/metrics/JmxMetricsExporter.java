@@ -0,0 +1,155 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.core.util.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Hashtable;
+import java.util.function.DoubleSupplier;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Publishes gauges as MXBeans with a single {@code Value} attribute on the platform MBean server. The object name is
+ * built from the domain {@value #DOMAIN}, the metric name as {@code name} key, and one key per tag, e.g.
+ * {@code org.knime.metrics:name="knime.load.average",measure="cpu",interval="PT1M"}. Tags must therefore not use
+ * the key {@code name}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 6.12
+ */
+public final class JmxMetricsExporter implements MetricsExporter {
+
+    private static final Log LOGGER = LogFactory.getLog(JmxMetricsExporter.class);
+
+    /** Domain of the object names of all published gauges. */
+    public static final String DOMAIN = "org.knime.metrics";
+
+    private final MBeanServer m_server;
+
+    /**
+     * Creates an exporter publishing to the platform MBean server.
+     */
+    public JmxMetricsExporter() {
+        this(ManagementFactory.getPlatformMBeanServer());
+    }
+
+    /**
+     * Creates an exporter publishing to the given MBean server.
+     *
+     * @param server the target server
+     */
+    public JmxMetricsExporter(final MBeanServer server) {
+        m_server = server;
+    }
+
+    /**
+     * Computes the object name under which a gauge is published.
+     *
+     * @param id the identifier of the gauge
+     * @return the object name
+     * @throws JMException if the name or a tag is not valid in an object name
+     */
+    public static ObjectName toObjectName(final MetricId id) throws JMException {
+        final var properties = new Hashtable<String, String>(); // NOSONAR (required by the ObjectName API)
+        id.tags().forEach((key, value) -> properties.put(key, ObjectName.quote(value)));
+        properties.put("name", ObjectName.quote(id.name()));
+        return new ObjectName(DOMAIN, properties);
+    }
+
+    @Override
+    public void registerGauge(final MetricId id, final DoubleSupplier value) {
+        try {
+            m_server.registerMBean(new Gauge(value), toObjectName(id));
+        } catch (JMException e) {
+            LOGGER.warn("Could not register gauge \"%s\" as MBean".formatted(id), e);
+        }
+    }
+
+    @Override
+    public void unregisterGauge(final MetricId id) {
+        try {
+            final var name = toObjectName(id);
+            if (m_server.isRegistered(name)) {
+                m_server.unregisterMBean(name);
+            }
+        } catch (JMException e) {
+            LOGGER.warn("Could not unregister MBean of gauge \"%s\"".formatted(id), e);
+        }
+    }
+
+    /**
+     * Management interface of a published gauge.
+     */
+    public interface GaugeMXBean {
+
+        /**
+         * @return the current value of the gauge
+         */
+        double getValue();
+    }
+
+    private static final class Gauge implements GaugeMXBean {
+
+        private final DoubleSupplier m_value;
+
+        private Gauge(final DoubleSupplier value) {
+            m_value = value;
+        }
+
+        @Override
+        public double getValue() {
+            return m_value.getAsDouble();
+        }
+    }
+}
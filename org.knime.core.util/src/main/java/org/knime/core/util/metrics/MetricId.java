@@ -0,0 +1,99 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.core.util.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.knime.core.node.util.CheckUtils;
+
+/**
+ * Identifies a metric by a dot-separated name (e.g. {@code knime.load.average}) and a set of tags, following the
+ * dimensional naming of Micrometer and similar libraries. The tags are sorted by key, such that two identifiers with
+ * equal tags are equal regardless of insertion order.
+ *
+ * @param name the metric name, non-blank
+ * @param tags the tags (dimensions) of the metric, neither keys nor values may be {@code null}
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 6.12
+ */
+public record MetricId(String name, Map<String, String> tags) {
+
+    /**
+     * Validates the name and creates an unmodifiable, sorted copy of the tags.
+     *
+     * @param name the metric name, non-blank
+     * @param tags the tags (dimensions) of the metric, neither keys nor values may be {@code null}
+     */
+    public MetricId {
+        CheckUtils.checkArgument(name != null && !name.isBlank(), "Metric name must not be blank");
+        final var sortedTags = new TreeMap<String, String>();
+        tags.forEach((key, value) -> sortedTags.put(CheckUtils.checkArgumentNotNull(key, "Tag key is null"),
+            CheckUtils.checkArgumentNotNull(value, "Value of tag \"%s\" is null", key)));
+        tags = Collections.unmodifiableMap(sortedTags);
+    }
+
+    /**
+     * Creates an identifier from a name and alternating tag keys and values.
+     *
+     * @param name the metric name, non-blank
+     * @param keysAndValues tag keys and values, alternating ({@code key1, value1, key2, value2, ...})
+     * @return the identifier
+     * @throws IllegalArgumentException if the number of keys and values is odd
+     */
+    public static MetricId of(final String name, final String... keysAndValues) {
+        CheckUtils.checkArgument(keysAndValues.length % 2 == 0, "Tags must be given as key-value pairs");
+        final var tags = new TreeMap<String, String>();
+        for (var i = 0; i < keysAndValues.length; i += 2) {
+            tags.put(keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return new MetricId(name, tags);
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.core.util.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.DoubleSupplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.knime.core.node.util.CheckUtils;
+import org.knime.core.util.SafeCloseable;
+
+/**
+ * Process-wide registry of metrics that are published via pluggable {@link MetricsExporter}s. Without any exporter,
+ * registering a metric only costs a map entry, the values are not read.
+ * <p>
+ * The {@link JmxMetricsExporter} is added on class initialization if the system property {@value #PROPERTY_JMX} is
+ * set to {@code true}.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 6.12
+ */
+public final class Metrics {
+
+    private static final Log LOGGER = LogFactory.getLog(Metrics.class);
+
+    /** System property that enables publishing all metrics as MBeans on the platform MBean server. */
+    public static final String PROPERTY_JMX = "knime.metrics.jmx";
+
+    private static final List<MetricsExporter> EXPORTERS = new CopyOnWriteArrayList<>();
+
+    /** Guarded by the class monitor. */
+    private static final Map<MetricId, DoubleSupplier> GAUGES = new LinkedHashMap<>();
+
+    static {
+        if (Boolean.getBoolean(PROPERTY_JMX)) {
+            addExporter(new JmxMetricsExporter());
+        }
+    }
+
+    /**
+     * Registers a gauge and publishes it to all exporters.
+     *
+     * @param id the identifier of the gauge, must not be registered yet
+     * @param value supplier of the current value, should be cheap and must be thread-safe
+     * @return a handle that unregisters the gauge when closed (closing it more than once has no effect)
+     * @throws IllegalArgumentException if a gauge with the same identifier is already registered
+     */
+    public static synchronized SafeCloseable registerGauge(final MetricId id, final DoubleSupplier value) {
+        CheckUtils.checkArgumentNotNull(value);
+        CheckUtils.checkArgument(!GAUGES.containsKey(id), "Gauge \"%s\" is already registered", id);
+        GAUGES.put(id, value);
+        EXPORTERS.forEach(exporter -> register(exporter, id, value));
+        final var closed = new AtomicBoolean();
+        return () -> {
+            if (closed.compareAndSet(false, true)) {
+                unregisterGauge(id);
+            }
+        };
+    }
+
+    private static synchronized void unregisterGauge(final MetricId id) {
+        if (GAUGES.remove(id) != null) {
+            EXPORTERS.forEach(exporter -> unregister(exporter, id));
+        }
+    }
+
+    /**
+     * @return identifiers of all currently registered gauges
+     */
+    public static synchronized Set<MetricId> getRegisteredGauges() {
+        return Set.copyOf(GAUGES.keySet());
+    }
+
+    /**
+     * Adds an exporter and publishes all currently registered gauges to it.
+     *
+     * @param exporter the exporter to add
+     */
+    public static synchronized void addExporter(final MetricsExporter exporter) {
+        CheckUtils.checkArgumentNotNull(exporter);
+        if (!EXPORTERS.contains(exporter)) {
+            EXPORTERS.add(exporter);
+            GAUGES.forEach((id, value) -> register(exporter, id, value));
+        }
+    }
+
+    /**
+     * Removes an exporter and withdraws all currently registered gauges from it.
+     *
+     * @param exporter the exporter to remove
+     */
+    public static synchronized void removeExporter(final MetricsExporter exporter) {
+        if (EXPORTERS.remove(exporter)) {
+            GAUGES.keySet().forEach(id -> unregister(exporter, id));
+        }
+    }
+
+    private static void register(final MetricsExporter exporter, final MetricId id, final DoubleSupplier value) {
+        try {
+            exporter.registerGauge(id, value);
+        } catch (RuntimeException e) { // NOSONAR (3rd party exporter code)
+            LOGGER.warn("Could not export gauge \"%s\" via %s".formatted(id, exporter.getClass().getName()), e);
+        }
+    }
+
+    private static void unregister(final MetricsExporter exporter, final MetricId id) {
+        try {
+            exporter.unregisterGauge(id);
+        } catch (RuntimeException e) { // NOSONAR (3rd party exporter code)
+            LOGGER.warn("Could not withdraw gauge \"%s\" from %s".formatted(id, exporter.getClass().getName()), e);
+        }
+    }
+
+    /**
+     * Hides the constructor.
+     */
+    private Metrics() {
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.core.util.proxy;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.util.Arrays;
+
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.TrustManagerFactory;
+import javax.net.ssl.X509ExtendedTrustManager;
+
+import org.knime.core.util.KNIMEServerHostnameVerifier;
+
+/**
+ * Trust manager that validates server certificates with the platform's default trust manager, but verifies the
+ * hostname with the semantics of the {@link KNIMEServerHostnameVerifier}. Needed for clients that don't support
+ * custom hostname verifiers, such as {@link java.net.http.HttpClient}: since this is an
+ * {@link X509ExtendedTrustManager}, the endpoint identification is left to it.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class KNIMEServerTrustManager extends X509ExtendedTrustManager {
+
+    private final X509ExtendedTrustManager m_delegate;
+
+    private KNIMEServerTrustManager(final X509ExtendedTrustManager delegate) {
+        m_delegate = delegate;
+    }
+
+    /**
+     * Creates a {@link SSLContext} that uses this trust manager and the same client certificates as the default
+     * {@link SSLContext}, i.e., the key store configured by the standard {@code javax.net.ssl.keyStore*} properties
+     * (if any).
+     *
+     * @return initialized SSL context
+     * @throws GeneralSecurityException if the default trust manager, the key managers, or the context cannot be
+     *             created
+     */
+    static SSLContext createSSLContext() throws GeneralSecurityException {
+        final var factory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+        factory.init((KeyStore)null);
+        final var delegate = Arrays.stream(factory.getTrustManagers()) //
+            .filter(X509ExtendedTrustManager.class::isInstance) //
+            .map(X509ExtendedTrustManager.class::cast) //
+            .findFirst() //
+            .orElseThrow(() -> new GeneralSecurityException("No default X.509 trust manager found"));
+        final var context = SSLContext.getInstance("TLS");
+        context.init(createDefaultKeyManagers(), new TrustManager[]{new KNIMEServerTrustManager(delegate)}, null);
+        return context;
+    }
+
+    /**
+     * Creates the key managers like the default {@link SSLContext} of the JSSE provider does, whose key managers
+     * cannot be retrieved.
+     */
+    private static KeyManager[] createDefaultKeyManagers() throws GeneralSecurityException {
+        final var path = System.getProperty("javax.net.ssl.keyStore", "");
+        final var type = System.getProperty("javax.net.ssl.keyStoreType", KeyStore.getDefaultType());
+        final var provider = System.getProperty("javax.net.ssl.keyStoreProvider", "");
+        final var passwordProperty = System.getProperty("javax.net.ssl.keyStorePassword");
+        final var password = passwordProperty != null ? passwordProperty.toCharArray() : null;
+        KeyStore keyStore = null;
+        if (!path.isEmpty()) {
+            keyStore = provider.isEmpty() ? KeyStore.getInstance(type) : KeyStore.getInstance(type, provider);
+            // "NONE" denotes key stores that are not file-based, e.g. PKCS11 or Windows-MY
+            try (var in = "NONE".equals(path) ? null : Files.newInputStream(Path.of(path))) {
+                keyStore.load(in, password);
+            } catch (IOException e) {
+                throw new KeyStoreException("Could not read key store \"%s\"".formatted(path), e);
+            }
+        }
+        final var factory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        factory.init(keyStore, password);
+        return factory.getKeyManagers();
+    }
+
+    private static void verifyHostname(final String hostname, final X509Certificate[] chain)
+        throws CertificateException {
+        if (hostname == null) {
+            throw new CertificateException("Cannot verify the certificate without the hostname of the server");
+        }
+        if (!KNIMEServerHostnameVerifier.verifyCertificates(hostname, chain)) {
+            throw new CertificateException("Certificate does not match hostname \"%s\"".formatted(hostname));
+        }
+    }
+
+    @Override
+    public void checkServerTrusted(final X509Certificate[] chain, final String authType, final SSLEngine engine)
+        throws CertificateException {
+        // the variant without engine only validates the chain, not the endpoint
+        m_delegate.checkServerTrusted(chain, authType);
+        verifyHostname(engine != null ? engine.getPeerHost() : null, chain);
+    }
+
+    @Override
+    public void checkServerTrusted(final X509Certificate[] chain, final String authType, final Socket socket)
+        throws CertificateException {
+        m_delegate.checkServerTrusted(chain, authType);
+        final var session = socket instanceof SSLSocket sslSocket ? sslSocket.getHandshakeSession() : null;
+        verifyHostname(session != null ? session.getPeerHost() : null, chain);
+    }
+
+    @Override
+    public void checkServerTrusted(final X509Certificate[] chain, final String authType)
+        throws CertificateException {
+        m_delegate.checkServerTrusted(chain, authType);
+    }
+
+    @Override
+    public void checkClientTrusted(final X509Certificate[] chain, final String authType, final SSLEngine engine)
+        throws CertificateException {
+        m_delegate.checkClientTrusted(chain, authType, engine);
+    }
+
+    @Override
+    public void checkClientTrusted(final X509Certificate[] chain, final String authType, final Socket socket)
+        throws CertificateException {
+        m_delegate.checkClientTrusted(chain, authType, socket);
+    }
+
+    @Override
+    public void checkClientTrusted(final X509Certificate[] chain, final String authType)
+        throws CertificateException {
+        m_delegate.checkClientTrusted(chain, authType);
+    }
+
+    @Override
+    public X509Certificate[] getAcceptedIssuers() {
+        return m_delegate.getAcceptedIssuers();
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.core.util.proxy;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.knime.core.node.util.CheckUtils;
+import org.knime.core.util.proxy.search.GlobalProxySearch;
+
+/**
+ * Bounded cache of objects that depend on the proxy a connection is established through, e.g. HTTP clients or their
+ * connection pools. The values are keyed by the proxy's address and credentials (empty for direct connections) but not
+ * by its excluded hosts, which have already been applied when the proxy configuration for a target is determined by
+ * {@link #getProxyConfig(URI)}. If more than the maximum number of values are cached, the least recently used one is
+ * dropped from the cache; it is not closed since it may still be in use.
+ * <p>
+ * Instances are thread-safe.
+ * </p>
+ *
+ * @param <V> the type of the cached values
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 6.12
+ */
+public final class ProxyConfigCache<V> {
+
+    /** Guarded by itself, least recently used first. */
+    private final Map<Optional<GlobalProxyConfig>, V> m_values;
+
+    /**
+     * @param maxSize the maximum number of cached values, positive
+     */
+    public ProxyConfigCache(final int maxSize) {
+        CheckUtils.checkArgument(maxSize > 0, "Maximum size must be positive: %d", maxSize);
+        m_values = new LinkedHashMap<>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Optional<GlobalProxyConfig>, V> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Determines the proxy configuration that is currently used for connections to the given target, i.e. the one of
+     * the {@link GlobalProxySearch} unless the target's host is excluded from it.
+     *
+     * @param target the target, {@code null} for the configuration that applies to all protocols
+     * @return the proxy configuration, empty for direct connections
+     */
+    public static Optional<GlobalProxyConfig> getProxyConfig(final URI target) {
+        return GlobalProxySearch.getCurrentFor(target).filter(cfg -> !cfg.isHostExcluded(target));
+    }
+
+    /**
+     * Returns the value for the given proxy configuration, creating it if it is not cached. Configurations that only
+     * differ in their excluded hosts share a value.
+     *
+     * @param proxyConfig the proxy configuration, e.g. from {@link #getProxyConfig(URI)}; empty for direct connections
+     * @param factory creates the value for a proxy configuration, called with the configuration without excluded
+     *            hosts while the cache is locked
+     * @return the cached or created value
+     */
+    public V get(final Optional<GlobalProxyConfig> proxyConfig,
+        final Function<Optional<GlobalProxyConfig>, ? extends V> factory) {
+        final var key = proxyConfig.map(cfg -> new GlobalProxyConfig(cfg.protocol(), cfg.host(), cfg.port(),
+            cfg.useAuthentication(), cfg.username(), cfg.password(), false, null));
+        synchronized (m_values) {
+            return m_values.computeIfAbsent(key, factory);
+        }
+    }
+
+    /**
+     * @return the currently cached values, least recently used first
+     */
+    public List<V> values() {
+        synchronized (m_values) {
+            return new ArrayList<>(m_values.values());
+        }
+    }
+}
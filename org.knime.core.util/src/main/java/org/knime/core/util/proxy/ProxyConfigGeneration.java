@@ -0,0 +1,224 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.core.util.proxy;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Keeps track of the generation of each proxy's configuration, such that (pooled) connections to a proxy can be tagged
+ * with the configuration they have been established with. A proxy is identified by its protocol, host, and port, and
+ * its generation changes whenever the settings that apply to an already established connection change, i.e., its
+ * authentication settings. Changes of the excluded hosts don't invalidate connections since the route of each request
+ * is determined anew.
+ * <p>
+ * The generation is only updated when a configuration is {@linkplain #tag(GlobalProxyConfig) tagged}, i.e., whenever
+ * the proxy for a request is determined. Since tags of different generations are never equal, connections that carry
+ * the tag of an outdated generation are not reused by connection pools matching on the tag. Owners of connection
+ * pools can {@linkplain #addListener(Consumer) listen} on new generations to evict such connections right away.
+ * </p>
+ * <p>
+ * The credentials of a proxy are not retained, only a salted digest of them.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 6.12
+ */
+public final class ProxyConfigGeneration {
+
+    /**
+     * Tag of a connection to a proxy, unique per proxy and generation of its configuration.
+     *
+     * @param protocol proxy protocol
+     * @param host proxy server hostname
+     * @param port proxy server port
+     * @param generation generation of the proxy's configuration
+     * @param principal the principal a connection is bound to (e.g. after NTLM authentication or with a TLS client
+     *            certificate), {@code null} if none
+     */
+    public record Tag(ProxyProtocol protocol, String host, int port, long generation, Object principal) {
+
+        /**
+         * @param newPrincipal the principal the connection is bound to, may be {@code null}
+         * @return this tag with the given principal
+         */
+        public Tag withPrincipal(final Object newPrincipal) {
+            return new Tag(protocol, host, port, generation, newPrincipal);
+        }
+
+        /**
+         * @param config a proxy configuration
+         * @return whether this tag belongs to a connection to the given proxy
+         */
+        public boolean isFor(final GlobalProxyConfig config) {
+            return protocol == config.protocol() && host.equals(config.host()) && port == config.intPort();
+        }
+
+        /**
+         * @return whether this tag belongs to the current generation of the proxy's configuration
+         */
+        public boolean isCurrent() {
+            final var current = GENERATIONS.get(new Endpoint(protocol, host, port));
+            return current != null && current.number() == generation;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s://%s:%d (generation %d%s)", protocol.asLowerString(), host, port, generation,
+                principal == null ? "" : (", " + principal));
+        }
+    }
+
+    private record Endpoint(ProxyProtocol protocol, String host, int port) {
+    }
+
+    /** The salted digest of the credentials, {@code null} if no authentication is used. */
+    private record Authentication(String digest) {
+    }
+
+    private record Generation(Authentication authentication, long number) {
+    }
+
+    private static final Log LOGGER = LogFactory.getLog(ProxyConfigGeneration.class);
+
+    private static final AtomicLong COUNTER = new AtomicLong();
+
+    private static final Map<Endpoint, Generation> GENERATIONS = new ConcurrentHashMap<>();
+
+    private static final List<Consumer<Tag>> LISTENERS = new CopyOnWriteArrayList<>();
+
+    /** Per process, such that the digests cannot be looked up in precomputed tables. */
+    private static final byte[] SALT = createSalt();
+
+    /**
+     * Returns the tag of the given proxy configuration, starting a new generation of the proxy if its authentication
+     * settings have changed since it has been tagged last.
+     *
+     * If a previous generation of the proxy has been replaced, the {@linkplain #addListener(Consumer) listeners} are
+     * notified before this method returns.
+     *
+     * @param config the current configuration of a proxy
+     * @return the tag for connections to the proxy, without a principal
+     */
+    public static Tag tag(final GlobalProxyConfig config) {
+        final var endpoint = new Endpoint(config.protocol(), config.host(), config.intPort());
+        final var authentication = new Authentication(config.useAuthentication() //
+            ? digest(config.username(), config.password()) : null);
+        final var replaced = new boolean[1];
+        final var generation = GENERATIONS.compute(endpoint, (e, g) -> {
+            if (g != null && g.authentication().equals(authentication)) {
+                return g;
+            }
+            replaced[0] = g != null;
+            return new Generation(authentication, COUNTER.incrementAndGet());
+        });
+        final var tag = new Tag(endpoint.protocol(), endpoint.host(), endpoint.port(), generation.number(), null);
+        if (replaced[0]) {
+            for (final var listener : LISTENERS) {
+                try {
+                    listener.accept(tag);
+                } catch (RuntimeException e) { // NOSONAR a listener must not fail the request
+                    LOGGER.warn("Could not notify listener about new proxy configuration " + tag, e);
+                }
+            }
+        }
+        return tag;
+    }
+
+    /**
+     * Adds a listener that is notified with the new tag whenever the generation of a proxy's configuration has been
+     * replaced by a new one, e.g. to close the idle connections of a connection pool to that proxy. Listeners are
+     * called on the thread that detected the change, usually while a request is being routed, and must therefore be
+     * quick.
+     *
+     * @param listener the listener to add, which is never removed
+     */
+    public static void addListener(final Consumer<Tag> listener) {
+        LISTENERS.add(listener);
+    }
+
+    private static byte[] createSalt() {
+        final var salt = new byte[16];
+        new SecureRandom().nextBytes(salt);
+        return salt;
+    }
+
+    private static String digest(final String username, final String password) {
+        try {
+            final var digest = MessageDigest.getInstance("SHA-256");
+            digest.update(SALT);
+            // separated by a character that cannot be part of a valid username, such that "ab"/"c" != "a"/"bc"
+            digest.update(String.valueOf(username).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte)0);
+            digest.update(String.valueOf(password).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform supports SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Hides the constructor.
+     */
+    private ProxyConfigGeneration() {
+    }
+}
@@ -51,16 +51,25 @@
 import java.io.IOException;
 import java.net.Authenticator;
 import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
 import java.net.Proxy;
+import java.net.ProxySelector;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLConnection;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLContext;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -139,6 +148,20 @@ public final class URLConnectionFactory {
     private static final Optional<Integer> URL_READ_TIMEOUT_MS = readNonNegIntProperty( //
         PROPERTY_URL_READ_TIMEOUT, DEFAULT_URL_READ_TIMEOUT_MS);
 
+    /** Maximum number of clients cached by {@link #getHttpClient(URI)}. */
+    private static final int MAX_HTTP_CLIENTS = 16;
+
+    /**
+     * Clients returned by {@link #getHttpClient(URI)}, per proxy address and credentials (empty for no configured
+     * proxy). Dropped clients stop once they are not referenced anymore.
+     */
+    private static final ProxyConfigCache<HttpClient> HTTP_CLIENTS = new ProxyConfigCache<>(MAX_HTTP_CLIENTS);
+
+    /** Runs the asynchronous tasks of all clients returned by {@link #getHttpClient(URI)}. */
+    private static final ExecutorService HTTP_CLIENT_EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    private static SSLContext httpClientSSLContext;
+
     /**
      * Returns the default timeout in milliseconds for {@link URLConnection}s obtained through
      * {@link #getConnection(URL)}. Usage also includes the {@code org.knime.core.util.FileUtil} class.
@@ -215,6 +238,88 @@ public static URLConnection getConnection(final URL url) throws IOException {
         return completeConfiguration(connection);
     }
 
+    /**
+     * Returns a {@link HttpClient} for requests to the given {@link URI}, configured consistently with
+     * {@link #getConnection(URL)}: the proxy is selected by the {@link GlobalProxySearch} (including proxy
+     * authentication), redirects are followed (except from HTTPS to HTTP), hostnames are verified with the semantics
+     * of the {@link KNIMEServerHostnameVerifier}, and the connect timeout is
+     * {@link #getDefaultURLConnectTimeoutMillis()}. The client prefers HTTP/2, such that concurrent requests to the
+     * same host are multiplexed over few connections, and runs asynchronous requests on virtual threads.
+     * <p>
+     * Clients are cached per proxy address and credentials and shared by all callers, hence they must not be closed;
+     * only the most recently used ones are cached, such that changing configurations don't accumulate clients. Since
+     * {@link HttpClient}s don't have a read timeout, requests should be created with {@link #newHttpRequest(URI)}.
+     * </p>
+     *
+     * @param uri the URI to send requests to
+     * @return shared, pre-configured HTTP client
+     * @throws IOException if the proxy for the URI is a SOCKS proxy (which is not supported by {@link HttpClient}, use
+     *             {@link #getConnection(URL)} instead) or if the SSL context cannot be initialized
+     * @since 6.12
+     */
+    public static HttpClient getHttpClient(final URI uri) throws IOException {
+        final var proxyConfig = ProxyConfigCache.getProxyConfig(uri);
+        if (proxyConfig.isPresent() && proxyConfig.get().protocol() == ProxyProtocol.SOCKS) {
+            throw new IOException("SOCKS proxies are not supported by the Java HTTP client, cannot connect to \"%s\""
+                .formatted(uri));
+        }
+        final var sslContext = getHttpClientSSLContext();
+        return HTTP_CLIENTS.get(proxyConfig, cfg -> createHttpClient(cfg, sslContext));
+    }
+
+    /**
+     * Creates a request builder for the given {@link URI}, configured consistently with {@link #getConnection(URL)}:
+     * basic server authentication given in the user info of the URI is sent as header, and the timeout is
+     * {@link #getDefaultURLReadTimeoutMillis()}.
+     *
+     * @param uri the URI of the request
+     * @return pre-configured request builder
+     * @see #getHttpClient(URI)
+     * @since 6.12
+     */
+    public static HttpRequest.Builder newHttpRequest(final URI uri) {
+        final var builder = HttpRequest.newBuilder(uri);
+        if (uri.getUserInfo() != null) {
+            builder.header(HttpHeaders.AUTHORIZATION, createBasicAuthorization(uri.getUserInfo()));
+        }
+        final var readTimeout = getDefaultURLReadTimeoutMillis();
+        if (readTimeout > 0) {
+            builder.timeout(Duration.ofMillis(readTimeout));
+        }
+        return builder;
+    }
+
+    private static HttpClient createHttpClient(final Optional<GlobalProxyConfig> proxyConfig,
+        final SSLContext sslContext) {
+        final var builder = HttpClient.newBuilder() //
+            .version(HttpClient.Version.HTTP_2) //
+            .followRedirects(HttpClient.Redirect.NORMAL) //
+            .sslContext(sslContext) //
+            .executor(HTTP_CLIENT_EXECUTOR);
+        // a timeout of zero means no timeout for URL connections, but is not allowed here
+        final var connectTimeout = getDefaultURLConnectTimeoutMillis();
+        if (connectTimeout > 0) {
+            builder.connectTimeout(Duration.ofMillis(connectTimeout));
+        }
+        // without a configured proxy, the default proxy selector is used, as by URL#openConnection()
+        proxyConfig.map(GlobalProxyConfig::forJavaNetProxy).ifPresent(p -> {
+            builder.proxy(ProxySelector.of((InetSocketAddress)p.getFirst().address()));
+            builder.authenticator(p.getSecond());
+        });
+        return builder.build();
+    }
+
+    private static synchronized SSLContext getHttpClientSSLContext() throws IOException {
+        if (httpClientSSLContext == null) {
+            try {
+                httpClientSSLContext = KNIMEServerTrustManager.createSSLContext();
+            } catch (GeneralSecurityException e) {
+                throw new IOException("Could not initialize SSL context for HTTP client", e);
+            }
+        }
+        return httpClientSSLContext;
+    }
+
     /**
      * Queries the {@link GlobalProxySearch} for the global proxy configuration.
      * If a config is found that does not exclude the given {@link URL} it is returned
@@ -253,8 +358,7 @@ private static URLConnection completeConfiguration(final URLConnection connectio
         final var userInfo = connection.getURL().getUserInfo();
         if (userInfo != null) {
             LOGGER.info("Detected server authentication in user info of URL, moving to header");
-            final var encodedAuth = Base64.getEncoder().encodeToString(userInfo.getBytes(StandardCharsets.UTF_8));
-            connection.addRequestProperty(HttpHeaders.AUTHORIZATION, "Basic %s".formatted(encodedAuth));
+            connection.addRequestProperty(HttpHeaders.AUTHORIZATION, createBasicAuthorization(userInfo));
         }
 
         if (connection instanceof HttpURLConnection httpConnection) {
@@ -277,6 +381,11 @@ private static URLConnection completeConfiguration(final URLConnection connectio
         return connection;
     }
 
+    private static String createBasicAuthorization(final String userInfo) {
+        final var encodedAuth = Base64.getEncoder().encodeToString(userInfo.getBytes(StandardCharsets.UTF_8));
+        return "Basic %s".formatted(encodedAuth);
+    }
+
     /**
      * Only a utility class.
      */
@@ -48,21 +48,27 @@
  */
 package org.knime.core.util.proxy.apache;
 
+import java.util.Objects;
+
 import org.apache.http.HttpResponse;
 import org.apache.http.client.protocol.HttpClientContext;
 import org.apache.http.conn.HttpClientConnectionManager;
-import org.apache.http.conn.routing.HttpRoute;
 import org.apache.http.impl.client.DefaultClientConnectionReuseStrategy;
+import org.apache.http.impl.client.DefaultUserTokenHandler;
 import org.apache.http.protocol.HttpContext;
+import org.knime.core.util.proxy.ProxyConfigGeneration;
 
 /**
- * Connection reuse strategy that always denies reusing the connection when a proxy was used,
- * as that data (especially credentials) are not matched when checking whether a connection
- * can be reused by the {@link HttpClientConnectionManager} of the Apache HTTP client.
+ * Connection reuse strategy that only allows reusing a connection to a proxy if it has been tagged with the current
+ * {@linkplain ProxyConfigGeneration generation} of the proxy's configuration, as that data (especially credentials)
+ * are not matched when checking whether a connection can be reused by the {@link HttpClientConnectionManager} of the
+ * Apache HTTP client.
  * <p>
  * We cannot simply listen on changes in proxy settings because the reuse/keep-alive property
- * is always checked immediately *after* an HTTP request, not before one. We can never know if
- * proxy settings have changed.
+ * is always checked immediately *after* an HTTP request, not before one. Instead, the {@link ProxyHttpRoutePlanner}
+ * tags the connection before each request, and the tag is used as state of the pooled connection. Connections that
+ * carry the tag of an outdated generation are not leased anymore and are closed by the pool when their slot is needed
+ * (or when idle connections are evicted). Connections to a proxy that have not been tagged are never kept alive.
  * </p>
  *
  * @author Leon Wenzler, KNIME GmbH, Konstanz, Germany
@@ -84,9 +90,30 @@ private ProxyConnectionReuseStrategy() {
 
     @Override
     public boolean keepAlive(final HttpResponse response, final HttpContext context) {
-        // only keep alive if no proxy was used, as the user can dynamically change
-        // proxy settings, then we always want use newly configured connections
-        final var route = (HttpRoute) context.getAttribute(HttpClientContext.HTTP_ROUTE);
-        return (route == null || route.getProxyHost() == null) && super.keepAlive(response, context);
+        // the user can dynamically change proxy settings, then we always want to use newly configured connections,
+        // so connections to a proxy are only kept alive while they are tagged with the current configuration
+        final var clientContext = HttpClientContext.adapt(context);
+        final var route = clientContext.getHttpRoute();
+        return (route == null || route.getProxyHost() == null || isCurrent(clientContext))
+            && super.keepAlive(response, context);
+    }
+
+    /**
+     * Checks whether the connection is tagged with the current configuration and with the principal it is bound to.
+     * Since the tag is preset by the {@link ProxyHttpRoutePlanner}, the {@link DefaultUserTokenHandler} does not
+     * determine the principal (e.g. after NTLM authentication) anymore. A connection bound to another principal than
+     * the one of its tag is therefore not kept alive, but the context is tagged with the principal, such that further
+     * connections leased with the same context carry it.
+     */
+    private static boolean isCurrent(final HttpClientContext context) {
+        if (!(context.getUserToken() instanceof ProxyConfigGeneration.Tag tag) || !tag.isCurrent()) {
+            return false;
+        }
+        final var principal = DefaultUserTokenHandler.INSTANCE.getUserToken(context);
+        if (Objects.equals(principal, tag.principal())) {
+            return true;
+        }
+        context.setUserToken(tag.withPrincipal(principal));
+        return false;
     }
 }
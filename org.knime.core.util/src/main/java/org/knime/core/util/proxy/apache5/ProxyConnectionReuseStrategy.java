@@ -48,17 +48,23 @@
  */
 package org.knime.core.util.proxy.apache5;
 
+import java.util.Objects;
+
+import org.apache.hc.client5.http.HttpRoute;
 import org.apache.hc.client5.http.impl.DefaultClientConnectionReuseStrategy;
+import org.apache.hc.client5.http.impl.DefaultUserTokenHandler;
 import org.apache.hc.client5.http.io.HttpClientConnectionManager;
 import org.apache.hc.client5.http.protocol.HttpClientContext;
 import org.apache.hc.core5.http.HttpRequest;
 import org.apache.hc.core5.http.HttpResponse;
 import org.apache.hc.core5.http.protocol.HttpContext;
+import org.knime.core.util.proxy.ProxyConfigGeneration;
 
 /**
- * Connection reuse strategy that always denies reusing the connection when a proxy was used,
- * as that data (especially credentials) are not matched when checking whether a connection
- * can be reused by the {@link HttpClientConnectionManager} of the Apache HTTP client.
+ * Connection reuse strategy that only allows reusing a connection to a proxy if it has been tagged with the current
+ * {@linkplain ProxyConfigGeneration generation} of the proxy's configuration by the {@link ProxyHttpRoutePlanner}, as
+ * that data (especially credentials) are not matched when checking whether a connection can be reused by the
+ * {@link HttpClientConnectionManager} of the Apache HTTP client.
  *
  * @author Leon Wenzler, KNIME GmbH, Konstanz, Germany
  * @since 6.12
@@ -80,9 +86,31 @@ private ProxyConnectionReuseStrategy() {
 
     @Override
     public boolean keepAlive(final HttpRequest request, final HttpResponse response, final HttpContext context) {
-        // only keep alive if no proxy was used, as the user can dynamically change
-        // proxy settings, then we always want use newly configured connections
-        final var route = HttpClientContext.castOrCreate(context).getHttpRoute();
-        return (route == null || route.getProxyHost() == null) && super.keepAlive(request, response, context);
+        // the user can dynamically change proxy settings, then we always want to use newly configured connections,
+        // so connections to a proxy are only kept alive while they are tagged with the current configuration
+        final var clientContext = HttpClientContext.castOrCreate(context);
+        final var route = clientContext.getHttpRoute();
+        return (route == null || route.getProxyHost() == null || isCurrent(clientContext, request))
+            && super.keepAlive(request, response, context);
+    }
+
+    /**
+     * Checks whether the connection is tagged with the current configuration and with the principal it is bound to.
+     * Since the tag is preset by the {@link ProxyHttpRoutePlanner}, the {@link DefaultUserTokenHandler} does not
+     * determine the principal (e.g. after NTLM authentication) anymore. A connection bound to another principal than
+     * the one of its tag is therefore not kept alive, but the context is tagged with the principal, such that further
+     * connections leased with the same context carry it.
+     */
+    private static boolean isCurrent(final HttpClientContext context, final HttpRequest request) {
+        if (!(context.getUserToken() instanceof ProxyConfigGeneration.Tag tag) || !tag.isCurrent()) {
+            return false;
+        }
+        final var principal = context.getHttpRoute() instanceof HttpRoute route
+            ? DefaultUserTokenHandler.INSTANCE.getUserToken(route, request, context) : null;
+        if (Objects.equals(principal, tag.principal())) {
+            return true;
+        }
+        context.setUserToken(tag.withPrincipal(principal));
+        return false;
     }
 }
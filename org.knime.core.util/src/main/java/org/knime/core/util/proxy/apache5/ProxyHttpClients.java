@@ -50,10 +50,16 @@
 
 import java.net.URI;
 
+import javax.net.ssl.SSLContext;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.apache.hc.client5.http.classic.HttpClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
 import org.eclipse.jdt.annotation.Owning;
 
 /**
@@ -66,6 +72,65 @@
  */
 public final class ProxyHttpClients {
 
+    private static final Log LOGGER = LogFactory.getLog(ProxyHttpClients.class);
+
+    /**
+     * Java property used to set the maximum number of connections per route of each shared client, see
+     * {@link #acquireShared(URI, SSLContext)}. The default value is {@value #DEFAULT_SHARED_MAX_CONNECTIONS_PER_ROUTE}.
+     */
+    public static final String PROPERTY_SHARED_MAX_CONNECTIONS_PER_ROUTE = "knime.http.pool.maxPerRoute";
+
+    /**
+     * Default value if {@value #PROPERTY_SHARED_MAX_CONNECTIONS_PER_ROUTE} is not set or not a positive integer.
+     */
+    public static final int DEFAULT_SHARED_MAX_CONNECTIONS_PER_ROUTE = 20;
+
+    /**
+     * Java property used to set the maximum total number of connections of each shared client, see
+     * {@link #acquireShared(URI, SSLContext)}. The default value is {@value #DEFAULT_SHARED_MAX_CONNECTIONS_TOTAL}.
+     */
+    public static final String PROPERTY_SHARED_MAX_CONNECTIONS_TOTAL = "knime.http.pool.maxTotal";
+
+    /**
+     * Default value if {@value #PROPERTY_SHARED_MAX_CONNECTIONS_TOTAL} is not set or not a positive integer.
+     */
+    public static final int DEFAULT_SHARED_MAX_CONNECTIONS_TOTAL = 100;
+
+    /**
+     * Java property used to set the time in milliseconds after which idle connections of shared clients are closed,
+     * see {@link #acquireShared(URI, SSLContext)}. The default value is {@value #DEFAULT_SHARED_IDLE_TIMEOUT_MS}.
+     */
+    public static final String PROPERTY_SHARED_IDLE_TIMEOUT = "knime.http.pool.idleTimeout";
+
+    /**
+     * Default value if {@value #PROPERTY_SHARED_IDLE_TIMEOUT} is not set or not a positive integer.
+     */
+    public static final int DEFAULT_SHARED_IDLE_TIMEOUT_MS = 60000;
+
+    /**
+     * Java property used to set the time in milliseconds of inactivity after which pooled connections of shared
+     * clients are validated before they are leased again, see {@link #acquireShared(URI, SSLContext)}.
+     * The default value is {@value #DEFAULT_SHARED_VALIDATE_AFTER_INACTIVITY_MS}.
+     */
+    public static final String PROPERTY_SHARED_VALIDATE_AFTER_INACTIVITY = "knime.http.pool.validateAfterInactivity";
+
+    /**
+     * Default value if {@value #PROPERTY_SHARED_VALIDATE_AFTER_INACTIVITY} is not set or not a positive integer.
+     */
+    public static final int DEFAULT_SHARED_VALIDATE_AFTER_INACTIVITY_MS = 2000;
+
+    /**
+     * Java property used to set the time in milliseconds that a shared client is kept open after its last reference
+     * has been released, see {@link #acquireShared(URI, SSLContext)}. The default value is
+     * {@value #DEFAULT_SHARED_LINGER_MS}.
+     */
+    public static final String PROPERTY_SHARED_LINGER = "knime.http.pool.linger";
+
+    /**
+     * Default value if {@value #PROPERTY_SHARED_LINGER} is not set or not a positive integer.
+     */
+    public static final int DEFAULT_SHARED_LINGER_MS = 30000;
+
     // -- CLIENT BUILDER FACTORY --
 
     /**
@@ -151,6 +216,97 @@ public static HttpClientBuilder customForBuilder(final HttpClientBuilder builder
         return custom(defaultTarget).build();
     }
 
+    // -- SHARED CLIENTS --
+
+    /**
+     * Acquires a process-wide shared {@link CloseableHttpClient} instance, pre-configured for proxy support, and
+     * backed by a {@link PoolingHttpClientConnectionManager}. Callers requesting a client for the same default target
+     * (scheme, host, and port), proxy configuration, and {@link SSLContext} share the same client and therefore the
+     * same connection pool.
+     * <p>
+     * The returned client must be closed when it is not needed anymore, which only releases the reference to the
+     * shared client. The shared client and its connections are closed once the last reference has been released and
+     * the client has not been acquired again within the linger time ({@link #PROPERTY_SHARED_LINGER}), such that
+     * callers may acquire and close a client per request and still reuse connections. Pool sizes and timeouts are
+     * configured by the {@code knime.http.pool.*} properties, e.g. {@link #PROPERTY_SHARED_MAX_CONNECTIONS_PER_ROUTE}.
+     * </p>
+     *
+     * @param defaultTarget a fallback {@link URI} to select the proxy credentials by, see
+     *            {@link #custom(URI)}, may be {@code null}
+     * @param sslContext the {@link SSLContext} of TLS connections, {@code null} for the default one
+     * @return reference to the shared {@link HttpClient}
+     */
+    public static @Owning CloseableHttpClient acquireShared(final URI defaultTarget, final SSLContext sslContext) {
+        return SharedHttpClientRegistry.acquire(defaultTarget, sslContext);
+    }
+
+    /**
+     * Acquires a process-wide shared {@link CloseableHttpClient} instance that uses the default {@link SSLContext}.
+     *
+     * @param defaultTarget a fallback {@link URI} to select the proxy credentials by, may be {@code null}
+     * @return reference to the shared {@link HttpClient}
+     * @see #acquireShared(URI, SSLContext)
+     */
+    public static @Owning CloseableHttpClient acquireShared(final URI defaultTarget) {
+        return acquireShared(defaultTarget, null);
+    }
+
+    /**
+     * @return number of shared clients that are currently referenced
+     */
+    public static int getSharedClientCount() {
+        return SharedHttpClientRegistry.getClientCount();
+    }
+
+    /**
+     * Returns the connection pool statistics, summed up over all shared clients that are currently open, including
+     * those that are kept open after their last reference has been released.
+     *
+     * @return total leased, pending, and available connections as well as the maximum number of connections
+     */
+    public static PoolStats getSharedPoolStats() {
+        return SharedHttpClientRegistry.getTotalStats();
+    }
+
+    static int getSharedMaxConnectionsPerRoute() {
+        return readPositiveIntProperty(PROPERTY_SHARED_MAX_CONNECTIONS_PER_ROUTE,
+            DEFAULT_SHARED_MAX_CONNECTIONS_PER_ROUTE);
+    }
+
+    static int getSharedMaxConnectionsTotal() {
+        return readPositiveIntProperty(PROPERTY_SHARED_MAX_CONNECTIONS_TOTAL, DEFAULT_SHARED_MAX_CONNECTIONS_TOTAL);
+    }
+
+    static int getSharedIdleTimeoutMillis() {
+        return readPositiveIntProperty(PROPERTY_SHARED_IDLE_TIMEOUT, DEFAULT_SHARED_IDLE_TIMEOUT_MS);
+    }
+
+    static int getSharedValidateAfterInactivityMillis() {
+        return readPositiveIntProperty(PROPERTY_SHARED_VALIDATE_AFTER_INACTIVITY,
+            DEFAULT_SHARED_VALIDATE_AFTER_INACTIVITY_MS);
+    }
+
+    static int getSharedLingerMillis() {
+        return readPositiveIntProperty(PROPERTY_SHARED_LINGER, DEFAULT_SHARED_LINGER_MS);
+    }
+
+    private static int readPositiveIntProperty(final String key, final int defaultValue) {
+        final var stringValue = System.getProperty(key);
+        if (stringValue == null) {
+            return defaultValue;
+        }
+        try {
+            final var intValue = Integer.parseInt(stringValue);
+            if (intValue > 0) {
+                return intValue;
+            }
+        } catch (NumberFormatException e) { // NOSONAR logged below
+        }
+        LOGGER.warn(String.format("Could not read value \"%s\" of property \"%s\" as positive integer, " //
+            + "using default value \"%s\" instead", stringValue, key, defaultValue));
+        return defaultValue;
+    }
+
     /**
      * Hides the constructor.
      */
@@ -57,6 +57,8 @@
 import org.apache.hc.core5.http.HttpException;
 import org.apache.hc.core5.http.HttpHost;
 import org.apache.hc.core5.http.protocol.HttpContext;
+import org.knime.core.util.proxy.GlobalProxyConfig;
+import org.knime.core.util.proxy.ProxyConfigGeneration;
 import org.knime.core.util.proxy.search.GlobalProxySearch;
 
 /**
@@ -95,6 +97,27 @@ static void injectWrappedCredentialsProvider(final CredentialsProvider credentia
         }
     }
 
+    /**
+     * Tags the connection used for the current request with the generation of the proxy configuration (or removes the
+     * tag for direct connections), such that pooled connections to a proxy are only leased again while its
+     * configuration is unchanged. The tag is stored as user token which is the state pooled connections are matched
+     * by; user tokens that have been set by the caller are left untouched. The principal of a previous tag in the same
+     * context is carried over, see {@link ProxyConnectionReuseStrategy}.
+     *
+     * @param config the proxy configuration used for the request, {@code null} for a direct connection
+     * @param context the current HTTP request context
+     * @see ProxyConnectionReuseStrategy
+     */
+    static void tagConnection(final GlobalProxyConfig config, final HttpContext context) {
+        final var clientContext = HttpClientContext.castOrCreate(context);
+        final var token = clientContext.getUserToken();
+        if (token == null || token instanceof ProxyConfigGeneration.Tag) {
+            final var principal = token instanceof ProxyConfigGeneration.Tag tag ? tag.principal() : null;
+            clientContext.setUserToken(config != null ? ProxyConfigGeneration.tag(config).withPrincipal(principal)
+                : principal);
+        }
+    }
+
     /**
      * Creates a {@link URI} based on a {@link HttpHost} instance.
      *
@@ -110,17 +133,18 @@ protected HttpHost determineProxy(final HttpHost target, final HttpContext conte
         throws HttpException {
         try {
             final var uri = createURIFromHttpHost(target);
-            return GlobalProxySearch.getCurrentFor(uri) //
-                .filter(cfg -> !cfg.isHostExcluded(uri)) //
-                .map(cfg -> {
-                    final var p = cfg.forApacheHttpClient5();
-                    // wrapping the credentials provider from this proxy (possibly empty) as first-to-be-checked,
-                    // then dispatching the call to our ProxyCredentialsProvider instance
-                    injectWrappedCredentialsProvider(p.getSecond(), context);
-                    // explicitly omitting the scheme here to avoid SSL handshake attempts for non-HTTPS-proxies
-                    // which would happen when one of those is configured in a HTTPS proxy field in settings
-                    return new HttpHost(p.getFirst().getHostName(), p.getFirst().getPort());
-                }).orElse(null);
+            final var config = GlobalProxySearch.getCurrentFor(uri) //
+                .filter(cfg -> !cfg.isHostExcluded(uri));
+            tagConnection(config.orElse(null), context);
+            return config.map(cfg -> {
+                final var p = cfg.forApacheHttpClient5();
+                // wrapping the credentials provider from this proxy (possibly empty) as first-to-be-checked,
+                // then dispatching the call to our ProxyCredentialsProvider instance
+                injectWrappedCredentialsProvider(p.getSecond(), context);
+                // explicitly omitting the scheme here to avoid SSL handshake attempts for non-HTTPS-proxies
+                // which would happen when one of those is configured in a HTTPS proxy field in settings
+                return new HttpHost(p.getFirst().getHostName(), p.getFirst().getPort());
+            }).orElse(null);
         } catch (URISyntaxException e) {
             throw new HttpException("Could not create URI target for proxy search", e);
         }
@@ -0,0 +1,309 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.core.util.proxy.apache5;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimerTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.net.ssl.SSLContext;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.knime.core.util.KNIMETimer;
+import org.knime.core.util.proxy.ProxyConfigGeneration;
+import org.knime.core.util.proxy.search.GlobalProxySearch;
+
+/**
+ * Process-wide registry of the shared clients handed out by {@link ProxyHttpClients#acquireShared(URI, SSLContext)}.
+ * Clients are keyed by default target (scheme, host, and port only), the {@linkplain ProxyConfigGeneration.Tag tag} of
+ * the proxy configuration for that target at the time of acquisition, and the {@link SSLContext}. Like the tag, the
+ * registry does not retain the proxy credentials, only the generation they belong to. Each shared client is backed by one
+ * {@link PoolingHttpClientConnectionManager}. When the last reference to a client has been released, the client is
+ * kept open for the linger time ({@link ProxyHttpClients#PROPERTY_SHARED_LINGER}), such that callers that acquire and
+ * close a client per request still reuse its pooled connections. It is closed if it is not acquired again meanwhile.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class SharedHttpClientRegistry {
+
+    private static final Log LOGGER = LogFactory.getLog(SharedHttpClientRegistry.class);
+
+    /**
+     * @param proxyTag the tag of the proxy for the default target, {@code null} if it is accessed directly
+     */
+    private record Key(URI defaultTarget, ProxyConfigGeneration.Tag proxyTag, SSLContext sslContext) {
+    }
+
+    private static final class Entry {
+
+        private final CloseableHttpClient m_client;
+
+        private final PoolingHttpClientConnectionManager m_connectionManager;
+
+        private int m_references;
+
+        /** Closes the client after the linger time, {@code null} while the client is referenced. */
+        private TimerTask m_closeTask;
+
+        private Entry(final CloseableHttpClient client, final PoolingHttpClientConnectionManager connectionManager) {
+            m_client = client;
+            m_connectionManager = connectionManager;
+        }
+    }
+
+    /** Guarded by itself. */
+    private static final Map<Key, Entry> ENTRIES = new HashMap<>();
+
+    static {
+        ProxyConfigGeneration.addListener(SharedHttpClientRegistry::evictOutdated);
+    }
+
+    static CloseableHttpClient acquire(final URI defaultTarget, final SSLContext sslContext) {
+        final var target = toOrigin(defaultTarget);
+        // tagging detects a changed configuration early, such that outdated connections are evicted before the request
+        final var proxyTag = GlobalProxySearch.getCurrentFor(target).map(ProxyConfigGeneration::tag).orElse(null);
+        final var key = new Key(target, proxyTag, sslContext);
+        synchronized (ENTRIES) {
+            final var entry = ENTRIES.computeIfAbsent(key, SharedHttpClientRegistry::create);
+            entry.m_references++;
+            if (entry.m_closeTask != null) {
+                entry.m_closeTask.cancel();
+                entry.m_closeTask = null;
+            }
+            return new SharedHttpClient(key, entry);
+        }
+    }
+
+    private static void release(final Key key, final Entry entry) {
+        synchronized (ENTRIES) {
+            entry.m_references--;
+            if (entry.m_references > 0) {
+                return;
+            }
+            final var closeTask = new TimerTask() {
+                @Override
+                public void run() {
+                    closeUnused(key, entry, this);
+                }
+            };
+            entry.m_closeTask = closeTask;
+            KNIMETimer.getInstance().schedule(closeTask, ProxyHttpClients.getSharedLingerMillis());
+        }
+    }
+
+    /**
+     * Closes the client unless it has been acquired again since the given task has been scheduled. Checked under the
+     * lock, since the task may already be running when an acquisition cancels it.
+     */
+    private static void closeUnused(final Key key, final Entry entry, final TimerTask closeTask) {
+        synchronized (ENTRIES) {
+            if (entry.m_closeTask != closeTask) {
+                return;
+            }
+            ENTRIES.remove(key, entry);
+        }
+        entry.m_client.close(CloseMode.GRACEFUL);
+    }
+
+    /**
+     * Closes the idle connections of all clients that have been acquired for an outdated generation of the proxy whose
+     * configuration has changed. Their connections are not leased anymore, so they would otherwise only be closed after the idle timeout
+     * or when their slot in the pool is needed. This also closes idle direct connections of the same clients, which
+     * is acceptable since proxy configurations rarely change.
+     */
+    private static void evictOutdated(final ProxyConfigGeneration.Tag tag) {
+        final List<PoolingHttpClientConnectionManager> managers;
+        synchronized (ENTRIES) {
+            managers = ENTRIES.entrySet().stream() //
+                .filter(e -> isOutdated(e.getKey().proxyTag(), tag)) //
+                .map(e -> e.getValue().m_connectionManager) //
+                .toList();
+        }
+        managers.forEach(m -> m.closeIdle(TimeValue.ZERO_MILLISECONDS));
+    }
+
+    private static boolean isOutdated(final ProxyConfigGeneration.Tag keyTag, final ProxyConfigGeneration.Tag tag) {
+        return keyTag != null && keyTag.protocol() == tag.protocol() && keyTag.host().equals(tag.host())
+            && keyTag.port() == tag.port() && keyTag.generation() != tag.generation();
+    }
+
+    static int getClientCount() {
+        synchronized (ENTRIES) {
+            return (int)ENTRIES.values().stream().filter(e -> e.m_references > 0).count();
+        }
+    }
+
+    static PoolStats getTotalStats() {
+        final List<PoolingHttpClientConnectionManager> managers;
+        synchronized (ENTRIES) {
+            managers = ENTRIES.values().stream().map(e -> e.m_connectionManager).toList();
+        }
+        int leased = 0;
+        int pending = 0;
+        int available = 0;
+        int max = 0;
+        for (final var manager : managers) {
+            final var stats = manager.getTotalStats();
+            leased += stats.getLeased();
+            pending += stats.getPending();
+            available += stats.getAvailable();
+            max += stats.getMax();
+        }
+        return new PoolStats(leased, pending, available, max);
+    }
+
+    private static Entry create(final Key key) {
+        final var managerBuilder = PoolingHttpClientConnectionManagerBuilder.create() //
+            .setMaxConnPerRoute(ProxyHttpClients.getSharedMaxConnectionsPerRoute()) //
+            .setMaxConnTotal(ProxyHttpClients.getSharedMaxConnectionsTotal()) //
+            .setDefaultConnectionConfig(ConnectionConfig.custom() //
+                .setValidateAfterInactivity(
+                    TimeValue.ofMilliseconds(ProxyHttpClients.getSharedValidateAfterInactivityMillis())) //
+                .build());
+        if (key.sslContext() != null) {
+            managerBuilder.setTlsSocketStrategy(new DefaultClientTlsStrategy(key.sslContext()));
+        }
+        final var connectionManager = managerBuilder.build();
+        final var builder = key.defaultTarget() != null //
+            ? ProxyHttpClients.custom(key.defaultTarget()) //
+            : ProxyHttpClients.custom();
+        final var client = builder //
+            .setConnectionManager(connectionManager) //
+            .evictExpiredConnections() //
+            .evictIdleConnections(TimeValue.ofMilliseconds(ProxyHttpClients.getSharedIdleTimeoutMillis())) //
+            .build();
+        return new Entry(client, connectionManager);
+    }
+
+    /**
+     * Reduces the default target to what determines proxy and credentials selection, such that requests to
+     * different paths of the same server share a client.
+     */
+    private static URI toOrigin(final URI uri) {
+        if (uri == null || uri.getHost() == null) {
+            return uri;
+        }
+        final var scheme = uri.getScheme() == null ? null : uri.getScheme().toLowerCase(Locale.ROOT);
+        // omit default ports, such that "https://host" and "https://host:443" share a client
+        final var isDefaultPort = ("http".equals(scheme) && uri.getPort() == 80) //
+            || ("https".equals(scheme) && uri.getPort() == 443);
+        try {
+            return new URI(scheme, null, uri.getHost().toLowerCase(Locale.ROOT), isDefaultPort ? -1 : uri.getPort(),
+                null, null, null);
+        } catch (URISyntaxException e) {
+            LOGGER.debug("Could not reduce URI \"%s\" to its origin".formatted(uri), e);
+            return uri;
+        }
+    }
+
+    /**
+     * Handle of a shared client, closing it releases the reference. Executing requests after the handle has been
+     * closed fails, even if the shared client is still in use by others.
+     */
+    private static final class SharedHttpClient extends CloseableHttpClient {
+
+        private final Key m_key;
+
+        private final Entry m_entry;
+
+        private final AtomicBoolean m_released = new AtomicBoolean();
+
+        private SharedHttpClient(final Key key, final Entry entry) {
+            m_key = key;
+            m_entry = entry;
+        }
+
+        @SuppressWarnings("deprecation") // the non-deprecated variants don't return a CloseableHttpResponse
+        @Override
+        protected CloseableHttpResponse doExecute(final HttpHost target, final ClassicHttpRequest request,
+            final HttpContext context) throws IOException {
+            if (m_released.get()) {
+                throw new IllegalStateException("The shared HTTP client has already been closed");
+            }
+            return m_entry.m_client.execute(target, request, context);
+        }
+
+        @Override
+        public void close(final CloseMode closeMode) {
+            if (m_released.compareAndSet(false, true)) {
+                release(m_key, m_entry);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            close(CloseMode.GRACEFUL);
+        }
+    }
+
+    /**
+     * Hides the constructor.
+     */
+    private SharedHttpClientRegistry() {
+    }
+}
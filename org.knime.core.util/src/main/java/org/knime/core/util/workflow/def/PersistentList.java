@@ -0,0 +1,395 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.core.util.workflow.def;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.IntConsumer;
+
+/**
+ * Immutable list that shares structure with the list it was derived from. The elements are stored in a 32-way trie
+ * (plus a tail block for fast appends), so {@link #plus(Object)} and {@link #with(int, Object)} copy only the path from
+ * the root to the affected leaf, i.e., O(log<sub>32</sub> n) instead of O(n).
+ *
+ * All mutators inherited from {@link java.util.List} throw {@link UnsupportedOperationException}; use the
+ * {@code plus}/{@code with} methods which return a new instance and leave this instance untouched.
+ *
+ * Used by the builders of the workflow definition model so that copying and modifying a large
+ * {@code WorkflowDef}, e.g., replacing a single node, does not duplicate all of its collections.
+ *
+ * @param <E> element type
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 6.12
+ */
+public final class PersistentList<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int BITS = 5;
+
+    private static final int WIDTH = 1 << BITS;
+
+    private static final int MASK = WIDTH - 1;
+
+    private static final Object[] EMPTY_ARRAY = new Object[0];
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(0, BITS, new Object[WIDTH], EMPTY_ARRAY);
+
+    /** Number of elements, including those in the tail. */
+    private final int m_size;
+
+    /** Number of bits to shift the index by to get the offset in the root node. */
+    private final int m_shift;
+
+    /** Inner nodes are {@code Object[WIDTH]} of child nodes, leaves are {@code Object[WIDTH]} of elements. */
+    private final Object[] m_root;
+
+    /** The last (up to {@link #WIDTH}) elements, not yet pushed into the trie. Never shared with other instances. */
+    private final Object[] m_tail;
+
+    private PersistentList(final int size, final int shift, final Object[] root, final Object[] tail) {
+        m_size = size;
+        m_shift = shift;
+        m_root = root;
+        m_tail = tail;
+    }
+
+    /**
+     * @param <E> element type
+     * @return the empty list
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> of() {
+        return (PersistentList<E>)EMPTY;
+    }
+
+    /**
+     * @param <E> element type
+     * @param elements to copy, nullable (treated as empty)
+     * @return the given list if it is already a {@link PersistentList}, otherwise a new instance holding the elements
+     *         of the given collection in iteration order
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> copyOf(final Collection<? extends E> elements) {
+        if (elements instanceof PersistentList) {
+            return (PersistentList<E>)elements;
+        }
+        return elements == null ? of() : PersistentList.<E> of().plusAll(elements);
+    }
+
+    @Override
+    public int size() {
+        return m_size;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public E get(final int index) {
+        Objects.checkIndex(index, m_size);
+        return (E)blockFor(index)[index & MASK];
+    }
+
+    /**
+     * @param element to append
+     * @return a new list that contains all elements of this list followed by the given element
+     */
+    public PersistentList<E> plus(final E element) {
+        final var tailLength = m_size - tailOffset(m_size);
+        if (tailLength < WIDTH) {
+            final var newTail = Arrays.copyOf(m_tail, tailLength + 1);
+            newTail[tailLength] = element;
+            return new PersistentList<>(m_size + 1, m_shift, m_root, newTail);
+        }
+        // tail is full, push it into the trie and start a new one
+        final Object[] newRoot;
+        var newShift = m_shift;
+        if ((m_size >>> BITS) > (1 << m_shift)) {
+            // root overflow
+            newRoot = new Object[WIDTH];
+            newRoot[0] = m_root;
+            newRoot[1] = newPath(m_shift, m_tail);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(m_size, m_shift, m_root, m_tail);
+        }
+        return new PersistentList<>(m_size + 1, newShift, newRoot, new Object[]{element});
+    }
+
+    /**
+     * @param elements to append, in iteration order
+     * @return a new list that contains all elements of this list followed by the given elements, or this instance if
+     *         the given collection is empty
+     */
+    @SuppressWarnings("unchecked")
+    public PersistentList<E> plusAll(final Collection<? extends E> elements) {
+        if (elements.isEmpty()) {
+            return this;
+        }
+        if (m_size == 0 && elements instanceof PersistentList) {
+            return (PersistentList<E>)elements;
+        }
+        // fill a private tail block and push it into the trie whenever it is full, instead of calling plus for each
+        // element (which would copy the tail every time)
+        var size = m_size;
+        var shift = m_shift;
+        var root = m_root;
+        var tail = Arrays.copyOf(m_tail, WIDTH);
+        var tailLength = m_size - tailOffset(m_size);
+        for (final E element : elements) {
+            if (tailLength == WIDTH) {
+                if ((size >>> BITS) > (1 << shift)) {
+                    final var newRoot = new Object[WIDTH];
+                    newRoot[0] = root;
+                    newRoot[1] = newPath(shift, tail);
+                    root = newRoot;
+                    shift += BITS;
+                } else {
+                    root = pushTail(size, shift, root, tail);
+                }
+                tail = new Object[WIDTH];
+                tailLength = 0;
+            }
+            tail[tailLength++] = element;
+            size++;
+        }
+        return new PersistentList<>(size, shift, root, Arrays.copyOf(tail, tailLength));
+    }
+
+    /**
+     * @param index of the element to replace
+     * @param element new element at the given position
+     * @return a new list that differs from this list only in the element at the given position; this instance if the
+     *         given element is already at that position
+     * @throws IndexOutOfBoundsException if the index is not in [0, size)
+     */
+    public PersistentList<E> with(final int index, final E element) {
+        Objects.checkIndex(index, m_size);
+        if (blockFor(index)[index & MASK] == element) {
+            return this;
+        }
+        if (index >= tailOffset(m_size)) {
+            final var newTail = m_tail.clone();
+            newTail[index & MASK] = element;
+            return new PersistentList<>(m_size, m_shift, m_root, newTail);
+        }
+        return new PersistentList<>(m_size, m_shift, assoc(m_shift, m_root, index, element), m_tail);
+    }
+
+    /**
+     * Reports the positions at which this list and the given list hold different (i.e., not identical) elements,
+     * including all positions that exist in only one of the two lists. Subtrees that both lists share are skipped, so
+     * for two versions of the same list this takes time proportional to the number of differences (times
+     * O(log<sub>32</sub> n)) rather than to the size of the lists.
+     *
+     * @param other the list to compare with
+     * @param action called with each position that differs, in ascending order
+     */
+    public void forEachDifference(final PersistentList<?> other, final IntConsumer action) {
+        if (other == this) {
+            return;
+        }
+        final var common = Math.min(m_size, other.m_size);
+        final var trieEnd = Math.min(tailOffset(m_size), tailOffset(other.m_size));
+        if (m_shift == other.m_shift) {
+            differences(m_shift, m_root, other.m_root, 0, trieEnd, action);
+        } else {
+            // tries of different depth don't share inner nodes, but they may still share leaves
+            for (var i = 0; i < trieEnd; i += WIDTH) {
+                differences(0, blockFor(i), other.blockFor(i), i, trieEnd, action);
+            }
+        }
+        for (var i = trieEnd; i < common; i++) {
+            if (blockFor(i)[i & MASK] != other.blockFor(i)[i & MASK]) {
+                action.accept(i);
+            }
+        }
+        for (var i = common; i < Math.max(m_size, other.m_size); i++) {
+            action.accept(i);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Compares only the positions reported by {@link #forEachDifference(PersistentList, IntConsumer)} if the argument
+     * is a {@link PersistentList} as well.
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof PersistentList<?> other)) {
+            return super.equals(o);
+        }
+        if (m_size != other.m_size) {
+            return false;
+        }
+        final var equal = new boolean[]{true};
+        forEachDifference(other, i -> equal[0] &= Objects.equals(get(i), other.get(i)));
+        return equal[0];
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int m_index;
+
+            private Object[] m_block = m_size > 0 ? blockFor(0) : EMPTY_ARRAY;
+
+            @Override
+            public boolean hasNext() {
+                return m_index < m_size;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public E next() {
+                if (m_index >= m_size) {
+                    throw new NoSuchElementException();
+                }
+                if (m_index > 0 && (m_index & MASK) == 0) {
+                    m_block = blockFor(m_index);
+                }
+                return (E)m_block[m_index++ & MASK];
+            }
+        };
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    // Trie internals
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /** @return index of the first element in the tail block of a list with the given size */
+    private static int tailOffset(final int size) {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    /** @return the leaf (or the tail) that holds the element at the given index */
+    private Object[] blockFor(final int index) {
+        if (index >= tailOffset(m_size)) {
+            return m_tail;
+        }
+        var node = m_root;
+        for (var level = m_shift; level > 0; level -= BITS) {
+            node = (Object[])node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    /**
+     * @param size number of elements in the list including the (full) tail that is pushed
+     * @return copy of the path from parent to the position of the tail in the trie, with the tail inserted
+     */
+    private static Object[] pushTail(final int size, final int level, final Object[] parent, final Object[] tail) {
+        final var result = parent.clone();
+        final var subIndex = ((size - 1) >>> level) & MASK;
+        final Object[] toInsert;
+        if (level == BITS) {
+            toInsert = tail;
+        } else {
+            final var child = (Object[])parent[subIndex];
+            toInsert = child != null ? pushTail(size, level - BITS, child, tail) : newPath(level - BITS, tail);
+        }
+        result[subIndex] = toInsert;
+        return result;
+    }
+
+    private static Object[] newPath(final int level, final Object[] node) {
+        if (level == 0) {
+            return node;
+        }
+        final var result = new Object[WIDTH];
+        result[0] = newPath(level - BITS, node);
+        return result;
+    }
+
+    /** Reports the differing positions in [offset, end) of two trie nodes on the given level. */
+    private static void differences(final int level, final Object[] a, final Object[] b, final int offset,
+        final int end, final IntConsumer action) {
+        if (a == b || offset >= end) {
+            return;
+        }
+        if (level == 0) {
+            for (var i = 0; i < WIDTH && offset + i < end; i++) {
+                if (a[i] != b[i]) {
+                    action.accept(offset + i);
+                }
+            }
+            return;
+        }
+        for (var i = 0; i < WIDTH; i++) {
+            final var childOffset = offset + (i << level);
+            if (childOffset >= end) {
+                break;
+            }
+            differences(level - BITS, (Object[])a[i], (Object[])b[i], childOffset, end, action);
+        }
+    }
+
+    private static Object[] assoc(final int level, final Object[] node, final int index, final Object element) {
+        final var result = node.clone();
+        if (level == 0) {
+            result[index & MASK] = element;
+        } else {
+            final var subIndex = (index >>> level) & MASK;
+            result[subIndex] = assoc(level - BITS, (Object[])node[subIndex], index, element);
+        }
+        return result;
+    }
+
+}
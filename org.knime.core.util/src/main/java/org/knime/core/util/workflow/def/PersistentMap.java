@@ -0,0 +1,468 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.core.util.workflow.def;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.LinkedHashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Immutable, insertion-ordered map that shares structure with the map it was derived from. Think of it as a persistent
+ * {@link java.util.LinkedHashMap}: iteration order is the order in which keys were first added, and replacing the
+ * value of an existing key keeps its position.
+ *
+ * Entries are kept in a {@link PersistentList} (in insertion order) and located through a hash array mapped trie that
+ * maps each key to its position in that list. {@link #plus(Object, Object)} and {@link #minus(Object)} therefore copy
+ * only O(log n) nodes and the previous version of the map remains valid and unchanged.
+ *
+ * All mutators inherited from {@link Map} throw {@link UnsupportedOperationException}.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 6.12
+ */
+public final class PersistentMap<K, V> extends AbstractMap<K, V> {
+
+    private static final PersistentMap<?, ?> EMPTY = new PersistentMap<>(PersistentList.of(), null, 0);
+
+    /** Entries in insertion order; removed entries leave a {@code null} behind until the map is compacted. */
+    private final PersistentList<Entry<K, V>> m_entries;
+
+    /** Maps each key to its offset in {@link #m_entries}, {@code null} if the map is empty. */
+    private final TrieNode m_index;
+
+    private final int m_size;
+
+    private Set<Entry<K, V>> m_entrySet;
+
+    private PersistentMap(final PersistentList<Entry<K, V>> entries, final TrieNode index, final int size) {
+        m_entries = entries;
+        m_index = index;
+        m_size = size;
+    }
+
+    /**
+     * @param <K> key type
+     * @param <V> value type
+     * @return the empty map
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentMap<K, V> of() {
+        return (PersistentMap<K, V>)EMPTY;
+    }
+
+    /**
+     * @param <K> key type
+     * @param <V> value type
+     * @param map to copy, nullable (treated as empty)
+     * @return the given map if it is already a {@link PersistentMap}, otherwise a new instance holding the mappings of
+     *         the given map in its iteration order
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentMap<K, V> copyOf(final Map<? extends K, ? extends V> map) {
+        if (map instanceof PersistentMap) {
+            return (PersistentMap<K, V>)map;
+        }
+        return map == null ? of() : PersistentMap.<K, V> of().plusAll(map);
+    }
+
+    @Override
+    public int size() {
+        return m_size;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return offsetOf(key) >= 0;
+    }
+
+    @Override
+    public V get(final Object key) {
+        final var offset = offsetOf(key);
+        return offset < 0 ? null : m_entries.get(offset).getValue();
+    }
+
+    /**
+     * @param key of the mapping
+     * @param value of the mapping
+     * @return a new map that contains the given mapping in addition to the mappings of this map. If the key is already
+     *         present, the new map has the same iteration order and only differs in the value for the key. Returns
+     *         this instance if the key is already mapped to the identical value.
+     */
+    public PersistentMap<K, V> plus(final K key, final V value) {
+        final var hash = hash(key);
+        final var offset = m_index == null ? -1 : m_index.find(hash, key, 0);
+        if (offset >= 0) {
+            if (m_entries.get(offset).getValue() == value) {
+                return this;
+            }
+            return new PersistentMap<>(m_entries.with(offset, new SimpleImmutableEntry<>(key, value)), m_index,
+                m_size);
+        }
+        final var newOffset = m_entries.size();
+        final var newIndex =
+            m_index == null ? new Leaf(hash, key, newOffset, null) : m_index.put(hash, key, newOffset, 0);
+        return new PersistentMap<>(m_entries.plus(new SimpleImmutableEntry<>(key, value)), newIndex, m_size + 1);
+    }
+
+    /**
+     * @param map mappings to add, in iteration order
+     * @return a new map that contains the mappings of this map, updated with the mappings of the given map (like
+     *         {@link Map#putAll(Map)}), or this instance if the given map is empty
+     */
+    @SuppressWarnings("unchecked")
+    public PersistentMap<K, V> plusAll(final Map<? extends K, ? extends V> map) {
+        if (map.isEmpty()) {
+            return this;
+        }
+        if (m_size == 0 && map instanceof PersistentMap) {
+            return (PersistentMap<K, V>)map;
+        }
+        var result = this;
+        for (final Entry<? extends K, ? extends V> e : map.entrySet()) {
+            result = result.plus(e.getKey(), e.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * @param key of the mapping to remove
+     * @return a new map without the mapping for the given key, or this instance if the key is not present
+     */
+    public PersistentMap<K, V> minus(final Object key) {
+        final var hash = hash(key);
+        final var offset = m_index == null ? -1 : m_index.find(hash, key, 0);
+        if (offset < 0) {
+            return this;
+        }
+        if (m_size == 1) {
+            return of();
+        }
+        final var entries = m_entries.with(offset, null);
+        final var removed = entries.size() - (m_size - 1);
+        if (removed > 32 && removed > m_size) {
+            // more tombstones than live entries, rebuild to keep iteration and memory proportional to the size
+            PersistentMap<K, V> compacted = of();
+            for (final var e : entries) {
+                if (e != null) {
+                    compacted = compacted.plus(e.getKey(), e.getValue());
+                }
+            }
+            return compacted;
+        }
+        return new PersistentMap<>(entries, m_index.remove(hash, key, 0), m_size - 1);
+    }
+
+    /**
+     * Reports the keys that are mapped in only one of the two maps or that are mapped to different (i.e., not
+     * identical) values. Only the entries that are not shared between both maps are inspected, so for two versions of
+     * the same map this takes time proportional to the number of changes rather than to the size of the maps.
+     *
+     * @param other the map to compare with
+     * @param action called once for each differing key, keys of this map first
+     */
+    public void forEachDifference(final PersistentMap<? extends K, ?> other, final Consumer<? super K> action) {
+        if (other == this) {
+            return;
+        }
+        // a key can be reported by two positions, e.g., if it was removed and added again
+        final var candidates = new LinkedHashSet<K>();
+        m_entries.forEachDifference(other.m_entries, i -> {
+            if (i < m_entries.size() && m_entries.get(i) != null) {
+                candidates.add(m_entries.get(i).getKey());
+            }
+            if (i < other.m_entries.size() && other.m_entries.get(i) != null) {
+                candidates.add(other.m_entries.get(i).getKey());
+            }
+        });
+        for (final K key : candidates) {
+            final var offset = offsetOf(key);
+            final var otherOffset = other.offsetOf(key);
+            if (offset < 0 || otherOffset < 0
+                || m_entries.get(offset).getValue() != other.m_entries.get(otherOffset).getValue()) {
+                action.accept(key);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Compares only the keys reported by {@link #forEachDifference(PersistentMap, Consumer)} if the argument is a
+     * {@link PersistentMap} as well.
+     */
+    @Override
+    public boolean equals(final Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof PersistentMap<?, ?> other)) {
+            return super.equals(o);
+        }
+        if (m_size != other.m_size) {
+            return false;
+        }
+        @SuppressWarnings("unchecked")
+        final var typedOther = (PersistentMap<K, ?>)other;
+        final var equal = new boolean[]{true};
+        forEachDifference(typedOther,
+            key -> equal[0] &= other.containsKey(key) && Objects.equals(get(key), other.get(key)));
+        return equal[0];
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        if (m_entrySet == null) {
+            m_entrySet = new AbstractSet<Entry<K, V>>() {
+                @Override
+                public Iterator<Entry<K, V>> iterator() {
+                    return new EntryIterator();
+                }
+
+                @Override
+                public int size() {
+                    return m_size;
+                }
+            };
+        }
+        return m_entrySet;
+    }
+
+    private int offsetOf(final Object key) {
+        return m_index == null ? -1 : m_index.find(hash(key), key, 0);
+    }
+
+    private static int hash(final Object key) {
+        final var h = Objects.hashCode(key);
+        return h ^ (h >>> 16);
+    }
+
+    private final class EntryIterator implements Iterator<Entry<K, V>> {
+
+        private final Iterator<Entry<K, V>> m_delegate = m_entries.iterator();
+
+        private Entry<K, V> m_next = advance();
+
+        private Entry<K, V> advance() {
+            while (m_delegate.hasNext()) {
+                final var e = m_delegate.next();
+                if (e != null) {
+                    return e;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return m_next != null;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (m_next == null) {
+                throw new NoSuchElementException();
+            }
+            final var result = m_next;
+            m_next = advance();
+            return result;
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    // Hash array mapped trie from key to offset
+    // -----------------------------------------------------------------------------------------------------------------
+
+    private abstract static class TrieNode {
+
+        /** @return offset associated with the key or -1 */
+        abstract int find(int hash, Object key, int shift);
+
+        /** @return node that contains the mapping, the key must not be present yet */
+        abstract TrieNode put(int hash, Object key, int offset, int shift);
+
+        /** @return node without the key (which must be present) or {@code null} if the node becomes empty */
+        abstract TrieNode remove(int hash, Object key, int shift);
+    }
+
+    /** A key with its offset; keys with identical hashes are chained via {@link #m_next}. */
+    private static final class Leaf extends TrieNode {
+
+        private final int m_hash;
+
+        private final Object m_key;
+
+        private final int m_offset;
+
+        private final Leaf m_next;
+
+        Leaf(final int hash, final Object key, final int offset, final Leaf next) {
+            m_hash = hash;
+            m_key = key;
+            m_offset = offset;
+            m_next = next;
+        }
+
+        @Override
+        int find(final int hash, final Object key, final int shift) {
+            if (hash == m_hash) {
+                for (var l = this; l != null; l = l.m_next) {
+                    if (Objects.equals(key, l.m_key)) {
+                        return l.m_offset;
+                    }
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        TrieNode put(final int hash, final Object key, final int offset, final int shift) {
+            if (hash == m_hash) {
+                return new Leaf(hash, key, offset, this);
+            }
+            return Branch.of(this, new Leaf(hash, key, offset, null), shift);
+        }
+
+        @Override
+        TrieNode remove(final int hash, final Object key, final int shift) {
+            if (Objects.equals(key, m_key)) {
+                return m_next;
+            }
+            return new Leaf(m_hash, m_key, m_offset, (Leaf)m_next.remove(hash, key, shift));
+        }
+    }
+
+    /** Inner node with up to 32 children, only non-empty slots are stored. */
+    private static final class Branch extends TrieNode {
+
+        private final int m_bitmap;
+
+        private final TrieNode[] m_children;
+
+        Branch(final int bitmap, final TrieNode[] children) {
+            m_bitmap = bitmap;
+            m_children = children;
+        }
+
+        /** @return branch that holds the two leaves which have different hashes */
+        static Branch of(final Leaf a, final Leaf b, final int shift) {
+            final var indexA = (a.m_hash >>> shift) & 31;
+            final var indexB = (b.m_hash >>> shift) & 31;
+            if (indexA == indexB) {
+                return new Branch(1 << indexA, new TrieNode[]{of(a, b, shift + 5)});
+            }
+            return new Branch((1 << indexA) | (1 << indexB),
+                indexA < indexB ? new TrieNode[]{a, b} : new TrieNode[]{b, a});
+        }
+
+        private static int bit(final int hash, final int shift) {
+            return 1 << ((hash >>> shift) & 31);
+        }
+
+        private int position(final int bit) {
+            return Integer.bitCount(m_bitmap & (bit - 1));
+        }
+
+        @Override
+        int find(final int hash, final Object key, final int shift) {
+            final var bit = bit(hash, shift);
+            if ((m_bitmap & bit) == 0) {
+                return -1;
+            }
+            return m_children[position(bit)].find(hash, key, shift + 5);
+        }
+
+        @Override
+        TrieNode put(final int hash, final Object key, final int offset, final int shift) {
+            final var bit = bit(hash, shift);
+            final var pos = position(bit);
+            if ((m_bitmap & bit) == 0) {
+                final var children = new TrieNode[m_children.length + 1];
+                System.arraycopy(m_children, 0, children, 0, pos);
+                children[pos] = new Leaf(hash, key, offset, null);
+                System.arraycopy(m_children, pos, children, pos + 1, m_children.length - pos);
+                return new Branch(m_bitmap | bit, children);
+            }
+            final var children = m_children.clone();
+            children[pos] = m_children[pos].put(hash, key, offset, shift + 5);
+            return new Branch(m_bitmap, children);
+        }
+
+        @Override
+        TrieNode remove(final int hash, final Object key, final int shift) {
+            final var bit = bit(hash, shift);
+            final var pos = position(bit);
+            final var child = m_children[pos].remove(hash, key, shift + 5);
+            if (child != null) {
+                final var children = m_children.clone();
+                children[pos] = child;
+                return new Branch(m_bitmap, children);
+            }
+            if (m_children.length == 1) {
+                return null;
+            }
+            final var children = new TrieNode[m_children.length - 1];
+            System.arraycopy(m_children, 0, children, 0, pos);
+            System.arraycopy(m_children, pos + 1, children, pos, children.length - pos);
+            return new Branch(m_bitmap & ~bit, children);
+        }
+    }
+}
@@ -0,0 +1,503 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.core.util.workflowalizer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+import javax.xml.xpath.XPathExpressionException;
+
+import org.apache.xmlbeans.XmlException;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.util.CheckUtils;
+import org.xml.sax.SAXException;
+
+/**
+ * Embeddable inverted index over the metadata of repository items, answering questions like "which workflows use the
+ * node with factory ID X" or "which items use the component Y" without scanning the repository.
+ *
+ * Items are identified by an arbitrary string (e.g. their repository path) and are {@linkplain #put(String,
+ * RepositoryItemMetadata) added or updated} and {@linkplain #remove(String) removed} one at a time. For each
+ * {@link Field} the index keeps postings from the terms of the field to the items containing them. The index can be
+ * {@linkplain #save(Path) saved} in a compact binary format, the item IDs are stored once and the postings as
+ * delta-encoded variable-length integers. Instances are thread-safe.
+ *
+ * @noreference This class is not intended to be referenced by clients.
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 6.12
+ */
+public final class RepositoryIndex {
+
+    /** The fields read by {@link #put(String, Path)}. */
+    static final WorkflowalizerConfiguration INDEX_CONFIGURATION =
+        WorkflowalizerConfiguration.builder().readNodes().readWorkflowMeta().build();
+
+    private static final int MAGIC = 0x4b524958; // "KRIX"
+
+    private static final int FORMAT_VERSION = 1;
+
+    /** Upper bound of the number of items, such that a corrupt count does not lead to huge allocations. */
+    private static final int MAX_ITEMS = 1 << 24;
+
+    /** Upper bound of the UTF-8 length of item IDs and terms, see {@link #MAX_ITEMS}. */
+    private static final int MAX_STRING_BYTES = 1 << 20;
+
+    /**
+     * The indexed fields of repository items.
+     */
+    public enum Field {
+        /** {@linkplain NativeNodeMetadata#getFactoryId() Factory IDs} of the nodes, also of nested nodes. */
+        NODE_FACTORY_ID,
+        /** Tags of the workflow, component, or workflow group. */
+        TAG,
+        /** {@linkplain WorkflowMetadata#getWorkflowCredentialsNames() Names of the workflow credentials}. */
+        CREDENTIAL_NAME,
+        /** Links of the components and metanodes (also nested ones) that are linked to a template. */
+        TEMPLATE_LINK;
+    }
+
+    /** Field &rarr; term &rarr; items. */
+    private final Map<Field, Map<String, SortedSet<String>>> m_postings = new EnumMap<>(Field.class);
+
+    /** Item &rarr; field &rarr; terms, needed to update and remove items. */
+    private final Map<String, Map<Field, Set<String>>> m_items = new HashMap<>();
+
+    /**
+     * Creates an empty index.
+     */
+    public RepositoryIndex() {
+        for (var field : Field.values()) {
+            m_postings.put(field, new HashMap<>());
+        }
+    }
+
+    /**
+     * Reads the repository item at the given path (only the fields needed for the index) and adds it to the index,
+     * replacing the terms of a previously added item with the same ID.
+     *
+     * @param itemId the ID of the item, e.g. its repository path
+     * @param path the directory of the repository item or a zip file containing it, see
+     *            {@link Workflowalizer#readRepositoryItem(Path, WorkflowalizerConfiguration)}
+     * @throws IOException
+     * @throws InvalidSettingsException
+     * @throws ParseException
+     * @throws XPathExpressionException
+     * @throws SAXException
+     * @throws XmlException
+     */
+    public void put(final String itemId, final Path path) throws IOException, InvalidSettingsException,
+        ParseException, XPathExpressionException, SAXException, XmlException {
+        put(itemId, Workflowalizer.readRepositoryItem(path, INDEX_CONFIGURATION));
+    }
+
+    /**
+     * Adds the given item to the index, replacing the terms of a previously added item with the same ID. Fields that
+     * have not been read are not indexed.
+     *
+     * @param itemId the ID of the item, e.g. its repository path
+     * @param metadata the metadata of the item
+     */
+    public void put(final String itemId, final RepositoryItemMetadata metadata) {
+        CheckUtils.checkArgumentNotNull(itemId, "Item ID cannot be null");
+        CheckUtils.checkArgumentNotNull(metadata, "Metadata cannot be null");
+        put(itemId, extractTerms(metadata));
+    }
+
+    /**
+     * Adds the given item to the index, replacing the terms of a previously added item with the same ID.
+     *
+     * @param itemId the ID of the item
+     * @param terms the terms of the item per field
+     */
+    synchronized void put(final String itemId, final Map<Field, Set<String>> terms) {
+        removeItem(itemId);
+        addItem(itemId, terms);
+    }
+
+    /**
+     * @param itemId the ID of the item
+     * @return whether the item was part of the index
+     */
+    public synchronized boolean remove(final String itemId) {
+        return removeItem(itemId);
+    }
+
+    /**
+     * @param field the field
+     * @param term the term
+     * @return the IDs of the items that contain the term in the given field, sorted
+     */
+    public synchronized SortedSet<String> getItems(final Field field, final String term) {
+        final var items = m_postings.get(field).get(term);
+        return items == null ? Collections.emptySortedSet() : Collections.unmodifiableSortedSet(new TreeSet<>(items));
+    }
+
+    /**
+     * @param field the field
+     * @return all terms of the given field, sorted
+     */
+    public synchronized SortedSet<String> getTerms(final Field field) {
+        return Collections.unmodifiableSortedSet(new TreeSet<>(m_postings.get(field).keySet()));
+    }
+
+    /**
+     * @param itemId the ID of the item
+     * @param field the field
+     * @return the terms of the given field of the item, sorted; empty if the item is not part of the index
+     */
+    public synchronized SortedSet<String> getTerms(final String itemId, final Field field) {
+        final var terms = m_items.getOrDefault(itemId, Map.of()).get(field);
+        return terms == null ? Collections.emptySortedSet() : Collections.unmodifiableSortedSet(new TreeSet<>(terms));
+    }
+
+    /**
+     * @return the IDs of all items in the index, sorted
+     */
+    public synchronized SortedSet<String> getItemIds() {
+        return Collections.unmodifiableSortedSet(new TreeSet<>(m_items.keySet()));
+    }
+
+    /**
+     * Saves the index to the given file, the file is replaced atomically if the file system supports it.
+     *
+     * @param file the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void save(final Path file) throws IOException {
+        final var absolute = file.toAbsolutePath();
+        final var tmp = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+        try {
+            try (var out = Files.newOutputStream(tmp)) {
+                writeTo(out);
+            }
+            try {
+                Files.move(tmp, absolute, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException ex) { // NOSONAR
+                Files.move(tmp, absolute, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * @param file a file written by {@link #save(Path)}
+     * @return the index read from the file
+     * @throws IOException if the file cannot be read or is not an index
+     */
+    public static RepositoryIndex load(final Path file) throws IOException {
+        try (var in = new BufferedInputStream(Files.newInputStream(file))) {
+            return readFrom(in);
+        }
+    }
+
+    /**
+     * Writes the index in its binary format, the stream is not closed.
+     *
+     * @param out the stream to write to
+     * @throws IOException if writing fails, or if an item ID or term is longer than 1 MiB in UTF-8
+     */
+    public void writeTo(final OutputStream out) throws IOException {
+        final var data = new DataOutputStream(new BufferedOutputStream(out));
+        synchronized (this) {
+            final var itemIds = new ArrayList<>(m_items.keySet());
+            Collections.sort(itemIds);
+            final var ordinals = new HashMap<String, Integer>();
+            data.writeInt(MAGIC);
+            data.writeByte(FORMAT_VERSION);
+            if (itemIds.size() > MAX_ITEMS) {
+                throw new IOException("Too many items for a repository index: " + itemIds.size());
+            }
+            writeVarInt(data, itemIds.size());
+            for (var itemId : itemIds) {
+                ordinals.put(itemId, ordinals.size());
+                writeString(data, itemId);
+            }
+            writeVarInt(data, m_postings.size());
+            for (var fieldPostings : m_postings.entrySet()) {
+                writeString(data, fieldPostings.getKey().name());
+                writeVarInt(data, fieldPostings.getValue().size());
+                for (var posting : new TreeSet<>(fieldPostings.getValue().keySet())) {
+                    writeString(data, posting);
+                    final var items = fieldPostings.getValue().get(posting);
+                    writeVarInt(data, items.size());
+                    // items are sorted like the ordinals, so the deltas are positive
+                    var previous = -1;
+                    for (var itemId : items) {
+                        final int ordinal = ordinals.get(itemId);
+                        writeVarInt(data, ordinal - previous);
+                        previous = ordinal;
+                    }
+                }
+            }
+        }
+        data.flush();
+    }
+
+    /**
+     * Reads an index written by {@link #writeTo(OutputStream)}, the stream is not closed. Exactly the bytes of the
+     * index are consumed, such that the stream can contain further data after it; the stream should therefore be
+     * buffered by the caller.
+     *
+     * @param in the stream to read from
+     * @return the index
+     * @throws IOException if reading fails or the stream does not contain an index
+     */
+    public static RepositoryIndex readFrom(final InputStream in) throws IOException {
+        final var data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a repository index");
+        }
+        final int version = data.readUnsignedByte();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported repository index version: " + version);
+        }
+        final var itemIds = new String[readCount(data, MAX_ITEMS, "items")];
+        for (var i = 0; i < itemIds.length; i++) {
+            itemIds[i] = readString(data);
+        }
+        final var index = new RepositoryIndex();
+        for (var itemId : itemIds) {
+            index.m_items.put(itemId, new EnumMap<>(Field.class));
+        }
+        final var numFields = readVarInt(data);
+        for (var f = 0; f < numFields; f++) {
+            final var fieldName = readString(data);
+            final var field = parseField(fieldName);
+            final var numTerms = readVarInt(data);
+            for (var t = 0; t < numTerms; t++) {
+                final var term = readString(data);
+                // the ordinals are strictly increasing, so every item can occur at most once
+                final var numItems = readCount(data, itemIds.length, "items in postings of " + term);
+                var ordinal = -1;
+                for (var i = 0; i < numItems; i++) {
+                    ordinal += readVarInt(data);
+                    if (ordinal < 0 || ordinal >= itemIds.length) {
+                        throw new IOException("Corrupt repository index, invalid item in postings of " + term);
+                    }
+                    if (field != null) {
+                        index.addPosting(itemIds[ordinal], field, term);
+                    }
+                }
+            }
+        }
+        return index;
+    }
+
+    /** @return the field with the given name, or {@code null} if it is unknown (written by a newer version) */
+    private static Field parseField(final String name) {
+        for (var field : Field.values()) {
+            if (field.name().equals(name)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    private void addItem(final String itemId, final Map<Field, Set<String>> terms) {
+        m_items.put(itemId, new EnumMap<>(Field.class));
+        for (var fieldTerms : terms.entrySet()) {
+            for (var term : fieldTerms.getValue()) {
+                addPosting(itemId, fieldTerms.getKey(), term);
+            }
+        }
+    }
+
+    private void addPosting(final String itemId, final Field field, final String term) {
+        m_items.get(itemId).computeIfAbsent(field, f -> new TreeSet<>()).add(term);
+        m_postings.get(field).computeIfAbsent(term, t -> new TreeSet<>()).add(itemId);
+    }
+
+    private boolean removeItem(final String itemId) {
+        final var terms = m_items.remove(itemId);
+        if (terms == null) {
+            return false;
+        }
+        for (var fieldTerms : terms.entrySet()) {
+            final var postings = m_postings.get(fieldTerms.getKey());
+            for (var term : fieldTerms.getValue()) {
+                final var items = postings.get(term);
+                items.remove(itemId);
+                if (items.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param metadata the metadata of a repository item
+     * @return the terms of all fields of the item
+     */
+    static Map<Field, Set<String>> extractTerms(final RepositoryItemMetadata metadata) {
+        final Map<Field, Set<String>> terms = new EnumMap<>(Field.class);
+        if (metadata instanceof WorkflowGroupMetadata group) {
+            addTags(terms, group);
+        }
+        if (metadata instanceof WorkflowMetadata workflow) {
+            ifRead(workflow::getWorkflowSetMetadata).flatMap(m -> m).ifPresent(m -> addTags(terms, m));
+            add(terms, Field.CREDENTIAL_NAME, workflow.getWorkflowCredentialsNames());
+        }
+        if (metadata instanceof ComponentMetadata component) {
+            ifRead(component::getWorkflowSetMeta).flatMap(m -> m).ifPresent(m -> addTags(terms, m));
+        }
+        if (metadata instanceof AbstractWorkflowMetadata<?> workflow) {
+            addNodes(terms, workflow);
+        }
+        return terms;
+    }
+
+    private static void addNodes(final Map<Field, Set<String>> terms, final AbstractWorkflowMetadata<?> workflow) {
+        // the node list is null if it wasn't read or has been flattened into the parent
+        for (var node : ifRead(workflow::getNodes).orElse(List.of())) {
+            if (node instanceof NativeNodeMetadata nativeNode) {
+                add(terms, Field.NODE_FACTORY_ID, Collections.singletonList(nativeNode.getFactoryId()));
+            } else if (node instanceof SubnodeMetadata subnode) {
+                subnode.getTemplateLink().ifPresent(l -> add(terms, Field.TEMPLATE_LINK, List.of(l)));
+                addNodes(terms, subnode);
+            } else if (node instanceof MetanodeMetadata metanode) {
+                metanode.getTemplateLink().ifPresent(l -> add(terms, Field.TEMPLATE_LINK, List.of(l)));
+                addNodes(terms, metanode);
+            }
+        }
+    }
+
+    private static void addTags(final Map<Field, Set<String>> terms, final WorkflowSetMeta meta) {
+        ifRead(meta::getTags).flatMap(t -> t).ifPresent(tags -> add(terms, Field.TAG, tags));
+    }
+
+    private static void add(final Map<Field, Set<String>> terms, final Field field, final List<String> values) {
+        for (var value : values) {
+            if (value != null && !value.isBlank()) {
+                terms.computeIfAbsent(field, f -> new TreeSet<>()).add(value);
+            }
+        }
+    }
+
+    /** @return the value of the getter, empty if it throws because the field was not read */
+    private static <T> Optional<T> ifRead(final Supplier<T> getter) {
+        try {
+            return Optional.ofNullable(getter.get());
+        } catch (UnsupportedOperationException ex) { // NOSONAR field was not read
+            return Optional.empty();
+        }
+    }
+
+    private static void writeString(final DataOutputStream out, final String s) throws IOException {
+        final var bytes = s.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_BYTES) {
+            throw new IOException("Too long for a repository index (" + bytes.length + " bytes): "
+                + s.substring(0, 100) + "...");
+        }
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(final DataInputStream in) throws IOException {
+        final var bytes = new byte[readCount(in, MAX_STRING_BYTES, "bytes of a string")];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /** Writes a non-negative int in 7-bit groups, least significant first. */
+    private static void writeVarInt(final DataOutputStream out, final int value) throws IOException {
+        var v = value;
+        while ((v & ~0x7F) != 0) {
+            out.writeByte((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        out.writeByte(v);
+    }
+
+    private static int readCount(final DataInputStream in, final int max, final String what) throws IOException {
+        final var count = readVarInt(in);
+        if (count > max) {
+            throw new IOException("Corrupt repository index, " + count + " " + what + " exceed the limit of " + max);
+        }
+        return count;
+    }
+
+    private static int readVarInt(final DataInputStream in) throws IOException {
+        var value = 0;
+        for (var shift = 0; shift < 32; shift += 7) {
+            final int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    throw new IOException("Corrupt repository index, negative length");
+                }
+                return value;
+            }
+        }
+        throw new IOException("Corrupt repository index, variable-length integer too long");
+    }
+}
@@ -65,6 +65,7 @@
 import java.nio.file.attribute.BasicFileAttributes;
 import java.text.ParseException;
 import java.time.OffsetDateTime;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collection;
@@ -84,10 +85,11 @@
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.xpath.XPathConstants;
-import javax.xml.xpath.XPathExpression;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
 
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.io.IOUtils;
@@ -100,12 +102,15 @@
 import org.knime.core.util.LoadVersion;
 import org.knime.core.util.Pair;
 import org.knime.core.util.Version;
+import org.knime.core.util.jfr.WorkflowReadEvent;
 import org.knime.core.util.workflowalizer.NodeMetadata.NodeType;
 import org.w3c.dom.Document;
 import org.w3c.dom.Node;
 import org.xml.sax.SAXException;
 import org.xml.sax.SAXParseException;
 
+import com.ctc.wstx.stax.WstxInputFactory;
+
 /**
  * Reader for workflow metadata.
  *
@@ -282,23 +287,35 @@ public static WorkflowMetadata readWorkflow(final Path path, final Workflowalize
             XmlException {
         CheckUtils.checkArgumentNotNull(config, "Configuration cannot be null");
         CheckUtils.checkArgument(Files.exists(path), "File does not exist at path " + path);
-        if (isZip(path)) {
-            try (final var zip = new ZipFile(path.toAbsolutePath().toString())) {
-                final String workflowPath = findFirstWorkflow(zip);
-                CheckUtils.checkArgumentNotNull(workflowPath, "Zip file does not contain a workflow: " + path);
-                return readTopLevelWorkflow(workflowPath, zip, config);
-            }
-        }
-
-        CheckUtils.checkArgument(Files.isDirectory(path), "Path is not a directory: " + path);
+        final var event = new WorkflowReadEvent();
+        event.begin();
+        final var zipped = isZip(path);
+        WorkflowMetadata workflow = null;
+        var successful = false;
+        try {
+            if (zipped) {
+                try (final var zip = new ZipFile(path.toAbsolutePath().toString())) {
+                    final String workflowPath = findFirstWorkflow(zip);
+                    CheckUtils.checkArgumentNotNull(workflowPath, "Zip file does not contain a workflow: " + path);
+                    workflow = readTopLevelWorkflow(workflowPath, zip, config);
+                }
+            } else {
+                CheckUtils.checkArgument(Files.isDirectory(path), "Path is not a directory: " + path);
 
-        // Validate if it is a workflow
-        final var workflowPath = path.resolve(WORKFLOW_KNIME);
-        CheckUtils.checkArgument(!Files.exists(path.resolve(TEMPLATE_KNIME)),
-            path + " is a template, not a workflow");
-        CheckUtils.checkArgument(Files.exists(workflowPath), path + " is not a workflow");
+                // Validate if it is a workflow
+                final var workflowPath = path.resolve(WORKFLOW_KNIME);
+                CheckUtils.checkArgument(!Files.exists(path.resolve(TEMPLATE_KNIME)),
+                    path + " is a template, not a workflow");
+                CheckUtils.checkArgument(Files.exists(workflowPath), path + " is not a workflow");
 
-        return readTopLevelWorkflow(path.toAbsolutePath().toString(), null, config);
+                workflow = readTopLevelWorkflow(path.toAbsolutePath().toString(), null, config);
+            }
+            successful = true;
+            return workflow;
+        } finally {
+            event.commit(path.toAbsolutePath().toString(), zipped,
+                successful && config.parseNodes() ? workflow.getNodes().size() : 0, successful);
+        }
     }
 
     /**
@@ -366,7 +383,7 @@ public static TemplateMetadata readTemplate(final Path path, final Workflowalize
     public static WorkflowSetMeta readWorkflowSetMeta(final Path workflowSetMeta) throws IOException {
         try (final var inputStream = new BufferedInputStream(Files.newInputStream(workflowSetMeta))) {
             return readWorkflowSetMeta(inputStream);
-        } catch (XPathExpressionException | SAXException e) {
+        } catch (SAXException e) {
             throw new IOException("Cannot read `workflowset.meta`: " + e.getMessage(), e);
         }
     }
@@ -374,7 +391,7 @@ public static WorkflowSetMeta readWorkflowSetMeta(final Path workflowSetMeta) th
     // -- Helper methods --
 
     private static Optional<WorkflowSetMeta> readWorkflowSetMeta(final String path, final ZipFile zip,
-        final String workflowSetMetaName) throws IOException, XPathExpressionException, SAXException {
+        final String workflowSetMetaName) throws IOException, SAXException {
         if (zip == null) {
             final var workflowsetPath = Paths.get(path, workflowSetMetaName);
             if (!Files.exists(workflowsetPath)) {
@@ -396,22 +413,84 @@ private static Optional<WorkflowSetMeta> readWorkflowSetMeta(final String path,
         }
     }
 
-    private static WorkflowSetMeta readWorkflowSetMeta(final InputStream is)
-        throws IOException, XPathExpressionException, SAXException {
-        final var doc = parseXMLDocument(is, WORKFLOWSET_META);
-        final var xPathfactory = XPathFactory.newInstance();
-        final var xpath = xPathfactory.newXPath();
-
-        final XPathExpression authorExpr = xpath.compile("//KNIMEMetaInfo/element[@name='Author']");
-        final var optionalAuthor = Optional.of((String)authorExpr.evaluate(doc, XPathConstants.STRING)) //
-                .filter(str -> !str.isEmpty());
-        final XPathExpression commentsExpr = xpath.compile("//KNIMEMetaInfo/element[@name='Comments']");
-        final var optionalComments = Optional.of((String)commentsExpr.evaluate(doc, XPathConstants.STRING)) //
-                .filter(str -> !str.isEmpty());
-        final XPathExpression dateExpr = xpath.compile("//KNIMEMetaInfo/element[@name='Creation Date']");
-        final var optionalCreationDate = Optional.of((String)dateExpr.evaluate(doc, XPathConstants.STRING)) //
-                .filter(str -> !str.isEmpty());
-        return new WorkflowSetMeta(optionalAuthor, optionalComments, optionalCreationDate);
+    /**
+     * Reads the author, comments, and creation date from a {@code workflowset.meta} file in a single pass, i.e., the
+     * string values of the first {@code element}s with the respective {@code name} attribute whose parent is a
+     * {@code KNIMEMetaInfo} element (namespace prefixes are ignored). Reading stops as soon as all three are found.
+     */
+    private static WorkflowSetMeta readWorkflowSetMeta(final InputStream is) throws IOException, SAXException {
+        final var values = new HashMap<String, String>();
+        XMLStreamReader reader = null;
+        try {
+            reader = WORKFLOWSET_META_INPUT_FACTORY.createXMLStreamReader(is);
+            final var path = new ArrayDeque<String>();
+            while (reader.hasNext() && values.size() < WORKFLOWSET_META_ELEMENTS.size()) {
+                final int event = reader.next();
+                if (event == XMLStreamConstants.DTD) {
+                    throw new IllegalArgumentException(String.format(
+                        "Cannot parse the given file '%s', as it contains XML elements which are not allowed",
+                        WORKFLOWSET_META));
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    path.pop();
+                } else if (event == XMLStreamConstants.START_ELEMENT) {
+                    final var name = stripPrefix(reader.getLocalName());
+                    final var key = getAttribute(reader, "name");
+                    if ("element".equals(name) && "KNIMEMetaInfo".equals(path.peek())
+                        && WORKFLOWSET_META_ELEMENTS.contains(key) && !values.containsKey(key)) {
+                        // consumes the end element
+                        values.put(key, readStringValue(reader));
+                    } else {
+                        path.push(name);
+                    }
+                }
+            }
+        } catch (XMLStreamException ex) {
+            throw new SAXException("Cannot parse " + WORKFLOWSET_META + ": " + ex.getMessage(), ex);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException ex) { // NOSONAR the underlying stream is closed by the caller
+                }
+            }
+        }
+        return new WorkflowSetMeta(getNonEmpty(values, "Author"), getNonEmpty(values, "Comments"),
+            getNonEmpty(values, "Creation Date"));
+    }
+
+    private static String stripPrefix(final String qualifiedName) {
+        return qualifiedName.substring(qualifiedName.indexOf(':') + 1);
+    }
+
+    private static String getAttribute(final XMLStreamReader reader, final String localName) {
+        for (var i = 0; i < reader.getAttributeCount(); i++) {
+            if (localName.equals(stripPrefix(reader.getAttributeLocalName(i)))) {
+                return reader.getAttributeValue(i);
+            }
+        }
+        return null;
+    }
+
+    /** @return the concatenated text of all descendants of the current element, positioned on its end element */
+    private static String readStringValue(final XMLStreamReader reader) throws XMLStreamException {
+        final var sb = new StringBuilder();
+        var depth = 1;
+        while (depth > 0) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT -> depth++;
+                case XMLStreamConstants.END_ELEMENT -> depth--;
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE -> sb
+                    .append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                default -> {
+                    // comments and processing instructions are not part of the string value
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    private static Optional<String> getNonEmpty(final Map<String, String> values, final String key) {
+        return Optional.ofNullable(values.get(key)).filter(str -> !str.isEmpty());
     }
 
     private static WorkflowParser getParser(final String version) {
@@ -1484,6 +1563,25 @@ private static SAXException handleSAXException(final SAXException ex, final Stri
         return ex;
     }
 
+    /** Values of the {@code name} attribute of the elements read from {@code workflowset.meta} files. */
+    private static final Set<String> WORKFLOWSET_META_ELEMENTS = Set.of("Author", "Comments", "Creation Date");
+
+    /**
+     * Shared by all reads, factories are thread-safe once configured. DTDs are rejected while reading, so neither
+     * internal nor external entities are ever resolved. The files are read without namespace processing (like the
+     * documents of {@link #getConfiguredDocumentBuilder()}), prefixes are stripped instead.
+     */
+    private static final XMLInputFactory WORKFLOWSET_META_INPUT_FACTORY = createWorkflowSetMetaInputFactory();
+
+    private static XMLInputFactory createWorkflowSetMetaInputFactory() {
+        final XMLInputFactory factory = new WstxInputFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, false);
+        factory.setProperty(XMLInputFactory.IS_VALIDATING, false);
+        return factory;
+    }
+
     private static final Set<String> DISABLED_FEATURES = Set.of("http://apache.org/xml/features/disallow-doctype-decl",
         "http://xml.org/sax/features/external-general-entities",
         "http://xml.org/sax/features/external-parameter-entities",
@@ -0,0 +1,363 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.core.util.workflowalizer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.ParseException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.xml.xpath.XPathExpressionException;
+
+import org.apache.xmlbeans.XmlException;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.util.CheckUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xml.sax.SAXException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Persistent cache of the JSON representation of workflow and template metadata, i.e., of the
+ * {@linkplain WorkflowMetadata#flatten() flattened} metadata written by a mapper such as the ones of
+ * {@link WorkflowMetadata#getConfiguredObjectMapper()} and {@link TemplateMetadata#getConfiguredObjectMapper()} (with
+ * the modules the caller registers). If an item has not changed since it has been cached, its JSON is returned without
+ * parsing any of its files.
+ *
+ * Each item is stored in one file in the cache directory, keyed by the item's absolute path, whether it is read as
+ * workflow or template, and the flags of the {@link WorkflowalizerConfiguration}. An entry is only used if the
+ * fingerprint of the item is unchanged; the fingerprint covers relative path, size, and modification time of the
+ * metadata files the {@link Workflowalizer} reads (e.g. workflow.knime, settings.xml, workflowset.meta, and the
+ * files in .artifacts) or of the zip file, such that determining it doesn't need to read any file content. Since the
+ * settings.xml of a node may reference another file with the node's metadata (the legacy "node_file", e.g. node.xml),
+ * all XML files next to a settings.xml are part of the fingerprint, too. Node data directories (e.g. port_1,
+ * filestore) are not visited. If the
+ * {@linkplain WorkflowalizerConfiguration#parseUnexpectedFiles() unexpected files} are read, the relative paths of
+ * all other files are part of the fingerprint, too. Entries are
+ * replaced atomically, so a cache directory can be shared by concurrent readers, also in different processes. It must
+ * not be shared by caches with differently configured mappers though.
+ *
+ * @noreference This class is not intended to be referenced by clients.
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 6.12
+ */
+public final class WorkflowalizerCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WorkflowalizerCache.class);
+
+    /** Part of each fingerprint, increase if the JSON written for the same item changes. */
+    private static final int FORMAT_VERSION = 1;
+
+    private static final String ENTRY_SUFFIX = ".json";
+
+    private static final String SETTINGS_FILE_NAME = "settings.xml";
+
+    /** Names of the files read by the {@link Workflowalizer}, in addition to the files in {@link #ARTIFACTS_DIR}. */
+    private static final Set<String> METADATA_FILE_NAMES = Set.of("workflow.knime", "template.knime",
+        SETTINGS_FILE_NAME, "workflowset.meta", "workflow-metadata.xml", "component-metadata.xml", "workflow.svg");
+
+    private static final String ARTIFACTS_DIR = ".artifacts";
+
+    /** Directories of node data, which the {@link Workflowalizer} never reads. */
+    private static final List<String> NODE_DATA_DIR_PREFIXES =
+        List.of("port_", "internalTables", "filestore", "internal", "drop");
+
+    @FunctionalInterface
+    private interface JSONReader {
+        String read() throws IOException, InvalidSettingsException, ParseException, XPathExpressionException,
+            SAXException, XmlException;
+    }
+
+    private final Path m_directory;
+
+    private final ObjectWriter m_writer;
+
+    private final LongAdder m_hits = new LongAdder();
+
+    private final LongAdder m_misses = new LongAdder();
+
+    /**
+     * @param directory the directory of the cache entries, created if it doesn't exist
+     * @param mapper writes the JSON of the metadata
+     * @throws IOException if the directory cannot be created
+     */
+    public WorkflowalizerCache(final Path directory, final ObjectMapper mapper) throws IOException {
+        m_directory = Files.createDirectories(CheckUtils.checkArgumentNotNull(directory, "Directory cannot be null"));
+        m_writer = CheckUtils.checkArgumentNotNull(mapper, "Mapper cannot be null").writer();
+    }
+
+    /**
+     * Returns the JSON of the workflow metadata, either from the cache or by reading it with
+     * {@link Workflowalizer#readWorkflow(Path, WorkflowalizerConfiguration)} (and caching it).
+     *
+     * @param path the workflow directory, or zip file containing the workflow
+     * @param config the {@link WorkflowalizerConfiguration}, this cannot be {@code null}
+     * @return the JSON of the flattened workflow metadata
+     * @throws IOException
+     * @throws InvalidSettingsException
+     * @throws ParseException
+     * @throws XPathExpressionException
+     * @throws SAXException
+     * @throws XmlException
+     */
+    public String readWorkflowJSON(final Path path, final WorkflowalizerConfiguration config)
+        throws IOException, InvalidSettingsException, ParseException, XPathExpressionException, SAXException,
+        XmlException {
+        return read("workflow", path, config,
+            () -> m_writer.writeValueAsString(Workflowalizer.readWorkflow(path, config).flatten()));
+    }
+
+    /**
+     * Returns the JSON of the template metadata, either from the cache or by reading it with
+     * {@link Workflowalizer#readTemplate(Path, WorkflowalizerConfiguration)} (and caching it).
+     *
+     * @param path the template directory, or zip file containing the template
+     * @param config the {@link WorkflowalizerConfiguration}, this cannot be {@code null}
+     * @return the JSON of the flattened template metadata
+     * @throws IOException
+     * @throws InvalidSettingsException
+     * @throws ParseException
+     * @throws XPathExpressionException
+     * @throws SAXException
+     * @throws XmlException
+     */
+    public String readTemplateJSON(final Path path, final WorkflowalizerConfiguration config)
+        throws IOException, InvalidSettingsException, ParseException, XPathExpressionException, SAXException,
+        XmlException {
+        return read("template", path, config,
+            () -> m_writer.writeValueAsString(Workflowalizer.readTemplate(path, config).flatten()));
+    }
+
+    /**
+     * @return number of items returned from the cache since this instance has been created
+     */
+    public long getHitCount() {
+        return m_hits.sum();
+    }
+
+    /**
+     * @return number of items that had to be read since this instance has been created
+     */
+    public long getMissCount() {
+        return m_misses.sum();
+    }
+
+    /**
+     * Deletes all entries of the cache.
+     *
+     * @throws IOException if an entry cannot be deleted
+     */
+    public void clear() throws IOException {
+        try (var entries = Files.list(m_directory)) {
+            for (var entry : entries.filter(WorkflowalizerCache::isEntry).toList()) {
+                Files.deleteIfExists(entry);
+            }
+        }
+    }
+
+    private String read(final String type, final Path path, final WorkflowalizerConfiguration config,
+        final JSONReader reader) throws IOException, InvalidSettingsException, ParseException,
+        XPathExpressionException, SAXException, XmlException {
+        CheckUtils.checkArgumentNotNull(config, "Configuration cannot be null");
+        CheckUtils.checkArgument(Files.exists(path), "File does not exist at path " + path);
+        final var item = path.toAbsolutePath().normalize();
+        final var entry = m_directory.resolve(sha256(type + '\n' + config.toFlagString() + '\n' + item) + ENTRY_SUFFIX);
+        final var fingerprint = fingerprint(item, config.parseUnexpectedFiles());
+
+        final var cached = readEntry(entry, fingerprint);
+        if (cached != null) {
+            m_hits.increment();
+            return cached;
+        }
+        m_misses.increment();
+        final var json = reader.read();
+        // taken before reading, so if the item changed while it was read, the entry is outdated and the next call
+        // reads it again
+        writeEntry(entry, fingerprint, json);
+        return json;
+    }
+
+    /** @return the cached JSON, or {@code null} if there is no entry or it is outdated */
+    private static String readEntry(final Path entry, final String fingerprint) {
+        try (BufferedReader in = Files.newBufferedReader(entry, StandardCharsets.UTF_8)) {
+            if (!fingerprint.equals(in.readLine())) {
+                return null;
+            }
+            final var json = new StringWriter();
+            in.transferTo(json);
+            return json.toString();
+        } catch (NoSuchFileException ex) { // NOSONAR not cached yet
+            return null;
+        } catch (IOException ex) {
+            LOGGER.warn("Could not read cache entry '{}', the item is read again", entry, ex);
+            return null;
+        }
+    }
+
+    private void writeEntry(final Path entry, final String fingerprint, final String json) {
+        Path tmp = null;
+        try {
+            tmp = Files.createTempFile(m_directory, entry.getFileName().toString(), ".tmp");
+            Files.writeString(tmp, fingerprint + '\n' + json, StandardCharsets.UTF_8);
+            try {
+                Files.move(tmp, entry, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException ex) { // NOSONAR
+                Files.move(tmp, entry, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException ex) {
+            // the cache is an optimization only, the result is returned nevertheless
+            LOGGER.warn("Could not write cache entry '{}'", entry, ex);
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException e) { // NOSONAR
+                    ex.addSuppressed(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param item absolute path of a directory or zip file
+     * @param withAllFileNames whether the relative paths of all files (outside of node data directories) are part of
+     *            the fingerprint, not only those of the metadata files
+     * @return hash of the relative paths, sizes, and modification times of the metadata files of the item
+     */
+    static String fingerprint(final Path item, final boolean withAllFileNames) throws IOException {
+        final var sb = new StringBuilder("v").append(FORMAT_VERSION).append('\n');
+        if (Files.isDirectory(item)) {
+            final var allFiles = new TreeMap<String, BasicFileAttributes>();
+            Files.walkFileTree(item, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) {
+                    return !dir.equals(item) && isNodeDataDirectory(dir.getFileName().toString())
+                        ? FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+                    allFiles.put(item.relativize(file).toString().replace('\\', '/'), attrs);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+            allFiles.forEach((relative, attributes) -> {
+                if (isMetadataFile(relative) || isNodeFile(relative, allFiles.keySet())) {
+                    sb.append(relative);
+                    appendAttributes(sb, attributes);
+                } else if (withAllFileNames) {
+                    sb.append(relative).append('\n');
+                }
+            });
+        } else {
+            appendAttributes(sb, Files.readAttributes(item, BasicFileAttributes.class));
+        }
+        return sha256(sb.toString());
+    }
+
+    private static boolean isNodeDataDirectory(final String name) {
+        // node directories are named "<name> (#<id>)"
+        return !name.endsWith(")") && NODE_DATA_DIR_PREFIXES.stream().anyMatch(name::startsWith);
+    }
+
+    private static boolean isMetadataFile(final String relativePath) {
+        final var slash = relativePath.lastIndexOf('/');
+        return METADATA_FILE_NAMES.contains(relativePath.substring(slash + 1))
+            || relativePath.startsWith(ARTIFACTS_DIR + '/') || relativePath.contains('/' + ARTIFACTS_DIR + '/');
+    }
+
+    /**
+     * @return whether the file may be the "node_file" referenced by a node's settings.xml, which is any XML file in a
+     *         directory containing a settings.xml (the reference itself is only known after reading the settings)
+     */
+    private static boolean isNodeFile(final String relativePath, final Set<String> allFiles) {
+        if (!relativePath.endsWith(".xml")) {
+            return false;
+        }
+        final var slash = relativePath.lastIndexOf('/');
+        return allFiles.contains(relativePath.substring(0, slash + 1) + SETTINGS_FILE_NAME);
+    }
+
+    private static void appendAttributes(final StringBuilder sb, final BasicFileAttributes attributes) {
+        sb.append('\t').append(attributes.size()).append('\t').append(attributes.lastModifiedTime().toMillis())
+            .append('\n');
+    }
+
+    private static String sha256(final String s) {
+        try {
+            final var digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(s.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            // every Java platform supports SHA-256
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static boolean isEntry(final Path file) {
+        final var name = file.getFileName().toString();
+        return name.endsWith(ENTRY_SUFFIX) || name.endsWith(".tmp");
+    }
+}
@@ -128,6 +128,22 @@ boolean parseSecretStoreParameters() {
         return m_readSecretStoreParameters;
     }
 
+    /**
+     * @return one character ({@code 0} or {@code 1}) per flag of this configuration; equal for configurations that
+     *         read the same fields, e.g., to key cached results
+     */
+    String toFlagString() {
+        final var flags = new boolean[]{m_readNodes, m_readConnections, m_readUnexpectedFiles, m_readNodeConfiguration,
+            m_readWorkflowMeta, m_readWorkflowConfiguration, m_readWorkflowConfigurationRepresentation,
+            m_readOpenapiInputParameters, m_readOpenapiInputResources, m_readOpenapiOutputParameters,
+            m_readOpenapiOutputResources, m_readHubEventInputParameters, m_readSecretStoreParameters};
+        final var sb = new StringBuilder(flags.length);
+        for (final boolean flag : flags) {
+            sb.append(flag ? '1' : '0');
+        }
+        return sb.toString();
+    }
+
     WorkflowFields createWorkflowFields() {
         return new WorkflowFields(m_readConnections, m_readNodes, m_readUnexpectedFiles);
     }
@@ -0,0 +1,147 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package com.knime.enterprise.utility.recommendation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.apache.commons.io.file.PathUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.knime.core.hub.events.HubRepositoryItemEventSubject;
+import org.knime.core.hub.events.HubRepositoryTriggerEventMapper;
+import org.knime.core.hub.events.HubTriggerEvent;
+import org.knime.core.node.NodeTriple;
+import org.knime.core.node.recommendation.WorkspaceAnalyzer;
+import org.knime.core.util.workflowalizer.AbstractWorkflowalizerTest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+/**
+ * Tests for the incremental updates of {@link WorkspaceAnalyzer}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+class WorkspaceAnalyzerIncrementalTest extends AbstractWorkflowalizerTest {
+
+    private static Map<NodeTriple, Integer> counts(final WorkspaceAnalyzer analyzer) {
+        return analyzer.getTriplets().stream().collect(Collectors.toMap(t -> t, NodeTriple::getCount));
+    }
+
+    private static Map<NodeTriple, Integer> analyzeAll(final Path workspace) throws Exception {
+        final var analyzer = new WorkspaceAnalyzer(workspace);
+        analyzer.analyze();
+        return counts(analyzer);
+    }
+
+    private static HubTriggerEvent<HubRepositoryItemEventSubject> event(final String action, final String path)
+        throws Exception {
+        final var json = """
+            {"schemaVersion": 1, "source": "catalog", "type": "item", "action": "%s",
+             "subject": {"id": "some-item-id", "type": "Workflow", "path": "%s"}}""".formatted(action, path);
+        return HubRepositoryTriggerEventMapper.MAPPER.readValue(json,
+            new TypeReference<HubTriggerEvent<HubRepositoryItemEventSubject>>() {});
+    }
+
+    /**
+     * Updating and removing single workflows gives the same triplets as analyzing the whole workspace again.
+     */
+    @Test
+    void testIncrementalUpdates(@TempDir final Path workspace) throws Exception {
+        for (var group : new String[]{"A", "B/C"}) {
+            try (InputStream is = getResourceAsStream("/Testing_nodes_wkfl.knwf")) {
+                unzip(is, Files.createDirectories(workspace.resolve(group)));
+            }
+        }
+        final var full = analyzeAll(workspace);
+        assertThat(full).isNotEmpty();
+
+        final var analyzer = new WorkspaceAnalyzer(workspace);
+        analyzer.updateWorkflow(workspace.resolve("A/Testing_nodes_wkfl"));
+        final var single = counts(analyzer);
+        assertThat(single.keySet()).isEqualTo(full.keySet());
+        analyzer.handleEvent(event("added", "/B/C/Testing_nodes_wkfl"));
+        assertThat(counts(analyzer)).isEqualTo(full);
+
+        // analyzing again replaces the previous contributions
+        analyzer.analyze();
+        analyzer.updateWorkflow(workspace.resolve("A/Testing_nodes_wkfl"));
+        assertThat(counts(analyzer)).isEqualTo(full);
+
+        PathUtils.deleteDirectory(workspace.resolve("B"));
+        analyzer.handleEvent(event("deleted", "/B/C/Testing_nodes_wkfl"));
+        assertThat(counts(analyzer)).isEqualTo(single).isEqualTo(analyzeAll(workspace));
+
+        // a changed workflow is analyzed again, also via its workflow group
+        Files.delete(workspace.resolve("A/Testing_nodes_wkfl/workflow.knime"));
+        analyzer.handleEvent(event("changed", "/A"));
+        assertThat(analyzer.getTriplets()).isEmpty();
+        assertThat(analyzer.removeWorkflow(workspace)).isFalse();
+    }
+
+    /**
+     * Events without an item path are ignored.
+     */
+    @Test
+    void testEventWithoutPath(@TempDir final Path workspace) throws Exception {
+        final var json = """
+            {"schemaVersion": 1, "source": "catalog", "type": "item", "action": "deleted",
+             "subject": {"id": "some-item-id", "type": "Workflow"}}""";
+        final var event = HubRepositoryTriggerEventMapper.MAPPER.readValue(json,
+            new TypeReference<HubTriggerEvent<HubRepositoryItemEventSubject>>() {});
+        final var analyzer = new WorkspaceAnalyzer(workspace);
+        analyzer.handleEvent(event);
+        assertThat(analyzer.getTriplets()).isEmpty();
+    }
+}
@@ -58,8 +58,11 @@
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 import org.knime.core.node.InvalidSettingsException;
@@ -99,7 +102,8 @@ void testObjectStreamSerialization() throws IOException, ClassNotFoundException,
     @Test
     void testSchemaUnchanged() {
         var expFields = new String[]{"ARROW", "ARROW_NULL", "CFG_ARRAY_SIZE", "COMMA_TYPEEQ", "DOT_LINE_BREAK", "KEYEQ",
-            "LINE_BREAK", "SPACE", "TAB_SIZE", "m_map", "serialVersionUID"};
+            "LINE_BREAK", "SPACE", "TAB_SIZE", "m_map", "m_valueHashCode", "serialPersistentFields",
+            "serialVersionUID", "m_copySource", "m_pendingCopies"};
 
         var expMethods = new String[]{"addBoolean", "addBooleanArray", "addByte", "addByteArray", "addChar",
             "addCharArray", "addConfigBase", "addConfigBase", "addDouble", "addDoubleArray", "addEncryptedPassword",
@@ -112,8 +116,10 @@ void testSchemaUnchanged() {
             "getInstance", "getInt", "getInt", "getIntArray", "getIntArray", "getLong", "getLong", "getLongArray",
             "getLongArray", "getPassword", "getPassword", "getShort", "getShort", "getShortArray", "getShortArray",
             "getString", "getString", "getStringArray", "getStringArray", "getTransientString", "hasIdenticalValue",
-            "isLeaf", "iterator", "keySet", "load", "loadFromXML", "put", "readFromFile", "saveToXML", "toJSONEntry",
-            "toJSONRoot", "toString", "toString", "toString", "toStringValue", "writeToFile", "removeConfig"};
+            "invalidateContentHashCode", "isLeaf", "iterator", "keySet", "load", "loadFromXML", "put", "readFromFile", "saveToXML", "toJSONEntry",
+            "toJSONRoot", "toString", "toString", "toString", "toStringValue", "writeToFile", "removeConfig", "mix",
+            "valueHashCode", "readObject", "writeObject", "copyOnWriteTo", "map", "registerCopy",
+            "takePendingCopies", "detachCopiesBeforeWrite"};
 
         Predicate<String> regularName = s -> !s.contains("$");
 
@@ -126,6 +132,121 @@ void testSchemaUnchanged() {
         assertThat(actualMethods).as("The methods of class ConfigBase have changed.").containsOnly(expMethods);
     }
 
+    /**
+     * The cached content hash code must be consistent with {@link ConfigBase#isIdentical(AbstractConfigEntry)} and must
+     * be invalidated when a descendant is modified.
+     */
+    @Test
+    void testContentHashCode() {
+        var a = new SimpleConfig("root");
+        a.addConfigBase("child").addConfigBase("grandchild").addDouble("value", 0.5);
+        a.addString("string", "foo");
+        var b = new SimpleConfig("root");
+        // different insertion order
+        b.addString("string", "foo");
+        b.addConfigBase("child").addConfigBase("grandchild").addDouble("value", 0.5);
+
+        assertThat(a.isIdentical(b)).isTrue();
+        assertThat(a.getContentHashCode()).isEqualTo(b.getContentHashCode());
+
+        // modify the deepest level after the hash codes have been cached
+        var grandchild = (ConfigBase)((ConfigBase)b.getEntry("child")).getEntry("grandchild");
+        grandchild.addDouble("value", 0.25);
+        assertThat(a.getContentHashCode()).isNotEqualTo(b.getContentHashCode());
+        assertThat(a.isIdentical(b)).isFalse();
+
+        grandchild.addDouble("value", 0.5);
+        assertThat(a.isIdentical(b)).isTrue();
+
+        b.removeConfig("string");
+        assertThat(a.isIdentical(b)).isFalse();
+        b.addString("string", "bar");
+        assertThat(a.isIdentical(b)).isFalse();
+        b.addString("string", "foo");
+        assertThat(a.isIdentical(b)).isTrue();
+    }
+
+    private static SimpleConfig createTree(final int depth) {
+        var config = new SimpleConfig("root");
+        var level = config;
+        for (var d = 0; d < depth; d++) {
+            level.addInt("depth", d);
+            level.addString("string", "level " + d);
+            level.addConfigBase("sibling").addDouble("value", d);
+            level = (SimpleConfig)level.addConfigBase("child");
+        }
+        return config;
+    }
+
+    private static ConfigBase descend(final ConfigBase config, final int levels) throws InvalidSettingsException {
+        var level = config;
+        for (var d = 0; d < levels; d++) {
+            level = level.getConfigBase("child");
+        }
+        return level;
+    }
+
+    /**
+     * Modifications of either a copy-on-write copy or its source must not be visible in the other one, also when the
+     * copy has only been partially copied yet.
+     */
+    @Test
+    void testCopyOnWrite() throws InvalidSettingsException {
+        var source = createTree(5);
+        var copy = new SimpleConfig("root");
+        source.copyOnWriteTo(copy);
+        assertThat(copy.isIdentical(source)).isTrue();
+        var copyOfCopy = new SimpleConfig("root");
+        copy.copyOnWriteTo(copyOfCopy);
+
+        // modify the source deep down before the copy has been accessed
+        descend(source, 3).addInt("depth", 42);
+        assertThat(descend(copy, 3).getInt("depth")).isEqualTo(3);
+        assertThat(descend(copyOfCopy, 3).getInt("depth")).isEqualTo(3);
+        assertThat(copy.isIdentical(createTree(5))).isTrue();
+
+        // modify the (now partially copied) copy, the source and the copy of the copy keep their values
+        descend(copy, 4).getConfigBase("sibling").addDouble("value", -1);
+        descend(copy, 1).removeConfig("string");
+        assertThat(descend(source, 4).getConfigBase("sibling").getDouble("value")).isEqualTo(4);
+        assertThat(descend(source, 1).getString("string")).isEqualTo("level 1");
+        assertThat(copyOfCopy.isIdentical(createTree(5))).isTrue();
+        assertThat(descend(copy, 4).getConfigBase("sibling").getDouble("value")).isEqualTo(-1);
+        assertThat(descend(copy, 1).containsKey("string")).isFalse();
+        assertThat(descend(copy, 3).getParent()).isSameAs(descend(copy, 2));
+
+        // merging into a non-empty destination behaves like copyTo
+        var merged = new SimpleConfig("root");
+        merged.addString("other", "value");
+        createTree(2).copyOnWriteTo(merged);
+        var expected = createTree(2);
+        expected.addString("other", "value");
+        assertThat(merged.isIdentical(expected)).isTrue();
+    }
+
+    /**
+     * Copies of the same source may be read concurrently, reading them registers their sub configs with the source.
+     */
+    @Test
+    void testConcurrentReadsOfCopies() throws Exception {
+        var source = createTree(5);
+        var copies = IntStream.range(0, 64).mapToObj(i -> {
+            var copy = new SimpleConfig("root");
+            source.copyOnWriteTo(copy);
+            return copy;
+        }).toList();
+        try (var executor = Executors.newFixedThreadPool(8)) {
+            var results = executor.invokeAll(copies.stream()
+                .<Callable<Boolean>> map(copy -> () -> copy.isIdentical(createTree(5))).toList());
+            for (var result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        }
+        // the source is unchanged and detaching all copies on a modification still works
+        descend(source, 4).addInt("depth", 42);
+        assertThat(copies).allSatisfy(copy -> assertThat(descend(copy, 4).getInt("depth")).isEqualTo(4));
+    }
+
     /**
      * This has been used to write the test configuration.
      *
@@ -0,0 +1,148 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.core.node.config.base;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.LinkedHashMap;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ConfigEntryMap} and the {@link javax.swing.tree.TreeNode} methods of {@link ConfigBase} that use
+ * it.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@SuppressWarnings("static-method")
+class ConfigEntryMapTest {
+
+    @Test
+    void testAgainstLinkedHashMap() {
+        var expected = new LinkedHashMap<String, AbstractConfigEntry>();
+        var map = new ConfigEntryMap();
+        var random = new Random(13);
+        for (var i = 0; i < 20_000; i++) {
+            // few keys first to exercise the linear search, then grow beyond the index threshold
+            var key = Integer.toString(random.nextInt(i < 5_000 ? 12 : 500));
+            if (random.nextInt(5) == 0) {
+                assertThat(map.remove(key)).isSameAs(expected.remove(key));
+            } else {
+                var entry = new ConfigIntEntry(key, i);
+                assertThat(map.put(key, entry)).isSameAs(expected.put(key, entry));
+            }
+            assertThat(map.size()).isEqualTo(expected.size());
+        }
+        assertThat(new ArrayList<>(map.keySet())).containsExactlyElementsOf(expected.keySet());
+        assertThat(new ArrayList<>(map.values())).containsExactlyElementsOf(expected.values());
+        assertThat(map).isEqualTo(expected);
+        var pos = 0;
+        for (var key : expected.keySet()) {
+            assertThat(map.keyAt(pos)).isEqualTo(key);
+            assertThat(map.indexOf(key)).isEqualTo(pos);
+            pos++;
+        }
+        assertThat(map.get(null)).isNull();
+        assertThat(map.containsKey("does not exist")).isFalse();
+    }
+
+    @Test
+    void testTreeNodeMethods() {
+        var config = new SimpleConfig("root");
+        for (var i = 0; i < 100; i++) {
+            config.addInt("key" + i, i);
+        }
+        config.removeConfig("key50");
+        assertThat(config.getChildCount()).isEqualTo(99);
+        assertThat(((AbstractConfigEntry)config.getChildAt(50)).getKey()).isEqualTo("key51");
+        assertThat(config.getIndex(config.getEntry("key51"))).isEqualTo(50);
+        assertThat(config.getIndex(new ConfigIntEntry("key51", 0))).isEqualTo(-1);
+        assertThatThrownBy(() -> config.getChildAt(99)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void testFailFastIterator() {
+        var config = new SimpleConfig("root");
+        config.addInt("a", 1);
+        config.addInt("b", 2);
+        var it = config.iterator();
+        it.next();
+        config.addInt("a", 3); // replacing is not a structural modification
+        it.next();
+        var it2 = config.iterator();
+        it2.next();
+        config.addInt("c", 3);
+        assertThatThrownBy(it2::next).isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    void testJavaSerialization() throws IOException, ClassNotFoundException {
+        var config = new SimpleConfig("root");
+        config.addConfigBase("child").addString("string", "value");
+        config.addDouble("double", 0.5);
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new ObjectOutputStream(bytes)) {
+            out.writeObject(config);
+        }
+        try (var in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            var restored = (SimpleConfig)in.readObject();
+            assertThat(restored.isIdentical(config)).isTrue();
+            assertThat(restored.keySet()).containsExactly("child", "double");
+        }
+    }
+}
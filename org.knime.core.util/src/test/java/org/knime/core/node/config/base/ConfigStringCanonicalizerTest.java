@@ -0,0 +1,169 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.core.node.config.base;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ConfigStringCanonicalizer} and its use by {@link XMLConfig} and {@link JSONConfig}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@SuppressWarnings("static-method")
+class ConfigStringCanonicalizerTest {
+
+    @Test
+    void testVocabularyAndTable() {
+        var canonicalizer = new ConfigStringCanonicalizer(64, 16);
+        var factory = canonicalizer.canonicalize(new String("factory"));
+        assertThat(canonicalizer.canonicalize(new String("factory"))).isSameAs(factory);
+        assertThat(canonicalizer.canonicalize(Integer.toString(17))).isSameAs(canonicalizer.canonicalize("17"));
+
+        var first = new String("my column");
+        assertThat(canonicalizer.canonicalize(first)).isSameAs(first);
+        assertThat(canonicalizer.canonicalize(new String("my column"))).isSameAs(first);
+
+        var tooLong = "a string longer than the maximum length";
+        assertThat(canonicalizer.canonicalize(tooLong)).isSameAs(tooLong);
+        assertThat(canonicalizer.canonicalize(null)).isNull();
+
+        assertThat(canonicalizer.getStatistics())
+            .isEqualTo(new ConfigStringCanonicalizer.Statistics(4, 1, 1));
+        assertThat(canonicalizer.getStatistics().hitRatio()).isEqualTo(5 / 6.0);
+        canonicalizer.resetStatistics();
+        assertThat(canonicalizer.getStatistics().hitRatio()).isZero();
+    }
+
+    @Test
+    void testDisabled() {
+        var value = new String("my column");
+        assertThat(ConfigStringCanonicalizer.disabled().canonicalize(value)).isSameAs(value);
+        assertThat(ConfigStringCanonicalizer.disabled().canonicalize(new String("factory"))).isNotSameAs("factory");
+        assertThatThrownBy(() -> new ConfigStringCanonicalizer(-1, 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testConcurrentUse() throws Exception {
+        var canonicalizer = new ConfigStringCanonicalizer(16, 100);
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            var futures = new ArrayList<Future<?>>();
+            for (var t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (var i = 0; i < 10_000; i++) {
+                        var s = "value " + (i % 100);
+                        assertThat(canonicalizer.canonicalize(s)).isEqualTo(s);
+                    }
+                }));
+            }
+            for (var future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        var statistics = canonicalizer.getStatistics();
+        assertThat(statistics.tableHits() + statistics.misses()).isEqualTo(40_000);
+    }
+
+    private static SimpleConfig createConfig() {
+        var config = new SimpleConfig("root");
+        for (var i = 0; i < 3; i++) {
+            var node = config.addConfigBase("node_" + i);
+            node.addString("factory", "org.knime.base.node.MyNodeFactory");
+            node.addString("state", "CONFIGURED");
+            node.addInt("id", i);
+        }
+        return config;
+    }
+
+    @Test
+    void testXMLConfigLoad() throws Exception {
+        var bytes = new ByteArrayOutputStream();
+        XMLConfig.save(createConfig(), bytes);
+
+        var loaded = new SimpleConfig("loaded");
+        XMLConfig.load(loaded, new ByteArrayInputStream(bytes.toByteArray()), new ConfigStringCanonicalizer(64, 64));
+        assertThat(loaded.isIdentical(createConfig())).isTrue();
+        assertThat(loaded.getConfigBase("node_1").getString("factory"))
+            .isSameAs(loaded.getConfigBase("node_2").getString("factory"));
+        assertThat(loaded.getConfigBase("node_1").getString("state")).isSameAs("CONFIGURED");
+
+        var uncanonicalized = new SimpleConfig("loaded");
+        XMLConfig.load(uncanonicalized, new ByteArrayInputStream(bytes.toByteArray()),
+            ConfigStringCanonicalizer.disabled());
+        assertThat(uncanonicalized.isIdentical(loaded)).isTrue();
+        assertThat(uncanonicalized.getConfigBase("node_1").getString("factory"))
+            .isNotSameAs(uncanonicalized.getConfigBase("node_2").getString("factory"));
+    }
+
+    @Test
+    void testJSONConfigRead() throws Exception {
+        var writer = new StringWriter();
+        JSONConfig.writeJSON(createConfig(), writer, JSONConfig.WriterConfig.DEFAULT);
+
+        var loaded = JSONConfig.readJSON(new SimpleConfig("root"), new StringReader(writer.toString()),
+            new ConfigStringCanonicalizer(64, 64));
+        assertThat(loaded.isIdentical(createConfig())).isTrue();
+        assertThat(loaded.getConfigBase("node_0").getString("factory"))
+            .isSameAs(loaded.getConfigBase("node_2").getString("factory"));
+        assertThat(loaded.getConfigBase("node_0").getString("state")).isSameAs("CONFIGURED");
+    }
+}
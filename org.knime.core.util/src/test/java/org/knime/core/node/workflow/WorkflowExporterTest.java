@@ -140,6 +140,8 @@ static void setup() throws Exception {
                 }
             }
         }
+        // the manifest of incremental saves is never exported
+        Files.writeString(testDataDir.resolve(WORKFLOW_NAME).resolve(".settings_manifest"), "manifest");
     }
 
     /**
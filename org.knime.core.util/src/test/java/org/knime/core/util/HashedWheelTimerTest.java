@@ -0,0 +1,208 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link HashedWheelTimer}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+class HashedWheelTimerTest {
+
+    private static HashedWheelTimer createTimer() {
+        return new HashedWheelTimer("Test", Duration.ofMillis(1), 8, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * Single executions run once after their delay, also if the delay spans several revolutions of the wheel.
+     */
+    @Test
+    void testSchedule() throws InterruptedException {
+        try (var timer = createTimer()) {
+            final var latch = new CountDownLatch(2);
+            final var start = System.nanoTime();
+            final var shortTimeout = timer.schedule(latch::countDown, 5, TimeUnit.MILLISECONDS);
+            final var longTimeout = timer.schedule(latch::countDown, 50, TimeUnit.MILLISECONDS);
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+            awaitExecutions(longTimeout, 1);
+            assertThat(shortTimeout.isDone()).isTrue();
+            assertThat(shortTimeout.cancel()).isFalse();
+            assertThat(shortTimeout.getExecutionCount()).isEqualTo(1);
+            assertThat(timer.getExecutionTimes().getTotalCount()).isEqualTo(2);
+            assertThat(timer.getLateness().getTotalCount()).isEqualTo(2);
+        }
+    }
+
+    /**
+     * A slow task does not delay other tasks.
+     */
+    @Test
+    void testSlowTaskDoesNotBlock() throws InterruptedException {
+        try (var timer = createTimer()) {
+            final var slowStarted = new CountDownLatch(1);
+            final var release = new CountDownLatch(1);
+            final var fast = new CountDownLatch(1);
+            timer.schedule(() -> {
+                slowStarted.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, 0, TimeUnit.MILLISECONDS);
+            assertThat(slowStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            timer.schedule(fast::countDown, 1, TimeUnit.MILLISECONDS);
+            assertThat(fast.await(5, TimeUnit.SECONDS)).isTrue();
+            release.countDown();
+        }
+    }
+
+    /**
+     * Periodic tasks run repeatedly until cancelled, or until they fail.
+     */
+    @Test
+    void testPeriodicAndCancel() throws InterruptedException {
+        try (var timer = createTimer()) {
+            final var fixedRate = timer.scheduleAtFixedRate(() -> {}, 0, 2, TimeUnit.MILLISECONDS);
+            final var fixedDelay = timer.scheduleWithFixedDelay(() -> {}, 0, 2, TimeUnit.MILLISECONDS);
+            awaitExecutions(fixedRate, 3);
+            awaitExecutions(fixedDelay, 3);
+            assertThat(fixedRate.cancel()).isTrue();
+            assertThat(fixedRate.cancel()).isFalse();
+            assertThat(fixedRate.isCancelled()).isTrue();
+            Thread.sleep(20); // NOSONAR
+            final var count = fixedRate.getExecutionCount();
+            Thread.sleep(20); // NOSONAR
+            assertThat(fixedRate.getExecutionCount()).isEqualTo(count);
+            fixedDelay.cancel();
+
+            final var failures = new AtomicInteger();
+            final var failing = timer.scheduleAtFixedRate(() -> {
+                failures.incrementAndGet();
+                throw new IllegalStateException("ignored");
+            }, 0, 1, TimeUnit.MILLISECONDS);
+            awaitExecutions(failing, 1);
+            Thread.sleep(20); // NOSONAR
+            assertThat(failures.get()).isEqualTo(1);
+            assertThat(failing.isDone()).isTrue();
+            assertThat(failing.isCancelled()).isFalse();
+
+            final var cancelled = new AtomicInteger();
+            timer.schedule(cancelled::incrementAndGet, 10, TimeUnit.MILLISECONDS).cancel();
+            Thread.sleep(30); // NOSONAR
+            assertThat(cancelled.get()).isZero();
+        }
+    }
+
+    /**
+     * Closed timers reject tasks, the global timer cannot be closed.
+     */
+    @Test
+    void testClose() {
+        final var timer = createTimer();
+        final var timeout = timer.schedule(() -> {}, 1, TimeUnit.HOURS);
+        assertThat(timer.getPendingCount()).isEqualTo(1);
+        timer.close();
+        assertThatThrownBy(() -> timer.schedule(() -> {}, 1, TimeUnit.MILLISECONDS))
+            .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> HashedWheelTimer.getInstance().close())
+            .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> timer.scheduleAtFixedRate(() -> {}, 0, 0, TimeUnit.MILLISECONDS))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(timeout.getExecutionCount()).isZero();
+    }
+
+    /**
+     * The ticker thread does not wake up while no task is scheduled, and resumes once one is.
+     */
+    @Test
+    void testTickerParksWhileEmpty() throws InterruptedException {
+        try (var timer = new HashedWheelTimer("Parking", Duration.ofMillis(1), 8,
+            Executors.newVirtualThreadPerTaskExecutor())) {
+            final var ticker = Thread.getAllStackTraces().keySet().stream()
+                .filter(t -> t.getName().startsWith("KNIME-Wheel-Timer-Parking-")).findFirst().orElseThrow();
+            awaitState(ticker, Thread.State.WAITING);
+            final var latch = new CountDownLatch(1);
+            final var timeout = timer.schedule(latch::countDown, 5, TimeUnit.MILLISECONDS);
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+            awaitExecutions(timeout, 1);
+            assertThat(timer.getPendingCount()).isZero();
+            awaitState(ticker, Thread.State.WAITING);
+        }
+    }
+
+    private static void awaitState(final Thread thread, final Thread.State state) throws InterruptedException {
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (thread.getState() != state && System.nanoTime() < deadline) {
+            Thread.sleep(1); // NOSONAR
+        }
+        assertThat(thread.getState()).isEqualTo(state);
+    }
+
+    private static void awaitExecutions(final HashedWheelTimer.Timeout timeout, final long count)
+        throws InterruptedException {
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (timeout.getExecutionCount() < count && System.nanoTime() < deadline) {
+            Thread.sleep(1); // NOSONAR
+        }
+        assertThat(timeout.getExecutionCount()).isGreaterThanOrEqualTo(count);
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.knime.core.util.metrics.MetricId;
+import org.knime.core.util.metrics.Metrics;
+
+/**
+ * Tests {@link LoadMonitor}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+class LoadMonitorTest {
+
+    enum Measure {
+            CPU, QUEUE
+    }
+
+    private static final Duration SHORT = Duration.ofMillis(50);
+
+    private static final Duration LONG = Duration.ofMillis(500);
+
+    /**
+     * All measures are tracked for all intervals and sampled into the histograms.
+     */
+    @Test
+    void testMultipleMeasures() throws InterruptedException {
+        try (var monitor = LoadMonitor.<Measure> builder(Duration.ofMillis(5)) //
+            .addMeasure(Measure.CPU, () -> 100.0, 0.0) //
+            .addMeasure(Measure.QUEUE, () -> 3.0, 3.0) //
+            .addInterval(SHORT) //
+            .addInterval(LONG) //
+            .start()) {
+            assertThat(monitor.getLoadAverage(Measure.CPU)).isZero();
+            Thread.sleep(500); // NOSONAR
+            final var shortAverage = monitor.getLoadAverage(Measure.CPU, SHORT);
+            final var longAverage = monitor.getLoadAverage(Measure.CPU, LONG);
+            assertThat(shortAverage).isGreaterThan(95.0).isLessThanOrEqualTo(100.0);
+            assertThat(longAverage).isLessThan(shortAverage).isCloseTo(100 * (1.0 - Math.exp(-1.0)), within(10.0));
+            assertThat(monitor.getLoadAverage(Measure.QUEUE, LONG)).isCloseTo(3.0, within(1e-9));
+            assertThat(monitor.getSampleCount(Measure.QUEUE)).isPositive();
+            assertThat(monitor.getPercentile(Measure.QUEUE, 99)).isCloseTo(3.0, within(0.03));
+            assertThatThrownBy(() -> monitor.getLoadAverage(Measure.CPU, Duration.ofMinutes(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    /**
+     * A failing measure does not affect the others.
+     */
+    @Test
+    void testFailingMeasure() throws InterruptedException {
+        try (var monitor = LoadMonitor.<String> builder(Duration.ofMillis(5)) //
+            .addMeasure("fail", () -> {
+                throw new IllegalStateException("ignored");
+            }, 1.0) //
+            .addMeasure("ok", () -> 2.0, 0.0) //
+            .addInterval(SHORT) //
+            .start()) {
+            Thread.sleep(100); // NOSONAR
+            assertThat(monitor.getNrErrorsLogged()).isGreaterThan(1);
+            assertThat(monitor.getLoadAverage("fail")).isEqualTo(1.0);
+            assertThat(monitor.getSampleCount("fail")).isZero();
+            assertThat(monitor.getLoadAverage("ok")).isGreaterThan(1.0);
+        }
+    }
+
+    /**
+     * Averages and percentiles are exported while the monitor is running.
+     */
+    @Test
+    void testExport() {
+        final var averageId = MetricId.of(LoadMonitor.METRIC_LOAD_AVERAGE, //
+            "monitor", "test", "measure", "CPU", "interval", "PT0.5S");
+        final var percentileId = MetricId.of(LoadMonitor.METRIC_LOAD_PERCENTILE, //
+            "monitor", "test", "measure", "CPU", "percentile", "p99");
+        final var builder = LoadMonitor.<Measure> builder(Duration.ofMillis(100)) //
+            .addMeasure(Measure.CPU, () -> 0.5, 0.5) //
+            .addInterval(LONG) //
+            .exportAs("test");
+        try (var monitor = builder.start()) {
+            assertThat(Metrics.getRegisteredGauges()).contains(averageId, percentileId);
+            // a second monitor under the same name is rejected without leaking registrations
+            assertThatThrownBy(builder::start).isInstanceOf(IllegalArgumentException.class);
+            assertThat(Metrics.getRegisteredGauges()).contains(averageId, percentileId);
+        }
+        assertThat(Metrics.getRegisteredGauges()).doesNotContain(averageId, percentileId);
+    }
+
+    /**
+     * Invalid configurations are rejected.
+     */
+    @Test
+    void testExceptions() {
+        final var builder = LoadMonitor.<Measure> builder(Duration.ofMillis(100));
+        assertThatThrownBy(builder::start).isInstanceOf(IllegalStateException.class);
+        builder.addMeasure(Measure.CPU, () -> 0.5, 0.5);
+        assertThatThrownBy(() -> builder.addMeasure(Measure.CPU, () -> 0.5, 0.5))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(builder::start).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> builder.addInterval(Duration.ofMillis(1)))
+            .isInstanceOf(IllegalArgumentException.class);
+        try (var monitor = builder.addInterval(LONG).start()) {
+            assertThatThrownBy(() -> monitor.getLoadAverage(Measure.QUEUE))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link RandomInputStream}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+class RandomInputStreamTest {
+
+    @Test
+    void testSingleByteReads() throws IOException {
+        try (final var in = new RandomInputStream(3)) {
+            for (var i = 0; i < 3; i++) {
+                assertThat(in.read()).isBetween(0, 255);
+            }
+            assertThat(in.read()).isEqualTo(-1);
+            assertThat(in.read()).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    void testBulkReads() throws IOException {
+        try (final var in = new RandomInputStream(10)) {
+            final var buffer = new byte[8];
+            assertThat(in.read(buffer, 2, 4)).isEqualTo(4);
+            // only the requested range is filled
+            assertThat(buffer).startsWith(0, 0).endsWith(0, 0);
+            assertThat(in.read(buffer, 2, 2)).isEqualTo(2);
+            assertThat(in.available()).isEqualTo(4);
+            assertThat(in.read(buffer)).isEqualTo(4);
+            assertThat(in.read(buffer, 0, 0)).isZero();
+            assertThat(in.read(buffer)).isEqualTo(-1);
+            assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> in.read(buffer, 4, 5));
+        }
+    }
+
+    @Test
+    void testTransferAndSkip() throws IOException {
+        try (final var in = new RandomInputStream(1 << 20)) {
+            assertThat(in.skip(1000)).isEqualTo(1000);
+            assertThat(in.transferTo(OutputStream.nullOutputStream())).isEqualTo((1 << 20) - 1000);
+            assertThat(in.skip(1)).isZero();
+        }
+    }
+}
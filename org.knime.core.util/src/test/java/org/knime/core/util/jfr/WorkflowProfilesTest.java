@@ -0,0 +1,163 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.core.util.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.knime.core.node.config.base.SimpleConfig;
+import org.knime.core.node.config.base.XMLConfig;
+import org.knime.core.util.crypto.Encrypter;
+import org.knime.core.util.workflowalizer.Workflowalizer;
+
+import jdk.jfr.Recording;
+
+/**
+ * Tests the instrumentation with JFR events and their aggregation by {@link WorkflowProfiles}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+class WorkflowProfilesTest {
+
+    private static final List<String> EVENT_NAMES = List.of(ConfigIOEvent.NAME, WorkflowLoadEvent.NAME,
+        NodeLoadEvent.NAME, WorkflowReadEvent.NAME, WorkflowExportEvent.NAME, CryptoEvent.NAME);
+
+    /**
+     * Nested workflows and nodes are accounted to the top-level workflow, events without a path to the enclosing
+     * workflow on the same thread.
+     */
+    @Test
+    void testAggregate(@TempDir final Path tempDir) throws Exception {
+        final var workflow = tempDir.resolve("Workflow");
+        final var metanode = workflow.resolve("Metanode (3)");
+        final var config = new SimpleConfig("workflow.knime");
+        config.addString("name", "Workflow");
+        final var xml = new ByteArrayOutputStream();
+        final var recordingFile = tempDir.resolve("recording.jfr");
+        final var notAWorkflow = Files.createDirectories(tempDir.resolve("Not a workflow"));
+
+        try (var recording = new Recording()) {
+            EVENT_NAMES.forEach(name -> recording.enable(name).withThreshold(Duration.ZERO));
+            recording.start();
+
+            final var workflowEvent = new WorkflowLoadEvent();
+            workflowEvent.begin();
+            XMLConfig.save(config, xml);
+            final var metanodeEvent = new WorkflowLoadEvent();
+            metanodeEvent.begin();
+            final var nodeEvent = new NodeLoadEvent();
+            nodeEvent.begin();
+            new Encrypter("secret").encrypt("password");
+            nodeEvent.commit(metanode.resolve("Node (1)").toString(), "NATIVENODE", metanode.toString(), true);
+            metanodeEvent.commit(metanode.toString(), 1, "5.3.0", true);
+            workflowEvent.commit(workflow.toString(), 2, "5.3.0", true);
+
+            // failed operations are recorded as well
+            assertThatThrownBy(() -> Workflowalizer.readWorkflow(notAWorkflow))
+                .isInstanceOf(IllegalArgumentException.class);
+
+            // outside of any workflow event
+            XMLConfig.load(new SimpleConfig("other"), new ByteArrayInputStream(xml.toByteArray()));
+
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        final var profiles = WorkflowProfiles.aggregate(recordingFile);
+        assertThat(profiles).containsOnlyKeys(workflow.toString(), notAWorkflow.toAbsolutePath().toString(),
+            WorkflowProfiles.UNKNOWN_WORKFLOW);
+
+        final var profile = profiles.get(workflow.toString());
+        assertThat(profile.get(WorkflowLoadEvent.NAME).count()).isEqualTo(2);
+        assertThat(profile.get(WorkflowLoadEvent.NAME).nodes()).isEqualTo(3);
+        assertThat(profile.get(WorkflowLoadEvent.NAME).failures()).isZero();
+        assertThat(profile.get(NodeLoadEvent.NAME).count()).isEqualTo(1);
+        assertThat(profile.get(CryptoEvent.NAME).count()).isEqualTo(1);
+        assertThat(profile.get(CryptoEvent.NAME).bytes()).isEqualTo("password".length());
+        assertThat(profile.get(ConfigIOEvent.NAME).count()).isEqualTo(1);
+        assertThat(profile.get(ConfigIOEvent.NAME).bytes()).isEqualTo(xml.size());
+        assertThat(profile.get(WorkflowExportEvent.NAME).count()).isZero();
+
+        final var failed = profiles.get(notAWorkflow.toAbsolutePath().toString()).get(WorkflowReadEvent.NAME);
+        assertThat(failed.count()).isEqualTo(1);
+        assertThat(failed.failures()).isEqualTo(1);
+
+        final var unknown = profiles.get(WorkflowProfiles.UNKNOWN_WORKFLOW);
+        assertThat(unknown.events()).containsOnlyKeys(ConfigIOEvent.NAME);
+        assertThat(unknown.get(ConfigIOEvent.NAME).bytes()).isEqualTo(xml.size());
+    }
+
+    /**
+     * Without a recording, instrumented code works as before and events are not committed.
+     */
+    @Test
+    void testDisabled() throws Exception {
+        final var event = new ConfigIOEvent();
+        event.begin();
+        assertThat(event.isEnabled()).isFalse();
+        event.commit(ConfigIOEvent.LOAD, "key", 1);
+
+        final var xml = new ByteArrayOutputStream();
+        final var config = new SimpleConfig("root");
+        config.addInt("answer", 42);
+        XMLConfig.save(config, xml);
+        final var loaded = new SimpleConfig("root");
+        XMLConfig.load(loaded, new ByteArrayInputStream(xml.toByteArray()));
+        assertThat(loaded.getInt("answer")).isEqualTo(42);
+    }
+}
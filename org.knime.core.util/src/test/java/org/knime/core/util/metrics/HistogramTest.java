@@ -0,0 +1,116 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.core.util.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link Histogram}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+class HistogramTest {
+
+    /**
+     * Percentiles of a uniform distribution are accurate to within 1%, independent of the magnitude.
+     */
+    @Test
+    void testPercentiles() {
+        for (final var scale : new double[]{1e-3, 1, 1e6}) {
+            final var histogram = new Histogram();
+            IntStream.rangeClosed(1, 1000).parallel().forEach(i -> histogram.record(i * scale));
+            assertThat(histogram.getTotalCount()).isEqualTo(1000);
+            assertThat(histogram.getValueAtPercentile(50)).isCloseTo(500 * scale, within(5 * scale));
+            assertThat(histogram.getValueAtPercentile(99)).isCloseTo(990 * scale, within(9.9 * scale));
+            assertThat(histogram.getValueAtPercentile(100)).isCloseTo(1000 * scale, within(10 * scale));
+            assertThat(histogram.getValueAtPercentile(0)).isCloseTo(scale, within(0.01 * scale));
+        }
+    }
+
+    /**
+     * Values out of range are clamped, {@code NaN}s are ignored.
+     */
+    @Test
+    void testOutOfRange() {
+        final var histogram = new Histogram();
+        assertThat(histogram.getValueAtPercentile(50)).isNaN();
+        histogram.record(Double.NaN);
+        assertThat(histogram.getTotalCount()).isZero();
+        histogram.record(-1);
+        histogram.record(0);
+        assertThat(histogram.getValueAtPercentile(100)).isZero();
+        histogram.record(Double.POSITIVE_INFINITY);
+        assertThat(histogram.getValueAtPercentile(100)).isGreaterThan(Math.scalb(1.0, Histogram.MAX_EXPONENT));
+        histogram.reset();
+        assertThat(histogram.getTotalCount()).isZero();
+        assertThatThrownBy(() -> histogram.getValueAtPercentile(101)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Bucket indices are monotonic in the value and the representative value lies within its bucket.
+     */
+    @Test
+    void testBuckets() {
+        var previous = 0;
+        for (var value = 1e-9; value < 1e13; value *= 1.001) {
+            final var index = Histogram.indexOf(value);
+            assertThat(index).isGreaterThanOrEqualTo(previous);
+            if (index > 0 && value < Math.scalb(2.0, Histogram.MAX_EXPONENT)) {
+                assertThat(Histogram.valueOf(index)).isCloseTo(value, within(value / 64));
+            }
+            previous = index;
+        }
+    }
+}
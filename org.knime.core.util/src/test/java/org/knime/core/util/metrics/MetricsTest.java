@@ -0,0 +1,138 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.core.util.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+
+import javax.management.JMException;
+import javax.management.MBeanServerFactory;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link Metrics} and the {@link JmxMetricsExporter}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+class MetricsTest {
+
+    private static final class MapExporter implements MetricsExporter {
+
+        private final Map<MetricId, DoubleSupplier> m_gauges = new ConcurrentHashMap<>();
+
+        @Override
+        public void registerGauge(final MetricId id, final DoubleSupplier value) {
+            // ignore gauges of global components (e.g. the shared timer) registered by other tests in this JVM
+            if (id.name().startsWith("knime.test.")) {
+                m_gauges.put(id, value);
+            }
+        }
+
+        @Override
+        public void unregisterGauge(final MetricId id) {
+            m_gauges.remove(id);
+        }
+    }
+
+    /**
+     * Exporters receive gauges registered before and after they were added, until the gauge is closed.
+     */
+    @Test
+    void testExporters() {
+        final var exporter = new MapExporter();
+        final var before = MetricId.of("knime.test.gauge", "b", "2", "a", "1");
+        final var after = MetricId.of("knime.test.gauge", "a", "1", "b", "3");
+        try (var registration = Metrics.registerGauge(before, () -> 1.0)) {
+            assertThatThrownBy(() -> Metrics.registerGauge(before, () -> 2.0))
+                .isInstanceOf(IllegalArgumentException.class);
+            Metrics.addExporter(exporter);
+            try (var registration2 = Metrics.registerGauge(after, () -> 2.0)) {
+                assertThat(exporter.m_gauges).containsOnlyKeys(before, after);
+                assertThat(exporter.m_gauges.get(before).getAsDouble()).isEqualTo(1.0);
+                assertThat(Metrics.getRegisteredGauges()).contains(before, after);
+            }
+            assertThat(exporter.m_gauges).containsOnlyKeys(before);
+        } finally {
+            Metrics.removeExporter(exporter);
+        }
+        assertThat(exporter.m_gauges).isEmpty();
+        assertThat(Metrics.getRegisteredGauges()).doesNotContain(before, after);
+    }
+
+    /**
+     * Tags are sorted and validated.
+     */
+    @Test
+    void testMetricId() {
+        assertThat(MetricId.of("n", "b", "2", "a", "1").tags().keySet()).containsExactly("a", "b");
+        assertThatThrownBy(() -> MetricId.of("n", "a")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MetricId.of(" ")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Gauges are published as MBeans with a {@code Value} attribute.
+     */
+    @Test
+    void testJmxExporter() throws JMException {
+        final var server = MBeanServerFactory.newMBeanServer();
+        final var exporter = new JmxMetricsExporter(server);
+        final var id = MetricId.of("knime.test.gauge", "measure", "cpu, \"total\"");
+        exporter.registerGauge(id, () -> 42.0);
+        final var name = JmxMetricsExporter.toObjectName(id);
+        assertThat(name.getDomain()).isEqualTo(JmxMetricsExporter.DOMAIN);
+        assertThat(server.getAttribute(name, "Value")).isEqualTo(42.0);
+        exporter.unregisterGauge(id);
+        assertThat(server.isRegistered(name)).isFalse();
+    }
+}
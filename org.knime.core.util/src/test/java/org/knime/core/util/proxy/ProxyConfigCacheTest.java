@@ -0,0 +1,124 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.core.util.proxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.knime.core.util.proxy.search.GlobalProxyTestContext;
+
+/**
+ * Tests for {@link ProxyConfigCache}, which holds the shared clients of the {@link URLConnectionFactory} and of the
+ * OkHttp fragment.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+class ProxyConfigCacheTest {
+
+    private static final URI HUB = URI.create("https://hub.example.com/");
+
+    private static final URI INTERNAL = URI.create("https://internal.example.com/");
+
+    private static GlobalProxyConfig config(final String host, final String excludedHosts) {
+        return new GlobalProxyConfig(ProxyProtocol.HTTPS, host, "3128", false, null, null, excludedHosts != null,
+            excludedHosts);
+    }
+
+    /**
+     * Targets using the same proxy share a value, different proxies and direct connections (also for excluded hosts)
+     * get separate ones.
+     */
+    @Test
+    void testSharingAndSeparation() throws IOException {
+        final var cache = new ProxyConfigCache<Object>(16);
+        final var testContext = new GlobalProxyTestContext();
+        final var values = new Object[3];
+        testContext.withEmpty(() -> {
+            assertThat(ProxyConfigCache.getProxyConfig(HUB)).isEmpty();
+            values[0] = cache.get(ProxyConfigCache.getProxyConfig(HUB), cfg -> new Object());
+        });
+        testContext.withConfig(config("proxy.example.com", "internal.example.com"), () -> {
+            values[1] = cache.get(ProxyConfigCache.getProxyConfig(HUB), cfg -> {
+                assertThat(cfg).hasValueSatisfying(c -> assertThat(c.useExcludedHosts()).isFalse());
+                return new Object();
+            });
+            assertThat(values[1]).isNotSameAs(values[0]);
+            assertThat(cache.get(ProxyConfigCache.getProxyConfig(URI.create("https://other.example.com/a")),
+                cfg -> new Object())).isSameAs(values[1]);
+            // excluded from the proxy, connects directly
+            assertThat(ProxyConfigCache.getProxyConfig(INTERNAL)).isEmpty();
+            assertThat(cache.get(ProxyConfigCache.getProxyConfig(INTERNAL), cfg -> new Object())).isSameAs(values[0]);
+        });
+        testContext.withConfig(config("proxy.example.com", "other.example.com"), () -> assertThat(
+            cache.get(ProxyConfigCache.getProxyConfig(INTERNAL), cfg -> new Object())).isSameAs(values[1]));
+        testContext.withConfig(config("other-proxy.example.com", null), () -> {
+            values[2] = cache.get(ProxyConfigCache.getProxyConfig(HUB), cfg -> new Object());
+            assertThat(values[2]).isNotSameAs(values[0]).isNotSameAs(values[1]);
+        });
+        assertThat(cache.values()).containsExactly(values[0], values[1], values[2]);
+    }
+
+    /**
+     * Only the most recently used values are kept.
+     */
+    @Test
+    void testBounded() {
+        final var cache = new ProxyConfigCache<String>(2);
+        final var direct = cache.get(Optional.empty(), cfg -> "direct");
+        cache.get(Optional.of(config("a.example.com", null)), cfg -> "a");
+        assertThat(cache.get(Optional.empty(), cfg -> "other")).isSameAs(direct);
+        cache.get(Optional.of(config("b.example.com", null)), cfg -> "b");
+        assertThat(cache.values()).containsExactly("direct", "b");
+        assertThat(cache.get(Optional.of(config("a.example.com", null)), cfg -> "new a")).isEqualTo("new a");
+    }
+}
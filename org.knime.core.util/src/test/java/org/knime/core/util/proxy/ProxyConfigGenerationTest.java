@@ -0,0 +1,288 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.core.util.proxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+import org.apache.http.HttpException;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpVersion;
+import org.apache.http.auth.AuthState;
+import org.apache.http.auth.BasicUserPrincipal;
+import org.apache.http.auth.UsernamePasswordCredentials;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.impl.DefaultBHttpClientConnection;
+import org.apache.http.impl.auth.BasicScheme;
+import org.apache.http.message.BasicHttpRequest;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.protocol.HttpCoreContext;
+import org.junit.jupiter.api.Test;
+import org.knime.core.util.proxy.apache.ProxyConnectionReuseStrategy;
+import org.knime.core.util.proxy.apache.ProxyHttpRoutePlanner;
+import org.knime.core.util.proxy.search.GlobalProxyTestContext;
+
+/**
+ * Tests for {@link ProxyConfigGeneration} and the connection reuse strategies based on it.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+class ProxyConfigGenerationTest {
+
+    private static GlobalProxyConfig config(final String host, final String password, final String excludedHosts) {
+        return new GlobalProxyConfig(ProxyProtocol.HTTP, host, "3128", password != null, "user", password,
+            excludedHosts != null, excludedHosts);
+    }
+
+    /**
+     * The generation only changes if the authentication settings of a proxy change.
+     */
+    @Test
+    void testTag() {
+        final var tag = ProxyConfigGeneration.tag(config("generation.proxy", "secret", null));
+        assertThat(tag.isCurrent()).isTrue();
+        assertThat(ProxyConfigGeneration.tag(config("generation.proxy", "secret", "localhost"))).isEqualTo(tag);
+        assertThat(ProxyConfigGeneration.tag(config("other.proxy", null, null))).isNotEqualTo(tag);
+        assertThat(tag.isCurrent()).isTrue();
+
+        final var changed = ProxyConfigGeneration.tag(config("generation.proxy", "changed", null));
+        assertThat(changed).isNotEqualTo(tag);
+        assertThat(changed.isCurrent()).isTrue();
+        assertThat(tag.isCurrent()).isFalse();
+
+        // going back to the previous settings starts yet another generation
+        final var reverted = ProxyConfigGeneration.tag(config("generation.proxy", "secret", null));
+        assertThat(reverted).isNotEqualTo(tag).isNotEqualTo(changed);
+        assertThat(changed.isCurrent()).isFalse();
+    }
+
+    /**
+     * The credentials are not retained in plain text.
+     */
+    @Test
+    void testCredentialsNotRetained() throws ReflectiveOperationException {
+        ProxyConfigGeneration.tag(config("digest.proxy", "plaintext-password", null));
+        final var generations = ProxyConfigGeneration.class.getDeclaredField("GENERATIONS");
+        generations.setAccessible(true);
+        assertThat(generations.get(null).toString()).contains("digest.proxy").doesNotContain("plaintext-password");
+    }
+
+    /**
+     * Listeners are notified when a generation is replaced, but not for the first one or unchanged ones.
+     */
+    @Test
+    void testListener() {
+        final var notified = new ArrayList<ProxyConfigGeneration.Tag>();
+        ProxyConfigGeneration.addListener(t -> {
+            if (t.host().equals("listener.proxy")) {
+                notified.add(t);
+            }
+        });
+        ProxyConfigGeneration.tag(config("listener.proxy", "secret", null));
+        ProxyConfigGeneration.tag(config("listener.proxy", "secret", null));
+        assertThat(notified).isEmpty();
+        final var changed = ProxyConfigGeneration.tag(config("listener.proxy", "changed", null));
+        assertThat(notified).containsExactly(changed);
+    }
+
+    private static HttpClientContext routeHC4(final HttpClientContext context, final String proxyHost)
+        throws IOException {
+        final var target = new HttpHost("www.knime.com", 443, "https");
+        try {
+            final var route =
+                ProxyHttpRoutePlanner.INSTANCE.determineRoute(target, new BasicHttpRequest("GET", "/"), context);
+            assertThat(route.getProxyHost().getHostName()).isEqualTo(proxyHost);
+            context.setAttribute(HttpClientContext.HTTP_ROUTE, route);
+            return context;
+        } catch (HttpException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private static HttpClientContext routeHC4(final String proxyHost) throws IOException {
+        return routeHC4(HttpClientContext.create(), proxyHost);
+    }
+
+    private static boolean keepAliveHC4(final HttpClientContext context) {
+        final var response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+        response.setHeader("Content-Length", "0");
+        // the connection the response has been received on, an unbound one is never bound to a principal
+        context.setAttribute(HttpCoreContext.HTTP_CONNECTION, new DefaultBHttpClientConnection(1024));
+        return ProxyConnectionReuseStrategy.INSTANCE.keepAlive(response, context);
+    }
+
+    /**
+     * Connections to a proxy are kept alive (Apache HttpClient 4) while its configuration is unchanged.
+     */
+    @Test
+    void testReuseStrategyHC4() throws IOException {
+        final var testContext = new GlobalProxyTestContext();
+        final HttpClientContext[] contexts = new HttpClientContext[2];
+        testContext.withConfig(config("hc4.proxy", "secret", null), () -> {
+            contexts[0] = routeHC4("hc4.proxy");
+            assertThat(contexts[0].getUserToken()).isInstanceOf(ProxyConfigGeneration.Tag.class);
+            assertThat(keepAliveHC4(contexts[0])).isTrue();
+            // the next request leases the connection with the same tag
+            assertThat(routeHC4("hc4.proxy").getUserToken()).isEqualTo(contexts[0].getUserToken());
+        });
+        testContext.withConfig(config("hc4.proxy", "changed", null), () -> {
+            contexts[1] = routeHC4("hc4.proxy");
+            assertThat(contexts[1].getUserToken()).isNotEqualTo(contexts[0].getUserToken());
+            assertThat(keepAliveHC4(contexts[0])).isFalse();
+            assertThat(keepAliveHC4(contexts[1])).isTrue();
+        });
+
+        // user tokens of the caller are not replaced, the connection is not kept alive then
+        testContext.withConfig(config("hc4.proxy", "changed", null), () -> {
+            final var context = HttpClientContext.create();
+            context.setUserToken("caller");
+            routeHC4(context, "hc4.proxy");
+            assertThat(context.getUserToken()).isEqualTo("caller");
+            assertThat(keepAliveHC4(context)).isFalse();
+        });
+    }
+
+    /**
+     * A connection bound to a principal (e.g. after NTLM authentication) is not reused by other contexts, so the
+     * principal is combined with the tag.
+     */
+    @Test
+    void testPrincipalHC4() throws IOException {
+        new GlobalProxyTestContext().withConfig(config("principal.proxy", "secret", null), () -> {
+            final var context = routeHC4("principal.proxy");
+            final var untagged = (ProxyConfigGeneration.Tag)context.getUserToken();
+            final var authState = new AuthState();
+            authState.update(new BasicScheme() {
+                @Override
+                public boolean isConnectionBased() {
+                    return true;
+                }
+
+                @Override
+                public boolean isComplete() {
+                    return true;
+                }
+            }, new UsernamePasswordCredentials("ntlm-user", "password"));
+            context.setAttribute(HttpClientContext.TARGET_AUTH_STATE, authState);
+            // the pooled connection would only be tagged without the principal
+            assertThat(keepAliveHC4(context)).isFalse();
+            final var tag = (ProxyConfigGeneration.Tag)context.getUserToken();
+            assertThat(tag.principal()).isEqualTo(new BasicUserPrincipal("ntlm-user"));
+            assertThat(tag.withPrincipal(null)).isEqualTo(untagged);
+
+            // further requests with the same context carry the principal, other contexts don't
+            routeHC4(context, "principal.proxy");
+            assertThat(context.getUserToken()).isEqualTo(tag);
+            assertThat(keepAliveHC4(context)).isTrue();
+            assertThat(routeHC4("principal.proxy").getUserToken()).isEqualTo(untagged);
+        });
+    }
+
+    private static org.apache.hc.client5.http.protocol.HttpClientContext routeHC5(
+        final org.apache.hc.client5.http.protocol.HttpClientContext context, final String proxyHost)
+        throws IOException {
+        final var target = new org.apache.hc.core5.http.HttpHost("https", "www.knime.com", 443);
+        try {
+            final var route =
+                org.knime.core.util.proxy.apache5.ProxyHttpRoutePlanner.INSTANCE.determineRoute(target, context);
+            if (proxyHost == null) {
+                assertThat(route.getProxyHost()).isNull();
+            } else {
+                assertThat(route.getProxyHost().getHostName()).isEqualTo(proxyHost);
+            }
+            context.setRoute(route);
+            return context;
+        } catch (org.apache.hc.core5.http.HttpException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private static org.apache.hc.client5.http.protocol.HttpClientContext routeHC5(final String proxyHost)
+        throws IOException {
+        return routeHC5(org.apache.hc.client5.http.protocol.HttpClientContext.create(), proxyHost);
+    }
+
+    private static boolean keepAliveHC5(final org.apache.hc.client5.http.protocol.HttpClientContext context) {
+        final var request = new org.apache.hc.core5.http.message.BasicClassicHttpRequest("GET",
+            new org.apache.hc.core5.http.HttpHost("https", "www.knime.com", 443), "/");
+        final var response = new org.apache.hc.core5.http.message.BasicClassicHttpResponse(200, "OK");
+        response.setHeader("Content-Length", "0");
+        return org.knime.core.util.proxy.apache5.ProxyConnectionReuseStrategy.INSTANCE.keepAlive(request, response,
+            context);
+    }
+
+    /**
+     * Connections to a proxy are kept alive (Apache HttpClient 5) while its configuration is unchanged, and direct
+     * connections are not tagged.
+     */
+    @Test
+    void testReuseStrategyHC5() throws IOException {
+        final var testContext = new GlobalProxyTestContext();
+        final var contexts = new org.apache.hc.client5.http.protocol.HttpClientContext[2];
+        testContext.withConfig(config("hc5.proxy", null, null), () -> {
+            contexts[0] = routeHC5("hc5.proxy");
+            assertThat(contexts[0].getUserToken()).isInstanceOf(ProxyConfigGeneration.Tag.class);
+            assertThat(keepAliveHC5(contexts[0])).isTrue();
+        });
+        testContext.withConfig(config("hc5.proxy", "secret", null), () -> {
+            contexts[1] = routeHC5("hc5.proxy");
+            assertThat(keepAliveHC5(contexts[0])).isFalse();
+            assertThat(keepAliveHC5(contexts[1])).isTrue();
+        });
+        testContext.withEmpty(() -> {
+            final var context = org.apache.hc.client5.http.protocol.HttpClientContext.create();
+            context.setUserToken(contexts[1].getUserToken());
+            routeHC5(context, null);
+            assertThat(context.getUserToken()).isNull();
+            assertThat(keepAliveHC5(context)).isTrue();
+        });
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.core.util.proxy.apache5;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.NoSuchAlgorithmException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.net.ssl.SSLContext;
+
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.junit.jupiter.api.Test;
+import org.knime.core.util.proxy.GlobalProxyConfig;
+import org.knime.core.util.proxy.ProxyProtocol;
+import org.knime.core.util.proxy.search.GlobalProxyTestContext;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Tests the shared clients of {@link ProxyHttpClients}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+class ProxyHttpClientsTest {
+
+    /**
+     * Clients are shared per origin and SSL context, and are not referenced anymore once the last reference is
+     * released.
+     */
+    @Test
+    void testSharedClientReferences() throws IOException, NoSuchAlgorithmException {
+        final var sslContext = SSLContext.getInstance("TLS");
+        new GlobalProxyTestContext().withEmpty(() -> {
+            final var count = ProxyHttpClients.getSharedClientCount();
+            final var a = ProxyHttpClients.acquireShared(URI.create("https://hub.example.com/a"));
+            final var b = ProxyHttpClients.acquireShared(URI.create("https://hub.example.com:443/b?c=d"));
+            assertThat(ProxyHttpClients.getSharedClientCount()).isEqualTo(count + 1);
+            final var c = ProxyHttpClients.acquireShared(URI.create("https://hub.example.com/"), sslContext);
+            final var d = ProxyHttpClients.acquireShared(URI.create("https://other.example.com/"));
+            assertThat(ProxyHttpClients.getSharedClientCount()).isEqualTo(count + 3);
+
+            a.close();
+            a.close(); // releasing a reference twice has no effect
+            assertThat(ProxyHttpClients.getSharedClientCount()).isEqualTo(count + 3);
+            assertThatThrownBy(() -> a.execute(new HttpGet("https://hub.example.com/a"), r -> null))
+                .isInstanceOf(IllegalStateException.class);
+            b.close();
+            c.close();
+            d.close();
+            assertThat(ProxyHttpClients.getSharedClientCount()).isEqualTo(count);
+        });
+    }
+
+    /**
+     * Clients are shared per generation of the proxy configuration, which is all the registry retains of the proxy
+     * credentials.
+     */
+    @Test
+    void testSharedClientProxyCredentialsNotRetained() throws IOException, ReflectiveOperationException {
+        final var uri = URI.create("https://hub.example.com/");
+        final var testContext = new GlobalProxyTestContext();
+        final var entries = SharedHttpClientRegistry.class.getDeclaredField("ENTRIES");
+        entries.setAccessible(true);
+        testContext.withConfig(config("registry-password"), () -> {
+            final var count = ProxyHttpClients.getSharedClientCount();
+            try (var a = ProxyHttpClients.acquireShared(uri); var b = ProxyHttpClients.acquireShared(uri)) {
+                assertThat(ProxyHttpClients.getSharedClientCount()).isEqualTo(count + 1);
+                try {
+                    assertThat(entries.get(null).toString()).contains("registry.proxy")
+                        .doesNotContain("registry-password");
+                } catch (IllegalAccessException e) {
+                    throw new IOException(e);
+                }
+            }
+        });
+        testContext.withConfig(config("registry-password"), () -> {
+            try (var a = ProxyHttpClients.acquireShared(uri)) {
+                final var count = ProxyHttpClients.getSharedClientCount();
+                testContext.withConfig(config("changed-password"), () -> {
+                    try (var b = ProxyHttpClients.acquireShared(uri)) {
+                        assertThat(ProxyHttpClients.getSharedClientCount()).isEqualTo(count + 1);
+                    }
+                });
+            }
+        });
+    }
+
+    private static GlobalProxyConfig config(final String password) {
+        return new GlobalProxyConfig(ProxyProtocol.HTTP, "registry.proxy", "3128", true, "user", password, false, null);
+    }
+
+    /**
+     * Connections of a shared client are pooled and reused across references.
+     */
+    @Test
+    void testSharedClientPooling() throws IOException {
+        final var server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            final var body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (var out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        try {
+            final var uri = URI.create("http://localhost:" + server.getAddress().getPort() + "/");
+            new GlobalProxyTestContext().withEmpty(() -> {
+                final var availableBefore = ProxyHttpClients.getSharedPoolStats().getAvailable();
+                try (var first = ProxyHttpClients.acquireShared(uri);
+                        var second = ProxyHttpClients.acquireShared(uri)) {
+                    for (var i = 0; i < 3; i++) {
+                        final var client = i % 2 == 0 ? first : second;
+                        final String body = client.execute(new HttpGet(uri), r -> EntityUtils.toString(r.getEntity()));
+                        assertThat(body).isEqualTo("ok");
+                    }
+                    final var stats = ProxyHttpClients.getSharedPoolStats();
+                    assertThat(stats.getLeased()).isZero();
+                    assertThat(stats.getAvailable()).isEqualTo(availableBefore + 1);
+                    assertThat(stats.getMax()).isEqualTo(ProxyHttpClients.DEFAULT_SHARED_MAX_CONNECTIONS_TOTAL);
+                }
+            });
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    /**
+     * Connections are reused by callers that acquire and close a shared client per request, since the client is kept
+     * open for the linger time after its last reference has been released.
+     */
+    @Test
+    void testSharedClientLinger() throws IOException {
+        final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+        final var server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            final var body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (var out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        try {
+            final var uri = URI.create("http://localhost:" + server.getAddress().getPort() + "/");
+            new GlobalProxyTestContext().withEmpty(() -> {
+                final var count = ProxyHttpClients.getSharedClientCount();
+                for (var i = 0; i < 3; i++) {
+                    try (var client = ProxyHttpClients.acquireShared(uri)) {
+                        final String body = client.execute(new HttpGet(uri), r -> EntityUtils.toString(r.getEntity()));
+                        assertThat(body).isEqualTo("ok");
+                    }
+                    assertThat(ProxyHttpClients.getSharedClientCount()).isEqualTo(count);
+                }
+            });
+            assertThat(clientPorts).as("Connections used by the requests").hasSize(1);
+        } finally {
+            server.stop(0);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.core.util.workflow.def;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link PersistentList} and {@link PersistentMap} against their mutable JDK counterparts.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@SuppressWarnings("static-method")
+class PersistentCollectionsTest {
+
+    @Test
+    void testListAppendAndReplace() {
+        final var expected = new ArrayList<Integer>();
+        var list = PersistentList.<Integer> of();
+        for (var i = 0; i < 40_000; i++) {
+            list = list.plus(i);
+            expected.add(i);
+        }
+        assertEquals(expected, list, "appended elements");
+
+        final var before = list;
+        final var random = new Random(42);
+        for (var i = 0; i < 1_000; i++) {
+            final var index = random.nextInt(expected.size());
+            list = list.with(index, -index);
+            expected.set(index, -index);
+        }
+        assertEquals(expected, list, "replaced elements");
+        assertEquals(5, before.get(5), "previous version must not change");
+        assertEquals(39_999, before.get(39_999), "previous version must not change");
+    }
+
+    @Test
+    void testListPlusAll() {
+        final var expected = new ArrayList<String>();
+        var list = PersistentList.<String> of();
+        for (var chunk : new int[]{1, 31, 32, 33, 1024, 1057, 5}) {
+            final var elements = new ArrayList<String>();
+            for (var i = 0; i < chunk; i++) {
+                elements.add(expected.size() + i + "");
+            }
+            expected.addAll(elements);
+            list = list.plusAll(elements);
+            assertEquals(expected, list, "after adding " + chunk + " elements");
+        }
+        assertSame(list, PersistentList.copyOf(list), "no copy of persistent list");
+        assertSame(list, list.plusAll(List.of()), "adding nothing");
+        assertEquals(List.of(), PersistentList.copyOf(null), "null is treated as empty");
+    }
+
+    @Test
+    void testListIsImmutable() {
+        final var list = PersistentList.copyOf(List.of("a", "b"));
+        assertThrows(UnsupportedOperationException.class, () -> list.add("c"));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, "c"));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.with(-1, "c"));
+    }
+
+    @Test
+    void testMapAgainstLinkedHashMap() {
+        final var expected = new LinkedHashMap<String, Integer>();
+        var map = PersistentMap.<String, Integer> of();
+        final var random = new Random(7);
+        for (var i = 0; i < 50_000; i++) {
+            final var key = "node_" + random.nextInt(10_000);
+            switch (random.nextInt(4)) {
+                case 0 -> {
+                    map = map.minus(key);
+                    expected.remove(key);
+                }
+                default -> {
+                    map = map.plus(key, i);
+                    expected.put(key, i);
+                }
+            }
+        }
+        assertEquals(expected.size(), map.size(), "size");
+        assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(map.keySet()), "iteration order");
+        assertEquals(expected, map, "mappings");
+        assertEquals(expected.hashCode(), map.hashCode(), "hash code");
+    }
+
+    @Test
+    void testMapVersionsAreIndependent() {
+        var map = PersistentMap.<String, String> of();
+        for (var i = 0; i < 5_000; i++) {
+            map = map.plus(Integer.toString(i), "v" + i);
+        }
+        final var edited = map.plus("17", "replaced").minus("42");
+        assertEquals("v17", map.get("17"), "original unchanged");
+        assertTrue(map.containsKey("42"), "original unchanged");
+        assertEquals("replaced", edited.get("17"), "edited value");
+        assertFalse(edited.containsKey("42"), "removed key");
+        assertEquals("17", new ArrayList<>(edited.keySet()).get(17), "replacing keeps the position");
+        assertSame(edited, edited.minus("does not exist"), "removing absent key");
+        assertThrows(UnsupportedOperationException.class, () -> edited.put("a", "b"));
+        assertThrows(UnsupportedOperationException.class, () -> edited.remove("17"));
+    }
+
+    @Test
+    void testMapWithCollidingHashes() {
+        // "Aa" and "BB" have the same hash code
+        final var map =
+            PersistentMap.<String, Integer> of().plus("Aa", 1).plus("BB", 2).plus("AaAa", 3).plus("BBBB", 4);
+        assertEquals(1, map.get("Aa"));
+        assertEquals(2, map.get("BB"));
+        assertEquals(4, map.get("BBBB"));
+        final var removed = map.minus("Aa");
+        assertNull(removed.get("Aa"));
+        assertEquals(2, removed.get("BB"));
+        assertEquals(3, removed.size());
+        assertEquals(4, PersistentMap.copyOf(map).size(), "copy of persistent map");
+    }
+
+    @Test
+    void testListDifferences() {
+        var list = PersistentList.<String> of();
+        for (var i = 0; i < 5_000; i++) {
+            list = list.plus("e" + i);
+        }
+        final var edited = list.with(3, "x").with(1234, "y").with(4_999, "z").plus("appended");
+        final var differences = new ArrayList<Integer>();
+        list.forEachDifference(edited, differences::add);
+        assertEquals(List.of(3, 1234, 4_999, 5_000), differences, "differing positions");
+
+        // same content, different instances
+        final var copy = PersistentList.copyOf(new ArrayList<>(list));
+        assertEquals(list, copy, "equal content");
+        assertEquals(list.hashCode(), copy.hashCode(), "hash code");
+        assertFalse(list.equals(list.with(17, "e17 ")), "one differing element");
+    }
+
+    @Test
+    void testMapDifferences() {
+        var map = PersistentMap.<String, Integer> of();
+        for (var i = 0; i < 5_000; i++) {
+            map = map.plus("k" + i, i);
+        }
+        final var edited = map.plus("k7", -7).minus("k42").plus("new", 1).minus("k99").plus("k99", 99);
+        final var differences = new TreeSet<String>();
+        map.forEachDifference(edited, differences::add);
+        // k99 was removed and added with an identical value, i.e., is not reported
+        assertEquals(new TreeSet<>(List.of("k7", "k42", "new")), differences, "differing keys");
+
+        final var copy = PersistentMap.copyOf(new LinkedHashMap<>(map));
+        assertEquals(map, copy, "equal content");
+        assertFalse(map.equals(edited), "different content");
+        assertEquals(edited, map.plus("k7", -7).minus("k42").plus("new", 1), "equal content, different order");
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.core.util.workflowalizer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.knime.core.util.workflowalizer.RepositoryIndex.Field;
+
+/**
+ * Tests for {@link RepositoryIndex}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+class RepositoryIndexTest extends AbstractWorkflowalizerTest {
+
+    /**
+     * Items can be added, updated, and removed; the postings always correspond to the terms of the items.
+     */
+    @Test
+    void testPutAndRemove(@TempDir final Path tempDir) throws Exception {
+        try (InputStream is = getResourceAsStream("/Testing_nodes_wkfl.knwf")) {
+            unzip(is, tempDir);
+        }
+        try (InputStream is = getResourceAsStream("/Component-No-Port-Text.knwf")) {
+            unzip(is, tempDir);
+        }
+        final var workflow = Workflowalizer.readWorkflow(tempDir.resolve("Testing_nodes_wkfl"),
+            RepositoryIndex.INDEX_CONFIGURATION);
+        final var expectedFactoryIds = RepositoryIndex.extractTerms(workflow).get(Field.NODE_FACTORY_ID);
+        assertThat(expectedFactoryIds).isNotEmpty();
+
+        final var index = new RepositoryIndex();
+        index.put("/workflow", workflow);
+        index.put("/component", tempDir.resolve("Component-No-Port-Text"));
+        assertThat(index.getItemIds()).containsExactly("/component", "/workflow");
+        assertThat(index.getTerms("/workflow", Field.NODE_FACTORY_ID)).containsExactlyElementsOf(expectedFactoryIds);
+        for (var factoryId : expectedFactoryIds) {
+            assertThat(index.getItems(Field.NODE_FACTORY_ID, factoryId)).contains("/workflow");
+        }
+        final var componentFactoryIds = index.getTerms("/component", Field.NODE_FACTORY_ID);
+        assertThat(componentFactoryIds).isNotEmpty();
+
+        // flattening doesn't change the terms
+        assertThat(RepositoryIndex.extractTerms(workflow.flatten())).isEqualTo(RepositoryIndex.extractTerms(workflow));
+
+        // updating replaces all terms of the item
+        index.put("/workflow", tempDir.resolve("Component-No-Port-Text"));
+        assertThat(index.getTerms(Field.NODE_FACTORY_ID)).containsExactlyElementsOf(componentFactoryIds);
+        assertThat(index.getItems(Field.NODE_FACTORY_ID, componentFactoryIds.first()))
+            .containsExactly("/component", "/workflow");
+
+        assertThat(index.remove("/workflow")).isTrue();
+        assertThat(index.remove("/workflow")).isFalse();
+        assertThat(index.getItems(Field.NODE_FACTORY_ID, componentFactoryIds.first())).containsExactly("/component");
+        assertThat(index.remove("/component")).isTrue();
+        for (var field : Field.values()) {
+            assertThat(index.getTerms(field)).isEmpty();
+        }
+    }
+
+    /**
+     * Saved indexes are read back with identical postings.
+     */
+    @Test
+    void testSaveAndLoad(@TempDir final Path tempDir) throws Exception {
+        try (InputStream is = getResourceAsStream("/Testing_nodes_wkfl.knwf")) {
+            unzip(is, tempDir);
+        }
+        final var index = new RepositoryIndex();
+        index.put("/a", tempDir.resolve("Testing_nodes_wkfl"));
+        index.put("/b/ü", tempDir.resolve("Testing_nodes_wkfl"));
+        final var file = tempDir.resolve("index.bin");
+        index.save(file);
+        index.save(file);
+
+        final var loaded = RepositoryIndex.load(file);
+        assertThat(loaded.getItemIds()).isEqualTo(index.getItemIds());
+        for (var field : Field.values()) {
+            assertThat(loaded.getTerms(field)).isEqualTo(index.getTerms(field));
+            for (var term : index.getTerms(field)) {
+                assertThat(loaded.getItems(field, term)).isEqualTo(index.getItems(field, term));
+            }
+        }
+
+        assertThrows(IOException.class, () -> RepositoryIndex.readFrom(new ByteArrayInputStream(new byte[8])));
+    }
+
+    /**
+     * Indexes with several items and terms in all fields are read back with identical postings, and exactly the bytes
+     * of the index are consumed from the stream.
+     */
+    @Test
+    void testRoundTripAllFields() throws IOException {
+        final var index = new RepositoryIndex();
+        for (var i = 0; i < 300; i++) {
+            index.put("/items/" + i, Map.of( //
+                Field.NODE_FACTORY_ID, Set.of("org.knime.Factory" + (i % 7), "org.knime.Common"), //
+                Field.TAG, Set.of("tag" + (i % 3)), //
+                Field.CREDENTIAL_NAME, Set.of("credentials" + (i % 5)), //
+                Field.TEMPLATE_LINK, Set.of("knime://Hub/Components/c" + (i % 11))));
+        }
+        index.put("/untagged", Map.of(Field.NODE_FACTORY_ID, Set.of("org.knime.Common")));
+        final var out = new ByteArrayOutputStream();
+        index.writeTo(out);
+        out.write(42);
+
+        final var in = new ByteArrayInputStream(out.toByteArray());
+        final var loaded = RepositoryIndex.readFrom(in);
+        assertThat(in.read()).as("Byte after the index").isEqualTo(42);
+        assertThat(loaded.getItemIds()).hasSize(301).isEqualTo(index.getItemIds());
+        for (var field : Field.values()) {
+            assertThat(loaded.getTerms(field)).isNotEmpty().isEqualTo(index.getTerms(field));
+            for (var term : index.getTerms(field)) {
+                assertThat(loaded.getItems(field, term)).isEqualTo(index.getItems(field, term));
+            }
+        }
+        assertThat(loaded.getItems(Field.NODE_FACTORY_ID, "org.knime.Common")).hasSize(301);
+        assertThat(loaded.getItems(Field.TAG, "tag1")).hasSize(100).contains("/items/1").doesNotContain("/untagged");
+        assertThat(loaded.getTerms("/items/12", Field.TEMPLATE_LINK)).containsExactly("knime://Hub/Components/c1");
+    }
+
+    /**
+     * Corrupt counts are rejected before anything is allocated for them.
+     */
+    @Test
+    void testCorruptCounts() throws IOException {
+        // magic, version, and the largest positive item count
+        final var header = new byte[]{0x4b, 0x52, 0x49, 0x58, 1};
+        final var hugeCount = new byte[]{(byte)0xff, (byte)0xff, (byte)0xff, (byte)0xff, 0x07};
+        final var bytes = new ByteArrayOutputStream();
+        bytes.write(header);
+        bytes.write(hugeCount);
+        final var exception = assertThrows(IOException.class,
+            () -> RepositoryIndex.readFrom(new ByteArrayInputStream(bytes.toByteArray())));
+        assertThat(exception.getMessage()).contains("exceed the limit");
+
+        // one item whose ID is too long
+        bytes.reset();
+        bytes.write(header);
+        bytes.write(1);
+        bytes.write(hugeCount);
+        assertThrows(IOException.class, () -> RepositoryIndex.readFrom(new ByteArrayInputStream(bytes.toByteArray())));
+
+        // one item, but a posting with two items
+        bytes.reset();
+        bytes.write(header);
+        bytes.write(new byte[]{1, 2, '/', 'a'}); // items
+        bytes.write(new byte[]{1, 3, 'T', 'A', 'G'}); // fields
+        bytes.write(new byte[]{1, 1, 't', 2, 1, 1}); // terms and their postings
+        assertThrows(IOException.class, () -> RepositoryIndex.readFrom(new ByteArrayInputStream(bytes.toByteArray())));
+        // ... which is fine with one item
+        final var valid = bytes.toByteArray();
+        valid[valid.length - 3] = 1;
+        assertThat(RepositoryIndex.readFrom(new ByteArrayInputStream(valid)).getItems(Field.TAG, "t"))
+            .containsExactly("/a");
+    }
+}
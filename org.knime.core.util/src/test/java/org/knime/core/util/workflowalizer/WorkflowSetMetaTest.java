@@ -52,9 +52,12 @@
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.isIn;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
 
@@ -68,6 +71,7 @@
 import javax.xml.xpath.XPathFactory;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.knime.core.util.workflowalizer.WorkflowSetMeta.Link;
 import org.w3c.dom.Document;
 import org.xml.sax.SAXException;
@@ -580,6 +584,73 @@ void testDescriptionWithColonsAndReservedWordThenTwoSpaces()
         assertTags(wsm, Optional.of(tags));
     }
 
+    /**
+     * The single pass reader of {@link Workflowalizer#readWorkflowSetMeta(Path)} must read the same values as the
+     * XPath expressions of {@link #readWorkflowSetMeta(String)}.
+     *
+     * @throws Exception
+     */
+    @Test
+    void testWorkflowalizerReadsSameAsXPath() throws Exception {
+        try (var files = Files.list(AbstractWorkflowalizerTest.getResourcePath("/workflowSetMeta"))) {
+            for (final Path file : files.filter(f -> !f.toString().endsWith(".zip")).toList()) {
+                final var expected = readWorkflowSetMeta("/workflowSetMeta/" + file.getFileName());
+                final var actual = Workflowalizer.readWorkflowSetMeta(file);
+                assertThat(file.toString(), actual.getAuthor(), is(expected.getAuthor()));
+                assertThat(file.toString(), actual.getTitle(), is(expected.getTitle()));
+                assertThat(file.toString(), actual.getDescription(), is(expected.getDescription()));
+                assertThat(file.toString(), actual.getLinks(), is(expected.getLinks()));
+                assertThat(file.toString(), actual.getTags(), is(expected.getTags()));
+                assertThat(file.toString(), actual.getCreated().isPresent(), is(true));
+            }
+        }
+    }
+
+    /**
+     * Only the first matching {@code element} of a {@code KNIMEMetaInfo} element is read, its value includes the text
+     * of nested elements and CDATA sections; prefixes are optional.
+     *
+     * @throws IOException
+     */
+    @Test
+    void testWorkflowalizerStringValues(@TempDir final Path tempDir) throws IOException {
+        final var file = tempDir.resolve("workflowset.meta");
+        Files.writeString(file, """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <root>
+              <element name="Author">not in meta info</element>
+              <KNIMEMetaInfo>
+                <!-- comment -->
+                <element form="text" name="Author">a<b>wal</b><![CDATA[ter]]></element>
+                <element form="text" name="Author">second</element>
+                <element form="multiline" name="Comments"></element>
+              </KNIMEMetaInfo>
+            </root>
+            """);
+        final var meta = Workflowalizer.readWorkflowSetMeta(file);
+        assertThat(meta.getAuthor(), is(Optional.of("awalter")));
+        assertThat(meta.getTitle(), is(Optional.empty()));
+        assertThat(meta.getCreated(), is(Optional.empty()));
+    }
+
+    /**
+     * Files with a document type declaration are rejected.
+     *
+     * @throws IOException
+     */
+    @Test
+    void testWorkflowalizerRejectsDoctype(@TempDir final Path tempDir) throws IOException {
+        final var file = tempDir.resolve("workflowset.meta");
+        Files.writeString(file, """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <!DOCTYPE KNIMEMetaInfo [<!ENTITY author "awalter">]>
+            <KNIMEMetaInfo><element name="Author">&author;</element></KNIMEMetaInfo>
+            """);
+        final var ex = assertThrows(IllegalArgumentException.class, () -> Workflowalizer.readWorkflowSetMeta(file));
+        assertThat(ex.getMessage(), is(
+            "Cannot parse the given file 'workflowset.meta', as it contains XML elements which are not allowed"));
+    }
+
     // -- Helper Methods -
 
     @SuppressWarnings("static-method") // Cannot read in resources if the method is static
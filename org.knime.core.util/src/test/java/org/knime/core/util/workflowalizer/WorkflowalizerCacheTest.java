@@ -0,0 +1,161 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.core.util.workflowalizer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * Tests for {@link WorkflowalizerCache}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+class WorkflowalizerCacheTest extends AbstractWorkflowalizerTest {
+
+    /**
+     * Unchanged items are returned from the cache (also by a new instance), changed items and other configurations are
+     * read again.
+     */
+    @Test
+    void testCache(@TempDir final Path tempDir) throws Exception {
+        try (InputStream is = getResourceAsStream("/Testing_nodes_wkfl.knwf")) {
+            unzip(is, tempDir);
+        }
+        try (InputStream is = getResourceAsStream("/Component-No-Port-Text.knwf")) {
+            unzip(is, tempDir);
+        }
+        final var workflowDir = tempDir.resolve("Testing_nodes_wkfl");
+        final var templateDir = tempDir.resolve("Component-No-Port-Text");
+        final var cacheDir = tempDir.resolve("cache");
+        final var readAll = WorkflowalizerConfiguration.builder().readAll().build();
+        final var readNodes = WorkflowalizerConfiguration.builder().readNodes().build();
+
+        final var mapper = WorkflowMetadata.getConfiguredObjectMapper().registerModule(new JavaTimeModule());
+        final var cache = new WorkflowalizerCache(cacheDir, mapper);
+        final var expected = mapper.writeValueAsString(Workflowalizer.readWorkflow(workflowDir, readAll).flatten());
+        assertThat(cache.readWorkflowJSON(workflowDir, readAll)).isEqualTo(expected);
+        assertThat(cache.readWorkflowJSON(workflowDir, readAll)).isEqualTo(expected);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(1);
+
+        // different configuration
+        assertThat(cache.readWorkflowJSON(workflowDir, readNodes)).isNotEqualTo(expected);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+
+        // persistent
+        final var otherCache = new WorkflowalizerCache(cacheDir, mapper);
+        assertThat(otherCache.readWorkflowJSON(workflowDir, readAll)).isEqualTo(expected);
+        assertThat(otherCache.getHitCount()).isEqualTo(1);
+
+        // a modified node settings file invalidates the entry
+        final var settings = workflowDir.resolve("Disturber Node (#2)/settings.xml");
+        Files.setLastModifiedTime(settings, FileTime.from(Instant.parse("2020-01-01T00:00:00Z")));
+        assertThat(otherCache.readWorkflowJSON(workflowDir, readAll)).isEqualTo(expected);
+        assertThat(otherCache.getMissCount()).isEqualTo(1);
+        assertThat(otherCache.readWorkflowJSON(workflowDir, readAll)).isEqualTo(expected);
+        assertThat(otherCache.getHitCount()).isEqualTo(2);
+
+        // node data does not invalidate the entry, other files only if unexpected files are read
+        final var readUnexpected = WorkflowalizerConfiguration.builder().readNodes().readUnexpectedFiles().build();
+        cache.readWorkflowJSON(workflowDir, readNodes);
+        cache.readWorkflowJSON(workflowDir, readUnexpected);
+        final var missCount = cache.getMissCount();
+        final var portDir = Files.createDirectories(workflowDir.resolve("Disturber Node (#2)/port_1"));
+        Files.writeString(portDir.resolve("data.zip"), "data");
+        assertThat(cache.readWorkflowJSON(workflowDir, readNodes)).isNotNull();
+        assertThat(cache.readWorkflowJSON(workflowDir, readUnexpected)).isNotNull();
+        Files.writeString(workflowDir.resolve("Disturber Node (#2)/model_0.zip"), "model");
+        assertThat(cache.readWorkflowJSON(workflowDir, readNodes)).isNotNull();
+        assertThat(cache.getMissCount()).isEqualTo(missCount);
+        Files.writeString(workflowDir.resolve("unexpected.txt"), "unexpected");
+        assertThat(cache.readWorkflowJSON(workflowDir, readNodes)).isNotNull();
+        assertThat(cache.getMissCount()).isEqualTo(missCount);
+        assertThat(cache.readWorkflowJSON(workflowDir, readUnexpected)).contains("unexpected.txt");
+        assertThat(cache.getMissCount()).isEqualTo(missCount + 1);
+
+        final var template = Workflowalizer.readTemplate(templateDir, readAll);
+        final var expectedTemplate = mapper.writeValueAsString(template.flatten());
+        assertThat(cache.readTemplateJSON(templateDir, readAll)).isEqualTo(expectedTemplate);
+        assertThat(cache.readTemplateJSON(templateDir, readAll)).isEqualTo(expectedTemplate);
+
+        cache.clear();
+        try (var entries = Files.list(cacheDir)) {
+            assertThat(entries).isEmpty();
+        }
+    }
+
+    /**
+     * The legacy node file a settings.xml may reference is part of the fingerprint, node data is not.
+     */
+    @Test
+    void testFingerprintCoversNodeFile(@TempDir final Path tempDir) throws Exception {
+        final var nodeDir = Files.createDirectories(tempDir.resolve("Node (#1)"));
+        Files.writeString(tempDir.resolve("workflow.knime"), "workflow");
+        Files.writeString(nodeDir.resolve("settings.xml"), "settings");
+        final var nodeFile = Files.writeString(nodeDir.resolve("node.xml"), "node");
+        final var fingerprint = WorkflowalizerCache.fingerprint(tempDir, false);
+
+        Files.writeString(nodeDir.resolve("model_0.zip"), "model");
+        Files.writeString(Files.createDirectories(nodeDir.resolve("port_1")).resolve("data.xml"), "data");
+        assertThat(WorkflowalizerCache.fingerprint(tempDir, false)).isEqualTo(fingerprint);
+
+        Files.writeString(nodeFile, "modified node");
+        assertThat(WorkflowalizerCache.fingerprint(tempDir, false)).isNotEqualTo(fingerprint);
+    }
+}
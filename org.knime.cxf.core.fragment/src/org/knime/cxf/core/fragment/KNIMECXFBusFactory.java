@@ -76,6 +76,30 @@ public final class KNIMECXFBusFactory extends CXFBusFactory {
     private static final Collection<CXFBusExtension<?>> CXF_BUS_EXTENSIONS =
         List.of(new KNIMEConduitConfigurer(), new KNIMEInterceptorProvider());
 
+    /**
+     * System property to enable the asynchronous HTTP transport for all CXF clients. If enabled, every conduit of the
+     * bus is an {@code AsyncHTTPConduit} (from {@code cxf-rt-transports-http-hc}), which shares one pool of kept-alive
+     * connections and a few I/O threads between all clients of the bus.
+     */
+    private static final String PROPERTY_USE_ASYNC = "knime.cxf.async";
+
+    /**
+     * Tuning system properties of the asynchronous transport mapped to the bus properties read by the
+     * {@code AsyncHTTPConduitFactory} (all integers).
+     */
+    private static final Map<String, String> ASYNC_SYSTEM_TO_BUS_PROPERTIES = Map.of( //
+        // maximum number of pooled connections in total (CXF default: 5000)
+        "knime.cxf.async.maxConnections", "org.apache.cxf.transport.http.async.MAX_CONNECTIONS", //
+        // maximum number of pooled connections per host (CXF default: 1000)
+        "knime.cxf.async.maxPerHostConnections", "org.apache.cxf.transport.http.async.MAX_PER_HOST_CONNECTIONS", //
+        // maximum time in milliseconds a pooled connection may be idle before it is closed (CXF default: 60000)
+        "knime.cxf.async.connectionMaxIdle", "org.apache.cxf.transport.http.async.CONNECTION_MAX_IDLE", //
+        // maximum time in milliseconds a connection may be reused at all (CXF default: 60000)
+        "knime.cxf.async.connectionTTL", "org.apache.cxf.transport.http.async.CONNECTION_TTL", //
+        // number of I/O dispatcher threads (CXF default: number of processors)
+        "knime.cxf.async.ioThreadCount", "org.apache.cxf.transport.http.async.ioThreadCount" //
+    );
+
     static {
         LoggerFactory.getLogger(KNIMECXFBusFactory.class)
             .debug("Initialized {}", KNIMECXFBusFactory.class.getSimpleName());
@@ -101,7 +125,9 @@ public Bus createBus(final Map<Class<?>, Object> e, final Map<String, Object> pr
      * system properties are not read in at this point. Hence, busses would not be initialized with
      * the configured system properties.
      *
-     * Here, we explicitly propagate all properties relevant to us.
+     * Here, we explicitly propagate all properties relevant to us, including the configuration of the (opt-in)
+     * asynchronous transport ({@value #PROPERTY_USE_ASYNC}), which the lazily created {@code AsyncHTTPConduitFactory}
+     * reads from the bus properties.
      *
      * @param properties how the {@link Bus} (and all {@link WebClient}s using the bus) should be configured
      */
@@ -115,5 +141,22 @@ private static void updateBusProperties(final Map<String, Object> properties) {
                 properties.put(busName, Boolean.TRUE);
             }
         });
+        if (Boolean.parseBoolean(SystemPropertyAction.getProperty(PROPERTY_USE_ASYNC))) {
+            // use the async conduit for synchronous requests as well, not only for asynchronous ones (the default)
+            properties.put("org.apache.cxf.transport.http.async.usePolicy", "ALWAYS");
+            properties.put("org.apache.cxf.transport.http.async.SO_KEEPALIVE", Boolean.TRUE.toString());
+            ASYNC_SYSTEM_TO_BUS_PROPERTIES.forEach((systemName, busName) -> {
+                final var value = SystemPropertyAction.getProperty(systemName);
+                if (value == null) {
+                    return;
+                }
+                try {
+                    properties.put(busName, Integer.toString(Integer.parseInt(value.trim())));
+                } catch (NumberFormatException e) {
+                    LoggerFactory.getLogger(KNIMECXFBusFactory.class)
+                        .warn("Ignoring value \"{}\" of property \"{}\", it is not an integer", value, systemName, e);
+                }
+            });
+        }
     }
 }
@@ -48,11 +48,14 @@
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
 
 import javax.net.ssl.TrustManager;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.cxf.common.util.SystemPropertyAction;
 import org.apache.cxf.configuration.jsse.TLSClientParameters;
 import org.apache.cxf.configuration.security.ProxyAuthorizationPolicy;
 import org.apache.cxf.transport.http.HTTPConduit;
@@ -63,6 +66,8 @@
 import org.knime.core.util.KNIMEX509TrustManager;
 import org.knime.core.util.proxy.ProxyProtocol;
 import org.knime.core.util.proxy.search.GlobalProxySearch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Automatic configurer for HTTP clients by Apache CXF. Always enables the KNIME-specific SSL configuration and uses the
@@ -73,6 +78,28 @@
  */
 final class KNIMEConduitConfigurer implements HTTPConduitConfigurer, CXFBusExtension<HTTPConduitConfigurer> {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(KNIMEConduitConfigurer.class);
+
+    /**
+     * System property for the HTTP version of CXF clients, either "1.1" (default), "2", or "auto". HTTP/2 is only
+     * supported by the default (Java HTTP client based) conduit, not by the asynchronous one.
+     */
+    static final String PROPERTY_HTTP_VERSION = "knime.cxf.httpVersion";
+
+    private static final Set<String> HTTP_VERSIONS = Set.of("1.1", "2", "auto");
+
+    /** System property for the connect timeout of CXF clients in milliseconds, CXF's default if not set. */
+    static final String PROPERTY_CONNECTION_TIMEOUT = "knime.cxf.connectionTimeout";
+
+    /** System property for the receive timeout of CXF clients in milliseconds, CXF's default if not set. */
+    static final String PROPERTY_RECEIVE_TIMEOUT = "knime.cxf.receiveTimeout";
+
+    /**
+     * System property for the time in milliseconds CXF clients wait for a pooled connection (asynchronous conduit
+     * only), CXF's default if not set.
+     */
+    static final String PROPERTY_CONNECTION_REQUEST_TIMEOUT = "knime.cxf.connectionRequestTimeout";
+
     @Override
     public HTTPConduitConfigurer getExtension() {
         return this;
@@ -86,18 +113,56 @@ public Class<HTTPConduitConfigurer> getRegistrationType() {
     @Override
     public void configure(final String name, final String address, final HTTPConduit c) {
         final var conduit = Objects.requireNonNull(c);
-        configureHTTP1OnConduit(conduit);
+        configureHTTPVersionOnConduit(conduit);
+        configureTimeoutsOnConduit(conduit);
         configureSSLOnConduit(conduit);
         configureProxyOnConduit(conduit, address);
     }
 
     /**
-     * Avoid using HTTP/2 because it is not well supported, e.g. by MinIO (as of 2023-08-25, see AP-20900).
+     * Avoid using HTTP/2 by default because it is not well supported, e.g. by MinIO (as of 2023-08-25, see AP-20900).
+     * It can be enabled via {@value #PROPERTY_HTTP_VERSION}.
+     *
+     * @param conduit of an HTTP client
+     */
+    static void configureHTTPVersionOnConduit(final HTTPConduit conduit) {
+        var version = StringUtils.trimToNull(SystemPropertyAction.getProperty(PROPERTY_HTTP_VERSION));
+        if (version != null && !HTTP_VERSIONS.contains(version)) {
+            LOGGER.warn("Ignoring unsupported value \"{}\" of property \"{}\"", version, PROPERTY_HTTP_VERSION);
+            version = null;
+        }
+        final var effectiveVersion = Objects.requireNonNullElse(version, "1.1");
+        modifyClientPolicy(conduit, policy -> policy.setVersion(effectiveVersion));
+    }
+
+    /**
+     * Sets the timeouts that are configured via system properties, leaves the others at CXF's defaults.
      *
      * @param conduit of an HTTP client
      */
-    static void configureHTTP1OnConduit(final HTTPConduit conduit) {
-        modifyClientPolicy(conduit, policy -> policy.setVersion("1.1"));
+    static void configureTimeoutsOnConduit(final HTTPConduit conduit) {
+        readTimeoutProperty(PROPERTY_CONNECTION_TIMEOUT)
+            .ifPresent(t -> modifyClientPolicy(conduit, policy -> policy.setConnectionTimeout(t)));
+        readTimeoutProperty(PROPERTY_RECEIVE_TIMEOUT)
+            .ifPresent(t -> modifyClientPolicy(conduit, policy -> policy.setReceiveTimeout(t)));
+        readTimeoutProperty(PROPERTY_CONNECTION_REQUEST_TIMEOUT)
+            .ifPresent(t -> modifyClientPolicy(conduit, policy -> policy.setConnectionRequestTimeout(t)));
+    }
+
+    private static Optional<Long> readTimeoutProperty(final String key) {
+        final var value = StringUtils.trimToNull(SystemPropertyAction.getProperty(key));
+        if (value == null) {
+            return Optional.empty();
+        }
+        try {
+            final var timeout = Long.parseLong(value);
+            if (timeout >= 0) {
+                return Optional.of(timeout);
+            }
+        } catch (NumberFormatException e) { // NOSONAR logged below
+        }
+        LOGGER.warn("Ignoring value \"{}\" of property \"{}\", it is not a non-negative integer", value, key);
+        return Optional.empty();
     }
 
     /**
@@ -0,0 +1,241 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.okhttp3;
+
+import java.io.IOException;
+import java.net.Proxy;
+import java.net.ProxySelector;
+import java.net.SocketAddress;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.core.util.proxy.ProxyConfigCache;
+import org.knime.core.util.proxy.search.GlobalProxySearch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+
+/**
+ * Factory for {@link OkHttpClient}s that share one {@link ConnectionPool} and one {@link Dispatcher} per proxy
+ * configuration (for the most recently used ones), instead of each client creating its own. Proxies are selected
+ * with the {@link GlobalProxySearch} on every connection and proxy authentication is done by the
+ * {@link OkHttpProxyAuthenticator}.
+ * <p>
+ * The returned builders are derived from a shared base client (see {@link OkHttpClient#newBuilder()}), so callers
+ * can still customize timeouts, interceptors etc. without losing the shared pool and dispatcher. Callers must not
+ * shut down the dispatcher's executor or evict the pool, though.
+ * </p>
+ * <p>
+ * The limits are tuned via the system properties {@value #PROPERTY_MAX_IDLE_CONNECTIONS},
+ * {@value #PROPERTY_KEEP_ALIVE_MILLIS}, {@value #PROPERTY_MAX_REQUESTS}, and {@value #PROPERTY_MAX_REQUESTS_PER_HOST},
+ * which are read when the shared pool and dispatcher for a proxy configuration are created.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class OkHttpClients {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OkHttpClients.class);
+
+    /** System property for the maximum number of idle connections kept in each shared pool. */
+    public static final String PROPERTY_MAX_IDLE_CONNECTIONS = "knime.okhttp.pool.maxIdleConnections";
+
+    /** System property for the time in milliseconds an idle connection is kept in a shared pool. */
+    public static final String PROPERTY_KEEP_ALIVE_MILLIS = "knime.okhttp.pool.keepAlive";
+
+    /** System property for the maximum number of concurrently executed asynchronous calls per shared dispatcher. */
+    public static final String PROPERTY_MAX_REQUESTS = "knime.okhttp.dispatcher.maxRequests";
+
+    /** System property for the maximum number of concurrent asynchronous calls per host and shared dispatcher. */
+    public static final String PROPERTY_MAX_REQUESTS_PER_HOST = "knime.okhttp.dispatcher.maxRequestsPerHost";
+
+    /** Default maximum number of idle connections per shared pool (same as OkHttp's default). */
+    public static final int DEFAULT_MAX_IDLE_CONNECTIONS = 5;
+
+    /** Default keep-alive of idle connections in milliseconds (same as OkHttp's default). */
+    public static final long DEFAULT_KEEP_ALIVE_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    /** Default maximum number of concurrent asynchronous calls per shared dispatcher (same as OkHttp's default). */
+    public static final int DEFAULT_MAX_REQUESTS = 64;
+
+    /** Default maximum number of concurrent asynchronous calls per host (OkHttp's default is 5). */
+    public static final int DEFAULT_MAX_REQUESTS_PER_HOST = 10;
+
+    /** Maximum number of proxy configurations with a shared pool and dispatcher. */
+    private static final int MAX_BASE_CLIENTS = 16;
+
+    /**
+     * Base clients holding the shared pool and dispatcher, keyed by the proxy configuration that was current for the
+     * target when the first client was built (empty for direct connections, also if the target is excluded from the
+     * proxy). Clients built from a dropped base client keep using its pool and dispatcher.
+     */
+    private static final ProxyConfigCache<OkHttpClient> BASE_CLIENTS = new ProxyConfigCache<>(MAX_BASE_CLIENTS);
+
+    /**
+     * Creates a builder for clients connecting to the given target, sharing pool and dispatcher with all other
+     * clients whose target uses the same proxy configuration.
+     *
+     * @param target the (default) target of the client, used to determine the proxy configuration
+     * @return a new builder with shared connection pool, dispatcher, proxy selector, and proxy authenticator
+     */
+    public static OkHttpClient.Builder newBuilder(final URI target) {
+        return BASE_CLIENTS.get(ProxyConfigCache.getProxyConfig(target), k -> createBaseClient()).newBuilder();
+    }
+
+    /**
+     * Creates a builder for clients whose targets are not known in advance, sharing pool and dispatcher with all other
+     * clients that use the proxy configuration for all protocols.
+     *
+     * @return a new builder with shared connection pool, dispatcher, proxy selector, and proxy authenticator
+     */
+    public static OkHttpClient.Builder newBuilder() {
+        return BASE_CLIENTS.get(ProxyConfigCache.getProxyConfig(null), k -> createBaseClient()).newBuilder();
+    }
+
+    /**
+     * Current usage of the shared pools and dispatchers, summed over all proxy configurations.
+     *
+     * @param sharedClients number of proxy configurations with a shared pool and dispatcher
+     * @param connections number of open connections in the shared pools
+     * @param idleConnections number of idle connections in the shared pools
+     * @param runningCalls number of running calls (synchronous and asynchronous) of the shared dispatchers
+     * @param queuedCalls number of asynchronous calls waiting for execution in the shared dispatchers
+     */
+    public record Metrics(int sharedClients, int connections, int idleConnections, int runningCalls,
+        int queuedCalls) {
+    }
+
+    /**
+     * Returns the current usage of all shared pools and dispatchers.
+     *
+     * @return snapshot of the metrics
+     */
+    public static Metrics getMetrics() {
+        int clients = 0;
+        int connections = 0;
+        int idleConnections = 0;
+        int runningCalls = 0;
+        int queuedCalls = 0;
+        for (final var client : BASE_CLIENTS.values()) {
+            clients++;
+            connections += client.connectionPool().connectionCount();
+            idleConnections += client.connectionPool().idleConnectionCount();
+            runningCalls += client.dispatcher().runningCallsCount();
+            queuedCalls += client.dispatcher().queuedCallsCount();
+        }
+        return new Metrics(clients, connections, idleConnections, runningCalls, queuedCalls);
+    }
+
+    private static OkHttpClient createBaseClient() {
+        final var dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(getPositiveInt(PROPERTY_MAX_REQUESTS, DEFAULT_MAX_REQUESTS));
+        dispatcher.setMaxRequestsPerHost(getPositiveInt(PROPERTY_MAX_REQUESTS_PER_HOST, DEFAULT_MAX_REQUESTS_PER_HOST));
+        final var pool = new ConnectionPool(getPositiveInt(PROPERTY_MAX_IDLE_CONNECTIONS, DEFAULT_MAX_IDLE_CONNECTIONS),
+            getPositiveLong(PROPERTY_KEEP_ALIVE_MILLIS, DEFAULT_KEEP_ALIVE_MILLIS), TimeUnit.MILLISECONDS);
+        return new OkHttpClient.Builder() //
+            .connectionPool(pool) //
+            .dispatcher(dispatcher) //
+            .proxySelector(GlobalProxySelector.INSTANCE) //
+            .proxyAuthenticator(new OkHttpProxyAuthenticator()) //
+            .build();
+    }
+
+    private static int getPositiveInt(final String property, final int defaultValue) {
+        return (int)Math.min(Integer.MAX_VALUE, getPositiveLong(property, defaultValue));
+    }
+
+    private static long getPositiveLong(final String property, final long defaultValue) {
+        final var value = System.getProperty(property);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            final var parsed = Long.parseLong(value.trim());
+            if (parsed > 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) { // NOSONAR logged below
+        }
+        LOGGER.warn("Ignoring value \"{}\" of property \"{}\", it is not a positive integer", value, property);
+        return defaultValue;
+    }
+
+    /**
+     * Selects proxies with the {@link GlobalProxySearch} on every connection, regardless of whether the
+     * {@link org.knime.core.util.proxy.ProxySelectorAdapter} has been installed as default.
+     */
+    private static final class GlobalProxySelector extends ProxySelector {
+
+        private static final GlobalProxySelector INSTANCE = new GlobalProxySelector();
+
+        private static final List<Proxy> NO_PROXY_LIST = List.of(Proxy.NO_PROXY);
+
+        @Override
+        public List<Proxy> select(final URI uri) {
+            return ProxyConfigCache.getProxyConfig(uri) //
+                .map(cfg -> List.of(cfg.forJavaNetProxy().getFirst())) //
+                .orElse(NO_PROXY_LIST);
+        }
+
+        @Override
+        public void connectFailed(final URI uri, final SocketAddress sa, final IOException ioe) {
+            LOGGER.warn("Connection to proxy at \"{}\" failed", uri, ioe);
+        }
+    }
+
+    /**
+     * Hides the constructor.
+     */
+    private OkHttpClients() {
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.shared.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.config.base.SimpleConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks adding and getting arrays in configs, which store every element as a separate entry.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ConfigBaseArrayBenchmark {
+
+    private static final String KEY = "array";
+
+    /** Number of array elements. */
+    @Param({"10", "1000", "100000"})
+    public int length;
+
+    private int[] m_ints;
+
+    private double[] m_doubles;
+
+    private String[] m_strings;
+
+    private SimpleConfig m_intConfig;
+
+    private SimpleConfig m_doubleConfig;
+
+    private SimpleConfig m_stringConfig;
+
+    /**
+     * Creates the arrays and configs that already contain them.
+     */
+    @Setup
+    public void setup() {
+        m_ints = IntStream.range(0, length).toArray();
+        m_doubles = IntStream.range(0, length).asDoubleStream().map(d -> d / 7).toArray();
+        m_strings = IntStream.range(0, length).mapToObj(i -> "column_" + i).toArray(String[]::new);
+        m_intConfig = addIntArray();
+        m_doubleConfig = addDoubleArray();
+        m_stringConfig = addStringArray();
+    }
+
+    /**
+     * @return a new config containing the int array
+     */
+    @Benchmark
+    public SimpleConfig addIntArray() {
+        final var config = new SimpleConfig("ints");
+        config.addIntArray(KEY, m_ints);
+        return config;
+    }
+
+    /**
+     * @return the int array of the config
+     * @throws InvalidSettingsException if the array is missing
+     */
+    @Benchmark
+    public int[] getIntArray() throws InvalidSettingsException {
+        return m_intConfig.getIntArray(KEY);
+    }
+
+    /**
+     * @return a new config containing the double array
+     */
+    @Benchmark
+    public SimpleConfig addDoubleArray() {
+        final var config = new SimpleConfig("doubles");
+        config.addDoubleArray(KEY, m_doubles);
+        return config;
+    }
+
+    /**
+     * @return the double array of the config
+     * @throws InvalidSettingsException if the array is missing
+     */
+    @Benchmark
+    public double[] getDoubleArray() throws InvalidSettingsException {
+        return m_doubleConfig.getDoubleArray(KEY);
+    }
+
+    /**
+     * @return a new config containing the string array
+     */
+    @Benchmark
+    public SimpleConfig addStringArray() {
+        final var config = new SimpleConfig("strings");
+        config.addStringArray(KEY, m_strings);
+        return config;
+    }
+
+    /**
+     * @return the string array of the config
+     * @throws InvalidSettingsException if the array is missing
+     */
+    @Benchmark
+    public String[] getStringArray() throws InvalidSettingsException {
+        return m_stringConfig.getStringArray(KEY);
+    }
+}
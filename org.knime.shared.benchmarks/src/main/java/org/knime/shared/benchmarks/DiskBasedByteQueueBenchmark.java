@@ -0,0 +1,155 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.shared.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.file.PathUtils;
+import org.knime.core.util.DiskBasedByteQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the throughput of a {@link DiskBasedByteQueue} with one writer and one concurrent reader, either with a
+ * memory buffer that holds all data or with a small one that makes the queue spill to disk.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class DiskBasedByteQueueBenchmark {
+
+    private static final int TOTAL_BYTES = 64 << 20;
+
+    /** Size of the in-memory buffer of the queue, 64 MB hold all data, 64 kB make it spill to disk. */
+    @Param({"67108864", "65536"})
+    public int memoryBufferSize;
+
+    /** Number of bytes passed to each write call. */
+    @Param({"512", "65536"})
+    public int writeSize;
+
+    private Path m_tempDir;
+
+    private ExecutorService m_reader;
+
+    private byte[] m_chunk;
+
+    /**
+     * Creates the directory for the spilled data and the reader thread.
+     *
+     * @throws IOException if the directory cannot be created
+     */
+    @Setup
+    public void setup() throws IOException {
+        m_tempDir = Files.createTempDirectory("byte-queue-benchmark");
+        m_reader = Executors.newSingleThreadExecutor();
+        m_chunk = new byte[writeSize];
+        for (var i = 0; i < writeSize; i++) {
+            m_chunk[i] = (byte)i;
+        }
+    }
+
+    /**
+     * Stops the reader thread and deletes the directory.
+     *
+     * @throws IOException if the directory cannot be deleted
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        m_reader.shutdownNow();
+        PathUtils.deleteDirectory(m_tempDir);
+    }
+
+    /**
+     * Writes {@value #TOTAL_BYTES} bytes into a new queue while the reader drains it.
+     *
+     * @throws IOException if the queue cannot be written
+     * @throws ExecutionException if the reader failed
+     * @throws InterruptedException if interrupted while waiting for the reader
+     */
+    @Benchmark
+    public void transfer() throws IOException, ExecutionException, InterruptedException {
+        final var queue = new DiskBasedByteQueue(m_tempDir, "queue", memoryBufferSize, 1 << 20);
+        try {
+            final var reader = m_reader.submit(() -> {
+                queue.transferTo(OutputStream.nullOutputStream());
+                return null;
+            });
+            for (var written = 0; written < TOTAL_BYTES; written += writeSize) {
+                queue.write(m_chunk);
+            }
+            queue.close();
+            reader.get();
+        } finally {
+            queue.cleanup();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.shared.benchmarks;
+
+import org.knime.core.node.config.base.ConfigBase;
+import org.knime.core.node.config.base.SimpleConfig;
+
+/**
+ * Creates node settings of a given size, shaped like the model settings of typical nodes: scalar entries, column
+ * name arrays, and nested configs.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class SyntheticConfigs {
+
+    /**
+     * Creates a config with the given number of top-level entries, every fourth of them a nested config with a few
+     * entries of its own.
+     *
+     * @param key the key of the config
+     * @param entries number of top-level entries
+     * @return a new config
+     */
+    static SimpleConfig createConfig(final String key, final int entries) {
+        final var config = new SimpleConfig(key);
+        for (var i = 0; i < entries; i++) {
+            switch (i % 4) {
+                case 0 -> config.addString("string_" + i, "value of entry " + i);
+                case 1 -> config.addInt("int_" + i, i);
+                case 2 -> config.addStringArray("columns_" + i, "column_a", "column_b", "column_c", "column_d");
+                default -> addNested(config.addConfigBase("config_" + i), i);
+            }
+        }
+        return config;
+    }
+
+    private static void addNested(final ConfigBase nested, final int index) {
+        nested.addBoolean("enabled", index % 8 == 3);
+        nested.addDouble("threshold", index / 100.0);
+        nested.addString("name", "nested " + index);
+        nested.addIntArray("indices", 1, 2, 3, 5, 8, 13);
+    }
+
+    private SyntheticConfigs() {
+    }
+}
@@ -0,0 +1,699 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.shared.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.apache.commons.io.file.PathUtils;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.config.base.ConfigBase;
+import org.knime.core.node.config.base.SimpleConfig;
+import org.knime.core.node.util.CheckUtils;
+import org.knime.core.node.workflow.WorkflowExporter;
+import org.knime.core.util.RandomInputStream;
+import org.knime.shared.workflow.def.AnnotationDataDef;
+import org.knime.shared.workflow.def.AuthorInformationDef;
+import org.knime.shared.workflow.def.BaseNodeDef;
+import org.knime.shared.workflow.def.BaseNodeDef.NodeTypeEnum;
+import org.knime.shared.workflow.def.ComponentMetadataDef.ComponentTypeEnum;
+import org.knime.shared.workflow.def.ConfigMapDef;
+import org.knime.shared.workflow.def.ConnectionDef;
+import org.knime.shared.workflow.def.NodeAnnotationDef;
+import org.knime.shared.workflow.def.NodeContainerMetadataDef;
+import org.knime.shared.workflow.def.NodeLocksDef;
+import org.knime.shared.workflow.def.NodeUIInfoDef;
+import org.knime.shared.workflow.def.PortDef;
+import org.knime.shared.workflow.def.StandaloneDef;
+import org.knime.shared.workflow.def.StandaloneDef.ContentTypeEnum;
+import org.knime.shared.workflow.def.VendorDef;
+import org.knime.shared.workflow.def.WorkflowDef;
+import org.knime.shared.workflow.def.impl.AnnotationDataDefBuilder;
+import org.knime.shared.workflow.def.impl.AuthorInformationDefBuilder;
+import org.knime.shared.workflow.def.impl.BoundsDefBuilder;
+import org.knime.shared.workflow.def.impl.ComponentDialogSettingsDefBuilder;
+import org.knime.shared.workflow.def.impl.ComponentMetadataDefBuilder;
+import org.knime.shared.workflow.def.impl.ComponentNodeDefBuilder;
+import org.knime.shared.workflow.def.impl.ConnectionDefBuilder;
+import org.knime.shared.workflow.def.impl.CoordinateDefBuilder;
+import org.knime.shared.workflow.def.impl.CreatorDefBuilder;
+import org.knime.shared.workflow.def.impl.JobManagerDefBuilder;
+import org.knime.shared.workflow.def.impl.MetaNodeDefBuilder;
+import org.knime.shared.workflow.def.impl.NativeNodeDefBuilder;
+import org.knime.shared.workflow.def.impl.NodeAnnotationDefBuilder;
+import org.knime.shared.workflow.def.impl.NodeLocksDefBuilder;
+import org.knime.shared.workflow.def.impl.NodeUIInfoDefBuilder;
+import org.knime.shared.workflow.def.impl.PortDefBuilder;
+import org.knime.shared.workflow.def.impl.PortTypeDefBuilder;
+import org.knime.shared.workflow.def.impl.RootWorkflowDefBuilder;
+import org.knime.shared.workflow.def.impl.StandaloneDefBuilder;
+import org.knime.shared.workflow.def.impl.StyleRangeDefBuilder;
+import org.knime.shared.workflow.def.impl.VendorDefBuilder;
+import org.knime.shared.workflow.def.impl.WorkflowDefBuilder;
+import org.knime.shared.workflow.def.impl.WorkflowUISettingsDefBuilder;
+import org.knime.shared.workflow.storage.multidir.saver.StandaloneSaver;
+import org.knime.shared.workflow.storage.multidir.util.LoaderUtils;
+
+/**
+ * Generates synthetic workflows of configurable size and shape, so that benchmarks and scale tests can run against
+ * realistic workflows with thousands of nodes without checked-in fixtures.
+ * <p>
+ * A generated workflow consists of chains of native nodes. Each workflow up to the configured nesting depth also
+ * contains metanodes and components (alternating), each with a chain of native nodes and further metanodes and
+ * components of its own. The native nodes are distributed evenly over all workflows. The content is deterministic,
+ * except for the files in the data folder.
+ * </p>
+ *
+ * <pre>
+ * var generator = SyntheticWorkflows.builder() //
+ *     .setNodeCount(10_000) //
+ *     .setNestingDepth(2) //
+ *     .setSettingsPerNode(50) //
+ *     .build();
+ * var workflowDir = generator.save(tempDir, "Large Workflow");
+ * </pre>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class SyntheticWorkflows {
+
+    private static final String VERSION = "5.10.0";
+
+    private static final OffsetDateTime CREATED = OffsetDateTime.of(2026, 10, 19, 9, 0, 0, 0, ZoneOffset.UTC);
+
+    private static final String[][] NODE_TYPES = { //
+        {"Column Filter", "org.knime.base.node.preproc.filter.column.DataColumnSpecFilterNodeFactory"}, //
+        {"Row Filter", "org.knime.base.node.preproc.filter.row3.RowFilterNodeFactory"}, //
+        {"GroupBy", "org.knime.base.node.preproc.groupby.GroupByNodeFactory"}, //
+        {"Math Formula", "org.knime.ext.jep.JEPNodeFactory"}, //
+        {"Joiner", "org.knime.base.node.preproc.joiner3.Joiner3NodeFactory"}};
+
+    private static final String COMPONENT_INPUT_FACTORY =
+        "org.knime.core.node.workflow.virtual.subnode.VirtualSubNodeInputNodeFactory";
+
+    private static final String COMPONENT_OUTPUT_FACTORY =
+        "org.knime.core.node.workflow.virtual.subnode.VirtualSubNodeOutputNodeFactory";
+
+    private static final String TABLE_PORT = "org.knime.core.node.BufferedDataTable";
+
+    /** Source or destination ID of connections to the ports of the enclosing metanode. */
+    private static final int METANODE_PORTS_ID = -1;
+
+    private static final int NODES_PER_ROW = 50;
+
+    private static final String WORKFLOW_METADATA = """
+        <?xml version="1.0" encoding="UTF-8"?>
+        <workflow-metadata xmlns="http://www.knime.org/core/node/workflow/metadata/v1.0" content-type="text/plain">
+            <author>benchmark</author>
+            <created>2026-10-19T09:00:00Z</created>
+            <last-modified>2026-10-19T09:00:00Z</last-modified>
+            <description>Synthetic workflow</description>
+        </workflow-metadata>
+        """;
+
+    private static final AuthorInformationDef AUTHOR = new AuthorInformationDefBuilder() //
+        .setAuthoredBy("benchmark") //
+        .setAuthoredWhen(CREATED) //
+        .build();
+
+    private static final VendorDef VENDOR = new VendorDefBuilder() //
+        .setName("KNIME Base Nodes") //
+        .setSymbolicName("org.knime.base") //
+        .setVendor("KNIME AG, Zurich, Switzerland") //
+        .setVersion(VERSION) //
+        .build();
+
+    private static final NodeLocksDef NO_LOCKS = new NodeLocksDefBuilder() //
+        .setHasConfigureLock(false) //
+        .setHasDeleteLock(false) //
+        .setHasResetLock(false) //
+        .build();
+
+    private static final NodeAnnotationDef DEFAULT_ANNOTATION =
+        new NodeAnnotationDefBuilder().setAnnotationDefault(true).build();
+
+    private static final PortDef TABLE_PORT_DEF = new PortDefBuilder() //
+        .setIndex(0) //
+        .setName("Table") //
+        .setPortType(new PortTypeDefBuilder().setPortObjectClass(TABLE_PORT).build()) //
+        .build();
+
+    private final int m_nodeCount;
+
+    private final int m_nestingDepth;
+
+    private final int m_containersPerWorkflow;
+
+    private final int m_settingsPerNode;
+
+    private final int m_arrayLength;
+
+    private final int m_annotationsPerWorkflow;
+
+    private final boolean m_nodeAnnotations;
+
+    private final int m_dataFiles;
+
+    private final int m_dataFileSize;
+
+    private SyntheticWorkflows(final Builder builder) {
+        m_nodeCount = builder.m_nodeCount;
+        m_nestingDepth = builder.m_nestingDepth;
+        m_containersPerWorkflow = builder.m_containersPerWorkflow;
+        m_settingsPerNode = builder.m_settingsPerNode;
+        m_arrayLength = builder.m_arrayLength;
+        m_annotationsPerWorkflow = builder.m_annotationsPerWorkflow;
+        m_nodeAnnotations = builder.m_nodeAnnotations;
+        m_dataFiles = builder.m_dataFiles;
+        m_dataFileSize = builder.m_dataFileSize;
+    }
+
+    /**
+     * @return a new builder with defaults for a small, flat workflow
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the number of workflows in the generated tree, i.e. the top-level workflow plus all metanodes and
+     *         components
+     */
+    public int getWorkflowCount() {
+        var count = 1;
+        var levelSize = 1;
+        for (var level = 1; level <= m_nestingDepth; level++) {
+            levelSize *= m_containersPerWorkflow;
+            count += levelSize;
+        }
+        return count;
+    }
+
+    /**
+     * Generates the workflow definition. The data folder is not part of the definition, it is only written by
+     * {@link #save(Path, String)}.
+     *
+     * @return the workflow as standalone
+     */
+    public StandaloneDef createWorkflow() {
+        final var workflowCount = getWorkflowCount();
+        final var nodesPerWorkflow = m_nodeCount / workflowCount;
+        // the top-level workflow gets the remainder
+        final var contents = createWorkflow("Synthetic Workflow", 0,
+            nodesPerWorkflow + m_nodeCount % workflowCount, nodesPerWorkflow, null);
+        final var root = new RootWorkflowDefBuilder() //
+            .setName(contents.getName()) //
+            .setAuthorInformation(contents.getAuthorInformation()) //
+            .setNodes(contents.getNodes()) //
+            .setConnections(contents.getConnections()) //
+            .setAnnotations(contents.getAnnotations()) //
+            .setWorkflowEditorSettings(contents.getWorkflowEditorSettings()) //
+            .build();
+        return new StandaloneDefBuilder() //
+            .setContentType(ContentTypeEnum.ROOT_WORKFLOW) //
+            .setCreator(new CreatorDefBuilder().setSavedWithVersion(VERSION).setNightly(false).build()) //
+            .setContents(root) //
+            .build();
+    }
+
+    /**
+     * Generates the workflow and saves it in the multi-directory format, including the workflow metadata and the data
+     * folder.
+     *
+     * @param parentDirectory directory in which the workflow directory is created
+     * @param name the name of the workflow directory
+     * @return the workflow directory
+     * @throws IOException if the workflow could not be written
+     */
+    public Path save(final Path parentDirectory, final String name) throws IOException {
+        return save(createWorkflow(), parentDirectory, name);
+    }
+
+    /**
+     * Saves a workflow previously created with {@link #createWorkflow()}, which is cheaper than generating it again if
+     * the same workflow is saved more than once.
+     *
+     * @param workflow the workflow to save
+     * @param parentDirectory directory in which the workflow directory is created
+     * @param name the name of the workflow directory
+     * @return the workflow directory
+     * @throws IOException if the workflow could not be written
+     */
+    public Path save(final StandaloneDef workflow, final Path parentDirectory, final String name) throws IOException {
+        new StandaloneSaver(workflow).save(parentDirectory.toFile(), name);
+        final var directory = parentDirectory.resolve(name);
+        // not written by the saver, but expected by the Workflowalizer for workflows saved with 5.1 or later
+        Files.writeString(directory.resolve("workflow-metadata.xml"), WORKFLOW_METADATA);
+        if (m_dataFiles > 0) {
+            final var dataDirectory = Files.createDirectories(directory.resolve("data"));
+            for (var i = 0; i < m_dataFiles; i++) {
+                try (final var in = new RandomInputStream(m_dataFileSize)) {
+                    Files.copy(in, dataDirectory.resolve("file_" + i + ".bin"), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        }
+        return directory;
+    }
+
+    /**
+     * Generates the workflow and exports it into a {@code .knwf} archive, including the data folder.
+     *
+     * @param archive the archive to create, its file name without extension is used as workflow name
+     * @return the archive
+     * @throws IOException if the workflow could not be written
+     */
+    public Path saveAsKnwf(final Path archive) throws IOException {
+        final var tempDirectory = Files.createTempDirectory("workflow-corpus");
+        try {
+            final var name = archive.getFileName().toString().replaceFirst("\\.knwf$", "");
+            return export(save(tempDirectory, name), archive);
+        } finally {
+            PathUtils.deleteDirectory(tempDirectory);
+        }
+    }
+
+    /**
+     * Exports a saved workflow into a {@code .knwf} archive, including its data.
+     *
+     * @param workflowDirectory the workflow directory
+     * @param archive the archive to create
+     * @return the archive
+     * @throws IOException if the workflow could not be exported
+     */
+    public static Path export(final Path workflowDirectory, final Path archive) throws IOException {
+        final var exporter = new WorkflowExporter<RuntimeException>(false);
+        final var resources =
+            exporter.collectResourcesToCopy(List.of(workflowDirectory), workflowDirectory.getParent());
+        exporter.exportInto(resources, Files.newOutputStream(archive), progress -> {});
+        return archive;
+    }
+
+    /**
+     * Creates a workflow with a chain of native nodes followed by its metanodes and components, which are connected
+     * to the last native node.
+     *
+     * @param ports IDs of the nodes providing the input of the first native node and receiving the output of the last
+     *            one: the virtual input and output nodes of a component, {@link #METANODE_PORTS_ID} twice for a
+     *            metanode, or {@code null} for the top-level workflow
+     */
+    private WorkflowDef createWorkflow(final String name, final int level, final int nativeNodes,
+        final int nodesPerWorkflow, final int[] ports) {
+        final var workflow = new WorkflowDefBuilder() //
+            .setName(name) //
+            .setAuthorInformation(AUTHOR) //
+            .setWorkflowEditorSettings(new WorkflowUISettingsDefBuilder().build());
+        var id = 0;
+        for (var i = 0; i < nativeNodes; i++) {
+            id++;
+            workflow.putToNodes("node_" + id, createNativeNode(id, NODE_TYPES[i % NODE_TYPES.length]));
+            if (i > 0) {
+                workflow.addToConnections(connection(id - 1, 1, id, 1));
+            }
+        }
+        final var lastNative = id;
+        if (ports != null && nativeNodes > 0) {
+            final var portOffset = ports[0] == METANODE_PORTS_ID ? 0 : 1;
+            workflow.addToConnections(connection(ports[0], portOffset, 1, 1));
+            workflow.addToConnections(connection(lastNative, 1, ports[1], portOffset));
+        }
+        if (level < m_nestingDepth) {
+            for (var i = 0; i < m_containersPerWorkflow; i++) {
+                id++;
+                final var isComponent = i % 2 == 1;
+                final var containerName = (isComponent ? "Component " : "Metanode ") + (level + 1) + "." + (i + 1);
+                final var container = isComponent //
+                    ? createComponent(id, containerName, level + 1, nodesPerWorkflow) //
+                    : createMetanode(id, containerName, level + 1, nodesPerWorkflow);
+                workflow.putToNodes("node_" + id, container);
+                if (lastNative > 0) {
+                    workflow.addToConnections(connection(lastNative, 1, id, isComponent ? 1 : 0));
+                }
+            }
+        }
+        if (ports != null && ports[0] != METANODE_PORTS_ID) {
+            workflow.putToNodes("node_" + ports[0], createVirtualNode(ports[0], "Component Input",
+                COMPONENT_INPUT_FACTORY));
+            workflow.putToNodes("node_" + ports[1], createVirtualNode(ports[1], "Component Output",
+                COMPONENT_OUTPUT_FACTORY));
+        }
+        for (var i = 0; i < m_annotationsPerWorkflow; i++) {
+            workflow.putToAnnotations(Integer.toString(i), createAnnotation("Annotation " + i + " of " + name,
+                100 * (i % NODES_PER_ROW), -200 - 100 * (i / NODES_PER_ROW)));
+        }
+        return workflow.build();
+    }
+
+    private BaseNodeDef createMetanode(final int id, final String name, final int level, final int nativeNodes) {
+        return new MetaNodeDefBuilder() //
+            .setId(id) //
+            .setNodeType(NodeTypeEnum.METANODE) //
+            .setCustomDescription("") //
+            .setAnnotation(DEFAULT_ANNOTATION) //
+            .setLocks(NO_LOCKS) //
+            .setJobManager(new JobManagerDefBuilder().build()) //
+            .setUiInfo(uiInfo(id)) //
+            .setWorkflow(
+                createWorkflow(name, level, nativeNodes, nativeNodes, new int[]{METANODE_PORTS_ID, METANODE_PORTS_ID}))
+            .setInPorts(List.of(TABLE_PORT_DEF)) //
+            .setOutPorts(List.of(TABLE_PORT_DEF)) //
+            .setLink(LoaderUtils.DEFAULT_TEMPLATE_LINK) //
+            .setInPortsBarUIInfo(new NodeUIInfoDefBuilder().build()) //
+            .setOutPortsBarUIInfo(new NodeUIInfoDefBuilder().build()) //
+            .build();
+    }
+
+    private BaseNodeDef createComponent(final int id, final String name, final int level, final int nativeNodes) {
+        // the virtual nodes get the IDs after the native nodes and the nested metanodes and components
+        final var inputId = nativeNodes + (level < m_nestingDepth ? m_containersPerWorkflow : 0) + 1;
+        final var outputId = inputId + 1;
+        return new ComponentNodeDefBuilder() //
+            .setId(id) //
+            .setNodeType(NodeTypeEnum.COMPONENT) //
+            .setCustomDescription("") //
+            .setAnnotation(DEFAULT_ANNOTATION) //
+            .setLocks(NO_LOCKS) //
+            .setJobManager(new JobManagerDefBuilder().build()) //
+            .setUiInfo(uiInfo(id)) //
+            .setModelSettings(toConfigMap(new SimpleConfig("model"))) //
+            .setInternalNodeSubSettings(toConfigMap(new SimpleConfig("internal_node_subsettings"))) //
+            .setVariableSettings(toConfigMap(new SimpleConfig("variables"))) //
+            .setWorkflow(createWorkflow(name, level, nativeNodes, nativeNodes, new int[]{inputId, outputId})) //
+            .setInPorts(List.of(TABLE_PORT_DEF)) //
+            .setOutPorts(List.of(TABLE_PORT_DEF)) //
+            .setVirtualInNodeId(inputId) //
+            .setVirtualOutNodeId(outputId) //
+            .setMetadata(new ComponentMetadataDefBuilder() //
+                .setDescription("Synthetic component " + name) //
+                .setContentType(NodeContainerMetadataDef.ContentTypeEnum.PLAIN) //
+                .setInPortNames(List.of("Table")) //
+                .setInPortDescriptions(List.of("Input table")) //
+                .setOutPortNames(List.of("Table")) //
+                .setOutPortDescriptions(List.of("Output table")) //
+                .setComponentType(ComponentTypeEnum.MANIPULATOR) //
+                .build()) //
+            .setTemplateInfo(LoaderUtils.DEFAULT_TEMPLATE_LINK) //
+            .setDialogSettings(new ComponentDialogSettingsDefBuilder() //
+                .setLayoutJSON("") //
+                .setConfigurationLayoutJSON("") //
+                .setHideInWizard(false) //
+                .setCssStyles("") //
+                .build()) //
+            .build();
+    }
+
+    private BaseNodeDef createNativeNode(final int id, final String[] type) {
+        return nativeNode(id, type[0], type[1], createModelSettings(id), m_nodeAnnotations //
+            ? new NodeAnnotationDefBuilder() //
+                .setAnnotationDefault(false) //
+                .setData(createAnnotation("Node " + id, 0, 0)) //
+                .build() //
+            : DEFAULT_ANNOTATION);
+    }
+
+    private static BaseNodeDef createVirtualNode(final int id, final String name, final String factory) {
+        return nativeNode(id, name, factory, new SimpleConfig("model"), DEFAULT_ANNOTATION);
+    }
+
+    private static BaseNodeDef nativeNode(final int id, final String name, final String factory,
+        final ConfigBase modelSettings, final NodeAnnotationDef annotation) {
+        return new NativeNodeDefBuilder() //
+            .setId(id) //
+            .setNodeType(NodeTypeEnum.NATIVENODE) //
+            .setCustomDescription("") //
+            .setNodeName(name) //
+            .setFactory(factory) //
+            .setBundle(VENDOR) //
+            .setFeature(VENDOR) //
+            .setModelSettings(toConfigMap(modelSettings)) //
+            .setInternalNodeSubSettings(toConfigMap(new SimpleConfig("internal_node_subsettings"))) //
+            .setVariableSettings(toConfigMap(new SimpleConfig("variables"))) //
+            .setAnnotation(annotation) //
+            .setLocks(NO_LOCKS) //
+            .setJobManager(new JobManagerDefBuilder().build()) //
+            .setUiInfo(uiInfo(id)) //
+            .build();
+    }
+
+    /**
+     * Model settings cycling through scalar entries, arrays (if the array length is positive), and nested configs.
+     */
+    private ConfigBase createModelSettings(final int id) {
+        final var model = new SimpleConfig("model");
+        final var kinds = m_arrayLength > 0 ? 7 : 4;
+        for (var i = 0; i < m_settingsPerNode; i++) {
+            switch (i % kinds) {
+                case 0 -> model.addString("string_" + i, "value " + i + " of node " + id);
+                case 1 -> model.addInt("int_" + i, id + i);
+                case 2 -> model.addBoolean("boolean_" + i, (id + i) % 2 == 0);
+                case 3 -> {
+                    final var nested = model.addConfigBase("config_" + i);
+                    nested.addString("name", "nested " + i);
+                    nested.addDouble("threshold", i / 100.0);
+                    nested.addLong("seed", id * 1000L + i);
+                }
+                case 4 -> model.addStringArray("columns_" + i,
+                    IntStream.range(0, m_arrayLength).mapToObj(j -> "column_" + j).toArray(String[]::new));
+                case 5 -> model.addIntArray("indices_" + i, IntStream.range(0, m_arrayLength).toArray());
+                default -> model.addDoubleArray("weights_" + i,
+                    IntStream.range(0, m_arrayLength).mapToDouble(j -> j / 10.0).toArray());
+            }
+        }
+        return model;
+    }
+
+    private static AnnotationDataDef createAnnotation(final String text, final int x, final int y) {
+        return new AnnotationDataDefBuilder() //
+            .setText(text) //
+            .setContentType(AnnotationDataDef.ContentTypeEnum.PLAIN) //
+            .setLocation(new CoordinateDefBuilder().setX(x).setY(y).build()) //
+            .setWidth(200) //
+            .setHeight(60) //
+            .setTextAlignment("LEFT") //
+            .setBorderSize(10) //
+            .setBorderColor(0xFFD800) //
+            .setBgcolor(0xFFFFFF) //
+            .setAnnotationVersion(20151123) //
+            .setDefaultFontSize(11) //
+            .setStyles(List.of(new StyleRangeDefBuilder() //
+                .setStart(0) //
+                .setLength(Math.min(4, text.length())) //
+                .setFontName("Roboto") //
+                .setFontStyle(1) //
+                .setFontSize(11) //
+                .setColor(0) //
+                .build())) //
+            .build();
+    }
+
+    private static NodeUIInfoDef uiInfo(final int id) {
+        return new NodeUIInfoDefBuilder() //
+            .setHasAbsoluteCoordinates(true) //
+            .setSymbolRelative(true) //
+            .setBounds(new BoundsDefBuilder() //
+                .setLocation(new CoordinateDefBuilder() //
+                    .setX(100 * (id % NODES_PER_ROW)) //
+                    .setY(100 * (id / NODES_PER_ROW)) //
+                    .build()) //
+                .setWidth(75) //
+                .setHeight(80) //
+                .build()) //
+            .build();
+    }
+
+    private static ConnectionDef connection(final int source, final int sourcePort,
+        final int dest, final int destPort) {
+        return new ConnectionDefBuilder() //
+            .setSourceID(source) //
+            .setSourcePort(sourcePort) //
+            .setDestID(dest) //
+            .setDestPort(destPort) //
+            .setDeletable(true) //
+            .build();
+    }
+
+    private static ConfigMapDef toConfigMap(final ConfigBase config) {
+        try {
+            return LoaderUtils.toConfigMapDef(config);
+        } catch (InvalidSettingsException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Builder for {@link SyntheticWorkflows} generators.
+     *
+     * @author KNIME AG, Zurich, Switzerland
+     */
+    public static final class Builder {
+
+        private int m_nodeCount = 100;
+
+        private int m_nestingDepth;
+
+        private int m_containersPerWorkflow = 2;
+
+        private int m_settingsPerNode = 20;
+
+        private int m_arrayLength = 4;
+
+        private int m_annotationsPerWorkflow;
+
+        private boolean m_nodeAnnotations;
+
+        private int m_dataFiles;
+
+        private int m_dataFileSize;
+
+        private Builder() {
+        }
+
+        /**
+         * @param nodeCount the total number of native nodes in all workflows, not counting the input and output nodes
+         *            of components, default 100
+         * @return this for fluent API
+         */
+        public Builder setNodeCount(final int nodeCount) {
+            m_nodeCount = nodeCount;
+            return this;
+        }
+
+        /**
+         * @param nestingDepth the number of levels of metanodes and components below the top-level workflow, default
+         *            0 for a flat workflow
+         * @return this for fluent API
+         */
+        public Builder setNestingDepth(final int nestingDepth) {
+            m_nestingDepth = nestingDepth;
+            return this;
+        }
+
+        /**
+         * @param containersPerWorkflow the number of metanodes and components in each workflow above the maximum
+         *            nesting depth, default 2
+         * @return this for fluent API
+         */
+        public Builder setContainersPerWorkflow(final int containersPerWorkflow) {
+            m_containersPerWorkflow = containersPerWorkflow;
+            return this;
+        }
+
+        /**
+         * @param settingsPerNode the number of top-level entries in the model settings of each native node, default 20
+         * @return this for fluent API
+         */
+        public Builder setSettingsPerNode(final int settingsPerNode) {
+            m_settingsPerNode = settingsPerNode;
+            return this;
+        }
+
+        /**
+         * @param arrayLength the number of elements of the array entries in the model settings, large values give
+         *            array-heavy configs such as column selections of wide tables, 0 for no arrays, default 4
+         * @return this for fluent API
+         */
+        public Builder setArrayLength(final int arrayLength) {
+            m_arrayLength = arrayLength;
+            return this;
+        }
+
+        /**
+         * @param annotationsPerWorkflow the number of workflow annotations in each workflow, default 0
+         * @return this for fluent API
+         */
+        public Builder setAnnotationsPerWorkflow(final int annotationsPerWorkflow) {
+            m_annotationsPerWorkflow = annotationsPerWorkflow;
+            return this;
+        }
+
+        /**
+         * @param nodeAnnotations whether native nodes have a non-default node annotation, default {@code false}
+         * @return this for fluent API
+         */
+        public Builder setNodeAnnotations(final boolean nodeAnnotations) {
+            m_nodeAnnotations = nodeAnnotations;
+            return this;
+        }
+
+        /**
+         * @param files the number of files in the data folder of the top-level workflow, default 0
+         * @param fileSize the size of each file in bytes, the content is random and hence not compressible
+         * @return this for fluent API
+         */
+        public Builder setDataFolder(final int files, final int fileSize) {
+            m_dataFiles = files;
+            m_dataFileSize = fileSize;
+            return this;
+        }
+
+        /**
+         * @return the generator with the given settings
+         * @throws IllegalArgumentException if any of the numbers is negative
+         */
+        public SyntheticWorkflows build() {
+            CheckUtils.checkArgument(m_nodeCount >= 0, "Node count must not be negative: %d", m_nodeCount);
+            CheckUtils.checkArgument(m_nestingDepth >= 0, "Nesting depth must not be negative: %d", m_nestingDepth);
+            CheckUtils.checkArgument(m_containersPerWorkflow >= 0,
+                "Containers per workflow must not be negative: %d", m_containersPerWorkflow);
+            CheckUtils.checkArgument(m_settingsPerNode >= 0, "Settings per node must not be negative: %d",
+                m_settingsPerNode);
+            CheckUtils.checkArgument(m_arrayLength >= 0, "Array length must not be negative: %d", m_arrayLength);
+            CheckUtils.checkArgument(m_annotationsPerWorkflow >= 0,
+                "Annotations per workflow must not be negative: %d", m_annotationsPerWorkflow);
+            CheckUtils.checkArgument(m_dataFiles >= 0 && m_dataFileSize >= 0,
+                "Data folder size must not be negative: %d files of %d bytes", m_dataFiles, m_dataFileSize);
+            return new SyntheticWorkflows(this);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.shared.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.file.PathUtils;
+import org.knime.shared.workflow.def.StandaloneDef;
+import org.knime.shared.workflow.storage.multidir.loader.StandaloneLoader;
+import org.knime.shared.workflow.storage.multidir.saver.StandaloneSaver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks loading and saving workflows in the multi-directory format with the workflow loader and saver of
+ * {@code org.knime.shared.workflow.storage}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class WorkflowStorageBenchmark {
+
+    /** Number of native nodes in the workflow. */
+    @Param({"100", "1000", "10000"})
+    public int nodes;
+
+    /** Levels of metanodes and components, 0 for a flat workflow. */
+    @Param({"0", "2"})
+    public int depth;
+
+    /** Number of model settings per node. */
+    @Param({"20"})
+    public int settings;
+
+    private Path m_tempDir;
+
+    private SyntheticWorkflows m_generator;
+
+    private StandaloneDef m_workflow;
+
+    private Path m_savedWorkflow;
+
+    /**
+     * Creates the workflow and saves it once for the load benchmark.
+     *
+     * @throws IOException if the workflow cannot be saved
+     */
+    @Setup
+    public void setup() throws IOException {
+        m_tempDir = Files.createTempDirectory("workflow-storage-benchmark");
+        m_generator = SyntheticWorkflows.builder() //
+            .setNodeCount(nodes) //
+            .setNestingDepth(depth) //
+            .setSettingsPerNode(settings) //
+            .setAnnotationsPerWorkflow(5) //
+            .build();
+        m_workflow = m_generator.createWorkflow();
+        m_savedWorkflow = m_generator.save(m_workflow, m_tempDir, "load");
+    }
+
+    /**
+     * Deletes the saved workflows.
+     *
+     * @throws IOException if the files cannot be deleted
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        PathUtils.deleteDirectory(m_tempDir);
+    }
+
+    /**
+     * @return the loaded workflow
+     * @throws IOException if the workflow cannot be loaded
+     */
+    @Benchmark
+    public StandaloneDef load() throws IOException {
+        return StandaloneLoader.load(m_savedWorkflow.toFile());
+    }
+
+    /**
+     * Saves the workflow, overwriting the files of the previous invocation.
+     *
+     * @throws IOException if the workflow cannot be saved
+     */
+    @Benchmark
+    public void save() throws IOException {
+        new StandaloneSaver(m_workflow).save(m_tempDir.toFile(), "save");
+    }
+}
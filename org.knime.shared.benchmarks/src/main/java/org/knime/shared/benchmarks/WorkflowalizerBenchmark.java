@@ -0,0 +1,152 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.shared.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.file.PathUtils;
+import org.knime.core.util.workflowalizer.Workflowalizer;
+import org.knime.core.util.workflowalizer.WorkflowalizerConfiguration;
+import org.knime.core.util.workflowalizer.WorkflowMetadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks reading workflow metadata with the {@link Workflowalizer}, both from a workflow directory and from a
+ * {@code .knwf} archive.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class WorkflowalizerBenchmark {
+
+    /** Number of native nodes in the workflow. */
+    @Param({"100", "1000", "10000"})
+    public int nodes;
+
+    /** Levels of metanodes and components, 0 for a flat workflow. */
+    @Param({"0", "2"})
+    public int depth;
+
+    /** Whether the workflow is read from a {@code directory} or a {@code knwf} archive. */
+    @Param({"directory", "knwf"})
+    public String format;
+
+    /** What is read, only the {@code nodes} and connections or {@code all} fields. */
+    @Param({"nodes", "all"})
+    public String fields;
+
+    private Path m_tempDir;
+
+    private Path m_workflow;
+
+    private WorkflowalizerConfiguration m_config;
+
+    /**
+     * Saves the workflow, and exports it if it is read from an archive.
+     *
+     * @throws IOException if the workflow cannot be saved or exported
+     */
+    @Setup
+    public void setup() throws IOException {
+        m_tempDir = Files.createTempDirectory("workflowalizer-benchmark");
+        final var directory = SyntheticWorkflows.builder() //
+            .setNodeCount(nodes) //
+            .setNestingDepth(depth) //
+            .build() //
+            .save(m_tempDir, "workflow");
+        m_workflow = switch (format) {
+            case "directory" -> directory;
+            case "knwf" -> SyntheticWorkflows.export(directory, m_tempDir.resolve("workflow.knwf"));
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+        m_config = switch (fields) {
+            case "nodes" -> WorkflowalizerConfiguration.builder().readNodesAndConnections().build();
+            case "all" -> WorkflowalizerConfiguration.builder().readAll().build();
+            default -> throw new IllegalArgumentException("Unknown fields: " + fields);
+        };
+    }
+
+    /**
+     * Deletes the workflow.
+     *
+     * @throws IOException if the files cannot be deleted
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        PathUtils.deleteDirectory(m_tempDir);
+    }
+
+    /**
+     * @return the workflow metadata
+     * @throws Exception if the workflow cannot be read
+     */
+    @Benchmark
+    public WorkflowMetadata readWorkflow() throws Exception { // NOSONAR the Workflowalizer declares many exceptions
+        return Workflowalizer.readWorkflow(m_workflow, m_config);
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.shared.benchmarks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.knime.core.node.workflow.WorkflowExporter;
+import org.knime.shared.workflow.def.BaseNodeDef.NodeTypeEnum;
+import org.knime.shared.workflow.def.ComponentNodeDef;
+import org.knime.shared.workflow.def.ConfigValueStringArrayDef;
+import org.knime.shared.workflow.def.MetaNodeDef;
+import org.knime.shared.workflow.def.NativeNodeDef;
+import org.knime.shared.workflow.def.WorkflowDef;
+import org.knime.shared.workflow.storage.multidir.loader.StandaloneLoader;
+
+/**
+ * Tests for the {@link SyntheticWorkflows}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+class SyntheticWorkflowsTest {
+
+    @TempDir
+    Path m_tempDir;
+
+    @Test
+    void testFlatWorkflow() {
+        final var generator = SyntheticWorkflows.builder() //
+            .setNodeCount(10) //
+            .setSettingsPerNode(14) //
+            .setArrayLength(100) //
+            .build();
+        assertThat(generator.getWorkflowCount()).isOne();
+
+        final var workflow = (WorkflowDef)generator.createWorkflow().getContents();
+        assertThat(workflow.getNodes()).hasSize(10);
+        assertThat(workflow.getConnections()).hasSize(9);
+        final var node = (NativeNodeDef)workflow.getNodes().get("node_1");
+        final var settings = node.getModelSettings().getChildren();
+        assertThat(settings).hasSize(14);
+        assertThat(((ConfigValueStringArrayDef)settings.get("columns_4")).getArray()).hasSize(100);
+    }
+
+    @Test
+    void testNestedWorkflow() {
+        final var generator = SyntheticWorkflows.builder() //
+            .setNodeCount(130) //
+            .setNestingDepth(2) //
+            .setContainersPerWorkflow(3) //
+            .setAnnotationsPerWorkflow(2) //
+            .build();
+        assertThat(generator.getWorkflowCount()).isEqualTo(13);
+
+        final var workflow = (WorkflowDef)generator.createWorkflow().getContents();
+        assertThat(countNativeNodes(workflow, false)).isEqualTo(130);
+        // 1 + 3 + 9 workflows with 10 native nodes each, 4 components with 2 virtual nodes each
+        assertThat(countNativeNodes(workflow, true)).isEqualTo(138);
+        assertThat(workflow.getNodes().values()).filteredOn(n -> n.getNodeType() != NodeTypeEnum.NATIVENODE)
+            .hasSize(3);
+        assertThat(workflow.getAnnotations()).hasSize(2);
+    }
+
+    @Test
+    void testSaveAndLoad() throws IOException {
+        final var generator = SyntheticWorkflows.builder() //
+            .setNodeCount(50) //
+            .setNestingDepth(1) //
+            .setAnnotationsPerWorkflow(1) //
+            .setNodeAnnotations(true) //
+            .setDataFolder(2, 1000) //
+            .build();
+        final var workflow = generator.createWorkflow();
+        final var directory = generator.save(workflow, m_tempDir, "Workflow");
+
+        assertThat(directory.resolve("workflow.knime")).isRegularFile();
+        assertThat(directory.resolve("data").resolve("file_1.bin")).hasSize(1000);
+        final var loaded = (WorkflowDef)StandaloneLoader.load(directory.toFile()).getContents();
+        assertThat(countNativeNodes(loaded, true))
+            .isEqualTo(countNativeNodes((WorkflowDef)workflow.getContents(), true));
+        assertThat(loaded.getAnnotations()).hasSize(1);
+    }
+
+    @Test
+    void testSaveAsKnwf() throws IOException {
+        final var archive = SyntheticWorkflows.builder() //
+            .setNodeCount(20) //
+            .setNestingDepth(1) //
+            .setDataFolder(1, 100) //
+            .build() //
+            .saveAsKnwf(m_tempDir.resolve("Archived.knwf"));
+
+        assertThat(archive).isRegularFile();
+        assertThat(WorkflowExporter.hasZipSingleRootFolder(archive)).isTrue();
+        try (final var files = Files.list(m_tempDir)) {
+            assertThat(files).containsExactly(archive);
+        }
+    }
+
+    @Test
+    void testInvalidSettings() {
+        final var builder = SyntheticWorkflows.builder().setNodeCount(-1);
+        assertThatIllegalArgumentException().isThrownBy(builder::build).withMessageContaining("-1");
+    }
+
+    private static int countNativeNodes(final WorkflowDef workflow, final boolean includeVirtual) {
+        var count = 0;
+        for (final var node : workflow.getNodes().values()) {
+            if (node instanceof NativeNodeDef nativeNode) {
+                count += includeVirtual || !nativeNode.getFactory().contains(".virtual.") ? 1 : 0;
+            } else if (node instanceof MetaNodeDef metanode) {
+                count += countNativeNodes(metanode.getWorkflow(), includeVirtual);
+            } else if (node instanceof ComponentNodeDef component) {
+                count += countNativeNodes(component.getWorkflow(), includeVirtual);
+            }
+        }
+        return count;
+    }
+}
@@ -60,6 +60,7 @@
 import org.knime.core.util.workflow.def.FallibleSupplier;
 import org.knime.core.util.workflow.def.LoadException;
 import org.knime.core.util.workflow.def.LoadExceptionTree;
+import org.knime.core.util.workflow.def.PersistentList;
 /**
  * The general object containing the data of an annotation.
  * @author Martin Horn, KNIME GmbH, Konstanz, Germany
@@ -120,7 +121,7 @@ public class AnnotationDataDefBuilder {
      * Holds the final result of merging the bulk and individual elements in #build().
      * Elements added individually go directly into this list so they are inserted at positions 0, 1, ... this is important for non-Def types since the accompanying {@code Map<Integer, LoadException>} uses the element's offset to correlate it to its LoadException.
      */
-    java.util.List<StyleRangeDef> m_styles = new java.util.ArrayList<>();
+    PersistentList<StyleRangeDef> m_styles = PersistentList.of();
     /** Temporarily holds onto elements set as a whole with setStyles these are added to m_styles in build */
     private java.util.List<StyleRangeDef> m_stylesBulkElements = new java.util.ArrayList<>();
     /** This exception is merged with the exceptions of the elements of this list into a single {@link LoadExceptionTree} during {@link #build()}. The LES is then put into {@link #m_m_exceptionalChildren}. */
@@ -147,7 +148,7 @@ public AnnotationDataDefBuilder(final AnnotationDataDef toCopy) {
         m_bgcolor = toCopy.getBgcolor();
         m_annotationVersion = toCopy.getAnnotationVersion();
         m_defaultFontSize = toCopy.getDefaultFontSize();
-        m_styles = toCopy.getStyles();
+        m_styles = PersistentList.copyOf(toCopy.getStyles());
     }
 
     // -----------------------------------------------------------------------------------------------------------------
@@ -649,7 +650,7 @@ public AnnotationDataDefBuilder addToStyles(FallibleSupplier<StyleRangeDef> valu
             var supplyException = new LoadException(e);
             toAdd = new DefaultStyleRangeDef(defaultValue, supplyException);
         }
-        m_styles.add(toAdd);
+        m_styles = m_styles.plus(toAdd);
         return this;
     } 
     // -----------------------------------------------------------------------------------------------------------------
@@ -665,7 +666,7 @@ public DefaultAnnotationDataDef build() {
     	
         // contains the elements set with #setStyles (those added with #addToStyles have already been inserted into m_styles)
         m_stylesBulkElements = java.util.Objects.requireNonNullElse(m_stylesBulkElements, java.util.List.of());
-        m_styles.addAll(0, m_stylesBulkElements);
+        m_styles = PersistentList.copyOf(m_stylesBulkElements).plusAll(m_styles);
                 
         var stylesLoadExceptionTree = org.knime.core.util.workflow.def.SimpleLoadExceptionTree
             .list(m_styles, m_stylesContainerSupplyException);
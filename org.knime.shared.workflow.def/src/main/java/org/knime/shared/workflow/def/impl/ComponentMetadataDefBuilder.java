@@ -62,6 +62,7 @@
 import org.knime.core.util.workflow.def.FallibleSupplier;
 import org.knime.core.util.workflow.def.LoadException;
 import org.knime.core.util.workflow.def.LoadExceptionTree;
+import org.knime.core.util.workflow.def.PersistentList;
 /**
  * ComponentMetadataDefBuilder
  * @author Martin Horn, KNIME GmbH, Konstanz, Germany
@@ -102,7 +103,7 @@ public class ComponentMetadataDefBuilder {
      * Holds the final result of merging the bulk and individual elements in #build().
      * Elements added individually go directly into this list so they are inserted at positions 0, 1, ... this is important for non-Def types since the accompanying {@code Map<Integer, LoadException>} uses the element's offset to correlate it to its LoadException.
      */
-    java.util.List<String> m_tags = new java.util.ArrayList<>();
+    PersistentList<String> m_tags = PersistentList.of();
     /** Temporarily holds onto elements set as a whole with setTags these are added to m_tags in build */
     private java.util.List<String> m_tagsBulkElements = new java.util.ArrayList<>();
     /** This exception is merged with the exceptions of the elements of this list into a single {@link LoadExceptionTree} during {@link #build()}. The LES is then put into {@link #m_m_exceptionalChildren}. */
@@ -115,7 +116,7 @@ public class ComponentMetadataDefBuilder {
      * Holds the final result of merging the bulk and individual elements in #build().
      * Elements added individually go directly into this list so they are inserted at positions 0, 1, ... this is important for non-Def types since the accompanying {@code Map<Integer, LoadException>} uses the element's offset to correlate it to its LoadException.
      */
-    java.util.List<LinkDef> m_links = new java.util.ArrayList<>();
+    PersistentList<LinkDef> m_links = PersistentList.of();
     /** Temporarily holds onto elements set as a whole with setLinks these are added to m_links in build */
     private java.util.List<LinkDef> m_linksBulkElements = new java.util.ArrayList<>();
     /** This exception is merged with the exceptions of the elements of this list into a single {@link LoadExceptionTree} during {@link #build()}. The LES is then put into {@link #m_m_exceptionalChildren}. */
@@ -128,7 +129,7 @@ public class ComponentMetadataDefBuilder {
      * Holds the final result of merging the bulk and individual elements in #build().
      * Elements added individually go directly into this list so they are inserted at positions 0, 1, ... this is important for non-Def types since the accompanying {@code Map<Integer, LoadException>} uses the element's offset to correlate it to its LoadException.
      */
-    java.util.List<String> m_inPortNames = new java.util.ArrayList<>();
+    PersistentList<String> m_inPortNames = PersistentList.of();
     /** Temporarily holds onto elements set as a whole with setInPortNames these are added to m_inPortNames in build */
     private java.util.List<String> m_inPortNamesBulkElements = new java.util.ArrayList<>();
     /** This exception is merged with the exceptions of the elements of this list into a single {@link LoadExceptionTree} during {@link #build()}. The LES is then put into {@link #m_m_exceptionalChildren}. */
@@ -141,7 +142,7 @@ public class ComponentMetadataDefBuilder {
      * Holds the final result of merging the bulk and individual elements in #build().
      * Elements added individually go directly into this list so they are inserted at positions 0, 1, ... this is important for non-Def types since the accompanying {@code Map<Integer, LoadException>} uses the element's offset to correlate it to its LoadException.
      */
-    java.util.List<String> m_outPortNames = new java.util.ArrayList<>();
+    PersistentList<String> m_outPortNames = PersistentList.of();
     /** Temporarily holds onto elements set as a whole with setOutPortNames these are added to m_outPortNames in build */
     private java.util.List<String> m_outPortNamesBulkElements = new java.util.ArrayList<>();
     /** This exception is merged with the exceptions of the elements of this list into a single {@link LoadExceptionTree} during {@link #build()}. The LES is then put into {@link #m_m_exceptionalChildren}. */
@@ -154,7 +155,7 @@ public class ComponentMetadataDefBuilder {
      * Holds the final result of merging the bulk and individual elements in #build().
      * Elements added individually go directly into this list so they are inserted at positions 0, 1, ... this is important for non-Def types since the accompanying {@code Map<Integer, LoadException>} uses the element's offset to correlate it to its LoadException.
      */
-    java.util.List<String> m_inPortDescriptions = new java.util.ArrayList<>();
+    PersistentList<String> m_inPortDescriptions = PersistentList.of();
     /** Temporarily holds onto elements set as a whole with setInPortDescriptions these are added to m_inPortDescriptions in build */
     private java.util.List<String> m_inPortDescriptionsBulkElements = new java.util.ArrayList<>();
     /** This exception is merged with the exceptions of the elements of this list into a single {@link LoadExceptionTree} during {@link #build()}. The LES is then put into {@link #m_m_exceptionalChildren}. */
@@ -167,7 +168,7 @@ public class ComponentMetadataDefBuilder {
      * Holds the final result of merging the bulk and individual elements in #build().
      * Elements added individually go directly into this list so they are inserted at positions 0, 1, ... this is important for non-Def types since the accompanying {@code Map<Integer, LoadException>} uses the element's offset to correlate it to its LoadException.
      */
-    java.util.List<String> m_outPortDescriptions = new java.util.ArrayList<>();
+    PersistentList<String> m_outPortDescriptions = PersistentList.of();
     /** Temporarily holds onto elements set as a whole with setOutPortDescriptions these are added to m_outPortDescriptions in build */
     private java.util.List<String> m_outPortDescriptionsBulkElements = new java.util.ArrayList<>();
     /** This exception is merged with the exceptions of the elements of this list into a single {@link LoadExceptionTree} during {@link #build()}. The LES is then put into {@link #m_m_exceptionalChildren}. */
@@ -196,13 +197,13 @@ public ComponentMetadataDefBuilder(final ComponentMetadataDef toCopy) {
         m_created = toCopy.getCreated();
         m_lastModified = toCopy.getLastModified();
         m_description = toCopy.getDescription();
-        m_tags = toCopy.getTags();
-        m_links = toCopy.getLinks();
+        m_tags = PersistentList.copyOf(toCopy.getTags());
+        m_links = PersistentList.copyOf(toCopy.getLinks());
         m_contentType = toCopy.getContentType();
-        m_inPortNames = toCopy.getInPortNames();
-        m_outPortNames = toCopy.getOutPortNames();
-        m_inPortDescriptions = toCopy.getInPortDescriptions();
-        m_outPortDescriptions = toCopy.getOutPortDescriptions();
+        m_inPortNames = PersistentList.copyOf(toCopy.getInPortNames());
+        m_outPortNames = PersistentList.copyOf(toCopy.getOutPortNames());
+        m_inPortDescriptions = PersistentList.copyOf(toCopy.getInPortDescriptions());
+        m_outPortDescriptions = PersistentList.copyOf(toCopy.getOutPortDescriptions());
         m_icon = toCopy.getIcon();
         m_componentType = toCopy.getComponentType();
     }
@@ -448,7 +449,7 @@ public ComponentMetadataDefBuilder addToTags(FallibleSupplier<String> value, Str
             m_tagsElementSupplyExceptions.put(m_tags.size(), supplyException);
             toAdd = defaultValue;
         }
-        m_tags.add(toAdd);
+        m_tags = m_tags.plus(toAdd);
         return this;
     } 
     // -----------------------------------------------------------------------------------------------------------------
@@ -525,7 +526,7 @@ public ComponentMetadataDefBuilder addToLinks(FallibleSupplier<LinkDef> value, L
             var supplyException = new LoadException(e);
             toAdd = new DefaultLinkDef(defaultValue, supplyException);
         }
-        m_links.add(toAdd);
+        m_links = m_links.plus(toAdd);
         return this;
     } 
     // -----------------------------------------------------------------------------------------------------------------
@@ -643,7 +644,7 @@ public ComponentMetadataDefBuilder addToInPortNames(FallibleSupplier<String> val
             m_inPortNamesElementSupplyExceptions.put(m_inPortNames.size(), supplyException);
             toAdd = defaultValue;
         }
-        m_inPortNames.add(toAdd);
+        m_inPortNames = m_inPortNames.plus(toAdd);
         return this;
     } 
     // -----------------------------------------------------------------------------------------------------------------
@@ -717,7 +718,7 @@ public ComponentMetadataDefBuilder addToOutPortNames(FallibleSupplier<String> va
             m_outPortNamesElementSupplyExceptions.put(m_outPortNames.size(), supplyException);
             toAdd = defaultValue;
         }
-        m_outPortNames.add(toAdd);
+        m_outPortNames = m_outPortNames.plus(toAdd);
         return this;
     } 
     // -----------------------------------------------------------------------------------------------------------------
@@ -791,7 +792,7 @@ public ComponentMetadataDefBuilder addToInPortDescriptions(FallibleSupplier<Stri
             m_inPortDescriptionsElementSupplyExceptions.put(m_inPortDescriptions.size(), supplyException);
             toAdd = defaultValue;
         }
-        m_inPortDescriptions.add(toAdd);
+        m_inPortDescriptions = m_inPortDescriptions.plus(toAdd);
         return this;
     } 
     // -----------------------------------------------------------------------------------------------------------------
@@ -865,7 +866,7 @@ public ComponentMetadataDefBuilder addToOutPortDescriptions(FallibleSupplier<Str
             m_outPortDescriptionsElementSupplyExceptions.put(m_outPortDescriptions.size(), supplyException);
             toAdd = defaultValue;
         }
-        m_outPortDescriptions.add(toAdd);
+        m_outPortDescriptions = m_outPortDescriptions.plus(toAdd);
         return this;
     } 
     // -----------------------------------------------------------------------------------------------------------------
@@ -966,7 +967,7 @@ public DefaultComponentMetadataDef build() {
     	
         // contains the elements set with #setTags (those added with #addToTags have already been inserted into m_tags)
         m_tagsBulkElements = java.util.Objects.requireNonNullElse(m_tagsBulkElements, java.util.List.of());
-        m_tags.addAll(0, m_tagsBulkElements);
+        m_tags = PersistentList.copyOf(m_tagsBulkElements).plusAll(m_tags);
         
         var tagsLoadExceptionTree = org.knime.core.util.workflow.def.SimpleLoadExceptionTree
             .list(m_tagsElementSupplyExceptions, m_tagsContainerSupplyException);
@@ -976,7 +977,7 @@ public DefaultComponentMetadataDef build() {
         
         // contains the elements set with #setLinks (those added with #addToLinks have already been inserted into m_links)
         m_linksBulkElements = java.util.Objects.requireNonNullElse(m_linksBulkElements, java.util.List.of());
-        m_links.addAll(0, m_linksBulkElements);
+        m_links = PersistentList.copyOf(m_linksBulkElements).plusAll(m_links);
                 
         var linksLoadExceptionTree = org.knime.core.util.workflow.def.SimpleLoadExceptionTree
             .list(m_links, m_linksContainerSupplyException);
@@ -986,7 +987,7 @@ public DefaultComponentMetadataDef build() {
         
         // contains the elements set with #setInPortNames (those added with #addToInPortNames have already been inserted into m_inPortNames)
         m_inPortNamesBulkElements = java.util.Objects.requireNonNullElse(m_inPortNamesBulkElements, java.util.List.of());
-        m_inPortNames.addAll(0, m_inPortNamesBulkElements);
+        m_inPortNames = PersistentList.copyOf(m_inPortNamesBulkElements).plusAll(m_inPortNames);
         
         var inPortNamesLoadExceptionTree = org.knime.core.util.workflow.def.SimpleLoadExceptionTree
             .list(m_inPortNamesElementSupplyExceptions, m_inPortNamesContainerSupplyException);
@@ -996,7 +997,7 @@ public DefaultComponentMetadataDef build() {
         
         // contains the elements set with #setOutPortNames (those added with #addToOutPortNames have already been inserted into m_outPortNames)
         m_outPortNamesBulkElements = java.util.Objects.requireNonNullElse(m_outPortNamesBulkElements, java.util.List.of());
-        m_outPortNames.addAll(0, m_outPortNamesBulkElements);
+        m_outPortNames = PersistentList.copyOf(m_outPortNamesBulkElements).plusAll(m_outPortNames);
         
         var outPortNamesLoadExceptionTree = org.knime.core.util.workflow.def.SimpleLoadExceptionTree
             .list(m_outPortNamesElementSupplyExceptions, m_outPortNamesContainerSupplyException);
@@ -1006,7 +1007,7 @@ public DefaultComponentMetadataDef build() {
         
         // contains the elements set with #setInPortDescriptions (those added with #addToInPortDescriptions have already been inserted into m_inPortDescriptions)
         m_inPortDescriptionsBulkElements = java.util.Objects.requireNonNullElse(m_inPortDescriptionsBulkElements, java.util.List.of());
-        m_inPortDescriptions.addAll(0, m_inPortDescriptionsBulkElements);
+        m_inPortDescriptions = PersistentList.copyOf(m_inPortDescriptionsBulkElements).plusAll(m_inPortDescriptions);
         
         var inPortDescriptionsLoadExceptionTree = org.knime.core.util.workflow.def.SimpleLoadExceptionTree
             .list(m_inPortDescriptionsElementSupplyExceptions, m_inPortDescriptionsContainerSupplyException);
@@ -1016,7 +1017,7 @@ public DefaultComponentMetadataDef build() {
         
         // contains the elements set with #setOutPortDescriptions (those added with #addToOutPortDescriptions have already been inserted into m_outPortDescriptions)
         m_outPortDescriptionsBulkElements = java.util.Objects.requireNonNullElse(m_outPortDescriptionsBulkElements, java.util.List.of());
-        m_outPortDescriptions.addAll(0, m_outPortDescriptionsBulkElements);
+        m_outPortDescriptions = PersistentList.copyOf(m_outPortDescriptionsBulkElements).plusAll(m_outPortDescriptions);
         
         var outPortDescriptionsLoadExceptionTree = org.knime.core.util.workflow.def.SimpleLoadExceptionTree
             .list(m_outPortDescriptionsElementSupplyExceptions, m_outPortDescriptionsContainerSupplyException);
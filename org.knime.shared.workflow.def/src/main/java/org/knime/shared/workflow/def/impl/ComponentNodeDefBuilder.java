@@ -71,6 +71,7 @@
 import org.knime.core.util.workflow.def.FallibleSupplier;
 import org.knime.core.util.workflow.def.LoadException;
 import org.knime.core.util.workflow.def.LoadExceptionTree;
+import org.knime.core.util.workflow.def.PersistentList;
 /**
  * A node that contains a workflow. Similar to a metanode, except it has more flexibility, e.g., filtering the incoming and outgoing flow variables.
  * @author Martin Horn, KNIME GmbH, Konstanz, Germany
@@ -124,7 +125,7 @@ public class ComponentNodeDefBuilder {
      * Holds the final result of merging the bulk and individual elements in #build().
      * Elements added individually go directly into this list so they are inserted at positions 0, 1, ... this is important for non-Def types since the accompanying {@code Map<Integer, LoadException>} uses the element's offset to correlate it to its LoadException.
      */
-    java.util.List<PortDef> m_inPorts = new java.util.ArrayList<>();
+    PersistentList<PortDef> m_inPorts = PersistentList.of();
     /** Temporarily holds onto elements set as a whole with setInPorts these are added to m_inPorts in build */
     private java.util.List<PortDef> m_inPortsBulkElements = new java.util.ArrayList<>();
     /** This exception is merged with the exceptions of the elements of this list into a single {@link LoadExceptionTree} during {@link #build()}. The LES is then put into {@link #m_m_exceptionalChildren}. */
@@ -134,7 +135,7 @@ public class ComponentNodeDefBuilder {
      * Holds the final result of merging the bulk and individual elements in #build().
      * Elements added individually go directly into this list so they are inserted at positions 0, 1, ... this is important for non-Def types since the accompanying {@code Map<Integer, LoadException>} uses the element's offset to correlate it to its LoadException.
      */
-    java.util.List<PortDef> m_outPorts = new java.util.ArrayList<>();
+    PersistentList<PortDef> m_outPorts = PersistentList.of();
     /** Temporarily holds onto elements set as a whole with setOutPorts these are added to m_outPorts in build */
     private java.util.List<PortDef> m_outPortsBulkElements = new java.util.ArrayList<>();
     /** This exception is merged with the exceptions of the elements of this list into a single {@link LoadExceptionTree} during {@link #build()}. The LES is then put into {@link #m_m_exceptionalChildren}. */
@@ -177,8 +178,8 @@ public ComponentNodeDefBuilder(final ComponentNodeDef toCopy) {
         m_internalNodeSubSettings = toCopy.getInternalNodeSubSettings();
         m_variableSettings = toCopy.getVariableSettings();
         m_workflow = toCopy.getWorkflow();
-        m_inPorts = toCopy.getInPorts();
-        m_outPorts = toCopy.getOutPorts();
+        m_inPorts = PersistentList.copyOf(toCopy.getInPorts());
+        m_outPorts = PersistentList.copyOf(toCopy.getOutPorts());
         m_cipher = toCopy.getCipher();
         m_virtualInNodeId = toCopy.getVirtualInNodeId();
         m_virtualOutNodeId = toCopy.getVirtualOutNodeId();
@@ -764,7 +765,7 @@ public ComponentNodeDefBuilder addToInPorts(FallibleSupplier<PortDef> value, Por
             var supplyException = new LoadException(e);
             toAdd = new DefaultPortDef(defaultValue, supplyException);
         }
-        m_inPorts.add(toAdd);
+        m_inPorts = m_inPorts.plus(toAdd);
         return this;
     } 
     // -----------------------------------------------------------------------------------------------------------------
@@ -837,7 +838,7 @@ public ComponentNodeDefBuilder addToOutPorts(FallibleSupplier<PortDef> value, Po
             var supplyException = new LoadException(e);
             toAdd = new DefaultPortDef(defaultValue, supplyException);
         }
-        m_outPorts.add(toAdd);
+        m_outPorts = m_outPorts.plus(toAdd);
         return this;
     } 
     // -----------------------------------------------------------------------------------------------------------------
@@ -1176,7 +1177,7 @@ public DefaultComponentNodeDef build() {
     	
         // contains the elements set with #setInPorts (those added with #addToInPorts have already been inserted into m_inPorts)
         m_inPortsBulkElements = java.util.Objects.requireNonNullElse(m_inPortsBulkElements, java.util.List.of());
-        m_inPorts.addAll(0, m_inPortsBulkElements);
+        m_inPorts = PersistentList.copyOf(m_inPortsBulkElements).plusAll(m_inPorts);
                 
         var inPortsLoadExceptionTree = org.knime.core.util.workflow.def.SimpleLoadExceptionTree
             .list(m_inPorts, m_inPortsContainerSupplyException);
@@ -1186,7 +1187,7 @@ public DefaultComponentNodeDef build() {
         
         // contains the elements set with #setOutPorts (those added with #addToOutPorts have already been inserted into m_outPorts)
         m_outPortsBulkElements = java.util.Objects.requireNonNullElse(m_outPortsBulkElements, java.util.List.of());
-        m_outPorts.addAll(0, m_outPortsBulkElements);
+        m_outPorts = PersistentList.copyOf(m_outPortsBulkElements).plusAll(m_outPorts);
                 
         var outPortsLoadExceptionTree = org.knime.core.util.workflow.def.SimpleLoadExceptionTree
             .list(m_outPorts, m_outPortsContainerSupplyException);
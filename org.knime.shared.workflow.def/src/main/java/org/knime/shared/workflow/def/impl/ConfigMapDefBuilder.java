@@ -59,6 +59,7 @@
 import org.knime.core.util.workflow.def.FallibleSupplier;
 import org.knime.core.util.workflow.def.LoadException;
 import org.knime.core.util.workflow.def.LoadExceptionTree;
+import org.knime.core.util.workflow.def.PersistentMap;
 /**
  * ConfigMapDefBuilder
  * @author Martin Horn, KNIME GmbH, Konstanz, Germany
@@ -93,7 +94,7 @@ public class ConfigMapDefBuilder {
      * Holds the final result of merging the bulk and individual elements in #build().
      * Elements added individually go directly into this map.
      */
-    java.util.Map<String, ConfigDef> m_children = new java.util.LinkedHashMap<>();
+    PersistentMap<String, ConfigDef> m_children = PersistentMap.of();
     /** Temporarily holds onto elements set as a whole with setChildren these are added to m_children in build */
     private java.util.Map<String, ConfigDef> m_childrenBulkElements = new java.util.HashMap<>();
     /** This exception is merged with the exceptions of the elements of this map into a single {@link LoadExceptionTree} during {@link #build()}. The LES is then put into {@link #m_m_exceptionalChildren}. */
@@ -111,7 +112,7 @@ public ConfigMapDefBuilder() {
     public ConfigMapDefBuilder(final ConfigMapDef toCopy) {
         m_configType = toCopy.getConfigType();
         m_key = toCopy.getKey();
-        m_children = toCopy.getChildren();
+        m_children = PersistentMap.copyOf(toCopy.getChildren());
     }
 
     // -----------------------------------------------------------------------------------------------------------------
@@ -268,7 +269,7 @@ public ConfigMapDefBuilder putToChildren(String key, FallibleSupplier<ConfigDef>
             // copies values to a new def (of the appropriate subtype, if any) and adds the load exception
             toPut = DefaultConfigDef.withException(defaultValue, supplyException);
         }
-        m_children.put(key, toPut);
+        m_children = m_children.plus(key, toPut);
         return this;
     }
 
@@ -288,11 +289,8 @@ public DefaultConfigMapDef build() {
     	
         // contains the elements set with #setChildren (those added with #addToChildren have already been inserted into m_children)
         m_childrenBulkElements = java.util.Objects.requireNonNullElse(m_childrenBulkElements, java.util.Map.of());
-        final java.util.Map<String, ConfigDef> childrenMerged = new java.util.LinkedHashMap<>();
         // in rough analogy to list containers, the bulk elements go first and then the individual elements are added
-        childrenMerged.putAll(m_childrenBulkElements);
-        childrenMerged.putAll(m_children);
-        m_children = childrenMerged;
+        m_children = PersistentMap.copyOf(m_childrenBulkElements).plusAll(m_children);
                 
         var childrenLoadExceptionTree = org.knime.core.util.workflow.def.SimpleLoadExceptionTree
             .map(m_children, m_childrenContainerSupplyException);
@@ -58,6 +58,7 @@
 import org.knime.core.util.workflow.def.FallibleSupplier;
 import org.knime.core.util.workflow.def.LoadException;
 import org.knime.core.util.workflow.def.LoadExceptionTree;
+import org.knime.core.util.workflow.def.PersistentList;
 /**
  * ConfigValueIntArrayDefBuilder
  * @author Martin Horn, KNIME GmbH, Konstanz, Germany
@@ -89,7 +90,7 @@ public class ConfigValueIntArrayDefBuilder {
      * Holds the final result of merging the bulk and individual elements in #build().
      * Elements added individually go directly into this list so they are inserted at positions 0, 1, ... this is important for non-Def types since the accompanying {@code Map<Integer, LoadException>} uses the element's offset to correlate it to its LoadException.
      */
-    java.util.List<Integer> m_array = new java.util.ArrayList<>();
+    PersistentList<Integer> m_array = PersistentList.of();
     /** Temporarily holds onto elements set as a whole with setArray these are added to m_array in build */
     private java.util.List<Integer> m_arrayBulkElements = new java.util.ArrayList<>();
     /** This exception is merged with the exceptions of the elements of this list into a single {@link LoadExceptionTree} during {@link #build()}. The LES is then put into {@link #m_m_exceptionalChildren}. */
@@ -109,7 +110,7 @@ public ConfigValueIntArrayDefBuilder() {
      */
     public ConfigValueIntArrayDefBuilder(final ConfigValueIntArrayDef toCopy) {
         m_configType = toCopy.getConfigType();
-        m_array = toCopy.getArray();
+        m_array = PersistentList.copyOf(toCopy.getArray());
     }
 
     // -----------------------------------------------------------------------------------------------------------------
@@ -225,7 +226,7 @@ public ConfigValueIntArrayDefBuilder addToArray(FallibleSupplier<Integer> value,
             m_arrayElementSupplyExceptions.put(m_array.size(), supplyException);
             toAdd = defaultValue;
         }
-        m_array.add(toAdd);
+        m_array = m_array.plus(toAdd);
         return this;
     } 
     // -----------------------------------------------------------------------------------------------------------------
@@ -244,7 +245,7 @@ public DefaultConfigValueIntArrayDef build() {
     	
         // contains the elements set with #setArray (those added with #addToArray have already been inserted into m_array)
         m_arrayBulkElements = java.util.Objects.requireNonNullElse(m_arrayBulkElements, java.util.List.of());
-        m_array.addAll(0, m_arrayBulkElements);
+        m_array = PersistentList.copyOf(m_arrayBulkElements).plusAll(m_array);
         
         var arrayLoadExceptionTree = org.knime.core.util.workflow.def.SimpleLoadExceptionTree
             .list(m_arrayElementSupplyExceptions, m_arrayContainerSupplyException);
@@ -58,6 +58,7 @@
 import org.knime.core.util.workflow.def.FallibleSupplier;
 import org.knime.core.util.workflow.def.LoadException;
 import org.knime.core.util.workflow.def.LoadExceptionTree;
+import org.knime.core.util.workflow.def.PersistentList;
 /**
  * ConnectionUISettingsDefBuilder
  * @author Martin Horn, KNIME GmbH, Konstanz, Germany
@@ -86,7 +87,7 @@ public class ConnectionUISettingsDefBuilder {
      * Holds the final result of merging the bulk and individual elements in #build().
      * Elements added individually go directly into this list so they are inserted at positions 0, 1, ... this is important for non-Def types since the accompanying {@code Map<Integer, LoadException>} uses the element's offset to correlate it to its LoadException.
      */
-    java.util.List<CoordinateDef> m_bendPoints = new java.util.ArrayList<>();
+    PersistentList<CoordinateDef> m_bendPoints = PersistentList.of();
     /** Temporarily holds onto elements set as a whole with setBendPoints these are added to m_bendPoints in build */
     private java.util.List<CoordinateDef> m_bendPointsBulkElements = new java.util.ArrayList<>();
     /** This exception is merged with the exceptions of the elements of this list into a single {@link LoadExceptionTree} during {@link #build()}. The LES is then put into {@link #m_m_exceptionalChildren}. */
@@ -102,7 +103,7 @@ public ConnectionUISettingsDefBuilder() {
      * Create a new builder from an existing instance.
      */
     public ConnectionUISettingsDefBuilder(final ConnectionUISettingsDef toCopy) {
-        m_bendPoints = toCopy.getBendPoints();
+        m_bendPoints = PersistentList.copyOf(toCopy.getBendPoints());
     }
 
     // -----------------------------------------------------------------------------------------------------------------
@@ -175,7 +176,7 @@ public ConnectionUISettingsDefBuilder addToBendPoints(FallibleSupplier<Coordinat
             var supplyException = new LoadException(e);
             toAdd = new DefaultCoordinateDef(defaultValue, supplyException);
         }
-        m_bendPoints.add(toAdd);
+        m_bendPoints = m_bendPoints.plus(toAdd);
         return this;
     } 
     // -----------------------------------------------------------------------------------------------------------------
@@ -191,7 +192,7 @@ public DefaultConnectionUISettingsDef build() {
     	
         // contains the elements set with #setBendPoints (those added with #addToBendPoints have already been inserted into m_bendPoints)
         m_bendPointsBulkElements = java.util.Objects.requireNonNullElse(m_bendPointsBulkElements, java.util.List.of());
-        m_bendPoints.addAll(0, m_bendPointsBulkElements);
+        m_bendPoints = PersistentList.copyOf(m_bendPointsBulkElements).plusAll(m_bendPoints);
                 
         var bendPointsLoadExceptionTree = org.knime.core.util.workflow.def.SimpleLoadExceptionTree
             .list(m_bendPoints, m_bendPointsContainerSupplyException);
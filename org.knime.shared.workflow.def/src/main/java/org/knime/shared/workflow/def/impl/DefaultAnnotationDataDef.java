@@ -162,7 +162,7 @@ public class DefaultAnnotationDataDef implements AnnotationDataDef {
      * @param builder source
      */
     DefaultAnnotationDataDef(AnnotationDataDefBuilder builder) {
-        // TODO make immutable copies!!
+        // collections are persistent, i.e., immutable and structurally shared with the builder, no copy needed
         
             
         m_text = builder.m_text;
@@ -483,6 +483,9 @@ public Optional<LoadExceptionTree<Integer>> getStylesExceptionTree(){
     // Utility
     // -----------------------------------------------------------------------------------------------------------------
 
+    /** Cached hash code, {@code 0} if not computed yet. Defs are immutable, so it never needs to be invalidated. */
+    private transient int m_hashCode;
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) {
@@ -495,6 +498,10 @@ public boolean equals(final Object o) {
             return false;
         }
         DefaultAnnotationDataDef other = (DefaultAnnotationDataDef)o;
+        if (hashCode() != other.hashCode()) {
+            // hash codes are cached, this is cheap and avoids comparing entire subtrees in most cases
+            return false;
+        }
         var equalsBuilder = new org.apache.commons.lang3.builder.EqualsBuilder();
         equalsBuilder.append(m_text, other.m_text);
         equalsBuilder.append(m_contentType, other.m_contentType);
@@ -513,20 +520,25 @@ public boolean equals(final Object o) {
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(m_text)
-                .append(m_contentType)
-                .append(m_location)
-                .append(m_width)
-                .append(m_height)
-                .append(m_textAlignment)
-                .append(m_borderSize)
-                .append(m_borderColor)
-                .append(m_bgcolor)
-                .append(m_annotationVersion)
-                .append(m_defaultFontSize)
-                .append(m_styles)
-                .toHashCode();
+        var hashCode = m_hashCode;
+        if (hashCode == 0) {
+            hashCode = new HashCodeBuilder()
+                    .append(m_text)
+                    .append(m_contentType)
+                    .append(m_location)
+                    .append(m_width)
+                    .append(m_height)
+                    .append(m_textAlignment)
+                    .append(m_borderSize)
+                    .append(m_borderColor)
+                    .append(m_bgcolor)
+                    .append(m_annotationVersion)
+                    .append(m_defaultFontSize)
+                    .append(m_styles)
+                    .toHashCode();
+            m_hashCode = hashCode;
+        }
+        return hashCode;
     }
 
 } 
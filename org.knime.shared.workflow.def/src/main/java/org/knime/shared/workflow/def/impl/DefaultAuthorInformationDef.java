@@ -118,9 +118,6 @@ public class DefaultAuthorInformationDef implements AuthorInformationDef {
      * @param builder source
      */
     DefaultAuthorInformationDef(AuthorInformationDefBuilder builder) {
-        // TODO make immutable copies!!
-        
-            
         m_authoredBy = builder.m_authoredBy;
         m_authoredWhen = builder.m_authoredWhen;
         m_lastEditedBy = builder.m_lastEditedBy;
@@ -279,6 +276,9 @@ public Optional<LoadException> getLastEditedWhenSupplyException(){
     // Utility
     // -----------------------------------------------------------------------------------------------------------------
 
+    /** Cached hash code, {@code 0} if not computed yet. Defs are immutable, so it never needs to be invalidated. */
+    private transient int m_hashCode;
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) {
@@ -291,6 +291,10 @@ public boolean equals(final Object o) {
             return false;
         }
         DefaultAuthorInformationDef other = (DefaultAuthorInformationDef)o;
+        if (hashCode() != other.hashCode()) {
+            // hash codes are cached, this is cheap and avoids comparing entire subtrees in most cases
+            return false;
+        }
         var equalsBuilder = new org.apache.commons.lang3.builder.EqualsBuilder();
         equalsBuilder.append(m_authoredBy, other.m_authoredBy);
         equalsBuilder.append(m_authoredWhen, other.m_authoredWhen);
@@ -301,12 +305,17 @@ public boolean equals(final Object o) {
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(m_authoredBy)
-                .append(m_authoredWhen)
-                .append(m_lastEditedBy)
-                .append(m_lastEditedWhen)
-                .toHashCode();
+        var hashCode = m_hashCode;
+        if (hashCode == 0) {
+            hashCode = new HashCodeBuilder()
+                    .append(m_authoredBy)
+                    .append(m_authoredWhen)
+                    .append(m_lastEditedBy)
+                    .append(m_lastEditedWhen)
+                    .toHashCode();
+            m_hashCode = hashCode;
+        }
+        return hashCode;
     }
 
 } 
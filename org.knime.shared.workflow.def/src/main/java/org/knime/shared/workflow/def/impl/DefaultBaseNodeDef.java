@@ -211,6 +211,9 @@ public JobManagerDef getJobManager() {
     // Utility
     // -----------------------------------------------------------------------------------------------------------------
 
+    /** Cached hash code, {@code 0} if not computed yet. Defs are immutable, so it never needs to be invalidated. */
+    private transient int m_hashCode;
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) {
@@ -223,6 +226,10 @@ public boolean equals(final Object o) {
             return false;
         }
         DefaultBaseNodeDef other = (DefaultBaseNodeDef)o;
+        if (hashCode() != other.hashCode()) {
+            // hash codes are cached, this is cheap and avoids comparing entire subtrees in most cases
+            return false;
+        }
         var equalsBuilder = new org.apache.commons.lang3.builder.EqualsBuilder();
         equalsBuilder.append(m_id, other.m_id);
         equalsBuilder.append(m_nodeType, other.m_nodeType);
@@ -236,15 +243,20 @@ public boolean equals(final Object o) {
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(m_id)
-                .append(m_nodeType)
-                .append(m_customDescription)
-                .append(m_annotation)
-                .append(m_uiInfo)
-                .append(m_locks)
-                .append(m_jobManager)
-                .toHashCode();
+        var hashCode = m_hashCode;
+        if (hashCode == 0) {
+            hashCode = new HashCodeBuilder()
+                    .append(m_id)
+                    .append(m_nodeType)
+                    .append(m_customDescription)
+                    .append(m_annotation)
+                    .append(m_uiInfo)
+                    .append(m_locks)
+                    .append(m_jobManager)
+                    .toHashCode();
+            m_hashCode = hashCode;
+        }
+        return hashCode;
     }
 
 } 
@@ -115,9 +115,6 @@ public class DefaultBoundsDef implements BoundsDef {
      * @param builder source
      */
     DefaultBoundsDef(BoundsDefBuilder builder) {
-        // TODO make immutable copies!!
-        
-            
         m_location = builder.m_location;
         m_width = builder.m_width;
         m_height = builder.m_height;
@@ -272,6 +269,9 @@ public Optional<LoadException> getHeightSupplyException(){
     // Utility
     // -----------------------------------------------------------------------------------------------------------------
 
+    /** Cached hash code, {@code 0} if not computed yet. Defs are immutable, so it never needs to be invalidated. */
+    private transient int m_hashCode;
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) {
@@ -284,6 +284,10 @@ public boolean equals(final Object o) {
             return false;
         }
         DefaultBoundsDef other = (DefaultBoundsDef)o;
+        if (hashCode() != other.hashCode()) {
+            // hash codes are cached, this is cheap and avoids comparing entire subtrees in most cases
+            return false;
+        }
         var equalsBuilder = new org.apache.commons.lang3.builder.EqualsBuilder();
         equalsBuilder.append(m_location, other.m_location);
         equalsBuilder.append(m_width, other.m_width);
@@ -293,11 +297,16 @@ public boolean equals(final Object o) {
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(m_location)
-                .append(m_width)
-                .append(m_height)
-                .toHashCode();
+        var hashCode = m_hashCode;
+        if (hashCode == 0) {
+            hashCode = new HashCodeBuilder()
+                    .append(m_location)
+                    .append(m_width)
+                    .append(m_height)
+                    .toHashCode();
+            m_hashCode = hashCode;
+        }
+        return hashCode;
     }
 
 } 
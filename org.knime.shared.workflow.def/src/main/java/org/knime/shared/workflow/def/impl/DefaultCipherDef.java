@@ -115,9 +115,6 @@ public class DefaultCipherDef implements CipherDef {
      * @param builder source
      */
     DefaultCipherDef(CipherDefBuilder builder) {
-        // TODO make immutable copies!!
-        
-            
         m_passwordDigest = builder.m_passwordDigest;
         m_encryptionKey = builder.m_encryptionKey;
         m_passwordHint = builder.m_passwordHint;
@@ -259,6 +256,9 @@ public Optional<LoadException> getPasswordHintSupplyException(){
     // Utility
     // -----------------------------------------------------------------------------------------------------------------
 
+    /** Cached hash code, {@code 0} if not computed yet. Defs are immutable, so it never needs to be invalidated. */
+    private transient int m_hashCode;
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) {
@@ -271,6 +271,10 @@ public boolean equals(final Object o) {
             return false;
         }
         DefaultCipherDef other = (DefaultCipherDef)o;
+        if (hashCode() != other.hashCode()) {
+            // hash codes are cached, this is cheap and avoids comparing entire subtrees in most cases
+            return false;
+        }
         var equalsBuilder = new org.apache.commons.lang3.builder.EqualsBuilder();
         equalsBuilder.append(m_passwordDigest, other.m_passwordDigest);
         equalsBuilder.append(m_encryptionKey, other.m_encryptionKey);
@@ -280,11 +284,16 @@ public boolean equals(final Object o) {
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(m_passwordDigest)
-                .append(m_encryptionKey)
-                .append(m_passwordHint)
-                .toHashCode();
+        var hashCode = m_hashCode;
+        if (hashCode == 0) {
+            hashCode = new HashCodeBuilder()
+                    .append(m_passwordDigest)
+                    .append(m_encryptionKey)
+                    .append(m_passwordHint)
+                    .toHashCode();
+            m_hashCode = hashCode;
+        }
+        return hashCode;
     }
 
 } 
@@ -117,9 +117,6 @@ public class DefaultComponentDialogSettingsDef implements ComponentDialogSetting
      * @param builder source
      */
     DefaultComponentDialogSettingsDef(ComponentDialogSettingsDefBuilder builder) {
-        // TODO make immutable copies!!
-        
-            
         m_layoutJSON = builder.m_layoutJSON;
         m_configurationLayoutJSON = builder.m_configurationLayoutJSON;
         m_hideInWizard = builder.m_hideInWizard;
@@ -278,6 +275,9 @@ public Optional<LoadException> getCssStylesSupplyException(){
     // Utility
     // -----------------------------------------------------------------------------------------------------------------
 
+    /** Cached hash code, {@code 0} if not computed yet. Defs are immutable, so it never needs to be invalidated. */
+    private transient int m_hashCode;
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) {
@@ -290,6 +290,10 @@ public boolean equals(final Object o) {
             return false;
         }
         DefaultComponentDialogSettingsDef other = (DefaultComponentDialogSettingsDef)o;
+        if (hashCode() != other.hashCode()) {
+            // hash codes are cached, this is cheap and avoids comparing entire subtrees in most cases
+            return false;
+        }
         var equalsBuilder = new org.apache.commons.lang3.builder.EqualsBuilder();
         equalsBuilder.append(m_layoutJSON, other.m_layoutJSON);
         equalsBuilder.append(m_configurationLayoutJSON, other.m_configurationLayoutJSON);
@@ -300,12 +304,17 @@ public boolean equals(final Object o) {
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(m_layoutJSON)
-                .append(m_configurationLayoutJSON)
-                .append(m_hideInWizard)
-                .append(m_cssStyles)
-                .toHashCode();
+        var hashCode = m_hashCode;
+        if (hashCode == 0) {
+            hashCode = new HashCodeBuilder()
+                    .append(m_layoutJSON)
+                    .append(m_configurationLayoutJSON)
+                    .append(m_hideInWizard)
+                    .append(m_cssStyles)
+                    .toHashCode();
+            m_hashCode = hashCode;
+        }
+        return hashCode;
     }
 
 } 
@@ -131,7 +131,7 @@ public class DefaultComponentMetadataDef extends DefaultNodeContainerMetadataDef
      * @param builder source
      */
     DefaultComponentMetadataDef(ComponentMetadataDefBuilder builder) {
-        // TODO make immutable copies!!
+        // collections are persistent, i.e., immutable and structurally shared with the builder, no copy needed
         super();
             
         m_author = builder.m_author;
@@ -594,6 +594,9 @@ public Optional<LoadException> getComponentTypeSupplyException(){
     // Utility
     // -----------------------------------------------------------------------------------------------------------------
 
+    /** Cached hash code, {@code 0} if not computed yet. Defs are immutable, so it never needs to be invalidated. */
+    private transient int m_hashCode;
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) {
@@ -606,7 +609,18 @@ public boolean equals(final Object o) {
             return false;
         }
         DefaultComponentMetadataDef other = (DefaultComponentMetadataDef)o;
+        if (hashCode() != other.hashCode()) {
+            // hash codes are cached, this is cheap and avoids comparing entire subtrees in most cases
+            return false;
+        }
         var equalsBuilder = new org.apache.commons.lang3.builder.EqualsBuilder();
+        equalsBuilder.append(m_author, other.m_author);
+        equalsBuilder.append(m_created, other.m_created);
+        equalsBuilder.append(m_lastModified, other.m_lastModified);
+        equalsBuilder.append(m_description, other.m_description);
+        equalsBuilder.append(m_tags, other.m_tags);
+        equalsBuilder.append(m_links, other.m_links);
+        equalsBuilder.append(m_contentType, other.m_contentType);
         equalsBuilder.append(m_inPortNames, other.m_inPortNames);
         equalsBuilder.append(m_outPortNames, other.m_outPortNames);
         equalsBuilder.append(m_inPortDescriptions, other.m_inPortDescriptions);
@@ -618,21 +632,26 @@ public boolean equals(final Object o) {
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(m_author)
-                .append(m_created)
-                .append(m_lastModified)
-                .append(m_description)
-                .append(m_tags)
-                .append(m_links)
-                .append(m_contentType)
-                .append(m_inPortNames)
-                .append(m_outPortNames)
-                .append(m_inPortDescriptions)
-                .append(m_outPortDescriptions)
-                .append(m_icon)
-                .append(m_componentType)
-                .toHashCode();
+        var hashCode = m_hashCode;
+        if (hashCode == 0) {
+            hashCode = new HashCodeBuilder()
+                    .append(m_author)
+                    .append(m_created)
+                    .append(m_lastModified)
+                    .append(m_description)
+                    .append(m_tags)
+                    .append(m_links)
+                    .append(m_contentType)
+                    .append(m_inPortNames)
+                    .append(m_outPortNames)
+                    .append(m_inPortDescriptions)
+                    .append(m_outPortDescriptions)
+                    .append(m_icon)
+                    .append(m_componentType)
+                    .toHashCode();
+            m_hashCode = hashCode;
+        }
+        return hashCode;
     }
 
 } 
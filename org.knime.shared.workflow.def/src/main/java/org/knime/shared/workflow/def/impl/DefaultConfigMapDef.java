@@ -109,7 +109,7 @@ public class DefaultConfigMapDef extends DefaultConfigDef implements ConfigMapDe
      * @param builder source
      */
     DefaultConfigMapDef(ConfigMapDefBuilder builder) {
-        // TODO make immutable copies!!
+        // collections are persistent, i.e., immutable and structurally shared with the builder, no copy needed
         super();
             
         m_configType = builder.m_configType;
@@ -264,6 +264,9 @@ public Optional<LoadExceptionTree<String>> getChildrenExceptionTree(){
     // Utility
     // -----------------------------------------------------------------------------------------------------------------
 
+    /** Cached hash code, {@code 0} if not computed yet. Defs are immutable, so it never needs to be invalidated. */
+    private transient int m_hashCode;
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) {
@@ -276,7 +279,12 @@ public boolean equals(final Object o) {
             return false;
         }
         DefaultConfigMapDef other = (DefaultConfigMapDef)o;
+        if (hashCode() != other.hashCode()) {
+            // hash codes are cached, this is cheap and avoids comparing entire subtrees in most cases
+            return false;
+        }
         var equalsBuilder = new org.apache.commons.lang3.builder.EqualsBuilder();
+        equalsBuilder.append(m_configType, other.m_configType);
         equalsBuilder.append(m_key, other.m_key);
         equalsBuilder.append(m_children, other.m_children);
         return equalsBuilder.isEquals();
@@ -284,11 +292,16 @@ public boolean equals(final Object o) {
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(m_configType)
-                .append(m_key)
-                .append(m_children)
-                .toHashCode();
+        var hashCode = m_hashCode;
+        if (hashCode == 0) {
+            hashCode = new HashCodeBuilder()
+                    .append(m_configType)
+                    .append(m_key)
+                    .append(m_children)
+                    .toHashCode();
+            m_hashCode = hashCode;
+        }
+        return hashCode;
     }
 
 } 
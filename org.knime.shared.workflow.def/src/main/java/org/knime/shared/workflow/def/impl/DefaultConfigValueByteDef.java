@@ -103,7 +103,6 @@ public class DefaultConfigValueByteDef extends DefaultConfigValueDef implements
      * @param builder source
      */
     DefaultConfigValueByteDef(ConfigValueByteDefBuilder builder) {
-        // TODO make immutable copies!!
         super();
             
         m_configType = builder.m_configType;
@@ -230,6 +229,9 @@ public Optional<LoadException> getValueSupplyException(){
     // Utility
     // -----------------------------------------------------------------------------------------------------------------
 
+    /** Cached hash code, {@code 0} if not computed yet. Defs are immutable, so it never needs to be invalidated. */
+    private transient int m_hashCode;
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) {
@@ -242,17 +244,27 @@ public boolean equals(final Object o) {
             return false;
         }
         DefaultConfigValueByteDef other = (DefaultConfigValueByteDef)o;
+        if (hashCode() != other.hashCode()) {
+            // hash codes are cached, this is cheap and avoids comparing entire subtrees in most cases
+            return false;
+        }
         var equalsBuilder = new org.apache.commons.lang3.builder.EqualsBuilder();
+        equalsBuilder.append(m_configType, other.m_configType);
         equalsBuilder.append(m_value, other.m_value);
         return equalsBuilder.isEquals();
     }
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(m_configType)
-                .append(m_value)
-                .toHashCode();
+        var hashCode = m_hashCode;
+        if (hashCode == 0) {
+            hashCode = new HashCodeBuilder()
+                    .append(m_configType)
+                    .append(m_value)
+                    .toHashCode();
+            m_hashCode = hashCode;
+        }
+        return hashCode;
     }
 
 } 
@@ -103,7 +103,7 @@ public class DefaultConfigValueDoubleArrayDef extends DefaultConfigValueArrayDef
      * @param builder source
      */
     DefaultConfigValueDoubleArrayDef(ConfigValueDoubleArrayDefBuilder builder) {
-        // TODO make immutable copies!!
+        // collections are persistent, i.e., immutable and structurally shared with the builder, no copy needed
         super();
             
         m_configType = builder.m_configType;
@@ -251,6 +251,9 @@ public Optional<LoadException> getArrayElementSupplyException(Integer childIdent
     // Utility
     // -----------------------------------------------------------------------------------------------------------------
 
+    /** Cached hash code, {@code 0} if not computed yet. Defs are immutable, so it never needs to be invalidated. */
+    private transient int m_hashCode;
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) {
@@ -263,17 +266,27 @@ public boolean equals(final Object o) {
             return false;
         }
         DefaultConfigValueDoubleArrayDef other = (DefaultConfigValueDoubleArrayDef)o;
+        if (hashCode() != other.hashCode()) {
+            // hash codes are cached, this is cheap and avoids comparing entire subtrees in most cases
+            return false;
+        }
         var equalsBuilder = new org.apache.commons.lang3.builder.EqualsBuilder();
+        equalsBuilder.append(m_configType, other.m_configType);
         equalsBuilder.append(m_array, other.m_array);
         return equalsBuilder.isEquals();
     }
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(m_configType)
-                .append(m_array)
-                .toHashCode();
+        var hashCode = m_hashCode;
+        if (hashCode == 0) {
+            hashCode = new HashCodeBuilder()
+                    .append(m_configType)
+                    .append(m_array)
+                    .toHashCode();
+            m_hashCode = hashCode;
+        }
+        return hashCode;
     }
 
 } 
@@ -205,6 +205,9 @@ public ConfigMapDef getVariableSettings() {
     // Utility
     // -----------------------------------------------------------------------------------------------------------------
 
+    /** Cached hash code, {@code 0} if not computed yet. Defs are immutable, so it never needs to be invalidated. */
+    private transient int m_hashCode;
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) {
@@ -217,7 +220,18 @@ public boolean equals(final Object o) {
             return false;
         }
         DefaultConfigurableNodeDef other = (DefaultConfigurableNodeDef)o;
+        if (hashCode() != other.hashCode()) {
+            // hash codes are cached, this is cheap and avoids comparing entire subtrees in most cases
+            return false;
+        }
         var equalsBuilder = new org.apache.commons.lang3.builder.EqualsBuilder();
+        equalsBuilder.append(m_id, other.m_id);
+        equalsBuilder.append(m_nodeType, other.m_nodeType);
+        equalsBuilder.append(m_customDescription, other.m_customDescription);
+        equalsBuilder.append(m_annotation, other.m_annotation);
+        equalsBuilder.append(m_uiInfo, other.m_uiInfo);
+        equalsBuilder.append(m_locks, other.m_locks);
+        equalsBuilder.append(m_jobManager, other.m_jobManager);
         equalsBuilder.append(m_modelSettings, other.m_modelSettings);
         equalsBuilder.append(m_internalNodeSubSettings, other.m_internalNodeSubSettings);
         equalsBuilder.append(m_variableSettings, other.m_variableSettings);
@@ -226,18 +240,23 @@ public boolean equals(final Object o) {
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(m_id)
-                .append(m_nodeType)
-                .append(m_customDescription)
-                .append(m_annotation)
-                .append(m_uiInfo)
-                .append(m_locks)
-                .append(m_jobManager)
-                .append(m_modelSettings)
-                .append(m_internalNodeSubSettings)
-                .append(m_variableSettings)
-                .toHashCode();
+        var hashCode = m_hashCode;
+        if (hashCode == 0) {
+            hashCode = new HashCodeBuilder()
+                    .append(m_id)
+                    .append(m_nodeType)
+                    .append(m_customDescription)
+                    .append(m_annotation)
+                    .append(m_uiInfo)
+                    .append(m_locks)
+                    .append(m_jobManager)
+                    .append(m_modelSettings)
+                    .append(m_internalNodeSubSettings)
+                    .append(m_variableSettings)
+                    .toHashCode();
+            m_hashCode = hashCode;
+        }
+        return hashCode;
     }
 
 } 
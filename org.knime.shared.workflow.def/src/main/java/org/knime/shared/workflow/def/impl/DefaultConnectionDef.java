@@ -128,9 +128,6 @@ public class DefaultConnectionDef implements ConnectionDef {
      * @param builder source
      */
     DefaultConnectionDef(ConnectionDefBuilder builder) {
-        // TODO make immutable copies!!
-        
-            
         m_sourceID = builder.m_sourceID;
         m_destID = builder.m_destID;
         m_sourcePort = builder.m_sourcePort;
@@ -336,6 +333,9 @@ public Optional<DefaultConnectionUISettingsDef> getFaultyUiSettings(){
     // Utility
     // -----------------------------------------------------------------------------------------------------------------
 
+    /** Cached hash code, {@code 0} if not computed yet. Defs are immutable, so it never needs to be invalidated. */
+    private transient int m_hashCode;
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) {
@@ -348,6 +348,10 @@ public boolean equals(final Object o) {
             return false;
         }
         DefaultConnectionDef other = (DefaultConnectionDef)o;
+        if (hashCode() != other.hashCode()) {
+            // hash codes are cached, this is cheap and avoids comparing entire subtrees in most cases
+            return false;
+        }
         var equalsBuilder = new org.apache.commons.lang3.builder.EqualsBuilder();
         equalsBuilder.append(m_sourceID, other.m_sourceID);
         equalsBuilder.append(m_destID, other.m_destID);
@@ -360,14 +364,19 @@ public boolean equals(final Object o) {
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(m_sourceID)
-                .append(m_destID)
-                .append(m_sourcePort)
-                .append(m_destPort)
-                .append(m_deletable)
-                .append(m_uiSettings)
-                .toHashCode();
+        var hashCode = m_hashCode;
+        if (hashCode == 0) {
+            hashCode = new HashCodeBuilder()
+                    .append(m_sourceID)
+                    .append(m_destID)
+                    .append(m_sourcePort)
+                    .append(m_destPort)
+                    .append(m_deletable)
+                    .append(m_uiSettings)
+                    .toHashCode();
+            m_hashCode = hashCode;
+        }
+        return hashCode;
     }
 
 } 
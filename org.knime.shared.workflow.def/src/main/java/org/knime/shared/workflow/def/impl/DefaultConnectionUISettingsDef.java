@@ -103,7 +103,7 @@ public class DefaultConnectionUISettingsDef implements ConnectionUISettingsDef {
      * @param builder source
      */
     DefaultConnectionUISettingsDef(ConnectionUISettingsDefBuilder builder) {
-        // TODO make immutable copies!!
+        // collections are persistent, i.e., immutable and structurally shared with the builder, no copy needed
         
             
         m_bendPoints = builder.m_bendPoints;
@@ -224,6 +224,9 @@ public Optional<LoadExceptionTree<Integer>> getBendPointsExceptionTree(){
     // Utility
     // -----------------------------------------------------------------------------------------------------------------
 
+    /** Cached hash code, {@code 0} if not computed yet. Defs are immutable, so it never needs to be invalidated. */
+    private transient int m_hashCode;
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) {
@@ -236,6 +239,10 @@ public boolean equals(final Object o) {
             return false;
         }
         DefaultConnectionUISettingsDef other = (DefaultConnectionUISettingsDef)o;
+        if (hashCode() != other.hashCode()) {
+            // hash codes are cached, this is cheap and avoids comparing entire subtrees in most cases
+            return false;
+        }
         var equalsBuilder = new org.apache.commons.lang3.builder.EqualsBuilder();
         equalsBuilder.append(m_bendPoints, other.m_bendPoints);
         return equalsBuilder.isEquals();
@@ -243,9 +250,14 @@ public boolean equals(final Object o) {
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(m_bendPoints)
-                .toHashCode();
+        var hashCode = m_hashCode;
+        if (hashCode == 0) {
+            hashCode = new HashCodeBuilder()
+                    .append(m_bendPoints)
+                    .toHashCode();
+            m_hashCode = hashCode;
+        }
+        return hashCode;
     }
 
 } 
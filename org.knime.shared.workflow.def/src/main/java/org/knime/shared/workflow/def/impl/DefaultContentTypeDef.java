@@ -97,10 +97,6 @@ public class DefaultContentTypeDef implements ContentTypeDef {
      * @param builder source
      */
     DefaultContentTypeDef(ContentTypeDefBuilder builder) {
-        // TODO make immutable copies!!
-        
-            
-
         m_exceptionTree = Optional.empty();
     }
 
@@ -190,6 +186,9 @@ public Optional<LoadExceptionTree<?>> getLoadExceptionTree(ContentTypeDef.Attrib
     // Utility
     // -----------------------------------------------------------------------------------------------------------------
 
+    /** Cached hash code, {@code 0} if not computed yet. Defs are immutable, so it never needs to be invalidated. */
+    private transient int m_hashCode;
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) {
@@ -202,14 +201,23 @@ public boolean equals(final Object o) {
             return false;
         }
         DefaultContentTypeDef other = (DefaultContentTypeDef)o;
+        if (hashCode() != other.hashCode()) {
+            // hash codes are cached, this is cheap and avoids comparing entire subtrees in most cases
+            return false;
+        }
         var equalsBuilder = new org.apache.commons.lang3.builder.EqualsBuilder();
         return equalsBuilder.isEquals();
     }
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .toHashCode();
+        var hashCode = m_hashCode;
+        if (hashCode == 0) {
+            hashCode = new HashCodeBuilder()
+                    .toHashCode();
+            m_hashCode = hashCode;
+        }
+        return hashCode;
     }
 
 } 
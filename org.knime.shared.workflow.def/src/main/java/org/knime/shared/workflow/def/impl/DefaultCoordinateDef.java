@@ -109,9 +109,6 @@ public class DefaultCoordinateDef implements CoordinateDef {
      * @param builder source
      */
     DefaultCoordinateDef(CoordinateDefBuilder builder) {
-        // TODO make immutable copies!!
-        
-            
         m_x = builder.m_x;
         m_y = builder.m_y;
 
@@ -236,6 +233,9 @@ public Optional<LoadException> getYSupplyException(){
     // Utility
     // -----------------------------------------------------------------------------------------------------------------
 
+    /** Cached hash code, {@code 0} if not computed yet. Defs are immutable, so it never needs to be invalidated. */
+    private transient int m_hashCode;
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) {
@@ -248,6 +248,10 @@ public boolean equals(final Object o) {
             return false;
         }
         DefaultCoordinateDef other = (DefaultCoordinateDef)o;
+        if (hashCode() != other.hashCode()) {
+            // hash codes are cached, this is cheap and avoids comparing entire subtrees in most cases
+            return false;
+        }
         var equalsBuilder = new org.apache.commons.lang3.builder.EqualsBuilder();
         equalsBuilder.append(m_x, other.m_x);
         equalsBuilder.append(m_y, other.m_y);
@@ -256,10 +260,15 @@ public boolean equals(final Object o) {
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(m_x)
-                .append(m_y)
-                .toHashCode();
+        var hashCode = m_hashCode;
+        if (hashCode == 0) {
+            hashCode = new HashCodeBuilder()
+                    .append(m_x)
+                    .append(m_y)
+                    .toHashCode();
+            m_hashCode = hashCode;
+        }
+        return hashCode;
     }
 
 } 
@@ -110,9 +110,6 @@ public class DefaultCreatorDef implements CreatorDef {
      * @param builder source
      */
     DefaultCreatorDef(CreatorDefBuilder builder) {
-        // TODO make immutable copies!!
-        
-            
         m_savedWithVersion = builder.m_savedWithVersion;
         m_nightly = builder.m_nightly;
 
@@ -237,6 +234,9 @@ public Optional<LoadException> getNightlySupplyException(){
     // Utility
     // -----------------------------------------------------------------------------------------------------------------
 
+    /** Cached hash code, {@code 0} if not computed yet. Defs are immutable, so it never needs to be invalidated. */
+    private transient int m_hashCode;
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) {
@@ -249,6 +249,10 @@ public boolean equals(final Object o) {
             return false;
         }
         DefaultCreatorDef other = (DefaultCreatorDef)o;
+        if (hashCode() != other.hashCode()) {
+            // hash codes are cached, this is cheap and avoids comparing entire subtrees in most cases
+            return false;
+        }
         var equalsBuilder = new org.apache.commons.lang3.builder.EqualsBuilder();
         equalsBuilder.append(m_savedWithVersion, other.m_savedWithVersion);
         equalsBuilder.append(m_nightly, other.m_nightly);
@@ -257,10 +261,15 @@ public boolean equals(final Object o) {
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(m_savedWithVersion)
-                .append(m_nightly)
-                .toHashCode();
+        var hashCode = m_hashCode;
+        if (hashCode == 0) {
+            hashCode = new HashCodeBuilder()
+                    .append(m_savedWithVersion)
+                    .append(m_nightly)
+                    .toHashCode();
+            m_hashCode = hashCode;
+        }
+        return hashCode;
     }
 
 } 
@@ -109,9 +109,6 @@ public class DefaultCredentialPlaceholderDef implements CredentialPlaceholderDef
      * @param builder source
      */
     DefaultCredentialPlaceholderDef(CredentialPlaceholderDefBuilder builder) {
-        // TODO make immutable copies!!
-        
-            
         m_name = builder.m_name;
         m_login = builder.m_login;
 
@@ -236,6 +233,9 @@ public Optional<LoadException> getLoginSupplyException(){
     // Utility
     // -----------------------------------------------------------------------------------------------------------------
 
+    /** Cached hash code, {@code 0} if not computed yet. Defs are immutable, so it never needs to be invalidated. */
+    private transient int m_hashCode;
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) {
@@ -248,6 +248,10 @@ public boolean equals(final Object o) {
             return false;
         }
         DefaultCredentialPlaceholderDef other = (DefaultCredentialPlaceholderDef)o;
+        if (hashCode() != other.hashCode()) {
+            // hash codes are cached, this is cheap and avoids comparing entire subtrees in most cases
+            return false;
+        }
         var equalsBuilder = new org.apache.commons.lang3.builder.EqualsBuilder();
         equalsBuilder.append(m_name, other.m_name);
         equalsBuilder.append(m_login, other.m_login);
@@ -256,10 +260,15 @@ public boolean equals(final Object o) {
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(m_name)
-                .append(m_login)
-                .toHashCode();
+        var hashCode = m_hashCode;
+        if (hashCode == 0) {
+            hashCode = new HashCodeBuilder()
+                    .append(m_name)
+                    .append(m_login)
+                    .toHashCode();
+            m_hashCode = hashCode;
+        }
+        return hashCode;
     }
 
 } 
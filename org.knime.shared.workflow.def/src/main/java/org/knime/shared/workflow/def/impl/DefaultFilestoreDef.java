@@ -111,9 +111,6 @@ public class DefaultFilestoreDef implements FilestoreDef {
      * @param builder source
      */
     DefaultFilestoreDef(FilestoreDefBuilder builder) {
-        // TODO make immutable copies!!
-        
-            
         m_id = builder.m_id;
         m_location = builder.m_location;
 
@@ -238,6 +235,9 @@ public Optional<LoadException> getLocationSupplyException(){
     // Utility
     // -----------------------------------------------------------------------------------------------------------------
 
+    /** Cached hash code, {@code 0} if not computed yet. Defs are immutable, so it never needs to be invalidated. */
+    private transient int m_hashCode;
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) {
@@ -250,6 +250,10 @@ public boolean equals(final Object o) {
             return false;
         }
         DefaultFilestoreDef other = (DefaultFilestoreDef)o;
+        if (hashCode() != other.hashCode()) {
+            // hash codes are cached, this is cheap and avoids comparing entire subtrees in most cases
+            return false;
+        }
         var equalsBuilder = new org.apache.commons.lang3.builder.EqualsBuilder();
         equalsBuilder.append(m_id, other.m_id);
         equalsBuilder.append(m_location, other.m_location);
@@ -258,10 +262,15 @@ public boolean equals(final Object o) {
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(m_id)
-                .append(m_location)
-                .toHashCode();
+        var hashCode = m_hashCode;
+        if (hashCode == 0) {
+            hashCode = new HashCodeBuilder()
+                    .append(m_id)
+                    .append(m_location)
+                    .toHashCode();
+            m_hashCode = hashCode;
+        }
+        return hashCode;
     }
 
 } 
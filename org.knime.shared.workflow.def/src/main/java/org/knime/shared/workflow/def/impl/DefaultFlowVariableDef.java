@@ -116,9 +116,6 @@ public class DefaultFlowVariableDef implements FlowVariableDef {
      * @param builder source
      */
     DefaultFlowVariableDef(FlowVariableDefBuilder builder) {
-        // TODO make immutable copies!!
-        
-            
         m_name = builder.m_name;
         m_propertyClass = builder.m_propertyClass;
         m_value = builder.m_value;
@@ -273,6 +270,9 @@ public Optional<DefaultConfigDef> getFaultyValue(){
     // Utility
     // -----------------------------------------------------------------------------------------------------------------
 
+    /** Cached hash code, {@code 0} if not computed yet. Defs are immutable, so it never needs to be invalidated. */
+    private transient int m_hashCode;
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) {
@@ -285,6 +285,10 @@ public boolean equals(final Object o) {
             return false;
         }
         DefaultFlowVariableDef other = (DefaultFlowVariableDef)o;
+        if (hashCode() != other.hashCode()) {
+            // hash codes are cached, this is cheap and avoids comparing entire subtrees in most cases
+            return false;
+        }
         var equalsBuilder = new org.apache.commons.lang3.builder.EqualsBuilder();
         equalsBuilder.append(m_name, other.m_name);
         equalsBuilder.append(m_propertyClass, other.m_propertyClass);
@@ -294,11 +298,16 @@ public boolean equals(final Object o) {
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(m_name)
-                .append(m_propertyClass)
-                .append(m_value)
-                .toHashCode();
+        var hashCode = m_hashCode;
+        if (hashCode == 0) {
+            hashCode = new HashCodeBuilder()
+                    .append(m_name)
+                    .append(m_propertyClass)
+                    .append(m_value)
+                    .toHashCode();
+            m_hashCode = hashCode;
+        }
+        return hashCode;
     }
 
 } 
@@ -110,9 +110,6 @@ public class DefaultJobManagerDef implements JobManagerDef {
      * @param builder source
      */
     DefaultJobManagerDef(JobManagerDefBuilder builder) {
-        // TODO make immutable copies!!
-        
-            
         m_factory = builder.m_factory;
         m_settings = builder.m_settings;
 
@@ -250,6 +247,9 @@ public Optional<DefaultConfigMapDef> getFaultySettings(){
     // Utility
     // -----------------------------------------------------------------------------------------------------------------
 
+    /** Cached hash code, {@code 0} if not computed yet. Defs are immutable, so it never needs to be invalidated. */
+    private transient int m_hashCode;
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) {
@@ -262,6 +262,10 @@ public boolean equals(final Object o) {
             return false;
         }
         DefaultJobManagerDef other = (DefaultJobManagerDef)o;
+        if (hashCode() != other.hashCode()) {
+            // hash codes are cached, this is cheap and avoids comparing entire subtrees in most cases
+            return false;
+        }
         var equalsBuilder = new org.apache.commons.lang3.builder.EqualsBuilder();
         equalsBuilder.append(m_factory, other.m_factory);
         equalsBuilder.append(m_settings, other.m_settings);
@@ -270,10 +274,15 @@ public boolean equals(final Object o) {
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(m_factory)
-                .append(m_settings)
-                .toHashCode();
+        var hashCode = m_hashCode;
+        if (hashCode == 0) {
+            hashCode = new HashCodeBuilder()
+                    .append(m_factory)
+                    .append(m_settings)
+                    .toHashCode();
+            m_hashCode = hashCode;
+        }
+        return hashCode;
     }
 
 } 
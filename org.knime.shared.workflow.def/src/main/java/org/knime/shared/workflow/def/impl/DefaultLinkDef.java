@@ -108,9 +108,6 @@ public class DefaultLinkDef implements LinkDef {
      * @param builder source
      */
     DefaultLinkDef(LinkDefBuilder builder) {
-        // TODO make immutable copies!!
-        
-            
         m_url = builder.m_url;
         m_text = builder.m_text;
 
@@ -235,6 +232,9 @@ public Optional<LoadException> getTextSupplyException(){
     // Utility
     // -----------------------------------------------------------------------------------------------------------------
 
+    /** Cached hash code, {@code 0} if not computed yet. Defs are immutable, so it never needs to be invalidated. */
+    private transient int m_hashCode;
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) {
@@ -247,6 +247,10 @@ public boolean equals(final Object o) {
             return false;
         }
         DefaultLinkDef other = (DefaultLinkDef)o;
+        if (hashCode() != other.hashCode()) {
+            // hash codes are cached, this is cheap and avoids comparing entire subtrees in most cases
+            return false;
+        }
         var equalsBuilder = new org.apache.commons.lang3.builder.EqualsBuilder();
         equalsBuilder.append(m_url, other.m_url);
         equalsBuilder.append(m_text, other.m_text);
@@ -255,10 +259,15 @@ public boolean equals(final Object o) {
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(m_url)
-                .append(m_text)
-                .toHashCode();
+        var hashCode = m_hashCode;
+        if (hashCode == 0) {
+            hashCode = new HashCodeBuilder()
+                    .append(m_url)
+                    .append(m_text)
+                    .toHashCode();
+            m_hashCode = hashCode;
+        }
+        return hashCode;
     }
 
 } 
@@ -143,7 +143,7 @@ public class DefaultMetaNodeDef extends DefaultBaseNodeDef implements MetaNodeDe
      * @param builder source
      */
     DefaultMetaNodeDef(MetaNodeDefBuilder builder) {
-        // TODO make immutable copies!!
+        // collections are persistent, i.e., immutable and structurally shared with the builder, no copy needed
         super();
             
         m_id = builder.m_id;
@@ -613,6 +613,9 @@ public Optional<DefaultNodeUIInfoDef> getFaultyOutPortsBarUIInfo(){
     // Utility
     // -----------------------------------------------------------------------------------------------------------------
 
+    /** Cached hash code, {@code 0} if not computed yet. Defs are immutable, so it never needs to be invalidated. */
+    private transient int m_hashCode;
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) {
@@ -625,7 +628,18 @@ public boolean equals(final Object o) {
             return false;
         }
         DefaultMetaNodeDef other = (DefaultMetaNodeDef)o;
+        if (hashCode() != other.hashCode()) {
+            // hash codes are cached, this is cheap and avoids comparing entire subtrees in most cases
+            return false;
+        }
         var equalsBuilder = new org.apache.commons.lang3.builder.EqualsBuilder();
+        equalsBuilder.append(m_id, other.m_id);
+        equalsBuilder.append(m_nodeType, other.m_nodeType);
+        equalsBuilder.append(m_customDescription, other.m_customDescription);
+        equalsBuilder.append(m_annotation, other.m_annotation);
+        equalsBuilder.append(m_uiInfo, other.m_uiInfo);
+        equalsBuilder.append(m_locks, other.m_locks);
+        equalsBuilder.append(m_jobManager, other.m_jobManager);
         equalsBuilder.append(m_workflow, other.m_workflow);
         equalsBuilder.append(m_inPorts, other.m_inPorts);
         equalsBuilder.append(m_outPorts, other.m_outPorts);
@@ -638,22 +652,27 @@ public boolean equals(final Object o) {
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(m_id)
-                .append(m_nodeType)
-                .append(m_customDescription)
-                .append(m_annotation)
-                .append(m_uiInfo)
-                .append(m_locks)
-                .append(m_jobManager)
-                .append(m_workflow)
-                .append(m_inPorts)
-                .append(m_outPorts)
-                .append(m_cipher)
-                .append(m_link)
-                .append(m_inPortsBarUIInfo)
-                .append(m_outPortsBarUIInfo)
-                .toHashCode();
+        var hashCode = m_hashCode;
+        if (hashCode == 0) {
+            hashCode = new HashCodeBuilder()
+                    .append(m_id)
+                    .append(m_nodeType)
+                    .append(m_customDescription)
+                    .append(m_annotation)
+                    .append(m_uiInfo)
+                    .append(m_locks)
+                    .append(m_jobManager)
+                    .append(m_workflow)
+                    .append(m_inPorts)
+                    .append(m_outPorts)
+                    .append(m_cipher)
+                    .append(m_link)
+                    .append(m_inPortsBarUIInfo)
+                    .append(m_outPortsBarUIInfo)
+                    .toHashCode();
+            m_hashCode = hashCode;
+        }
+        return hashCode;
     }
 
 } 
@@ -108,9 +108,6 @@ public class DefaultNodeAnnotationDef implements NodeAnnotationDef {
      * @param builder source
      */
     DefaultNodeAnnotationDef(NodeAnnotationDefBuilder builder) {
-        // TODO make immutable copies!!
-        
-            
         m_annotationDefault = builder.m_annotationDefault;
         m_data = builder.m_data;
 
@@ -248,6 +245,9 @@ public Optional<DefaultAnnotationDataDef> getFaultyData(){
     // Utility
     // -----------------------------------------------------------------------------------------------------------------
 
+    /** Cached hash code, {@code 0} if not computed yet. Defs are immutable, so it never needs to be invalidated. */
+    private transient int m_hashCode;
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) {
@@ -260,6 +260,10 @@ public boolean equals(final Object o) {
             return false;
         }
         DefaultNodeAnnotationDef other = (DefaultNodeAnnotationDef)o;
+        if (hashCode() != other.hashCode()) {
+            // hash codes are cached, this is cheap and avoids comparing entire subtrees in most cases
+            return false;
+        }
         var equalsBuilder = new org.apache.commons.lang3.builder.EqualsBuilder();
         equalsBuilder.append(m_annotationDefault, other.m_annotationDefault);
         equalsBuilder.append(m_data, other.m_data);
@@ -268,10 +272,15 @@ public boolean equals(final Object o) {
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(m_annotationDefault)
-                .append(m_data)
-                .toHashCode();
+        var hashCode = m_hashCode;
+        if (hashCode == 0) {
+            hashCode = new HashCodeBuilder()
+                    .append(m_annotationDefault)
+                    .append(m_data)
+                    .toHashCode();
+            m_hashCode = hashCode;
+        }
+        return hashCode;
     }
 
 } 
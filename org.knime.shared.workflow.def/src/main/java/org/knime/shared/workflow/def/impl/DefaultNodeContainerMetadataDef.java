@@ -148,7 +148,7 @@ public class DefaultNodeContainerMetadataDef implements NodeContainerMetadataDef
      * @param builder source
      */
     DefaultNodeContainerMetadataDef(NodeContainerMetadataDefBuilder builder) {
-        // TODO make immutable copies!!
+        // collections are persistent, i.e., immutable and structurally shared with the builder, no copy needed
         
             
         m_author = builder.m_author;
@@ -425,6 +425,9 @@ public Optional<LoadException> getContentTypeSupplyException(){
     // Utility
     // -----------------------------------------------------------------------------------------------------------------
 
+    /** Cached hash code, {@code 0} if not computed yet. Defs are immutable, so it never needs to be invalidated. */
+    private transient int m_hashCode;
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) {
@@ -437,6 +440,10 @@ public boolean equals(final Object o) {
             return false;
         }
         DefaultNodeContainerMetadataDef other = (DefaultNodeContainerMetadataDef)o;
+        if (hashCode() != other.hashCode()) {
+            // hash codes are cached, this is cheap and avoids comparing entire subtrees in most cases
+            return false;
+        }
         var equalsBuilder = new org.apache.commons.lang3.builder.EqualsBuilder();
         equalsBuilder.append(m_author, other.m_author);
         equalsBuilder.append(m_created, other.m_created);
@@ -450,15 +457,20 @@ public boolean equals(final Object o) {
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(m_author)
-                .append(m_created)
-                .append(m_lastModified)
-                .append(m_description)
-                .append(m_tags)
-                .append(m_links)
-                .append(m_contentType)
-                .toHashCode();
+        var hashCode = m_hashCode;
+        if (hashCode == 0) {
+            hashCode = new HashCodeBuilder()
+                    .append(m_author)
+                    .append(m_created)
+                    .append(m_lastModified)
+                    .append(m_description)
+                    .append(m_tags)
+                    .append(m_links)
+                    .append(m_contentType)
+                    .toHashCode();
+            m_hashCode = hashCode;
+        }
+        return hashCode;
     }
 
 } 
@@ -115,9 +115,6 @@ public class DefaultNodeLocksDef implements NodeLocksDef {
      * @param builder source
      */
     DefaultNodeLocksDef(NodeLocksDefBuilder builder) {
-        // TODO make immutable copies!!
-        
-            
         m_hasDeleteLock = builder.m_hasDeleteLock;
         m_hasResetLock = builder.m_hasResetLock;
         m_hasConfigureLock = builder.m_hasConfigureLock;
@@ -259,6 +256,9 @@ public Optional<LoadException> getHasConfigureLockSupplyException(){
     // Utility
     // -----------------------------------------------------------------------------------------------------------------
 
+    /** Cached hash code, {@code 0} if not computed yet. Defs are immutable, so it never needs to be invalidated. */
+    private transient int m_hashCode;
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) {
@@ -271,6 +271,10 @@ public boolean equals(final Object o) {
             return false;
         }
         DefaultNodeLocksDef other = (DefaultNodeLocksDef)o;
+        if (hashCode() != other.hashCode()) {
+            // hash codes are cached, this is cheap and avoids comparing entire subtrees in most cases
+            return false;
+        }
         var equalsBuilder = new org.apache.commons.lang3.builder.EqualsBuilder();
         equalsBuilder.append(m_hasDeleteLock, other.m_hasDeleteLock);
         equalsBuilder.append(m_hasResetLock, other.m_hasResetLock);
@@ -280,11 +284,16 @@ public boolean equals(final Object o) {
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(m_hasDeleteLock)
-                .append(m_hasResetLock)
-                .append(m_hasConfigureLock)
-                .toHashCode();
+        var hashCode = m_hashCode;
+        if (hashCode == 0) {
+            hashCode = new HashCodeBuilder()
+                    .append(m_hasDeleteLock)
+                    .append(m_hasResetLock)
+                    .append(m_hasConfigureLock)
+                    .toHashCode();
+            m_hashCode = hashCode;
+        }
+        return hashCode;
     }
 
 } 
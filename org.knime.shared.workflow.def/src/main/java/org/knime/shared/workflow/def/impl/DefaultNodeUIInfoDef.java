@@ -113,9 +113,6 @@ public class DefaultNodeUIInfoDef implements NodeUIInfoDef {
      * @param builder source
      */
     DefaultNodeUIInfoDef(NodeUIInfoDefBuilder builder) {
-        // TODO make immutable copies!!
-        
-            
         m_hasAbsoluteCoordinates = builder.m_hasAbsoluteCoordinates;
         m_symbolRelative = builder.m_symbolRelative;
         m_bounds = builder.m_bounds;
@@ -270,6 +267,9 @@ public Optional<DefaultBoundsDef> getFaultyBounds(){
     // Utility
     // -----------------------------------------------------------------------------------------------------------------
 
+    /** Cached hash code, {@code 0} if not computed yet. Defs are immutable, so it never needs to be invalidated. */
+    private transient int m_hashCode;
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) {
@@ -282,6 +282,10 @@ public boolean equals(final Object o) {
             return false;
         }
         DefaultNodeUIInfoDef other = (DefaultNodeUIInfoDef)o;
+        if (hashCode() != other.hashCode()) {
+            // hash codes are cached, this is cheap and avoids comparing entire subtrees in most cases
+            return false;
+        }
         var equalsBuilder = new org.apache.commons.lang3.builder.EqualsBuilder();
         equalsBuilder.append(m_hasAbsoluteCoordinates, other.m_hasAbsoluteCoordinates);
         equalsBuilder.append(m_symbolRelative, other.m_symbolRelative);
@@ -291,11 +295,16 @@ public boolean equals(final Object o) {
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(m_hasAbsoluteCoordinates)
-                .append(m_symbolRelative)
-                .append(m_bounds)
-                .toHashCode();
+        var hashCode = m_hashCode;
+        if (hashCode == 0) {
+            hashCode = new HashCodeBuilder()
+                    .append(m_hasAbsoluteCoordinates)
+                    .append(m_symbolRelative)
+                    .append(m_bounds)
+                    .toHashCode();
+            m_hashCode = hashCode;
+        }
+        return hashCode;
     }
 
 } 
@@ -117,9 +117,6 @@ public class DefaultPageMarginsDef implements PageMarginsDef {
      * @param builder source
      */
     DefaultPageMarginsDef(PageMarginsDefBuilder builder) {
-        // TODO make immutable copies!!
-        
-            
         m_top = builder.m_top;
         m_right = builder.m_right;
         m_bottom = builder.m_bottom;
@@ -278,6 +275,9 @@ public Optional<LoadException> getLeftSupplyException(){
     // Utility
     // -----------------------------------------------------------------------------------------------------------------
 
+    /** Cached hash code, {@code 0} if not computed yet. Defs are immutable, so it never needs to be invalidated. */
+    private transient int m_hashCode;
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) {
@@ -290,6 +290,10 @@ public boolean equals(final Object o) {
             return false;
         }
         DefaultPageMarginsDef other = (DefaultPageMarginsDef)o;
+        if (hashCode() != other.hashCode()) {
+            // hash codes are cached, this is cheap and avoids comparing entire subtrees in most cases
+            return false;
+        }
         var equalsBuilder = new org.apache.commons.lang3.builder.EqualsBuilder();
         equalsBuilder.append(m_top, other.m_top);
         equalsBuilder.append(m_right, other.m_right);
@@ -300,12 +304,17 @@ public boolean equals(final Object o) {
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(m_top)
-                .append(m_right)
-                .append(m_bottom)
-                .append(m_left)
-                .toHashCode();
+        var hashCode = m_hashCode;
+        if (hashCode == 0) {
+            hashCode = new HashCodeBuilder()
+                    .append(m_top)
+                    .append(m_right)
+                    .append(m_bottom)
+                    .append(m_left)
+                    .toHashCode();
+            m_hashCode = hashCode;
+        }
+        return hashCode;
     }
 
 } 
@@ -114,9 +114,6 @@ public class DefaultPortDef implements PortDef {
      * @param builder source
      */
     DefaultPortDef(PortDefBuilder builder) {
-        // TODO make immutable copies!!
-        
-            
         m_index = builder.m_index;
         m_portType = builder.m_portType;
         m_name = builder.m_name;
@@ -271,6 +268,9 @@ public Optional<LoadException> getNameSupplyException(){
     // Utility
     // -----------------------------------------------------------------------------------------------------------------
 
+    /** Cached hash code, {@code 0} if not computed yet. Defs are immutable, so it never needs to be invalidated. */
+    private transient int m_hashCode;
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) {
@@ -283,6 +283,10 @@ public boolean equals(final Object o) {
             return false;
         }
         DefaultPortDef other = (DefaultPortDef)o;
+        if (hashCode() != other.hashCode()) {
+            // hash codes are cached, this is cheap and avoids comparing entire subtrees in most cases
+            return false;
+        }
         var equalsBuilder = new org.apache.commons.lang3.builder.EqualsBuilder();
         equalsBuilder.append(m_index, other.m_index);
         equalsBuilder.append(m_portType, other.m_portType);
@@ -292,11 +296,16 @@ public boolean equals(final Object o) {
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(m_index)
-                .append(m_portType)
-                .append(m_name)
-                .toHashCode();
+        var hashCode = m_hashCode;
+        if (hashCode == 0) {
+            hashCode = new HashCodeBuilder()
+                    .append(m_index)
+                    .append(m_portType)
+                    .append(m_name)
+                    .toHashCode();
+            m_hashCode = hashCode;
+        }
+        return hashCode;
     }
 
 } 
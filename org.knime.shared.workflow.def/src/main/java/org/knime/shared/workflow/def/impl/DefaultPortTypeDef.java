@@ -133,9 +133,6 @@ public class DefaultPortTypeDef implements PortTypeDef {
      * @param builder source
      */
     DefaultPortTypeDef(PortTypeDefBuilder builder) {
-        // TODO make immutable copies!!
-        
-            
         m_portObjectClass = builder.m_portObjectClass;
         m_portObjectSpecClass = builder.m_portObjectSpecClass;
         m_color = builder.m_color;
@@ -328,6 +325,9 @@ public Optional<LoadException> getNameSupplyException(){
     // Utility
     // -----------------------------------------------------------------------------------------------------------------
 
+    /** Cached hash code, {@code 0} if not computed yet. Defs are immutable, so it never needs to be invalidated. */
+    private transient int m_hashCode;
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) {
@@ -340,6 +340,10 @@ public boolean equals(final Object o) {
             return false;
         }
         DefaultPortTypeDef other = (DefaultPortTypeDef)o;
+        if (hashCode() != other.hashCode()) {
+            // hash codes are cached, this is cheap and avoids comparing entire subtrees in most cases
+            return false;
+        }
         var equalsBuilder = new org.apache.commons.lang3.builder.EqualsBuilder();
         equalsBuilder.append(m_portObjectClass, other.m_portObjectClass);
         equalsBuilder.append(m_portObjectSpecClass, other.m_portObjectSpecClass);
@@ -352,14 +356,19 @@ public boolean equals(final Object o) {
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(m_portObjectClass)
-                .append(m_portObjectSpecClass)
-                .append(m_color)
-                .append(m_hidden)
-                .append(m_optional)
-                .append(m_name)
-                .toHashCode();
+        var hashCode = m_hashCode;
+        if (hashCode == 0) {
+            hashCode = new HashCodeBuilder()
+                    .append(m_portObjectClass)
+                    .append(m_portObjectSpecClass)
+                    .append(m_color)
+                    .append(m_hidden)
+                    .append(m_optional)
+                    .append(m_name)
+                    .toHashCode();
+            m_hashCode = hashCode;
+        }
+        return hashCode;
     }
 
 } 
@@ -104,9 +104,6 @@ public class DefaultReportConfigurationDef implements ReportConfigurationDef {
      * @param builder source
      */
     DefaultReportConfigurationDef(ReportConfigurationDefBuilder builder) {
-        // TODO make immutable copies!!
-        
-            
         m_enabled = builder.m_enabled;
 
         m_exceptionTree = Optional.empty();
@@ -214,6 +211,9 @@ public Optional<LoadException> getEnabledSupplyException(){
     // Utility
     // -----------------------------------------------------------------------------------------------------------------
 
+    /** Cached hash code, {@code 0} if not computed yet. Defs are immutable, so it never needs to be invalidated. */
+    private transient int m_hashCode;
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) {
@@ -226,6 +226,10 @@ public boolean equals(final Object o) {
             return false;
         }
         DefaultReportConfigurationDef other = (DefaultReportConfigurationDef)o;
+        if (hashCode() != other.hashCode()) {
+            // hash codes are cached, this is cheap and avoids comparing entire subtrees in most cases
+            return false;
+        }
         var equalsBuilder = new org.apache.commons.lang3.builder.EqualsBuilder();
         equalsBuilder.append(m_enabled, other.m_enabled);
         return equalsBuilder.isEquals();
@@ -233,9 +237,14 @@ public boolean equals(final Object o) {
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(m_enabled)
-                .toHashCode();
+        var hashCode = m_hashCode;
+        if (hashCode == 0) {
+            hashCode = new HashCodeBuilder()
+                    .append(m_enabled)
+                    .toHashCode();
+            m_hashCode = hashCode;
+        }
+        return hashCode;
     }
 
 } 
@@ -135,7 +135,7 @@ public class DefaultRootWorkflowDef extends DefaultWorkflowDef implements RootWo
      * @param builder source
      */
     DefaultRootWorkflowDef(RootWorkflowDefBuilder builder) {
-        // TODO make immutable copies!!
+        // collections are persistent, i.e., immutable and structurally shared with the builder, no copy needed
         super();
             
         m_name = builder.m_name;
@@ -541,6 +541,9 @@ public Optional<DefaultWorkflowMetadataDef> getFaultyMetadata(){
     // Utility
     // -----------------------------------------------------------------------------------------------------------------
 
+    /** Cached hash code, {@code 0} if not computed yet. Defs are immutable, so it never needs to be invalidated. */
+    private transient int m_hashCode;
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) {
@@ -553,7 +556,17 @@ public boolean equals(final Object o) {
             return false;
         }
         DefaultRootWorkflowDef other = (DefaultRootWorkflowDef)o;
+        if (hashCode() != other.hashCode()) {
+            // hash codes are cached, this is cheap and avoids comparing entire subtrees in most cases
+            return false;
+        }
         var equalsBuilder = new org.apache.commons.lang3.builder.EqualsBuilder();
+        equalsBuilder.append(m_name, other.m_name);
+        equalsBuilder.append(m_authorInformation, other.m_authorInformation);
+        equalsBuilder.append(m_nodes, other.m_nodes);
+        equalsBuilder.append(m_connections, other.m_connections);
+        equalsBuilder.append(m_annotations, other.m_annotations);
+        equalsBuilder.append(m_workflowEditorSettings, other.m_workflowEditorSettings);
         equalsBuilder.append(m_tableBackendSettings, other.m_tableBackendSettings);
         equalsBuilder.append(m_flowVariables, other.m_flowVariables);
         equalsBuilder.append(m_credentialPlaceholders, other.m_credentialPlaceholders);
@@ -564,19 +577,24 @@ public boolean equals(final Object o) {
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(m_name)
-                .append(m_authorInformation)
-                .append(m_nodes)
-                .append(m_connections)
-                .append(m_annotations)
-                .append(m_workflowEditorSettings)
-                .append(m_tableBackendSettings)
-                .append(m_flowVariables)
-                .append(m_credentialPlaceholders)
-                .append(m_workflow)
-                .append(m_metadata)
-                .toHashCode();
+        var hashCode = m_hashCode;
+        if (hashCode == 0) {
+            hashCode = new HashCodeBuilder()
+                    .append(m_name)
+                    .append(m_authorInformation)
+                    .append(m_nodes)
+                    .append(m_connections)
+                    .append(m_annotations)
+                    .append(m_workflowEditorSettings)
+                    .append(m_tableBackendSettings)
+                    .append(m_flowVariables)
+                    .append(m_credentialPlaceholders)
+                    .append(m_workflow)
+                    .append(m_metadata)
+                    .toHashCode();
+            m_hashCode = hashCode;
+        }
+        return hashCode;
     }
 
 } 
@@ -115,9 +115,6 @@ public class DefaultStandaloneDef implements StandaloneDef {
      * @param builder source
      */
     DefaultStandaloneDef(StandaloneDefBuilder builder) {
-        // TODO make immutable copies!!
-        
-            
         m_creator = builder.m_creator;
         m_contents = builder.m_contents;
         m_contentType = builder.m_contentType;
@@ -272,6 +269,9 @@ public Optional<LoadException> getContentTypeSupplyException(){
     // Utility
     // -----------------------------------------------------------------------------------------------------------------
 
+    /** Cached hash code, {@code 0} if not computed yet. Defs are immutable, so it never needs to be invalidated. */
+    private transient int m_hashCode;
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) {
@@ -284,6 +284,10 @@ public boolean equals(final Object o) {
             return false;
         }
         DefaultStandaloneDef other = (DefaultStandaloneDef)o;
+        if (hashCode() != other.hashCode()) {
+            // hash codes are cached, this is cheap and avoids comparing entire subtrees in most cases
+            return false;
+        }
         var equalsBuilder = new org.apache.commons.lang3.builder.EqualsBuilder();
         equalsBuilder.append(m_creator, other.m_creator);
         equalsBuilder.append(m_contents, other.m_contents);
@@ -293,11 +297,16 @@ public boolean equals(final Object o) {
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(m_creator)
-                .append(m_contents)
-                .append(m_contentType)
-                .toHashCode();
+        var hashCode = m_hashCode;
+        if (hashCode == 0) {
+            hashCode = new HashCodeBuilder()
+                    .append(m_creator)
+                    .append(m_contents)
+                    .append(m_contentType)
+                    .toHashCode();
+            m_hashCode = hashCode;
+        }
+        return hashCode;
     }
 
 } 
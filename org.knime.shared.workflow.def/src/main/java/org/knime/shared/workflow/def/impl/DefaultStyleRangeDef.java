@@ -127,9 +127,6 @@ public class DefaultStyleRangeDef implements StyleRangeDef {
      * @param builder source
      */
     DefaultStyleRangeDef(StyleRangeDefBuilder builder) {
-        // TODO make immutable copies!!
-        
-            
         m_fontSize = builder.m_fontSize;
         m_color = builder.m_color;
         m_start = builder.m_start;
@@ -322,6 +319,9 @@ public Optional<LoadException> getLengthSupplyException(){
     // Utility
     // -----------------------------------------------------------------------------------------------------------------
 
+    /** Cached hash code, {@code 0} if not computed yet. Defs are immutable, so it never needs to be invalidated. */
+    private transient int m_hashCode;
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) {
@@ -334,6 +334,10 @@ public boolean equals(final Object o) {
             return false;
         }
         DefaultStyleRangeDef other = (DefaultStyleRangeDef)o;
+        if (hashCode() != other.hashCode()) {
+            // hash codes are cached, this is cheap and avoids comparing entire subtrees in most cases
+            return false;
+        }
         var equalsBuilder = new org.apache.commons.lang3.builder.EqualsBuilder();
         equalsBuilder.append(m_fontSize, other.m_fontSize);
         equalsBuilder.append(m_color, other.m_color);
@@ -346,14 +350,19 @@ public boolean equals(final Object o) {
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(m_fontSize)
-                .append(m_color)
-                .append(m_start)
-                .append(m_fontName)
-                .append(m_fontStyle)
-                .append(m_length)
-                .toHashCode();
+        var hashCode = m_hashCode;
+        if (hashCode == 0) {
+            hashCode = new HashCodeBuilder()
+                    .append(m_fontSize)
+                    .append(m_color)
+                    .append(m_start)
+                    .append(m_fontName)
+                    .append(m_fontStyle)
+                    .append(m_length)
+                    .toHashCode();
+            m_hashCode = hashCode;
+        }
+        return hashCode;
     }
 
 } 
@@ -111,9 +111,6 @@ public class DefaultTemplateInfoDef implements TemplateInfoDef {
      * @param builder source
      */
     DefaultTemplateInfoDef(TemplateInfoDefBuilder builder) {
-        // TODO make immutable copies!!
-        
-            
         m_uri = builder.m_uri;
         m_updatedAt = builder.m_updatedAt;
 
@@ -238,6 +235,9 @@ public Optional<LoadException> getUpdatedAtSupplyException(){
     // Utility
     // -----------------------------------------------------------------------------------------------------------------
 
+    /** Cached hash code, {@code 0} if not computed yet. Defs are immutable, so it never needs to be invalidated. */
+    private transient int m_hashCode;
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) {
@@ -250,6 +250,10 @@ public boolean equals(final Object o) {
             return false;
         }
         DefaultTemplateInfoDef other = (DefaultTemplateInfoDef)o;
+        if (hashCode() != other.hashCode()) {
+            // hash codes are cached, this is cheap and avoids comparing entire subtrees in most cases
+            return false;
+        }
         var equalsBuilder = new org.apache.commons.lang3.builder.EqualsBuilder();
         equalsBuilder.append(m_uri, other.m_uri);
         equalsBuilder.append(m_updatedAt, other.m_updatedAt);
@@ -258,10 +262,15 @@ public boolean equals(final Object o) {
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(m_uri)
-                .append(m_updatedAt)
-                .toHashCode();
+        var hashCode = m_hashCode;
+        if (hashCode == 0) {
+            hashCode = new HashCodeBuilder()
+                    .append(m_uri)
+                    .append(m_updatedAt)
+                    .toHashCode();
+            m_hashCode = hashCode;
+        }
+        return hashCode;
     }
 
 } 
@@ -125,9 +125,6 @@ public class DefaultVendorDef implements VendorDef {
      * @param builder source
      */
     DefaultVendorDef(VendorDefBuilder builder) {
-        // TODO make immutable copies!!
-        
-            
         m_name = builder.m_name;
         m_symbolicName = builder.m_symbolicName;
         m_vendor = builder.m_vendor;
@@ -286,6 +283,9 @@ public Optional<LoadException> getVersionSupplyException(){
     // Utility
     // -----------------------------------------------------------------------------------------------------------------
 
+    /** Cached hash code, {@code 0} if not computed yet. Defs are immutable, so it never needs to be invalidated. */
+    private transient int m_hashCode;
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) {
@@ -298,6 +298,10 @@ public boolean equals(final Object o) {
             return false;
         }
         DefaultVendorDef other = (DefaultVendorDef)o;
+        if (hashCode() != other.hashCode()) {
+            // hash codes are cached, this is cheap and avoids comparing entire subtrees in most cases
+            return false;
+        }
         var equalsBuilder = new org.apache.commons.lang3.builder.EqualsBuilder();
         equalsBuilder.append(m_name, other.m_name);
         equalsBuilder.append(m_symbolicName, other.m_symbolicName);
@@ -308,12 +312,17 @@ public boolean equals(final Object o) {
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(m_name)
-                .append(m_symbolicName)
-                .append(m_vendor)
-                .append(m_version)
-                .toHashCode();
+        var hashCode = m_hashCode;
+        if (hashCode == 0) {
+            hashCode = new HashCodeBuilder()
+                    .append(m_name)
+                    .append(m_symbolicName)
+                    .append(m_vendor)
+                    .append(m_version)
+                    .toHashCode();
+            m_hashCode = hashCode;
+        }
+        return hashCode;
     }
 
 } 
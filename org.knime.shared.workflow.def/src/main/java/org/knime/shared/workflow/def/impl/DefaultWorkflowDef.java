@@ -136,7 +136,7 @@ public class DefaultWorkflowDef implements WorkflowDef {
      * @param builder source
      */
     DefaultWorkflowDef(WorkflowDefBuilder builder) {
-        // TODO make immutable copies!!
+        // collections are persistent, i.e., immutable and structurally shared with the builder, no copy needed
         
             
         m_name = builder.m_name;
@@ -390,6 +390,9 @@ public Optional<DefaultWorkflowUISettingsDef> getFaultyWorkflowEditorSettings(){
     // Utility
     // -----------------------------------------------------------------------------------------------------------------
 
+    /** Cached hash code, {@code 0} if not computed yet. Defs are immutable, so it never needs to be invalidated. */
+    private transient int m_hashCode;
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) {
@@ -402,6 +405,10 @@ public boolean equals(final Object o) {
             return false;
         }
         DefaultWorkflowDef other = (DefaultWorkflowDef)o;
+        if (hashCode() != other.hashCode()) {
+            // hash codes are cached, this is cheap and avoids comparing entire subtrees in most cases
+            return false;
+        }
         var equalsBuilder = new org.apache.commons.lang3.builder.EqualsBuilder();
         equalsBuilder.append(m_name, other.m_name);
         equalsBuilder.append(m_authorInformation, other.m_authorInformation);
@@ -414,14 +421,19 @@ public boolean equals(final Object o) {
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(m_name)
-                .append(m_authorInformation)
-                .append(m_nodes)
-                .append(m_connections)
-                .append(m_annotations)
-                .append(m_workflowEditorSettings)
-                .toHashCode();
+        var hashCode = m_hashCode;
+        if (hashCode == 0) {
+            hashCode = new HashCodeBuilder()
+                    .append(m_name)
+                    .append(m_authorInformation)
+                    .append(m_nodes)
+                    .append(m_connections)
+                    .append(m_annotations)
+                    .append(m_workflowEditorSettings)
+                    .toHashCode();
+            m_hashCode = hashCode;
+        }
+        return hashCode;
     }
 
 } 
@@ -101,7 +101,7 @@ public class DefaultWorkflowMetadataDef extends DefaultNodeContainerMetadataDef
      * @param builder source
      */
     DefaultWorkflowMetadataDef(WorkflowMetadataDefBuilder builder) {
-        // TODO make immutable copies!!
+        // collections are persistent, i.e., immutable and structurally shared with the builder, no copy needed
         super();
             
         m_author = builder.m_author;
@@ -378,6 +378,9 @@ public Optional<LoadException> getContentTypeSupplyException(){
     // Utility
     // -----------------------------------------------------------------------------------------------------------------
 
+    /** Cached hash code, {@code 0} if not computed yet. Defs are immutable, so it never needs to be invalidated. */
+    private transient int m_hashCode;
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) {
@@ -390,21 +393,37 @@ public boolean equals(final Object o) {
             return false;
         }
         DefaultWorkflowMetadataDef other = (DefaultWorkflowMetadataDef)o;
+        if (hashCode() != other.hashCode()) {
+            // hash codes are cached, this is cheap and avoids comparing entire subtrees in most cases
+            return false;
+        }
         var equalsBuilder = new org.apache.commons.lang3.builder.EqualsBuilder();
+        equalsBuilder.append(m_author, other.m_author);
+        equalsBuilder.append(m_created, other.m_created);
+        equalsBuilder.append(m_lastModified, other.m_lastModified);
+        equalsBuilder.append(m_description, other.m_description);
+        equalsBuilder.append(m_tags, other.m_tags);
+        equalsBuilder.append(m_links, other.m_links);
+        equalsBuilder.append(m_contentType, other.m_contentType);
         return equalsBuilder.isEquals();
     }
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(m_author)
-                .append(m_created)
-                .append(m_lastModified)
-                .append(m_description)
-                .append(m_tags)
-                .append(m_links)
-                .append(m_contentType)
-                .toHashCode();
+        var hashCode = m_hashCode;
+        if (hashCode == 0) {
+            hashCode = new HashCodeBuilder()
+                    .append(m_author)
+                    .append(m_created)
+                    .append(m_lastModified)
+                    .append(m_description)
+                    .append(m_tags)
+                    .append(m_links)
+                    .append(m_contentType)
+                    .toHashCode();
+            m_hashCode = hashCode;
+        }
+        return hashCode;
     }
 
 } 
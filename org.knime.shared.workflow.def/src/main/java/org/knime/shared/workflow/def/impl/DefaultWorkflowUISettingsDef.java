@@ -139,9 +139,6 @@ public class DefaultWorkflowUISettingsDef implements WorkflowUISettingsDef {
      * @param builder source
      */
     DefaultWorkflowUISettingsDef(WorkflowUISettingsDefBuilder builder) {
-        // TODO make immutable copies!!
-        
-            
         m_snapToGrid = builder.m_snapToGrid;
         m_showGrid = builder.m_showGrid;
         m_gridX = builder.m_gridX;
@@ -351,6 +348,9 @@ public Optional<LoadException> getConnectionLineWidthSupplyException(){
     // Utility
     // -----------------------------------------------------------------------------------------------------------------
 
+    /** Cached hash code, {@code 0} if not computed yet. Defs are immutable, so it never needs to be invalidated. */
+    private transient int m_hashCode;
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) {
@@ -363,6 +363,10 @@ public boolean equals(final Object o) {
             return false;
         }
         DefaultWorkflowUISettingsDef other = (DefaultWorkflowUISettingsDef)o;
+        if (hashCode() != other.hashCode()) {
+            // hash codes are cached, this is cheap and avoids comparing entire subtrees in most cases
+            return false;
+        }
         var equalsBuilder = new org.apache.commons.lang3.builder.EqualsBuilder();
         equalsBuilder.append(m_snapToGrid, other.m_snapToGrid);
         equalsBuilder.append(m_showGrid, other.m_showGrid);
@@ -376,15 +380,20 @@ public boolean equals(final Object o) {
 
     @Override
     public int hashCode() {
-        return new HashCodeBuilder()
-                .append(m_snapToGrid)
-                .append(m_showGrid)
-                .append(m_gridX)
-                .append(m_gridY)
-                .append(m_zoomLevel)
-                .append(m_curvedConnections)
-                .append(m_connectionLineWidth)
-                .toHashCode();
+        var hashCode = m_hashCode;
+        if (hashCode == 0) {
+            hashCode = new HashCodeBuilder()
+                    .append(m_snapToGrid)
+                    .append(m_showGrid)
+                    .append(m_gridX)
+                    .append(m_gridY)
+                    .append(m_zoomLevel)
+                    .append(m_curvedConnections)
+                    .append(m_connectionLineWidth)
+                    .toHashCode();
+            m_hashCode = hashCode;
+        }
+        return hashCode;
     }
 
 } 
@@ -67,6 +67,7 @@
 import org.knime.core.util.workflow.def.FallibleSupplier;
 import org.knime.core.util.workflow.def.LoadException;
 import org.knime.core.util.workflow.def.LoadExceptionTree;
+import org.knime.core.util.workflow.def.PersistentList;
 /**
  * MetaNodeDefBuilder
  * @author Martin Horn, KNIME GmbH, Konstanz, Germany
@@ -114,7 +115,7 @@ public class MetaNodeDefBuilder {
      * Holds the final result of merging the bulk and individual elements in #build().
      * Elements added individually go directly into this list so they are inserted at positions 0, 1, ... this is important for non-Def types since the accompanying {@code Map<Integer, LoadException>} uses the element's offset to correlate it to its LoadException.
      */
-    java.util.List<PortDef> m_inPorts = new java.util.ArrayList<>();
+    PersistentList<PortDef> m_inPorts = PersistentList.of();
     /** Temporarily holds onto elements set as a whole with setInPorts these are added to m_inPorts in build */
     private java.util.List<PortDef> m_inPortsBulkElements = new java.util.ArrayList<>();
     /** This exception is merged with the exceptions of the elements of this list into a single {@link LoadExceptionTree} during {@link #build()}. The LES is then put into {@link #m_m_exceptionalChildren}. */
@@ -124,7 +125,7 @@ public class MetaNodeDefBuilder {
      * Holds the final result of merging the bulk and individual elements in #build().
      * Elements added individually go directly into this list so they are inserted at positions 0, 1, ... this is important for non-Def types since the accompanying {@code Map<Integer, LoadException>} uses the element's offset to correlate it to its LoadException.
      */
-    java.util.List<PortDef> m_outPorts = new java.util.ArrayList<>();
+    PersistentList<PortDef> m_outPorts = PersistentList.of();
     /** Temporarily holds onto elements set as a whole with setOutPorts these are added to m_outPorts in build */
     private java.util.List<PortDef> m_outPortsBulkElements = new java.util.ArrayList<>();
     /** This exception is merged with the exceptions of the elements of this list into a single {@link LoadExceptionTree} during {@link #build()}. The LES is then put into {@link #m_m_exceptionalChildren}. */
@@ -156,8 +157,8 @@ public MetaNodeDefBuilder(final MetaNodeDef toCopy) {
         m_locks = toCopy.getLocks();
         m_jobManager = toCopy.getJobManager();
         m_workflow = toCopy.getWorkflow();
-        m_inPorts = toCopy.getInPorts();
-        m_outPorts = toCopy.getOutPorts();
+        m_inPorts = PersistentList.copyOf(toCopy.getInPorts());
+        m_outPorts = PersistentList.copyOf(toCopy.getOutPorts());
         m_cipher = toCopy.getCipher();
         m_link = toCopy.getLink();
         m_inPortsBarUIInfo = toCopy.getInPortsBarUIInfo();
@@ -593,7 +594,7 @@ public MetaNodeDefBuilder addToInPorts(FallibleSupplier<PortDef> value, PortDef
             var supplyException = new LoadException(e);
             toAdd = new DefaultPortDef(defaultValue, supplyException);
         }
-        m_inPorts.add(toAdd);
+        m_inPorts = m_inPorts.plus(toAdd);
         return this;
     } 
     // -----------------------------------------------------------------------------------------------------------------
@@ -666,7 +667,7 @@ public MetaNodeDefBuilder addToOutPorts(FallibleSupplier<PortDef> value, PortDef
             var supplyException = new LoadException(e);
             toAdd = new DefaultPortDef(defaultValue, supplyException);
         }
-        m_outPorts.add(toAdd);
+        m_outPorts = m_outPorts.plus(toAdd);
         return this;
     } 
     // -----------------------------------------------------------------------------------------------------------------
@@ -878,7 +879,7 @@ public DefaultMetaNodeDef build() {
     	
         // contains the elements set with #setInPorts (those added with #addToInPorts have already been inserted into m_inPorts)
         m_inPortsBulkElements = java.util.Objects.requireNonNullElse(m_inPortsBulkElements, java.util.List.of());
-        m_inPorts.addAll(0, m_inPortsBulkElements);
+        m_inPorts = PersistentList.copyOf(m_inPortsBulkElements).plusAll(m_inPorts);
                 
         var inPortsLoadExceptionTree = org.knime.core.util.workflow.def.SimpleLoadExceptionTree
             .list(m_inPorts, m_inPortsContainerSupplyException);
@@ -888,7 +889,7 @@ public DefaultMetaNodeDef build() {
         
         // contains the elements set with #setOutPorts (those added with #addToOutPorts have already been inserted into m_outPorts)
         m_outPortsBulkElements = java.util.Objects.requireNonNullElse(m_outPortsBulkElements, java.util.List.of());
-        m_outPorts.addAll(0, m_outPortsBulkElements);
+        m_outPorts = PersistentList.copyOf(m_outPortsBulkElements).plusAll(m_outPorts);
                 
         var outPortsLoadExceptionTree = org.knime.core.util.workflow.def.SimpleLoadExceptionTree
             .list(m_outPorts, m_outPortsContainerSupplyException);
@@ -68,6 +68,8 @@
 import org.knime.core.util.workflow.def.FallibleSupplier;
 import org.knime.core.util.workflow.def.LoadException;
 import org.knime.core.util.workflow.def.LoadExceptionTree;
+import org.knime.core.util.workflow.def.PersistentList;
+import org.knime.core.util.workflow.def.PersistentMap;
 /**
  * RootWorkflowDefBuilder
  * @author Martin Horn, KNIME GmbH, Konstanz, Germany
@@ -101,7 +103,7 @@ public class RootWorkflowDefBuilder {
      * Holds the final result of merging the bulk and individual elements in #build().
      * Elements added individually go directly into this map.
      */
-    java.util.Map<String, BaseNodeDef> m_nodes = new java.util.LinkedHashMap<>();
+    PersistentMap<String, BaseNodeDef> m_nodes = PersistentMap.of();
     /** Temporarily holds onto elements set as a whole with setNodes these are added to m_nodes in build */
     private java.util.Map<String, BaseNodeDef> m_nodesBulkElements = new java.util.HashMap<>();
     /** This exception is merged with the exceptions of the elements of this map into a single {@link LoadExceptionTree} during {@link #build()}. The LES is then put into {@link #m_m_exceptionalChildren}. */
@@ -111,7 +113,7 @@ public class RootWorkflowDefBuilder {
      * Holds the final result of merging the bulk and individual elements in #build().
      * Elements added individually go directly into this list so they are inserted at positions 0, 1, ... this is important for non-Def types since the accompanying {@code Map<Integer, LoadException>} uses the element's offset to correlate it to its LoadException.
      */
-    java.util.List<ConnectionDef> m_connections = new java.util.ArrayList<>();
+    PersistentList<ConnectionDef> m_connections = PersistentList.of();
     /** Temporarily holds onto elements set as a whole with setConnections these are added to m_connections in build */
     private java.util.List<ConnectionDef> m_connectionsBulkElements = new java.util.ArrayList<>();
     /** This exception is merged with the exceptions of the elements of this list into a single {@link LoadExceptionTree} during {@link #build()}. The LES is then put into {@link #m_m_exceptionalChildren}. */
@@ -121,7 +123,7 @@ public class RootWorkflowDefBuilder {
      * Holds the final result of merging the bulk and individual elements in #build().
      * Elements added individually go directly into this map.
      */
-    java.util.Map<String, AnnotationDataDef> m_annotations = new java.util.LinkedHashMap<>();
+    PersistentMap<String, AnnotationDataDef> m_annotations = PersistentMap.of();
     /** Temporarily holds onto elements set as a whole with setAnnotations these are added to m_annotations in build */
     private java.util.Map<String, AnnotationDataDef> m_annotationsBulkElements = new java.util.HashMap<>();
     /** This exception is merged with the exceptions of the elements of this map into a single {@link LoadExceptionTree} during {@link #build()}. The LES is then put into {@link #m_m_exceptionalChildren}. */
@@ -135,7 +137,7 @@ public class RootWorkflowDefBuilder {
      * Holds the final result of merging the bulk and individual elements in #build().
      * Elements added individually go directly into this list so they are inserted at positions 0, 1, ... this is important for non-Def types since the accompanying {@code Map<Integer, LoadException>} uses the element's offset to correlate it to its LoadException.
      */
-    java.util.List<FlowVariableDef> m_flowVariables = new java.util.ArrayList<>();
+    PersistentList<FlowVariableDef> m_flowVariables = PersistentList.of();
     /** Temporarily holds onto elements set as a whole with setFlowVariables these are added to m_flowVariables in build */
     private java.util.List<FlowVariableDef> m_flowVariablesBulkElements = new java.util.ArrayList<>();
     /** This exception is merged with the exceptions of the elements of this list into a single {@link LoadExceptionTree} during {@link #build()}. The LES is then put into {@link #m_m_exceptionalChildren}. */
@@ -145,7 +147,7 @@ public class RootWorkflowDefBuilder {
      * Holds the final result of merging the bulk and individual elements in #build().
      * Elements added individually go directly into this list so they are inserted at positions 0, 1, ... this is important for non-Def types since the accompanying {@code Map<Integer, LoadException>} uses the element's offset to correlate it to its LoadException.
      */
-    java.util.List<CredentialPlaceholderDef> m_credentialPlaceholders = new java.util.ArrayList<>();
+    PersistentList<CredentialPlaceholderDef> m_credentialPlaceholders = PersistentList.of();
     /** Temporarily holds onto elements set as a whole with setCredentialPlaceholders these are added to m_credentialPlaceholders in build */
     private java.util.List<CredentialPlaceholderDef> m_credentialPlaceholdersBulkElements = new java.util.ArrayList<>();
     /** This exception is merged with the exceptions of the elements of this list into a single {@link LoadExceptionTree} during {@link #build()}. The LES is then put into {@link #m_m_exceptionalChildren}. */
@@ -167,13 +169,13 @@ public RootWorkflowDefBuilder() {
     public RootWorkflowDefBuilder(final RootWorkflowDef toCopy) {
         m_name = toCopy.getName();
         m_authorInformation = toCopy.getAuthorInformation();
-        m_nodes = toCopy.getNodes();
-        m_connections = toCopy.getConnections();
-        m_annotations = toCopy.getAnnotations();
+        m_nodes = PersistentMap.copyOf(toCopy.getNodes());
+        m_connections = PersistentList.copyOf(toCopy.getConnections());
+        m_annotations = PersistentMap.copyOf(toCopy.getAnnotations());
         m_workflowEditorSettings = toCopy.getWorkflowEditorSettings();
         m_tableBackendSettings = toCopy.getTableBackendSettings();
-        m_flowVariables = toCopy.getFlowVariables();
-        m_credentialPlaceholders = toCopy.getCredentialPlaceholders();
+        m_flowVariables = PersistentList.copyOf(toCopy.getFlowVariables());
+        m_credentialPlaceholders = PersistentList.copyOf(toCopy.getCredentialPlaceholders());
         m_workflow = toCopy.getWorkflow();
         m_metadata = toCopy.getMetadata();
     }
@@ -339,7 +341,7 @@ public RootWorkflowDefBuilder putToNodes(String key, FallibleSupplier<BaseNodeDe
             // copies values to a new def (of the appropriate subtype, if any) and adds the load exception
             toPut = DefaultBaseNodeDef.withException(defaultValue, supplyException);
         }
-        m_nodes.put(key, toPut);
+        m_nodes = m_nodes.plus(key, toPut);
         return this;
     }
 
@@ -413,7 +415,7 @@ public RootWorkflowDefBuilder addToConnections(FallibleSupplier<ConnectionDef> v
             var supplyException = new LoadException(e);
             toAdd = new DefaultConnectionDef(defaultValue, supplyException);
         }
-        m_connections.add(toAdd);
+        m_connections = m_connections.plus(toAdd);
         return this;
     } 
     // -----------------------------------------------------------------------------------------------------------------
@@ -490,7 +492,7 @@ public RootWorkflowDefBuilder putToAnnotations(String key, FallibleSupplier<Anno
             // copies values to a new def (of the appropriate subtype, if any) and adds the load exception
             toPut = DefaultAnnotationDataDef.withException(defaultValue, supplyException);
         }
-        m_annotations.put(key, toPut);
+        m_annotations = m_annotations.plus(key, toPut);
         return this;
     }
 
@@ -662,7 +664,7 @@ public RootWorkflowDefBuilder addToFlowVariables(FallibleSupplier<FlowVariableDe
             var supplyException = new LoadException(e);
             toAdd = new DefaultFlowVariableDef(defaultValue, supplyException);
         }
-        m_flowVariables.add(toAdd);
+        m_flowVariables = m_flowVariables.plus(toAdd);
         return this;
     } 
     // -----------------------------------------------------------------------------------------------------------------
@@ -735,7 +737,7 @@ public RootWorkflowDefBuilder addToCredentialPlaceholders(FallibleSupplier<Crede
             var supplyException = new LoadException(e);
             toAdd = new DefaultCredentialPlaceholderDef(defaultValue, supplyException);
         }
-        m_credentialPlaceholders.add(toAdd);
+        m_credentialPlaceholders = m_credentialPlaceholders.plus(toAdd);
         return this;
     } 
     // -----------------------------------------------------------------------------------------------------------------
@@ -851,11 +853,8 @@ public DefaultRootWorkflowDef build() {
     	
         // contains the elements set with #setNodes (those added with #addToNodes have already been inserted into m_nodes)
         m_nodesBulkElements = java.util.Objects.requireNonNullElse(m_nodesBulkElements, java.util.Map.of());
-        final java.util.Map<String, BaseNodeDef> nodesMerged = new java.util.LinkedHashMap<>();
         // in rough analogy to list containers, the bulk elements go first and then the individual elements are added
-        nodesMerged.putAll(m_nodesBulkElements);
-        nodesMerged.putAll(m_nodes);
-        m_nodes = nodesMerged;
+        m_nodes = PersistentMap.copyOf(m_nodesBulkElements).plusAll(m_nodes);
                 
         var nodesLoadExceptionTree = org.knime.core.util.workflow.def.SimpleLoadExceptionTree
             .map(m_nodes, m_nodesContainerSupplyException);
@@ -865,7 +864,7 @@ public DefaultRootWorkflowDef build() {
         
         // contains the elements set with #setConnections (those added with #addToConnections have already been inserted into m_connections)
         m_connectionsBulkElements = java.util.Objects.requireNonNullElse(m_connectionsBulkElements, java.util.List.of());
-        m_connections.addAll(0, m_connectionsBulkElements);
+        m_connections = PersistentList.copyOf(m_connectionsBulkElements).plusAll(m_connections);
                 
         var connectionsLoadExceptionTree = org.knime.core.util.workflow.def.SimpleLoadExceptionTree
             .list(m_connections, m_connectionsContainerSupplyException);
@@ -875,11 +874,8 @@ public DefaultRootWorkflowDef build() {
         
         // contains the elements set with #setAnnotations (those added with #addToAnnotations have already been inserted into m_annotations)
         m_annotationsBulkElements = java.util.Objects.requireNonNullElse(m_annotationsBulkElements, java.util.Map.of());
-        final java.util.Map<String, AnnotationDataDef> annotationsMerged = new java.util.LinkedHashMap<>();
         // in rough analogy to list containers, the bulk elements go first and then the individual elements are added
-        annotationsMerged.putAll(m_annotationsBulkElements);
-        annotationsMerged.putAll(m_annotations);
-        m_annotations = annotationsMerged;
+        m_annotations = PersistentMap.copyOf(m_annotationsBulkElements).plusAll(m_annotations);
                 
         var annotationsLoadExceptionTree = org.knime.core.util.workflow.def.SimpleLoadExceptionTree
             .map(m_annotations, m_annotationsContainerSupplyException);
@@ -889,7 +885,7 @@ public DefaultRootWorkflowDef build() {
         
         // contains the elements set with #setFlowVariables (those added with #addToFlowVariables have already been inserted into m_flowVariables)
         m_flowVariablesBulkElements = java.util.Objects.requireNonNullElse(m_flowVariablesBulkElements, java.util.List.of());
-        m_flowVariables.addAll(0, m_flowVariablesBulkElements);
+        m_flowVariables = PersistentList.copyOf(m_flowVariablesBulkElements).plusAll(m_flowVariables);
                 
         var flowVariablesLoadExceptionTree = org.knime.core.util.workflow.def.SimpleLoadExceptionTree
             .list(m_flowVariables, m_flowVariablesContainerSupplyException);
@@ -899,7 +895,7 @@ public DefaultRootWorkflowDef build() {
         
         // contains the elements set with #setCredentialPlaceholders (those added with #addToCredentialPlaceholders have already been inserted into m_credentialPlaceholders)
         m_credentialPlaceholdersBulkElements = java.util.Objects.requireNonNullElse(m_credentialPlaceholdersBulkElements, java.util.List.of());
-        m_credentialPlaceholders.addAll(0, m_credentialPlaceholdersBulkElements);
+        m_credentialPlaceholders = PersistentList.copyOf(m_credentialPlaceholdersBulkElements).plusAll(m_credentialPlaceholders);
                 
         var credentialPlaceholdersLoadExceptionTree = org.knime.core.util.workflow.def.SimpleLoadExceptionTree
             .list(m_credentialPlaceholders, m_credentialPlaceholdersContainerSupplyException);
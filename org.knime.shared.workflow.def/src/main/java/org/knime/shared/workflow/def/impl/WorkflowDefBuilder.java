@@ -62,6 +62,8 @@
 import org.knime.core.util.workflow.def.FallibleSupplier;
 import org.knime.core.util.workflow.def.LoadException;
 import org.knime.core.util.workflow.def.LoadExceptionTree;
+import org.knime.core.util.workflow.def.PersistentList;
+import org.knime.core.util.workflow.def.PersistentMap;
 /**
  * Defines a data processing pipeline.
  * @author Martin Horn, KNIME GmbH, Konstanz, Germany
@@ -95,7 +97,7 @@ public class WorkflowDefBuilder {
      * Holds the final result of merging the bulk and individual elements in #build().
      * Elements added individually go directly into this map.
      */
-    java.util.Map<String, BaseNodeDef> m_nodes = new java.util.LinkedHashMap<>();
+    PersistentMap<String, BaseNodeDef> m_nodes = PersistentMap.of();
     /** Temporarily holds onto elements set as a whole with setNodes these are added to m_nodes in build */
     private java.util.Map<String, BaseNodeDef> m_nodesBulkElements = new java.util.HashMap<>();
     /** This exception is merged with the exceptions of the elements of this map into a single {@link LoadExceptionTree} during {@link #build()}. The LES is then put into {@link #m_m_exceptionalChildren}. */
@@ -105,7 +107,7 @@ public class WorkflowDefBuilder {
      * Holds the final result of merging the bulk and individual elements in #build().
      * Elements added individually go directly into this list so they are inserted at positions 0, 1, ... this is important for non-Def types since the accompanying {@code Map<Integer, LoadException>} uses the element's offset to correlate it to its LoadException.
      */
-    java.util.List<ConnectionDef> m_connections = new java.util.ArrayList<>();
+    PersistentList<ConnectionDef> m_connections = PersistentList.of();
     /** Temporarily holds onto elements set as a whole with setConnections these are added to m_connections in build */
     private java.util.List<ConnectionDef> m_connectionsBulkElements = new java.util.ArrayList<>();
     /** This exception is merged with the exceptions of the elements of this list into a single {@link LoadExceptionTree} during {@link #build()}. The LES is then put into {@link #m_m_exceptionalChildren}. */
@@ -115,7 +117,7 @@ public class WorkflowDefBuilder {
      * Holds the final result of merging the bulk and individual elements in #build().
      * Elements added individually go directly into this map.
      */
-    java.util.Map<String, AnnotationDataDef> m_annotations = new java.util.LinkedHashMap<>();
+    PersistentMap<String, AnnotationDataDef> m_annotations = PersistentMap.of();
     /** Temporarily holds onto elements set as a whole with setAnnotations these are added to m_annotations in build */
     private java.util.Map<String, AnnotationDataDef> m_annotationsBulkElements = new java.util.HashMap<>();
     /** This exception is merged with the exceptions of the elements of this map into a single {@link LoadExceptionTree} during {@link #build()}. The LES is then put into {@link #m_m_exceptionalChildren}. */
@@ -135,9 +137,9 @@ public WorkflowDefBuilder() {
     public WorkflowDefBuilder(final WorkflowDef toCopy) {
         m_name = toCopy.getName();
         m_authorInformation = toCopy.getAuthorInformation();
-        m_nodes = toCopy.getNodes();
-        m_connections = toCopy.getConnections();
-        m_annotations = toCopy.getAnnotations();
+        m_nodes = PersistentMap.copyOf(toCopy.getNodes());
+        m_connections = PersistentList.copyOf(toCopy.getConnections());
+        m_annotations = PersistentMap.copyOf(toCopy.getAnnotations());
         m_workflowEditorSettings = toCopy.getWorkflowEditorSettings();
     }
 
@@ -302,7 +304,7 @@ public WorkflowDefBuilder putToNodes(String key, FallibleSupplier<BaseNodeDef> v
             // copies values to a new def (of the appropriate subtype, if any) and adds the load exception
             toPut = DefaultBaseNodeDef.withException(defaultValue, supplyException);
         }
-        m_nodes.put(key, toPut);
+        m_nodes = m_nodes.plus(key, toPut);
         return this;
     }
 
@@ -376,7 +378,7 @@ public WorkflowDefBuilder addToConnections(FallibleSupplier<ConnectionDef> value
             var supplyException = new LoadException(e);
             toAdd = new DefaultConnectionDef(defaultValue, supplyException);
         }
-        m_connections.add(toAdd);
+        m_connections = m_connections.plus(toAdd);
         return this;
     } 
     // -----------------------------------------------------------------------------------------------------------------
@@ -453,7 +455,7 @@ public WorkflowDefBuilder putToAnnotations(String key, FallibleSupplier<Annotati
             // copies values to a new def (of the appropriate subtype, if any) and adds the load exception
             toPut = DefaultAnnotationDataDef.withException(defaultValue, supplyException);
         }
-        m_annotations.put(key, toPut);
+        m_annotations = m_annotations.plus(key, toPut);
         return this;
     }
 
@@ -519,11 +521,8 @@ public DefaultWorkflowDef build() {
     	
         // contains the elements set with #setNodes (those added with #addToNodes have already been inserted into m_nodes)
         m_nodesBulkElements = java.util.Objects.requireNonNullElse(m_nodesBulkElements, java.util.Map.of());
-        final java.util.Map<String, BaseNodeDef> nodesMerged = new java.util.LinkedHashMap<>();
         // in rough analogy to list containers, the bulk elements go first and then the individual elements are added
-        nodesMerged.putAll(m_nodesBulkElements);
-        nodesMerged.putAll(m_nodes);
-        m_nodes = nodesMerged;
+        m_nodes = PersistentMap.copyOf(m_nodesBulkElements).plusAll(m_nodes);
                 
         var nodesLoadExceptionTree = org.knime.core.util.workflow.def.SimpleLoadExceptionTree
             .map(m_nodes, m_nodesContainerSupplyException);
@@ -533,7 +532,7 @@ public DefaultWorkflowDef build() {
         
         // contains the elements set with #setConnections (those added with #addToConnections have already been inserted into m_connections)
         m_connectionsBulkElements = java.util.Objects.requireNonNullElse(m_connectionsBulkElements, java.util.List.of());
-        m_connections.addAll(0, m_connectionsBulkElements);
+        m_connections = PersistentList.copyOf(m_connectionsBulkElements).plusAll(m_connections);
                 
         var connectionsLoadExceptionTree = org.knime.core.util.workflow.def.SimpleLoadExceptionTree
             .list(m_connections, m_connectionsContainerSupplyException);
@@ -543,11 +542,8 @@ public DefaultWorkflowDef build() {
         
         // contains the elements set with #setAnnotations (those added with #addToAnnotations have already been inserted into m_annotations)
         m_annotationsBulkElements = java.util.Objects.requireNonNullElse(m_annotationsBulkElements, java.util.Map.of());
-        final java.util.Map<String, AnnotationDataDef> annotationsMerged = new java.util.LinkedHashMap<>();
         // in rough analogy to list containers, the bulk elements go first and then the individual elements are added
-        annotationsMerged.putAll(m_annotationsBulkElements);
-        annotationsMerged.putAll(m_annotations);
-        m_annotations = annotationsMerged;
+        m_annotations = PersistentMap.copyOf(m_annotationsBulkElements).plusAll(m_annotations);
                 
         var annotationsLoadExceptionTree = org.knime.core.util.workflow.def.SimpleLoadExceptionTree
             .map(m_annotations, m_annotationsContainerSupplyException);
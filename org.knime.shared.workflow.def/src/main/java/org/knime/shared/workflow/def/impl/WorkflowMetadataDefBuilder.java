@@ -61,6 +61,7 @@
 import org.knime.core.util.workflow.def.FallibleSupplier;
 import org.knime.core.util.workflow.def.LoadException;
 import org.knime.core.util.workflow.def.LoadExceptionTree;
+import org.knime.core.util.workflow.def.PersistentList;
 /**
  * WorkflowMetadataDefBuilder
  * @author Martin Horn, KNIME GmbH, Konstanz, Germany
@@ -102,7 +103,7 @@ public class WorkflowMetadataDefBuilder {
      * Holds the final result of merging the bulk and individual elements in #build().
      * Elements added individually go directly into this list so they are inserted at positions 0, 1, ... this is important for non-Def types since the accompanying {@code Map<Integer, LoadException>} uses the element's offset to correlate it to its LoadException.
      */
-    java.util.List<String> m_tags = new java.util.ArrayList<>();
+    PersistentList<String> m_tags = PersistentList.of();
     /** Temporarily holds onto elements set as a whole with setTags these are added to m_tags in build */
     private java.util.List<String> m_tagsBulkElements = new java.util.ArrayList<>();
     /** This exception is merged with the exceptions of the elements of this list into a single {@link LoadExceptionTree} during {@link #build()}. The LES is then put into {@link #m_m_exceptionalChildren}. */
@@ -115,7 +116,7 @@ public class WorkflowMetadataDefBuilder {
      * Holds the final result of merging the bulk and individual elements in #build().
      * Elements added individually go directly into this list so they are inserted at positions 0, 1, ... this is important for non-Def types since the accompanying {@code Map<Integer, LoadException>} uses the element's offset to correlate it to its LoadException.
      */
-    java.util.List<LinkDef> m_links = new java.util.ArrayList<>();
+    PersistentList<LinkDef> m_links = PersistentList.of();
     /** Temporarily holds onto elements set as a whole with setLinks these are added to m_links in build */
     private java.util.List<LinkDef> m_linksBulkElements = new java.util.ArrayList<>();
     /** This exception is merged with the exceptions of the elements of this list into a single {@link LoadExceptionTree} during {@link #build()}. The LES is then put into {@link #m_m_exceptionalChildren}. */
@@ -138,8 +139,8 @@ public WorkflowMetadataDefBuilder(final WorkflowMetadataDef toCopy) {
         m_created = toCopy.getCreated();
         m_lastModified = toCopy.getLastModified();
         m_description = toCopy.getDescription();
-        m_tags = toCopy.getTags();
-        m_links = toCopy.getLinks();
+        m_tags = PersistentList.copyOf(toCopy.getTags());
+        m_links = PersistentList.copyOf(toCopy.getLinks());
         m_contentType = toCopy.getContentType();
     }
 
@@ -384,7 +385,7 @@ public WorkflowMetadataDefBuilder addToTags(FallibleSupplier<String> value, Stri
             m_tagsElementSupplyExceptions.put(m_tags.size(), supplyException);
             toAdd = defaultValue;
         }
-        m_tags.add(toAdd);
+        m_tags = m_tags.plus(toAdd);
         return this;
     } 
     // -----------------------------------------------------------------------------------------------------------------
@@ -461,7 +462,7 @@ public WorkflowMetadataDefBuilder addToLinks(FallibleSupplier<LinkDef> value, Li
             var supplyException = new LoadException(e);
             toAdd = new DefaultLinkDef(defaultValue, supplyException);
         }
-        m_links.add(toAdd);
+        m_links = m_links.plus(toAdd);
         return this;
     } 
     // -----------------------------------------------------------------------------------------------------------------
@@ -530,7 +531,7 @@ public DefaultWorkflowMetadataDef build() {
     	
         // contains the elements set with #setTags (those added with #addToTags have already been inserted into m_tags)
         m_tagsBulkElements = java.util.Objects.requireNonNullElse(m_tagsBulkElements, java.util.List.of());
-        m_tags.addAll(0, m_tagsBulkElements);
+        m_tags = PersistentList.copyOf(m_tagsBulkElements).plusAll(m_tags);
         
         var tagsLoadExceptionTree = org.knime.core.util.workflow.def.SimpleLoadExceptionTree
             .list(m_tagsElementSupplyExceptions, m_tagsContainerSupplyException);
@@ -540,7 +541,7 @@ public DefaultWorkflowMetadataDef build() {
         
         // contains the elements set with #setLinks (those added with #addToLinks have already been inserted into m_links)
         m_linksBulkElements = java.util.Objects.requireNonNullElse(m_linksBulkElements, java.util.List.of());
-        m_links.addAll(0, m_linksBulkElements);
+        m_links = PersistentList.copyOf(m_linksBulkElements).plusAll(m_links);
                 
         var linksLoadExceptionTree = org.knime.core.util.workflow.def.SimpleLoadExceptionTree
             .list(m_links, m_linksContainerSupplyException);
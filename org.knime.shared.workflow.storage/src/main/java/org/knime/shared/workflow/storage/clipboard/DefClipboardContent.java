@@ -48,6 +48,8 @@
  */
 package org.knime.shared.workflow.storage.clipboard;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.logging.Logger;
@@ -58,6 +60,7 @@
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 
@@ -108,18 +111,39 @@ public static Optional<DefClipboardContent> valueOf(final String string)
         try {
             DefClipboardContent deserialized = ObjectMapperUtil.fromString(string, DefClipboardContent.class);
             return Optional.of(deserialized);
-        } catch (InvalidFormatException ife) {
-            if (ife.getPath().get(ife.getPath().size() - 1).getFieldName().equals("version")) {
-                throw new InvalidDefClipboardContentVersionException(
-                    "Unsupported KNIME clipboard content version: " + ife.getValue(), ife);
-            } else {
-                Logger.getLogger(DefClipboardContent.class.getName()).info(ife.toString());
-            }
-            return Optional.empty();
         } catch (JsonProcessingException ex) {
-            Logger.getLogger(DefClipboardContent.class.getName()).info(ex.toString());
-            return Optional.empty();
+            return notParsable(ex);
+        }
+    }
+
+    /**
+     * Like {@link #valueOf(String)} but reads the JSON from a stream.
+     *
+     * @param in the JSON representation, not closed
+     * @return an empty optional if the stream content cannot be parsed as instance of this class
+     * @throws InvalidDefClipboardContentVersionException if the content looks like {@link DefClipboardContent} but in a
+     *             future or unknown version.
+     * @throws IOException if the stream cannot be read
+     */
+    static Optional<DefClipboardContent> readFrom(final InputStream in)
+        throws InvalidDefClipboardContentVersionException, IOException {
+        try {
+            return Optional.of(ObjectMapperUtil.getInstance().getObjectMapper().readerFor(DefClipboardContent.class)
+                .without(JsonParser.Feature.AUTO_CLOSE_SOURCE).readValue(in));
+        } catch (JsonProcessingException ex) {
+            return notParsable(ex);
+        }
+    }
+
+    private static Optional<DefClipboardContent> notParsable(final JsonProcessingException ex)
+        throws InvalidDefClipboardContentVersionException {
+        if (ex instanceof InvalidFormatException ife
+            && ife.getPath().get(ife.getPath().size() - 1).getFieldName().equals("version")) {
+            throw new InvalidDefClipboardContentVersionException(
+                "Unsupported KNIME clipboard content version: " + ife.getValue(), ife);
         }
+        Logger.getLogger(DefClipboardContent.class.getName()).info(ex.toString());
+        return Optional.empty();
     }
 
     /**
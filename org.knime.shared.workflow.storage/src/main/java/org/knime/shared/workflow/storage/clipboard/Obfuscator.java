@@ -48,19 +48,30 @@
  */
 package org.knime.shared.workflow.storage.clipboard;
 
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
 import java.security.spec.InvalidKeySpecException;
 import java.util.Base64;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javax.crypto.BadPaddingException;
+import javax.crypto.Cipher;
+import javax.crypto.CipherInputStream;
+import javax.crypto.CipherOutputStream;
 import javax.crypto.IllegalBlockSizeException;
 import javax.crypto.NoSuchPaddingException;
 import javax.crypto.SecretKey;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
 
 import org.knime.core.util.crypto.Encrypter;
 import org.knime.core.util.crypto.IEncrypter;
@@ -85,6 +96,19 @@ private Obfuscator() {
      */
     private static IEncrypter encrypter;
 
+    /** Cipher of the streams, each stream has its own cipher instance such that they don't need to synchronize. */
+    private static final String STREAM_CIPHER = "AES/CTR/NoPadding";
+
+    private static final int STREAM_IV_LENGTH = 16;
+
+    /**
+     * Key of the streams. Derived by hashing instead of a password-based key derivation, since the streams only
+     * obfuscate and the derivation is done once when this class is initialized.
+     */
+    private static final SecretKey STREAM_KEY;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     static {
         try {
             encrypter = new Encrypter(OBFUSCATE_WITH);
@@ -92,6 +116,15 @@ private Obfuscator() {
             encrypter = null;
             Logger.getLogger(Obfuscator.class.getName()).log(Level.WARNING, "Cannot initialize Obfuscator", ex);
         }
+        SecretKey key;
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            key = new SecretKeySpec(digest.digest(OBFUSCATE_WITH.getBytes(StandardCharsets.UTF_8)), "AES");
+        } catch (NoSuchAlgorithmException ex) {
+            key = null;
+            Logger.getLogger(Obfuscator.class.getName()).log(Level.WARNING, "Cannot initialize Obfuscator", ex);
+        }
+        STREAM_KEY = key;
     }
 
     /**
@@ -130,4 +163,50 @@ static String deobfuscate(final String string) throws ObfuscatorException {
         }
     }
 
+    /**
+     * Obfuscates everything written to the returned stream. In contrast to {@link #obfuscate(String)}, the content is
+     * never held in memory as a whole.
+     *
+     * @param out where to write the obfuscated bytes to, closed when the returned stream is closed
+     * @return a stream that obfuscates what is written to it, must be closed to write all bytes
+     * @throws ObfuscatorException if the cipher could not be initialized
+     * @throws IOException if the initialization vector cannot be written
+     */
+    static OutputStream obfuscating(final OutputStream out) throws ObfuscatorException, IOException {
+        var iv = new byte[STREAM_IV_LENGTH];
+        RANDOM.nextBytes(iv);
+        var cipher = initCipher(Cipher.ENCRYPT_MODE, iv);
+        out.write(iv);
+        return new CipherOutputStream(out, cipher);
+    }
+
+    /**
+     * @param in a stream of bytes written to a stream created by {@link #obfuscating(OutputStream)}, closed when the
+     *            returned stream is closed
+     * @return a stream of the original bytes
+     * @throws ObfuscatorException if the cipher could not be initialized
+     * @throws IOException if the initialization vector cannot be read
+     */
+    static InputStream deobfuscating(final InputStream in) throws ObfuscatorException, IOException {
+        var iv = in.readNBytes(STREAM_IV_LENGTH);
+        if (iv.length < STREAM_IV_LENGTH) {
+            throw new EOFException("Obfuscated content is too short");
+        }
+        return new CipherInputStream(in, initCipher(Cipher.DECRYPT_MODE, iv));
+    }
+
+    private static Cipher initCipher(final int mode, final byte[] iv) throws ObfuscatorException {
+        if (STREAM_KEY == null) {
+            throw new ObfuscatorException();
+        }
+        try {
+            var cipher = Cipher.getInstance(STREAM_CIPHER);
+            cipher.init(mode, STREAM_KEY, new IvParameterSpec(iv));
+            return cipher;
+        } catch (NoSuchAlgorithmException | NoSuchPaddingException | InvalidKeyException
+                | InvalidAlgorithmParameterException ex) {
+            throw new ObfuscatorException(ex);
+        }
+    }
+
 }
@@ -48,10 +48,23 @@
  */
 package org.knime.shared.workflow.storage.clipboard;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
 import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.commons.io.output.CloseShieldOutputStream;
 
 import org.knime.shared.workflow.storage.text.util.ObjectMapperUtil;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 
 /**
@@ -97,8 +110,13 @@ public ObfuscatorException() {
     private enum Version {
             /**
              * Completely obfuscated content, with a prefix that indicates the version of the system clipboard content.
+             * Only read, not written anymore.
+             */
+            SYSTEM_CLIPBOARD_CONTENT_V1("01"),
+            /**
+             * The JSON is gzip compressed, then obfuscated, then Base64 encoded, all in one pass over the content.
              */
-            SYSTEM_CLIPBOARD_CONTENT_V1("01");
+            SYSTEM_CLIPBOARD_CONTENT_V2("02");
 
         private String m_prefix;
 
@@ -118,11 +136,6 @@ boolean matches(final String systemClipboardContent) {
             return systemClipboardContent != null && systemClipboardContent.startsWith(m_prefix);
         }
 
-        /** Add the version information to the given content. */
-        String wrap(final String content) {
-            return m_prefix + content;
-        }
-
         /** Remove the version information from the given content. */
         String unwrap(final String systemClipboardContent) {
             return systemClipboardContent.substring(m_prefix.length());
@@ -130,6 +143,8 @@ String unwrap(final String systemClipboardContent) {
 
     }
 
+    private static final int BUFFER_SIZE = 1 << 16;
+
     /**
      * @param defClipboardContent
      * @return something that can safely be copied to the system clipboard, i.e., will not expose the contents of locked
@@ -139,12 +154,41 @@ String unwrap(final String systemClipboardContent) {
      */
     public static String serialize(final DefClipboardContent defClipboardContent)
         throws JsonProcessingException, ObfuscatorException {
+        var out = new ByteArrayOutputStream();
+        try {
+            serialize(defClipboardContent, out);
+        } catch (JsonProcessingException | ObfuscatorException ex) { // NOSONAR rethrown as is
+            throw ex;
+        } catch (IOException ex) {
+            // writing to memory does not fail
+            throw new UncheckedIOException(ex);
+        }
+        return out.toString(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Like {@link #serialize(DefClipboardContent)} but writes the (ASCII) characters to the given stream, without
+     * holding the JSON representation of the content in memory.
+     *
+     * @param defClipboardContent
+     * @param out where to write the system clipboard content to, not closed
+     * @throws IOException if the stream cannot be written or the content cannot be converted to JSON
+     * @throws ObfuscatorException if the content cannot be obfuscated
+     * @since 5.10
+     */
+    public static void serialize(final DefClipboardContent defClipboardContent, final OutputStream out)
+        throws IOException, ObfuscatorException {
         if (defClipboardContent == null) {
             throw new ObfuscatorException(new IllegalArgumentException("Cannot serialize null"));
         }
-        var mapper = ObjectMapperUtil.getInstance().getObjectMapper();
-        var serializedContent = mapper.writeValueAsString(defClipboardContent);
-        return Version.SYSTEM_CLIPBOARD_CONTENT_V1.wrap(Obfuscator.obfuscate(serializedContent));
+        out.write(Version.SYSTEM_CLIPBOARD_CONTENT_V2.m_prefix.getBytes(StandardCharsets.US_ASCII));
+        // closing the Base64 stream writes the padding, the shield keeps the given stream open
+        try (var base64 = Base64.getEncoder().wrap(CloseShieldOutputStream.wrap(out));
+                var obfuscated = Obfuscator.obfuscating(base64);
+                var compressed = new GZIPOutputStream(obfuscated, BUFFER_SIZE)) {
+            ObjectMapperUtil.getInstance().getObjectMapper().writerFor(DefClipboardContent.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(compressed, defClipboardContent);
+        }
     }
 
     /**
@@ -158,7 +202,18 @@ public static String serialize(final DefClipboardContent defClipboardContent)
      */
     public static DefClipboardContent deserialize(final String systemClipboardContent)
         throws InvalidDefClipboardContentVersionException, IllegalArgumentException, ObfuscatorException {
-        // currently the only version, if it doesn't match, we cannot deserialize
+        if (Version.SYSTEM_CLIPBOARD_CONTENT_V2.matches(systemClipboardContent)) {
+            var chars = new CharSequenceInputStream(systemClipboardContent,
+                Version.SYSTEM_CLIPBOARD_CONTENT_V2.m_prefix.length());
+            try (var base64 = Base64.getMimeDecoder().wrap(chars);
+                    var obfuscated = Obfuscator.deobfuscating(base64);
+                    var compressed = new GZIPInputStream(obfuscated, BUFFER_SIZE)) {
+                return DefClipboardContent.readFrom(compressed).orElseThrow(cannotDeserialize);
+            } catch (IOException ex) {
+                // not Base64, not obfuscated, or not compressed
+                throw new ObfuscatorException(ex);
+            }
+        }
         if (!Version.SYSTEM_CLIPBOARD_CONTENT_V1.matches(systemClipboardContent)) {
             throw cannotDeserialize.get();
         }
@@ -168,4 +223,45 @@ public static DefClipboardContent deserialize(final String systemClipboardConten
         return DefClipboardContent.valueOf(plain).orElseThrow(cannotDeserialize);
     }
 
+    /**
+     * Reads the characters of a Base64 string as bytes, without copying the string. Characters outside of the ASCII
+     * range are not Base64 characters either, they are mapped to a byte that is not a Base64 character.
+     */
+    private static final class CharSequenceInputStream extends InputStream {
+
+        private final CharSequence m_chars;
+
+        private int m_pos;
+
+        CharSequenceInputStream(final CharSequence chars, final int start) {
+            m_chars = chars;
+            m_pos = start;
+        }
+
+        @Override
+        public int read() {
+            return m_pos < m_chars.length() ? toByte(m_chars.charAt(m_pos++)) : -1;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            Objects.checkFromIndexSize(off, len, b.length);
+            if (len == 0) {
+                return 0;
+            }
+            var n = Math.min(len, m_chars.length() - m_pos);
+            if (n <= 0) {
+                return -1;
+            }
+            for (var i = 0; i < n; i++) {
+                b[off + i] = (byte)toByte(m_chars.charAt(m_pos++));
+            }
+            return n;
+        }
+
+        private static int toByte(final char c) {
+            return c < 0x80 ? c : 0x80;
+        }
+    }
+
 }
@@ -60,6 +60,8 @@
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.config.base.ConfigBaseRO;
 import org.knime.core.util.LoadVersion;
+import org.knime.core.util.jfr.NodeLoadEvent;
+import org.knime.core.util.jfr.WorkflowLoadEvent;
 import org.knime.shared.workflow.def.AuthorInformationDef;
 import org.knime.shared.workflow.def.BaseNodeDef;
 import org.knime.shared.workflow.def.BaseNodeDef.NodeTypeEnum;
@@ -139,16 +141,26 @@ public static WorkflowDef load(final File nodeDirectory, final LoadVersion workf
     public static WorkflowDef load(final File workflowDirectory, final ConfigBaseRO workflowConfig,
         final LoadVersion loadVersion) {
 
-        var builder = new WorkflowDefBuilder() //
-            .setName(() -> loadName(workflowConfig, loadVersion), DEFAULT_WORKFLOW_NAME)//
-            .setAuthorInformation(() -> loadAuthorInformation(workflowConfig, loadVersion), DEFAULT_AUTHOR_INFORMATION)
-            .setWorkflowEditorSettings(() -> loadWorkflowUISettings(workflowConfig, loadVersion),
-                new WorkflowUISettingsDefBuilder().build());
-        setNodes(builder, workflowConfig, workflowDirectory, loadVersion);
-        setConnections(builder, workflowConfig, loadVersion);
-        setAnnotations(builder, workflowConfig, loadVersion);
-
-        return builder.build();
+        final var event = new WorkflowLoadEvent();
+        event.begin();
+        WorkflowDef workflow = null;
+        try {
+            var builder = new WorkflowDefBuilder() //
+                .setName(() -> loadName(workflowConfig, loadVersion), DEFAULT_WORKFLOW_NAME)//
+                .setAuthorInformation(() -> loadAuthorInformation(workflowConfig, loadVersion),
+                    DEFAULT_AUTHOR_INFORMATION)
+                .setWorkflowEditorSettings(() -> loadWorkflowUISettings(workflowConfig, loadVersion),
+                    new WorkflowUISettingsDefBuilder().build());
+            setNodes(builder, workflowConfig, workflowDirectory, loadVersion);
+            setConnections(builder, workflowConfig, loadVersion);
+            setAnnotations(builder, workflowConfig, loadVersion);
+
+            workflow = builder.build();
+            return workflow;
+        } finally {
+            event.commit(workflowDirectory.getPath(), workflow != null ? workflow.getNodes().size() : 0,
+                loadVersion.getVersionString(), workflow != null);
+        }
     }
 
     private static void setNodes(final WorkflowDefBuilder builder, final ConfigBaseRO workflowConfig,
@@ -223,15 +235,20 @@ private static BaseNodeDef loadNode(final ConfigBaseRO nodeConfig, final File wo
         var settingsFile = LoaderUtils.loadNodeFile(nodeConfig, workflowDir);
         var nodeDirectory = settingsFile.getParentFile();
 
-        switch (loadNodeType(nodeConfig, workflowFormatVersion)) {
-            case METANODE:
-                return MetaNodeLoader.load(nodeConfig, nodeDirectory, workflowFormatVersion);
-            case NATIVENODE:
-                return NativeNodeLoader.load(nodeConfig, nodeDirectory, workflowFormatVersion);
-            case COMPONENT:
-                return ComponentNodeLoader.load(nodeConfig, nodeDirectory, workflowFormatVersion);
-            default:
-                throw new IllegalStateException("Unknown node type");
+        var nodeType = loadNodeType(nodeConfig, workflowFormatVersion);
+        final var event = new NodeLoadEvent();
+        event.begin();
+        BaseNodeDef node = null;
+        try {
+            node = switch (nodeType) {
+                case METANODE -> MetaNodeLoader.load(nodeConfig, nodeDirectory, workflowFormatVersion);
+                case NATIVENODE -> NativeNodeLoader.load(nodeConfig, nodeDirectory, workflowFormatVersion);
+                case COMPONENT -> ComponentNodeLoader.load(nodeConfig, nodeDirectory, workflowFormatVersion);
+                default -> throw new IllegalStateException("Unknown node type");
+            };
+            return node;
+        } finally {
+            event.commit(nodeDirectory.getPath(), nodeType.name(), workflowDir.getPath(), node != null);
         }
     }
 
@@ -70,8 +70,15 @@ abstract class BaseNodeSaver {
 
     private final BaseNodeDef m_baseNode;
 
+    private final SettingsWriter m_writer;
+
     BaseNodeSaver(final BaseNodeDef baseNode) {
+        this(baseNode, SettingsWriter.IMMEDIATE);
+    }
+
+    BaseNodeSaver(final BaseNodeDef baseNode, final SettingsWriter writer) {
         m_baseNode = baseNode;
+        m_writer = writer;
     }
 
     /**
@@ -79,18 +86,19 @@ abstract class BaseNodeSaver {
      *
      * @param node The input node that should be saved
      * @param creator Creator information that will be added to the MetaNode- and ComponentNodeSaver
+     * @param writer Writes the settings files of the node
      * @return A saver instance
      */
-    static BaseNodeSaver getInstance(final BaseNodeDef node, final CreatorDef creator) {
+    static BaseNodeSaver getInstance(final BaseNodeDef node, final CreatorDef creator, final SettingsWriter writer) {
         var type = node.getNodeType();
         if (type != null) {
             switch (type) {
                 case NATIVENODE:
-                    return new NativeNodeSaver((NativeNodeDef)node);
+                    return new NativeNodeSaver((NativeNodeDef)node, writer);
                 case METANODE:
-                    return new MetaNodeSaver((MetaNodeDef)node, creator);
+                    return new MetaNodeSaver((MetaNodeDef)node, creator, writer);
                 case COMPONENT:
-                    return new ComponentNodeSaver((ComponentNodeDef)node, creator);
+                    return new ComponentNodeSaver((ComponentNodeDef)node, creator, writer);
             }
             throw new IllegalStateException("Unknown node type " + type.toString() + " -- cannot instantiate saver");
         }
@@ -107,6 +115,13 @@ static BaseNodeSaver getInstance(final BaseNodeDef node, final CreatorDef creato
      */
     abstract void save(final File nodeDirectory, final ConfigBase parentWorkflowNodeSettings) throws IOException;
 
+    /**
+     * @return the writer for the settings files of this node
+     */
+    SettingsWriter getWriter() {
+        return m_writer;
+    }
+
     /**
      * Extends the node settings to include the properties of the node
      *
@@ -49,7 +49,6 @@
 package org.knime.shared.workflow.storage.multidir.saver;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.util.Base64;
 import java.util.Iterator;
@@ -57,7 +56,6 @@
 
 import org.knime.core.node.config.base.ConfigBase;
 import org.knime.core.node.config.base.SimpleConfig;
-import org.knime.core.node.config.base.XMLConfig;
 import org.knime.shared.workflow.def.ComponentNodeDef;
 import org.knime.shared.workflow.def.CreatorDef;
 import org.knime.shared.workflow.storage.multidir.util.IOConst;
@@ -85,6 +83,12 @@ final class ComponentNodeSaver extends SingleNodeSaver {
         m_creator = creator;
     }
 
+    ComponentNodeSaver(final ComponentNodeDef componentNode, final CreatorDef creator, final SettingsWriter writer) {
+        super(componentNode, writer);
+        m_componentNode = componentNode;
+        m_creator = creator;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -99,7 +103,7 @@ void save(final File componentDirectory, final ConfigBase parentWorkflowNodeSett
         addNodeSettings(nodeSettings);
 
         // Save the contained workflow
-        var workflowSaver = new WorkflowSaver(m_componentNode.getWorkflow(), m_creator);
+        var workflowSaver = new WorkflowSaver(m_componentNode.getWorkflow(), m_creator, getWriter());
         workflowSaver.save(componentDirectory, s -> {
             // annotation data and custom description will be added to the workflow.knime by the WorkflowSaver
             SaverUtils.addAnnotationData(s, m_componentNode.getAnnotation());
@@ -125,9 +129,7 @@ void save(final File componentDirectory, final ConfigBase parentWorkflowNodeSett
         }
 
         // Flush the settings.xml file
-        try (var fos = new FileOutputStream(componentSettingsFile)) {
-            XMLConfig.save(nodeSettings, fos);
-        }
+        getWriter().write(nodeSettings, componentSettingsFile);
     }
 
     /**
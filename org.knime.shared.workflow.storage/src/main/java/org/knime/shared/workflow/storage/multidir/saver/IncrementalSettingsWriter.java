@@ -0,0 +1,268 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.shared.workflow.storage.multidir.saver;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.knime.core.node.config.base.ConfigBase;
+import org.knime.core.node.config.base.XMLConfig;
+
+/**
+ * Only writes the settings files whose content differs from what is on disk. The content of each written file is
+ * recorded (SHA-256 hash, size, modification time) in a manifest file ({@value #MANIFEST_FILE_NAME}) in the saved
+ * directory, which is not part of exported workflows. On the next save, a file is skipped if its serialized content
+ * has the recorded hash and the file on disk still has the recorded size and modification time, i.e., was not changed
+ * by someone else in the meantime. Files without a manifest record (e.g., on the first incremental save) are compared
+ * byte-wise with the file on disk if the sizes match.
+ *
+ * Files that are in the manifest but were not written in the current save (e.g. the settings.xml of a deleted node)
+ * are deleted in {@link #commit()}, as are the directories that become empty because of that. Files not written by a
+ * saver (e.g. node data) are never touched. Since the manifest is part of the saved directory and may come from
+ * elsewhere, entries that do not denote a file within that directory are ignored.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class IncrementalSettingsWriter extends SettingsWriter {
+
+    /** Name of the manifest file in the root directory of the saved standalone. */
+    static final String MANIFEST_FILE_NAME = ".settings_manifest";
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final Path m_root;
+
+    /** The records of the previous save, by path relative to the root, in '/' notation. */
+    private final Map<String, FileRecord> m_previous;
+
+    /** The records of the files written or found unchanged in this save, sorted for a stable manifest. */
+    private final Map<String, FileRecord> m_current = new TreeMap<>();
+
+    private int m_written;
+
+    private int m_unchanged;
+
+    /**
+     * @param root the directory the standalone is saved to, must exist
+     * @throws IOException if an existing manifest cannot be read
+     */
+    IncrementalSettingsWriter(final Path root) throws IOException {
+        m_root = root;
+        m_previous = readManifest();
+    }
+
+    @Override
+    void write(final ConfigBase settings, final File file) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        XMLConfig.save(settings, bytes);
+        var content = bytes.toByteArray();
+        var hash = sha256(content);
+        var path = file.toPath();
+        var relativePath = relativePath(path);
+
+        if (isUnchanged(path, m_previous.get(relativePath), hash, content)) {
+            m_current.put(relativePath, FileRecord.of(hash, path));
+            m_unchanged++;
+            return;
+        }
+        Files.write(path, content);
+        m_current.put(relativePath, FileRecord.of(hash, path));
+        m_written++;
+    }
+
+    private static boolean isUnchanged(final Path path, final FileRecord previous, final String hash,
+        final byte[] content) throws IOException {
+        if (!Files.isRegularFile(path) || Files.size(path) != content.length) {
+            return false;
+        }
+        if (previous != null) {
+            // changed on disk since the last save if the size or modification time differ from the record
+            return previous.hash().equals(hash) && previous.size() == content.length
+                && previous.lastModified() == Files.getLastModifiedTime(path).toMillis();
+        }
+        return Arrays.equals(Files.readAllBytes(path), content);
+    }
+
+    /**
+     * Deletes the files of the previous save that have not been written in this save and writes the new manifest.
+     *
+     * @return the number of written, unchanged, and deleted files
+     * @throws IOException if the manifest cannot be written
+     */
+    StandaloneSaver.IncrementalSaveResult commit() throws IOException {
+        var deleted = 0;
+        for (var relativePath : m_previous.keySet()) {
+            if (m_current.containsKey(relativePath)) {
+                continue;
+            }
+            var file = m_root.resolve(relativePath).normalize();
+            if (file.startsWith(m_root.normalize()) && deleteStale(file)) {
+                deleted++;
+            }
+        }
+        writeManifest();
+        return new StandaloneSaver.IncrementalSaveResult(m_written, m_unchanged, deleted);
+    }
+
+    private boolean deleteStale(final Path file) {
+        try {
+            if (!Files.deleteIfExists(file)) {
+                return false;
+            }
+            // remove the directories of deleted nodes, but only if nothing else is in them
+            var root = m_root.normalize();
+            for (var dir = file.getParent(); !dir.equals(root) && dir.startsWith(root); dir = dir.getParent()) {
+                try (var children = Files.list(dir)) {
+                    if (children.findAny().isPresent()) {
+                        break;
+                    }
+                }
+                Files.delete(dir);
+            }
+            return true;
+        } catch (IOException e) {
+            Logger.getLogger(IncrementalSettingsWriter.class.getName()).log(Level.WARNING,
+                "Could not delete stale settings file " + file, e);
+            return false;
+        }
+    }
+
+    private void writeManifest() throws IOException {
+        var manifest = new StringBuilder();
+        m_current.forEach((relativePath, record) -> manifest.append(record.hash()).append(' ') //
+            .append(record.size()).append(' ') //
+            .append(record.lastModified()).append(' ') //
+            .append(relativePath).append('\n'));
+        var manifestFile = m_root.resolve(MANIFEST_FILE_NAME);
+        var tempFile = m_root.resolve(MANIFEST_FILE_NAME + ".tmp");
+        Files.writeString(tempFile, manifest, StandardCharsets.UTF_8);
+        Files.move(tempFile, manifestFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Map<String, FileRecord> readManifest() throws IOException {
+        var records = new HashMap<String, FileRecord>();
+        var manifestFile = m_root.resolve(MANIFEST_FILE_NAME);
+        if (!Files.isRegularFile(manifestFile)) {
+            return records;
+        }
+        for (var line : Files.readAllLines(manifestFile, StandardCharsets.UTF_8)) {
+            // the path may contain spaces, it's the last column
+            var columns = line.split(" ", 4);
+            if (columns.length == 4 && isWithinRoot(columns[3])) {
+                try {
+                    records.put(columns[3],
+                        new FileRecord(columns[0], Long.parseLong(columns[1]), Long.parseLong(columns[2])));
+                } catch (NumberFormatException e) { // NOSONAR a corrupt line only means that the file is compared
+                }
+            }
+        }
+        return records;
+    }
+
+    /**
+     * @return whether a path of the manifest is a relative path without '..' segments that resolves to a file within
+     *         the root directory; other entries were not written by this class and must not be deleted
+     */
+    private boolean isWithinRoot(final String relativePath) {
+        final Path path;
+        try {
+            path = Path.of(relativePath);
+        } catch (InvalidPathException e) { // NOSONAR an invalid path cannot have been written by us
+            return false;
+        }
+        if (path.isAbsolute() || path.getRoot() != null || relativePath.startsWith("/")) {
+            return false;
+        }
+        for (var name : path) {
+            if ("..".equals(name.toString())) {
+                return false;
+            }
+        }
+        var root = m_root.normalize();
+        var file = m_root.resolve(path).normalize();
+        return file.startsWith(root) && !file.equals(root);
+    }
+
+    private String relativePath(final Path file) {
+        var relative = m_root.relativize(file);
+        return relative.toString().replace(File.separatorChar, '/');
+    }
+
+    private static String sha256(final byte[] content) {
+        try {
+            return HEX.formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** What is known about a settings file written by a save. */
+    private record FileRecord(String hash, long size, long lastModified) {
+
+        static FileRecord of(final String hash, final Path file) throws IOException {
+            return new FileRecord(hash, Files.size(file), Files.getLastModifiedTime(file).toMillis());
+        }
+    }
+}
@@ -80,6 +80,12 @@ final class MetaNodeSaver extends BaseNodeSaver {
         m_creator = creator;
     }
 
+    MetaNodeSaver(final MetaNodeDef metaNode, final CreatorDef creator, final SettingsWriter writer) {
+        super(metaNode, writer);
+        m_metaNode = metaNode;
+        m_creator = creator;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -92,7 +98,7 @@ void save(final File metaNodeDirectory, final ConfigBase parentWorkflowNodeSetti
             addParentWorkflowNodeSettings(parentWorkflowNodeSettings);
         }
 
-        var workflowSaver = new WorkflowSaver(m_metaNode.getWorkflow(), m_creator);
+        var workflowSaver = new WorkflowSaver(m_metaNode.getWorkflow(), m_creator, getWriter());
         workflowSaver.save(metaNodeDirectory, this::addNodeSettings);
     }
 
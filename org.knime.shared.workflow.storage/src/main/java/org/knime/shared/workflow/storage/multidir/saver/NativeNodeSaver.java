@@ -49,13 +49,11 @@
 package org.knime.shared.workflow.storage.multidir.saver;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 
 import org.knime.core.node.config.base.ConfigBase;
 import org.knime.core.node.config.base.ConfigBaseWO;
 import org.knime.core.node.config.base.SimpleConfig;
-import org.knime.core.node.config.base.XMLConfig;
 import org.knime.shared.workflow.def.NativeNodeDef;
 import org.knime.shared.workflow.storage.multidir.util.IOConst;
 import org.knime.shared.workflow.storage.multidir.util.SaverUtils;
@@ -72,7 +70,11 @@ final class NativeNodeSaver extends SingleNodeSaver {
     private final NativeNodeDef m_nativeNode;
 
     NativeNodeSaver(final NativeNodeDef nativeNode) {
-        super(nativeNode);
+        this(nativeNode, SettingsWriter.IMMEDIATE);
+    }
+
+    NativeNodeSaver(final NativeNodeDef nativeNode, final SettingsWriter writer) {
+        super(nativeNode, writer);
         m_nativeNode = nativeNode;
     }
 
@@ -95,9 +97,7 @@ void save(final File nativeNodeDirectory, final ConfigBase parentWorkflowNodeSet
         parentWorkflowNodeSettings.addString(IOConst.NODE_SETTINGS_FILE.get(), settingsFileRelativePath.getPath());
 
         // flush the settings.xml to disk
-        try (var fos = new FileOutputStream(nodeSettingsFile)) {
-            XMLConfig.save(nodeSettings, fos);
-        }
+        getWriter().write(nodeSettings, nodeSettingsFile);
     }
 
     /**
@@ -0,0 +1,194 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.shared.workflow.storage.multidir.saver;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.knime.core.node.config.base.ConfigBase;
+import org.knime.core.node.config.base.XMLConfig;
+
+/**
+ * Writes the settings files (e.g. workflow.knime, settings.xml) created by the savers. The {@link #IMMEDIATE} writer
+ * writes each file right away on the calling thread; a {@link Concurrent} writer serializes and writes the files on
+ * an executor while the savers continue to traverse the workflow.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+class SettingsWriter {
+
+    /** Writes the files right away. */
+    static final SettingsWriter IMMEDIATE = new SettingsWriter();
+
+    SettingsWriter() {
+    }
+
+    /**
+     * Writes the given settings to the given file. The settings must not be modified afterwards.
+     *
+     * @param settings the settings to write
+     * @param file the file to write, its directory must already exist
+     * @throws IOException if the file cannot be written (possibly only thrown later, see {@link Concurrent})
+     */
+    void write(final ConfigBase settings, final File file) throws IOException {
+        try (var fos = new FileOutputStream(file)) {
+            XMLConfig.save(settings, fos);
+        }
+    }
+
+    /**
+     * Called if a node of a workflow cannot be saved; the savers continue with the next node. This implementation
+     * only logs the failure.
+     *
+     * @param failure why the node could not be saved
+     */
+    void nodeFailed(final IOException failure) {
+        Logger.getLogger(SettingsWriter.class.getName()).log(Level.SEVERE, failure.getMessage(), failure);
+    }
+
+    /**
+     * Serializes and writes the files on an executor. Each file is forced to the storage device before it counts as
+     * written, so that a workflow directory can be committed once {@link #awaitCompletion()} returns, which also
+     * throws the failures of nodes that could not be saved. Not thread-safe, {@link #write(ConfigBase, File)} and
+     * {@link #nodeFailed(IOException)} must be called by a single (saving) thread.
+     */
+    static final class Concurrent extends SettingsWriter {
+
+        private final Executor m_executor;
+
+        private final List<CompletableFuture<Void>> m_pending = new ArrayList<>();
+
+        private final List<IOException> m_nodeFailures = new ArrayList<>();
+
+        Concurrent(final Executor executor) {
+            m_executor = executor;
+        }
+
+        @Override
+        void write(final ConfigBase settings, final File file) {
+            m_pending.add(CompletableFuture.runAsync(() -> {
+                try {
+                    writeAndForce(settings, file);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, m_executor));
+        }
+
+        @Override
+        void nodeFailed(final IOException failure) {
+            m_nodeFailures.add(failure);
+        }
+
+        private static void writeAndForce(final ConfigBase settings, final File file) throws IOException {
+            var bytes = new ByteArrayOutputStream();
+            XMLConfig.save(settings, bytes);
+            try (var channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                bytes.writeTo(Channels.newOutputStream(channel));
+                channel.force(true);
+            }
+        }
+
+        /**
+         * Waits until all files passed so far have been written, also if some of them fail.
+         *
+         * @throws IOException the first failure to save a node or, if all nodes have been saved, to write a file,
+         *             with the others added as suppressed exceptions
+         */
+        void awaitCompletion() throws IOException {
+            IOException failure = null;
+            for (var nodeFailure : m_nodeFailures) {
+                if (failure == null) {
+                    failure = nodeFailure;
+                } else {
+                    failure.addSuppressed(nodeFailure);
+                }
+            }
+            m_nodeFailures.clear();
+            for (var future : m_pending) {
+                try {
+                    future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    var interrupted = new InterruptedIOException("Interrupted while writing the settings files");
+                    interrupted.initCause(e);
+                    throw interrupted;
+                } catch (ExecutionException e) {
+                    var cause = e.getCause() instanceof UncheckedIOException unchecked ? unchecked.getCause()
+                        : new IOException("Could not write settings file: " + e.getCause().getMessage(),
+                            e.getCause());
+                    if (failure == null) {
+                        failure = cause;
+                    } else {
+                        failure.addSuppressed(cause);
+                    }
+                }
+            }
+            m_pending.clear();
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+}
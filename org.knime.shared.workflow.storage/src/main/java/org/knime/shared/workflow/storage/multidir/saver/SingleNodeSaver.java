@@ -63,7 +63,11 @@ abstract class SingleNodeSaver extends BaseNodeSaver {
     private final ConfigurableNodeDef m_singleNode;
 
     SingleNodeSaver(final ConfigurableNodeDef singleNode) {
-        super(singleNode);
+        this(singleNode, SettingsWriter.IMMEDIATE);
+    }
+
+    SingleNodeSaver(final ConfigurableNodeDef singleNode, final SettingsWriter writer) {
+        super(singleNode, writer);
         m_singleNode = singleNode;
     }
 
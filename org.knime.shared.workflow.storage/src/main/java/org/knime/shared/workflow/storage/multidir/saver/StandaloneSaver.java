@@ -49,11 +49,22 @@
 package org.knime.shared.workflow.storage.multidir.saver;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
+import org.apache.commons.io.FileUtils;
 import org.knime.core.node.config.base.SimpleConfig;
-import org.knime.core.node.config.base.XMLConfig;
 import org.knime.shared.workflow.def.BaseNodeDef.NodeTypeEnum;
 import org.knime.shared.workflow.def.ComponentNodeDef;
 import org.knime.shared.workflow.def.MetaNodeDef;
@@ -92,24 +103,174 @@ public void save(final File parentDirectory, final String dirname) throws IOExce
         var safeFilename = SaverUtils.getValidFileName(dirname, -1);
         var standaloneDirectory = new File(parentDirectory, safeFilename);
         standaloneDirectory.mkdir();
+        save(standaloneDirectory, SettingsWriter.IMMEDIATE);
+    }
+
+    /**
+     * Saves a standalone like {@link #save(File, String)}, but writes the settings files of all nodes concurrently
+     * into a staging directory next to the target directory, which then replaces the target directory by a rename
+     * (atomic where the file system supports it). So if saving fails or is interrupted, the target directory is either
+     * left as it was or contains the complete standalone. Unlike {@link #save(File, String)}, this fails if any node
+     * cannot be saved, instead of only logging it.
+     *
+     * If the target directory exists, files and directories in it that are not written by this save (e.g. node data)
+     * are carried over into the staging directory (as hard links where possible, otherwise as copies). The target
+     * directory is then renamed to a backup directory, which is deleted after the staging directory has been renamed;
+     * only a crash between these two renames leaves the target directory missing (the backup directory is still
+     * there in this case).
+     *
+     * @param parentDirectory The parent directory in which to save the standalone
+     * @param dirname The name of the directory to save the standalone to
+     * @param executor Serializes and writes the settings files, e.g. a fixed thread pool; the more threads, the more
+     *            files are written in parallel, which pays off on storage with a high per-file latency
+     * @throws IOException if a node cannot be saved, a file cannot be written, or the staging directory cannot be
+     *             committed; the staging directory is deleted in this case
+     * @since 5.10
+     */
+    public void save(final File parentDirectory, final String dirname, final Executor executor) throws IOException {
+        var safeFilename = SaverUtils.getValidFileName(dirname, -1);
+        var target = parentDirectory.toPath().resolve(safeFilename);
+        // in the same directory, so that it is on the same file store and can be renamed atomically
+        // (not Files.createTempDirectory, which restricts the permissions of the committed directory to the owner)
+        var staging = Files.createDirectory(
+            parentDirectory.toPath().resolve("." + safeFilename + ".staging-" + UUID.randomUUID()));
+        var writer = new SettingsWriter.Concurrent(executor);
+        try {
+            try {
+                save(staging.toFile(), writer);
+            } finally {
+                // also on failure, no write must happen after the staging directory has been deleted
+                writer.awaitCompletion();
+            }
+            commit(staging, target);
+        } catch (IOException | RuntimeException e) {
+            FileUtils.deleteQuietly(staging.toFile());
+            throw e;
+        }
+    }
+
+    /**
+     * Saves a standalone like {@link #save(File, String)}, but only writes the settings files whose content has
+     * changed since the last incremental save to the same directory (or, for files without a record of the last
+     * save, whose content differs from the file on disk). For a workflow in which a single node was modified, this
+     * writes the settings.xml of that node and, if the node's entry changed as well, the workflow.knime files
+     * containing it. Settings files of nodes that have been removed since the last incremental save are deleted.
+     *
+     * What has been written is recorded in a manifest file ({@code .settings_manifest}) in the standalone directory.
+     *
+     * @param parentDirectory The parent directory in which to save the standalone
+     * @param dirname The name of the directory to save the standalone to
+     * @return the number of written, unchanged, and deleted settings files
+     * @throws IOException if the manifest cannot be read or written, or a settings file cannot be written
+     * @since 5.10
+     */
+    public IncrementalSaveResult saveIncrementally(final File parentDirectory, final String dirname)
+        throws IOException {
+        var safeFilename = SaverUtils.getValidFileName(dirname, -1);
+        var standaloneDirectory = new File(parentDirectory, safeFilename);
+        standaloneDirectory.mkdir();
+        var writer = new IncrementalSettingsWriter(standaloneDirectory.toPath());
+        save(standaloneDirectory, writer);
+        return writer.commit();
+    }
+
+    /**
+     * The outcome of {@link StandaloneSaver#saveIncrementally(File, String)}.
+     *
+     * @param filesWritten number of settings files that have been (re-)written
+     * @param filesUnchanged number of settings files that have been skipped since they are up to date
+     * @param filesDeleted number of settings files of the previous save that have been deleted
+     * @since 5.10
+     */
+    public record IncrementalSaveResult(int filesWritten, int filesUnchanged, int filesDeleted) {
+    }
+
+    private static void commit(final Path staging, final Path target) throws IOException {
+        if (!Files.exists(target)) {
+            move(staging, target);
+            return;
+        }
+        carryOver(target, staging);
+        var backup = staging.resolveSibling(staging.getFileName() + ".old");
+        move(target, backup);
+        try {
+            move(staging, target);
+        } catch (IOException e) {
+            // restore the previous state
+            move(backup, target);
+            throw e;
+        }
+        try {
+            FileUtils.deleteDirectory(backup.toFile());
+        } catch (IOException e) {
+            Logger.getLogger(StandaloneSaver.class.getName()).log(Level.WARNING,
+                "Could not delete the previous version of the saved directory at " + backup, e);
+        }
+    }
+
+    private static void move(final Path source, final Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) { // NOSONAR fall back to a plain rename
+            Files.move(source, target);
+        }
+    }
+
+    /**
+     * Links or copies all files of the target directory that do not exist in the staging directory into the latter,
+     * except for the manifest of incremental saves, which does not describe the staged settings files.
+     */
+    private static void carryOver(final Path target, final Path staging) throws IOException {
+        Files.walkFileTree(target, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs)
+                throws IOException {
+                var staged = staging.resolve(target.relativize(dir));
+                if (!Files.exists(staged, LinkOption.NOFOLLOW_LINKS)) {
+                    Files.createDirectory(staged);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
+                var staged = staging.resolve(target.relativize(file));
+                if (Files.exists(staged, LinkOption.NOFOLLOW_LINKS) || (file.getParent().equals(target)
+                    && file.getFileName().toString().equals(IncrementalSettingsWriter.MANIFEST_FILE_NAME))) {
+                    return FileVisitResult.CONTINUE;
+                }
+                if (attrs.isRegularFile()) {
+                    try {
+                        Files.createLink(staged, file);
+                        return FileVisitResult.CONTINUE;
+                    } catch (IOException | UnsupportedOperationException e) { // NOSONAR fall back to a copy
+                    }
+                }
+                Files.copy(file, staged, StandardCopyOption.COPY_ATTRIBUTES, LinkOption.NOFOLLOW_LINKS);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private void save(final File standaloneDirectory, final SettingsWriter writer) throws IOException {
         switch (m_standalone.getContentType()) {
             case ROOT_WORKFLOW:
-                saveRootWorkflow(standaloneDirectory);
+                saveRootWorkflow(standaloneDirectory, writer);
                 break;
             case COMPONENT:
-                saveComponentNode(standaloneDirectory);
+                saveComponentNode(standaloneDirectory, writer);
                 break;
             case METANODE:
-                saveMetaNode(standaloneDirectory);
+                saveMetaNode(standaloneDirectory, writer);
                 break;
             case WORKFLOW:
                 throw new IllegalStateException("Saving a non-root workflow is not (yet?) supported.");
         }
     }
 
-    private void saveRootWorkflow(final File workflowDirectory) throws IOException {
+    private void saveRootWorkflow(final File workflowDirectory, final SettingsWriter writer) throws IOException {
         var workflow = (RootWorkflowDef)m_standalone.getContents();
-        var workflowSaver = new WorkflowSaver(workflow, m_standalone.getCreator());
+        var workflowSaver = new WorkflowSaver(workflow, m_standalone.getCreator(), writer);
         workflowSaver.save(workflowDirectory, s -> {
             if (workflow.getTableBackendSettings() != null) {
                 s.addEntry(
@@ -120,19 +281,19 @@ private void saveRootWorkflow(final File workflowDirectory) throws IOException {
         });
     }
 
-    private void saveComponentNode(final File standaloneDirectory) throws IOException {
+    private void saveComponentNode(final File standaloneDirectory, final SettingsWriter writer) throws IOException {
         var componentNode = (ComponentNodeDef)m_standalone.getContents();
-        var componentNodeSaver = new ComponentNodeSaver(componentNode, m_standalone.getCreator());
+        var componentNodeSaver = new ComponentNodeSaver(componentNode, m_standalone.getCreator(), writer);
         componentNodeSaver.save(standaloneDirectory, null,
             s -> SaverUtils.addTemplateInfo(s, componentNode.getTemplateInfo(), componentNode.getNodeType()));
-        saveTemplateFile(standaloneDirectory, componentNode.getTemplateInfo(), NodeTypeEnum.COMPONENT);
+        saveTemplateFile(standaloneDirectory, componentNode.getTemplateInfo(), NodeTypeEnum.COMPONENT, writer);
     }
 
-    private void saveMetaNode(final File standaloneDirectory) throws IOException {
+    private void saveMetaNode(final File standaloneDirectory, final SettingsWriter writer) throws IOException {
         var metaNode = (MetaNodeDef)m_standalone.getContents();
-        var metaNodeSaver = new MetaNodeSaver(metaNode, m_standalone.getCreator());
+        var metaNodeSaver = new MetaNodeSaver(metaNode, m_standalone.getCreator(), writer);
         metaNodeSaver.save(standaloneDirectory, null);
-        saveTemplateFile(standaloneDirectory, metaNode.getLink(), NodeTypeEnum.METANODE);
+        saveTemplateFile(standaloneDirectory, metaNode.getLink(), NodeTypeEnum.METANODE, writer);
     }
 
     /**
@@ -142,18 +303,17 @@ private void saveMetaNode(final File standaloneDirectory) throws IOException {
      * @param directory
      * @param templateInfo
      * @param nodeType
+     * @param writer
      * @throws IOException
      */
-    private void saveTemplateFile(final File directory, final TemplateInfoDef templateInfo, final NodeTypeEnum nodeType)
-        throws IOException {
+    private void saveTemplateFile(final File directory, final TemplateInfoDef templateInfo, final NodeTypeEnum nodeType,
+        final SettingsWriter writer) throws IOException {
         var templateConfig = new SimpleConfig(IOConst.TEMPLATE_CONFIG_KEY.get());
         SaverUtils.addCreatorInfo(templateConfig, m_standalone.getCreator());
         SaverUtils.addTemplateInfo(templateConfig, templateInfo, nodeType);
 
         // flush template.knime
-        try (var fos = new FileOutputStream(new File(directory, IOConst.TEMPLATE_FILE_NAME.get()))) {
-            XMLConfig.save(templateConfig, fos);
-        }
+        writer.write(templateConfig, new File(directory, IOConst.TEMPLATE_FILE_NAME.get()));
     }
 
 }
@@ -49,15 +49,11 @@
 package org.knime.shared.workflow.storage.multidir.saver;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.util.function.Consumer;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 
 import org.knime.core.node.config.base.ConfigBase;
 import org.knime.core.node.config.base.SimpleConfig;
-import org.knime.core.node.config.base.XMLConfig;
 import org.knime.shared.workflow.def.CreatorDef;
 import org.knime.shared.workflow.def.WorkflowDef;
 import org.knime.shared.workflow.storage.multidir.util.IOConst;
@@ -75,6 +71,8 @@ final class WorkflowSaver {
 
     private CreatorDef m_creator;
 
+    private SettingsWriter m_writer = SettingsWriter.IMMEDIATE;
+
     WorkflowSaver(final WorkflowDef workflow) {
         m_workflow = workflow;
     }
@@ -84,6 +82,11 @@ final class WorkflowSaver {
         m_creator = creator;
     }
 
+    WorkflowSaver(final WorkflowDef workflow, final CreatorDef creator, final SettingsWriter writer) {
+        this(workflow, creator);
+        m_writer = writer;
+    }
+
     /**
      * Saves a workflow and all contained nodes
      *
@@ -113,9 +116,7 @@ void save(final File workflowDirectory, final Consumer<ConfigBase> workflowSetti
 
         var outputFile = new File(workflowDirectory, IOConst.WORKFLOW_FILE_NAME.get());
         // flush the workflow.knime to disk
-        try (var fos = new FileOutputStream(outputFile)) {
-            XMLConfig.save(workflowSettings, fos);
-        }
+        m_writer.write(workflowSettings, outputFile);
     }
 
     private void addSettings(final ConfigBase workflowSettings, final File workflowDirectory) {
@@ -164,10 +165,10 @@ private void saveChildNodes(final ConfigBase workflowSettings, final File workfl
             try {
                 var workflowNodeSettings = new SimpleConfig(k);
                 var dir = SaverUtils.createNodeDir(workflowDirectory, n);
-                BaseNodeSaver.getInstance(n, m_creator).save(dir, workflowNodeSettings);
+                BaseNodeSaver.getInstance(n, m_creator, m_writer).save(dir, workflowNodeSettings);
                 nodes.addEntry(workflowNodeSettings);
             } catch (IOException e) {
-                Logger.getLogger(WorkflowSaver.class.getName()).log(Level.SEVERE, e.getMessage(), e);
+                m_writer.nodeFailed(e);
             }
         });
         workflowSettings.addEntry(nodes);
@@ -150,7 +150,7 @@ private LoaderUtils() {
 
     public static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss Z");
 
-    public static final ConfigMapDef DEFAULT_CONFIG_MAP = new ConfigMapDefBuilder().build();
+    public static final ConfigMapDef DEFAULT_CONFIG_MAP = new ConfigMapDefBuilder().setConfigType("ConfigMap").build();
 
     public static final TemplateInfoDef DEFAULT_TEMPLATE_LINK = new TemplateInfoDefBuilder().build();
 
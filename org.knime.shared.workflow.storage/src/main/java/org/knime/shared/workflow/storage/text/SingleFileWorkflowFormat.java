@@ -0,0 +1,316 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.shared.workflow.storage.text;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.knime.shared.workflow.def.ComponentNodeDef;
+import org.knime.shared.workflow.def.CreatorDef;
+import org.knime.shared.workflow.def.MetaNodeDef;
+import org.knime.shared.workflow.def.RootWorkflowDef;
+import org.knime.shared.workflow.def.StandaloneDef;
+import org.knime.shared.workflow.def.StandaloneDef.ContentTypeEnum;
+import org.knime.shared.workflow.def.WorkflowDef;
+import org.knime.shared.workflow.def.impl.StandaloneDefBuilder;
+import org.knime.shared.workflow.storage.text.util.ObjectMapperUtil;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Stores a {@link StandaloneDef} (e.g. a root workflow with all its nodes, or a component template) as a single
+ * document, as opposed to the directory tree of the multidir format. The document is an object with the fields
+ *
+ * <pre>
+ * { "format" : "knime-standalone", "formatVersion" : 1, "creator" : {...}, "contentType" : "...", "contents" : {...} }
+ * </pre>
+ *
+ * where {@code contents} has the JSON representation of the respective def, as produced by the mapper of
+ * {@link ObjectMapperUtil}. Documents are written and read by streaming through Jackson, without an intermediate
+ * string or tree.
+ *
+ * By default, the document is written as JSON; any other Jackson format (e.g. CBOR or Smile) can be used by passing
+ * its {@link JsonFactory} to {@link #of(JsonFactory)}. Optionally, the document is compressed with gzip, which is
+ * detected automatically when reading.
+ *
+ * Instances are immutable and thread-safe.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class SingleFileWorkflowFormat {
+
+    /** Value of the {@code format} field, identifies the document. */
+    public static final String FORMAT_NAME = "knime-standalone";
+
+    /** The version of the document structure written by this class. */
+    public static final int FORMAT_VERSION = 1;
+
+    private static final String FORMAT_FIELD = "format";
+
+    private static final String FORMAT_VERSION_FIELD = "formatVersion";
+
+    private static final String CREATOR_FIELD = "creator";
+
+    private static final String CONTENT_TYPE_FIELD = "contentType";
+
+    private static final String CONTENTS_FIELD = "contents";
+
+    /** The first two bytes of a gzip stream. */
+    private static final int GZIP_MAGIC_1 = 0x1f;
+
+    private static final int GZIP_MAGIC_2 = 0x8b;
+
+    private static final ObjectMapper MAPPER = configure(ObjectMapperUtil.getInstance().getObjectMapper().copy());
+
+    private static final SingleFileWorkflowFormat JSON = new SingleFileWorkflowFormat(MAPPER.getFactory(), false);
+
+    /** Creates the generators and parsers of the data format, the values are (de-)serialized by {@link #MAPPER}. */
+    private final JsonFactory m_factory;
+
+    private final boolean m_compressed;
+
+    private SingleFileWorkflowFormat(final JsonFactory factory, final boolean compressed) {
+        m_factory = factory;
+        m_compressed = compressed;
+    }
+
+    /**
+     * @return the uncompressed JSON format
+     */
+    public static SingleFileWorkflowFormat json() {
+        return JSON;
+    }
+
+    /**
+     * @param factory the factory of the Jackson data format to use, e.g., a {@code CBORFactory} or
+     *            {@code SmileFactory}; values are still (de-)serialized by the mapper of
+     *            {@link ObjectMapperUtil}
+     * @return an uncompressed format using the given data format
+     */
+    public static SingleFileWorkflowFormat of(final JsonFactory factory) {
+        return new SingleFileWorkflowFormat(factory, false);
+    }
+
+    /**
+     * Timestamps (e.g. when a workflow was last edited) are written as ISO-8601 strings instead of epoch seconds and
+     * read without adjusting them to UTC, such that they keep their offset and a read def equals the written one.
+     */
+    private static ObjectMapper configure(final ObjectMapper mapper) {
+        return mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE);
+    }
+
+    /**
+     * @param compressed whether to compress written documents with gzip
+     * @return a format with the same data format that compresses (or doesn't compress) documents
+     */
+    public SingleFileWorkflowFormat withCompression(final boolean compressed) {
+        return new SingleFileWorkflowFormat(m_factory, compressed);
+    }
+
+    /**
+     * @return whether written documents are compressed
+     */
+    public boolean isCompressed() {
+        return m_compressed;
+    }
+
+    /**
+     * Writes the standalone to the given file, replacing it if it exists.
+     *
+     * @param standalone what to write
+     * @param file the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void write(final StandaloneDef standalone, final Path file) throws IOException {
+        try (var out = Files.newOutputStream(file)) {
+            write(standalone, out);
+        }
+    }
+
+    /**
+     * Writes the standalone to the given stream.
+     *
+     * @param standalone what to write
+     * @param out the stream to write to, is flushed but not closed
+     * @throws IOException if the stream cannot be written
+     */
+    public void write(final StandaloneDef standalone, final OutputStream out) throws IOException {
+        var gzip = m_compressed ? new GZIPOutputStream(out, 1 << 16) : null;
+        var target = gzip != null ? gzip : new BufferedOutputStream(out, 1 << 16);
+        try (var generator = m_factory.createGenerator(target)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeStringField(FORMAT_FIELD, FORMAT_NAME);
+            generator.writeNumberField(FORMAT_VERSION_FIELD, FORMAT_VERSION);
+            if (standalone.getCreator() != null) {
+                generator.writeFieldName(CREATOR_FIELD);
+                MAPPER.writeValue(generator, standalone.getCreator());
+            }
+            // before the contents, so that the reader knows their type
+            generator.writeFieldName(CONTENT_TYPE_FIELD);
+            MAPPER.writeValue(generator, standalone.getContentType());
+            generator.writeFieldName(CONTENTS_FIELD);
+            MAPPER.writeValue(generator, standalone.getContents());
+            generator.writeEndObject();
+        }
+        if (gzip != null) {
+            gzip.finish();
+        }
+        target.flush();
+    }
+
+    /**
+     * Reads a standalone from the given file, compressed or not.
+     *
+     * @param file the file to read
+     * @return the standalone
+     * @throws IOException if the file cannot be read or is not a document of this format
+     */
+    public StandaloneDef read(final Path file) throws IOException {
+        try (var in = Files.newInputStream(file)) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Reads a standalone from the given stream, compressed or not.
+     *
+     * @param in the stream to read from, not closed
+     * @return the standalone
+     * @throws IOException if the stream cannot be read or does not contain a document of this format
+     */
+    public StandaloneDef read(final InputStream in) throws IOException {
+        var buffered = new BufferedInputStream(in, 1 << 16);
+        buffered.mark(2);
+        var isCompressed = buffered.read() == GZIP_MAGIC_1 && buffered.read() == GZIP_MAGIC_2;
+        buffered.reset();
+        var source = isCompressed ? new GZIPInputStream(buffered, 1 << 16) : buffered;
+        try (var parser = m_factory.createParser(source)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            return read(parser);
+        }
+    }
+
+    private StandaloneDef read(final JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Not a KNIME standalone document, expected an object");
+        }
+        String format = null;
+        CreatorDef creator = null;
+        ContentTypeEnum contentType = null;
+        Object contents = null;
+        // only if the contents are encountered before their type (not written like this, but still valid)
+        JsonNode untypedContents = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            var field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case FORMAT_FIELD -> format = parser.getValueAsString();
+                case FORMAT_VERSION_FIELD -> checkVersion(parser);
+                case CREATOR_FIELD -> creator = MAPPER.readValue(parser, CreatorDef.class);
+                case CONTENT_TYPE_FIELD -> contentType = MAPPER.readValue(parser, ContentTypeEnum.class);
+                case CONTENTS_FIELD -> {
+                    if (contentType != null) {
+                        contents = MAPPER.readValue(parser, contentsClass(contentType));
+                    } else {
+                        untypedContents = MAPPER.readTree(parser);
+                    }
+                }
+                default -> parser.skipChildren(); // written by a newer version, ignore
+            }
+        }
+        if (!FORMAT_NAME.equals(format)) {
+            throw new JsonParseException(parser, "Not a KNIME standalone document, format is " + format);
+        }
+        if (contentType == null) {
+            throw new JsonParseException(parser, "The document does not specify its content type");
+        }
+        if (untypedContents != null) {
+            contents = MAPPER.treeToValue(untypedContents, contentsClass(contentType));
+        }
+        return new StandaloneDefBuilder() //
+            .setCreator(creator) //
+            .setContentType(contentType) //
+            .setContents(contents) //
+            .build();
+    }
+
+    private static void checkVersion(final JsonParser parser) throws IOException {
+        var version = parser.getValueAsInt(-1);
+        if (version < 1 || version > FORMAT_VERSION) {
+            throw new JsonParseException(parser, "Unsupported format version " + parser.getText()
+                + ", supported versions are 1 to " + FORMAT_VERSION);
+        }
+    }
+
+    private static Class<?> contentsClass(final ContentTypeEnum contentType) {
+        return switch (contentType) {
+            case ROOT_WORKFLOW -> RootWorkflowDef.class;
+            case WORKFLOW -> WorkflowDef.class;
+            case METANODE -> MetaNodeDef.class;
+            case COMPONENT -> ComponentNodeDef.class;
+        };
+    }
+}
@@ -57,6 +57,8 @@
 /**
  * Utility class around Jackson's {@link ObjectMapper}. It set's up an {@link ObjectMapper}.
  *
+ * The mapper is created eagerly and never modified afterwards, so it can be shared by any number of threads.
+ *
  * @author Martin Horn, KNIME GmbH, Konstanz, Germany
  */
 public final class ObjectMapperUtil {
@@ -71,7 +73,7 @@ public static ObjectMapperUtil getInstance() {
         return INSTANCE;
     }
 
-    private ObjectMapper m_mapper;
+    private final ObjectMapper m_mapper = createObjectMapper();
 
     private ObjectMapperUtil() {
         //utility class
@@ -96,14 +98,12 @@ private static void configureObjectMapper(final ObjectMapper mapper) {
     }
 
     /**
-     * Returns the shared object mapper.
+     * Returns the shared object mapper. Must not be reconfigured, use {@link ObjectMapper#copy()} to derive a mapper
+     * with a different configuration.
      *
      * @return an object mapper
      */
     public ObjectMapper getObjectMapper() {
-        if (m_mapper == null) {
-            m_mapper = createObjectMapper();
-        }
         return m_mapper;
     }
 
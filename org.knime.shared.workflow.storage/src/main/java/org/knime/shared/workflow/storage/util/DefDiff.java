@@ -0,0 +1,191 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.shared.workflow.storage.util;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import org.knime.core.util.workflow.def.PersistentList;
+import org.knime.core.util.workflow.def.PersistentMap;
+import org.knime.shared.workflow.def.WorkflowDef;
+
+/**
+ * Computes the paths at which two workflow definitions (or any other def, e.g., two {@code ConfigMapDef}s) differ.
+ *
+ * A path consists of the property names of the defs (as in the JSON representation), the keys of maps, and the
+ * indices of lists, separated by {@code /}, e.g., {@code nodes/node_5/modelSettings/children/column}. A path is
+ * reported for each value that was added, removed, or changed; the traversal does not descend into added or removed
+ * subtrees.
+ *
+ * Subtrees are compared like a Merkle tree: identical instances are skipped right away and for equal (cached) hash
+ * codes the subtrees are compared with {@link Object#equals(Object)}, which short-circuits on identical instances and
+ * different hash codes in turn. Since the def builders share unmodified collections and defs between a def and its
+ * modified copy, comparing two versions of the same workflow takes time proportional to the changes rather than to
+ * the size of the workflow.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class DefDiff {
+
+    private static final String DEF_PACKAGE = WorkflowDef.class.getPackageName();
+
+    /** The getters of the def interfaces a class implements, empty if the class is not a def. */
+    private static final ClassValue<List<Method>> PROPERTIES = new ClassValue<>() {
+        @Override
+        protected List<Method> computeValue(final Class<?> type) {
+            final var getters = new TreeMap<String, Method>();
+            for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+                for (final Class<?> defInterface : c.getInterfaces()) {
+                    if (!defInterface.getPackageName().equals(DEF_PACKAGE)) {
+                        continue;
+                    }
+                    // the methods of an interface include those of its super interfaces
+                    Arrays.stream(defInterface.getMethods()) //
+                        .filter(m -> m.getParameterCount() == 0 && !Modifier.isStatic(m.getModifiers()))
+                        .filter(m -> m.getName().startsWith("get") || m.getName().startsWith("is"))
+                        .forEach(m -> getters.putIfAbsent(m.getName(), m));
+                }
+            }
+            return List.copyOf(getters.values());
+        }
+    };
+
+    private DefDiff() {
+    }
+
+    /**
+     * @param <T> type of the defs
+     * @param before a def, e.g., a {@link WorkflowDef}, nullable
+     * @param after another def of the same type, nullable
+     * @return the paths at which the two defs differ, in traversal order; empty if they are equal. If one of the defs
+     *         is {@code null} or they are of different classes, the result is a single empty path.
+     */
+    public static <T> List<String> changedPaths(final T before, final T after) {
+        final var result = new ArrayList<String>();
+        collect("", before, after, result);
+        return result;
+    }
+
+    private static void collect(final String path, final Object before, final Object after,
+        final List<String> result) {
+        if (before == after) {
+            return;
+        }
+        if (before instanceof Map<?, ?> beforeMap && after instanceof Map<?, ?> afterMap) {
+            collectMap(path, beforeMap, afterMap, result);
+        } else if (before instanceof List<?> beforeList && after instanceof List<?> afterList) {
+            collectList(path, beforeList, afterList, result);
+        } else if (before == null || after == null || before.getClass() != after.getClass()) {
+            result.add(path);
+        } else if (PROPERTIES.get(before.getClass()).isEmpty()) {
+            if (!Objects.equals(before, after)) {
+                result.add(path);
+            }
+        } else if (before.hashCode() != after.hashCode() || !before.equals(after)) {
+            for (final Method getter : PROPERTIES.get(before.getClass())) {
+                collect(child(path, propertyName(getter)), get(getter, before), get(getter, after), result);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void collectMap(final String path, final Map<?, ?> before, final Map<?, ?> after,
+        final List<String> result) {
+        final var keys = new LinkedHashSet<Object>();
+        if (before instanceof PersistentMap && after instanceof PersistentMap) {
+            ((PersistentMap<Object, ?>)before).forEachDifference((PersistentMap<Object, ?>)after, keys::add);
+        } else {
+            keys.addAll(before.keySet());
+            keys.addAll(after.keySet());
+        }
+        for (final Object key : keys) {
+            collect(child(path, String.valueOf(key)), before.get(key), after.get(key), result);
+        }
+    }
+
+    private static void collectList(final String path, final List<?> before, final List<?> after,
+        final List<String> result) {
+        if (before instanceof PersistentList<?> beforeList && after instanceof PersistentList<?> afterList) {
+            beforeList.forEachDifference(afterList, i -> collect(child(path, Integer.toString(i)),
+                i < before.size() ? before.get(i) : null, i < after.size() ? after.get(i) : null, result));
+        } else {
+            for (var i = 0; i < Math.max(before.size(), after.size()); i++) {
+                collect(child(path, Integer.toString(i)), i < before.size() ? before.get(i) : null,
+                    i < after.size() ? after.get(i) : null, result);
+            }
+        }
+    }
+
+    private static String child(final String path, final String name) {
+        return path.isEmpty() ? name : (path + "/" + name);
+    }
+
+    /** @return the property name of a getter, e.g., {@code nodes} for {@code getNodes} */
+    private static String propertyName(final Method getter) {
+        final var name = getter.getName().substring(getter.getName().startsWith("is") ? 2 : 3);
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static Object get(final Method getter, final Object def) {
+        try {
+            return getter.invoke(def);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Could not read " + getter.getName() + " of " + def.getClass(), e);
+        }
+    }
+
+}
@@ -0,0 +1,356 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.shared.workflow.storage.util;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.knime.shared.workflow.def.BaseNodeDef;
+import org.knime.shared.workflow.def.ComponentNodeDef;
+import org.knime.shared.workflow.def.MetaNodeDef;
+import org.knime.shared.workflow.def.StandaloneDef;
+import org.knime.shared.workflow.def.TemplateInfoDef;
+import org.knime.shared.workflow.def.WorkflowDef;
+
+/**
+ * Graph of the links from repository items (workflows and templates) to the templates (components and metanodes)
+ * they use, answering which items use a template, directly or transitively, and which links are outdated.
+ *
+ * Each item is identified by its URI and has outgoing {@link Link}s, one per linked component or metanode it contains
+ * (also nested ones), recorded with the {@linkplain TemplateInfoDef#getUpdatedAt() timestamp} of the template version
+ * it is based on. A template additionally has its current timestamp. A link is stale if it is older than the current
+ * timestamp of its template. The incoming links of each template are kept sorted by their timestamp, so all lookups
+ * take time proportional to their result.
+ *
+ * The graph is updated incrementally: {@link #put(String, StandaloneDef)} (or {@link #put(String, OffsetDateTime,
+ * WorkflowDef)}) replaces the links and timestamp of an item, e.g., when it has been saved, and {@link #remove(String)}
+ * removes it, e.g., when it has been deleted. Links can point to templates that are not part of the graph (yet).
+ * Instances are thread-safe.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class TemplateDependencyGraph {
+
+    /**
+     * A link of a component or metanode to a template.
+     *
+     * @param itemUri URI of the item containing the linked node
+     * @param nodePath IDs of the linked node and the nodes containing it, separated by {@code :}, e.g., {@code 4:2}
+     * @param templateUri (resolved) URI of the template
+     * @param updatedAt timestamp of the template version the linked node is based on, nullable if unknown
+     */
+    public record Link(String itemUri, String nodePath, String templateUri, OffsetDateTime updatedAt) {
+
+        /**
+         * @param itemUri URI of the item containing the linked node
+         * @param nodePath IDs of the linked node and the nodes containing it, separated by {@code :}
+         * @param templateUri (resolved) URI of the template
+         * @param updatedAt timestamp of the template version the linked node is based on, nullable if unknown
+         */
+        public Link {
+            Objects.requireNonNull(itemUri);
+            Objects.requireNonNull(nodePath);
+            Objects.requireNonNull(templateUri);
+        }
+
+        private Instant instant() {
+            return updatedAt == null ? Instant.MIN : updatedAt.toInstant();
+        }
+    }
+
+    /** Orders the incoming links of a template by timestamp, unknown timestamps first. */
+    private static final Comparator<Link> BY_TIMESTAMP = Comparator.comparing(Link::instant) //
+        .thenComparing(Link::itemUri) //
+        .thenComparing(Link::nodePath);
+
+    private final BiFunction<String, String, String> m_resolver;
+
+    /** Item URI &rarr; outgoing links. */
+    private final Map<String, List<Link>> m_outgoing = new HashMap<>();
+
+    /** Template URI &rarr; incoming links, sorted by timestamp. */
+    private final Map<String, NavigableSet<Link>> m_incoming = new HashMap<>();
+
+    /** Template URI &rarr; current timestamp of the template. */
+    private final Map<String, OffsetDateTime> m_timestamps = new HashMap<>();
+
+    /**
+     * Creates an empty graph whose link URIs are used as they are, i.e., they must be absolute.
+     */
+    public TemplateDependencyGraph() {
+        this((itemUri, linkUri) -> linkUri);
+    }
+
+    /**
+     * Creates an empty graph that resolves the link URIs, e.g., links relative to the item, with the given function.
+     *
+     * @param resolver maps the item URI and the URI of a link in the item to the URI of the template
+     */
+    public TemplateDependencyGraph(final BiFunction<String, String, String> resolver) {
+        m_resolver = Objects.requireNonNull(resolver);
+    }
+
+    /**
+     * Adds or replaces the item with the given URI, e.g., as loaded by the {@code StandaloneLoader}. Components and
+     * metanodes are added as templates with their current timestamp, workflows as items without timestamp.
+     *
+     * @param itemUri URI of the item
+     * @param item the item
+     */
+    public void put(final String itemUri, final StandaloneDef item) {
+        if (item.getContents() instanceof ComponentNodeDef component) {
+            put(itemUri, timestamp(component.getTemplateInfo()), component.getWorkflow());
+        } else if (item.getContents() instanceof MetaNodeDef metanode) {
+            put(itemUri, timestamp(metanode.getLink()), metanode.getWorkflow());
+        } else if (item.getContents() instanceof WorkflowDef workflow) {
+            put(itemUri, null, workflow);
+        } else {
+            throw new IllegalArgumentException("Unsupported item contents: " + item.getContentType());
+        }
+    }
+
+    /**
+     * Adds or replaces the item with the given URI.
+     *
+     * @param itemUri URI of the item
+     * @param timestamp current timestamp of the item if it is a template, {@code null} otherwise
+     * @param workflow the workflow of the item, whose linked components and metanodes (also nested ones) are added
+     */
+    public void put(final String itemUri, final OffsetDateTime timestamp, final WorkflowDef workflow) {
+        final var links = new ArrayList<Link>();
+        collectLinks(itemUri, "", workflow, links);
+        put(itemUri, timestamp, links);
+    }
+
+    /**
+     * Adds or replaces the item with the given URI.
+     *
+     * @param itemUri URI of the item
+     * @param timestamp current timestamp of the item if it is a template, {@code null} otherwise
+     * @param links the links of the item, their URIs must already be resolved
+     */
+    public synchronized void put(final String itemUri, final OffsetDateTime timestamp,
+        final Collection<Link> links) {
+        Objects.requireNonNull(itemUri);
+        removeLinks(itemUri);
+        if (timestamp == null) {
+            m_timestamps.remove(itemUri);
+        } else {
+            m_timestamps.put(itemUri, timestamp);
+        }
+        final var copy = List.copyOf(links);
+        for (var link : copy) {
+            if (!link.itemUri().equals(itemUri)) {
+                throw new IllegalArgumentException("Link " + link + " does not belong to " + itemUri);
+            }
+            m_incoming.computeIfAbsent(link.templateUri(), t -> new TreeSet<>(BY_TIMESTAMP)).add(link);
+        }
+        m_outgoing.put(itemUri, copy);
+    }
+
+    /**
+     * @param itemUri URI of the item
+     * @return whether the item was part of the graph; links to it are kept, they are dangling now
+     */
+    public synchronized boolean remove(final String itemUri) {
+        final var wasTemplate = m_timestamps.remove(itemUri) != null;
+        return removeLinks(itemUri) || wasTemplate;
+    }
+
+    /**
+     * @param itemUri URI of the item
+     * @return the links of the item, empty if the item is not part of the graph
+     */
+    public synchronized List<Link> getLinks(final String itemUri) {
+        return m_outgoing.getOrDefault(itemUri, List.of());
+    }
+
+    /**
+     * @param templateUri URI of a template
+     * @return the links to the template, sorted by timestamp
+     */
+    public synchronized List<Link> getLinksTo(final String templateUri) {
+        final var incoming = m_incoming.get(templateUri);
+        return incoming == null ? List.of() : List.copyOf(incoming);
+    }
+
+    /**
+     * @param templateUri URI of a template
+     * @return the URIs of the items that link to the template directly
+     */
+    public synchronized Set<String> getDependents(final String templateUri) {
+        final var result = new LinkedHashSet<String>();
+        m_incoming.getOrDefault(templateUri, Collections.emptyNavigableSet()).forEach(l -> result.add(l.itemUri()));
+        return result;
+    }
+
+    /**
+     * @param templateUri URI of a template
+     * @return the URIs of the items that link to the template directly or via other templates, closest first
+     */
+    public synchronized Set<String> getTransitiveDependents(final String templateUri) {
+        return closure(templateUri, t -> m_incoming.getOrDefault(t, Collections.emptyNavigableSet()), Link::itemUri);
+    }
+
+    /**
+     * @param itemUri URI of an item
+     * @return the URIs of the templates the item links to directly or via other templates, closest first
+     */
+    public synchronized Set<String> getTransitiveDependencies(final String itemUri) {
+        return closure(itemUri, i -> m_outgoing.getOrDefault(i, List.of()), Link::templateUri);
+    }
+
+    /**
+     * @param templateUri URI of a template
+     * @return the links to the template that are older than its current timestamp, empty if the template is not part
+     *         of the graph
+     */
+    public synchronized List<Link> getStaleLinksTo(final String templateUri) {
+        final var timestamp = m_timestamps.get(templateUri);
+        final var incoming = m_incoming.get(templateUri);
+        if (timestamp == null || incoming == null) {
+            return List.of();
+        }
+        // a link with the minimal order among those with the template's timestamp
+        final var bound = new Link("", "", templateUri, timestamp);
+        return List.copyOf(incoming.headSet(bound, false));
+    }
+
+    /**
+     * @param itemUri URI of an item
+     * @return the links of the item that are older than the current timestamp of their template; links to templates
+     *         that are not part of the graph are never stale
+     */
+    public synchronized List<Link> getStaleLinks(final String itemUri) {
+        final var result = new ArrayList<Link>();
+        for (var link : m_outgoing.getOrDefault(itemUri, List.of())) {
+            final var timestamp = m_timestamps.get(link.templateUri());
+            if (timestamp != null && link.instant().isBefore(timestamp.toInstant())) {
+                result.add(link);
+            }
+        }
+        return result;
+    }
+
+    private boolean removeLinks(final String itemUri) {
+        final var links = m_outgoing.remove(itemUri);
+        if (links == null) {
+            return false;
+        }
+        for (var link : links) {
+            final var incoming = m_incoming.get(link.templateUri());
+            incoming.remove(link);
+            if (incoming.isEmpty()) {
+                m_incoming.remove(link.templateUri());
+            }
+        }
+        return true;
+    }
+
+    private static <T> Set<String> closure(final String start, final Function<String, Collection<T>> edges,
+        final Function<T, String> target) {
+        final var visited = new LinkedHashSet<String>();
+        final var queue = new ArrayDeque<String>();
+        queue.add(start);
+        while (!queue.isEmpty()) {
+            for (var edge : edges.apply(queue.poll())) {
+                final var next = target.apply(edge);
+                // cyclic links are not possible in KNIME, but don't rely on it
+                if (!next.equals(start) && visited.add(next)) {
+                    queue.add(next);
+                }
+            }
+        }
+        return visited;
+    }
+
+    private void collectLinks(final String itemUri, final String parentPath, final WorkflowDef workflow,
+        final List<Link> links) {
+        if (workflow == null || workflow.getNodes() == null) {
+            return;
+        }
+        for (BaseNodeDef node : workflow.getNodes().values()) {
+            final var path = parentPath + node.getId();
+            if (node instanceof ComponentNodeDef component) {
+                addLink(itemUri, path, component.getTemplateInfo(), links);
+                collectLinks(itemUri, path + ':', component.getWorkflow(), links);
+            } else if (node instanceof MetaNodeDef metanode) {
+                addLink(itemUri, path, metanode.getLink(), links);
+                collectLinks(itemUri, path + ':', metanode.getWorkflow(), links);
+            }
+        }
+    }
+
+    private void addLink(final String itemUri, final String path, final TemplateInfoDef templateInfo,
+        final List<Link> links) {
+        if (templateInfo != null && templateInfo.getUri() != null && !templateInfo.getUri().isEmpty()) {
+            final var templateUri = m_resolver.apply(itemUri, templateInfo.getUri());
+            links.add(new Link(itemUri, path, templateUri, templateInfo.getUpdatedAt()));
+        }
+    }
+
+    private static OffsetDateTime timestamp(final TemplateInfoDef templateInfo) {
+        return templateInfo == null ? null : templateInfo.getUpdatedAt();
+    }
+}
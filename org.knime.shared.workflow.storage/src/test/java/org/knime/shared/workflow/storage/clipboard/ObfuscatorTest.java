@@ -50,6 +50,11 @@
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
 import org.junit.jupiter.api.Test;
 import org.knime.shared.workflow.storage.clipboard.SystemClipboardFormat.ObfuscatorException;
 
@@ -81,4 +86,21 @@ void testDeobfuscate() throws ObfuscatorException {
         assertThat(deobfuscated).as("Deobfuscation failed. Original content was not restored.").isEqualTo(original);
     }
 
+    /**
+     * Test method for {@link Obfuscator#obfuscating(java.io.OutputStream)} and
+     * {@link Obfuscator#deobfuscating(java.io.InputStream)}.
+     */
+    @Test
+    void testStreams() throws ObfuscatorException, IOException {
+        var original = "secret 🤑㋉".repeat(1000).getBytes(StandardCharsets.UTF_8);
+        var out = new ByteArrayOutputStream();
+        try (var obfuscating = Obfuscator.obfuscating(out)) {
+            obfuscating.write(original);
+        }
+        assertThat(out.toString(StandardCharsets.UTF_8)).doesNotContain("secret");
+        try (var deobfuscating = Obfuscator.deobfuscating(new ByteArrayInputStream(out.toByteArray()))) {
+            assertThat(deobfuscating.readAllBytes()).isEqualTo(original);
+        }
+    }
+
 }
@@ -51,6 +51,8 @@
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
@@ -60,6 +62,7 @@
 import org.knime.shared.workflow.def.impl.WorkflowDefBuilder;
 import org.knime.shared.workflow.storage.clipboard.DefClipboardContent.Version;
 import org.knime.shared.workflow.storage.clipboard.SystemClipboardFormat.ObfuscatorException;
+import org.knime.shared.workflow.storage.text.util.ObjectMapperUtil;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 
@@ -110,6 +113,39 @@ void testDeserializeFail()
             .isThrownBy(() -> SystemClipboardFormat.deserialize("garbage"));
         assertThatExceptionOfType(ObfuscatorException.class)
             .isThrownBy(() -> SystemClipboardFormat.deserialize("01garbage"));
+        assertThatExceptionOfType(ObfuscatorException.class)
+            .isThrownBy(() -> SystemClipboardFormat.deserialize("02garbage"));
+        assertThatExceptionOfType(ObfuscatorException.class)
+            .isThrownBy(() -> SystemClipboardFormat.deserialize("02"));
+    }
+
+    /**
+     * Large, repetitive contents are compressed and content in the previous format version can still be read.
+     */
+    @Test
+    void testCompressionAndVersion1() throws Exception {
+        var builder = new WorkflowDefBuilder();
+        for (var i = 0; i < 500; i++) {
+            var annotation = new AnnotationDataDefBuilder().setText("secret " + i).build();
+            builder.putToAnnotations(Integer.toString(i), annotation);
+        }
+        var original = new DefClipboardContent(builder.build());
+        var json = ObjectMapperUtil.toString(original);
+
+        var serialized = SystemClipboardFormat.serialize(original);
+        assertThat(serialized).startsWith("02").doesNotContain("secret");
+        assertThat(serialized.length()).isLessThan(json.length() / 4);
+        assertThat(SystemClipboardFormat.deserialize(serialized).getPayload()).isEqualTo(original.getPayload());
+
+        var out = new ByteArrayOutputStream();
+        SystemClipboardFormat.serialize(original, out);
+        var fromStream = SystemClipboardFormat.deserialize(out.toString(StandardCharsets.US_ASCII));
+        assertThat(fromStream.getPayloadIdentifier()).isEqualTo(original.getPayloadIdentifier());
+
+        var version1 = "01" + Obfuscator.obfuscate(json);
+        var fromVersion1 = SystemClipboardFormat.deserialize(version1);
+        assertThat(fromVersion1.getPayloadIdentifier()).isEqualTo(original.getPayloadIdentifier());
+        assertThat(fromVersion1.getPayload()).isEqualTo(original.getPayload());
     }
 
 }
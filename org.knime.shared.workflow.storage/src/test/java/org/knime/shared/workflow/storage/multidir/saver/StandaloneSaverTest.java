@@ -51,12 +51,21 @@
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
 
 import javax.xml.parsers.ParserConfigurationException;
 
@@ -65,6 +74,7 @@
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.config.base.SimpleConfig;
 import org.knime.core.node.config.base.XMLConfig;
@@ -72,9 +82,13 @@
 import org.knime.shared.workflow.def.ConfigValueDef;
 import org.knime.shared.workflow.def.CredentialPlaceholderDef;
 import org.knime.shared.workflow.def.FlowVariableDef;
+import org.knime.shared.workflow.def.NativeNodeDef;
 import org.knime.shared.workflow.def.RootWorkflowDef;
 import org.knime.shared.workflow.def.StandaloneDef;
 import org.knime.shared.workflow.def.StandaloneDef.ContentTypeEnum;
+import org.knime.shared.workflow.def.impl.NativeNodeDefBuilder;
+import org.knime.shared.workflow.def.impl.RootWorkflowDefBuilder;
+import org.knime.shared.workflow.def.impl.StandaloneDefBuilder;
 import org.knime.shared.workflow.storage.multidir.loader.NodeLoaderTestUtils;
 import org.knime.shared.workflow.storage.multidir.loader.StandaloneLoader;
 import org.knime.shared.workflow.storage.multidir.util.IOConst;
@@ -230,6 +244,153 @@ void testMetaNodeStandalone() throws IOException, SAXException, ParserConfigurat
         assertThat(templateInfo.getString(IOConst.WORKFLOW_TEMPLATE_TYPE_KEY.get())).isEqualTo("MetaNode");
     }
 
+    /**
+     * Saving concurrently into a staging directory must write the same files as saving sequentially, replace the
+     * settings files of an existing directory while retaining its other files, and not leave any staging or backup
+     * directories behind.
+     *
+     * @throws Exception
+     */
+    @Test
+    void testConcurrentSave(@TempDir final Path tempDir) throws Exception {
+        var standalone = StandaloneLoader.load(NodeLoaderTestUtils.readResourceFolder("Workflow_Test"));
+        new StandaloneSaver(standalone).save(tempDir.toFile(), "sequential");
+
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            var concurrentDir = tempDir.resolve("concurrent");
+            new StandaloneSaver(standalone).save(tempDir.toFile(), "concurrent", executor);
+            var sequentialDir = tempDir.resolve("sequential");
+            var sequentialFiles = relativeFiles(sequentialDir);
+            assertThat(sequentialFiles).isNotEmpty();
+            // outdated settings and node data which the next save must keep
+            var settingsFile = concurrentDir.resolve(sequentialFiles.get(0));
+            Files.writeString(settingsFile, "outdated");
+            var dataFile = settingsFile.resolveSibling("data").resolve("data.bin");
+            Files.createDirectories(dataFile.getParent());
+            Files.writeString(dataFile, "node data");
+            new StandaloneSaver(standalone).save(tempDir.toFile(), "concurrent", executor);
+            assertThat(dataFile).hasContent("node data");
+            Files.delete(dataFile);
+            Files.delete(dataFile.getParent());
+
+            assertThat(relativeFiles(concurrentDir)).containsExactlyElementsOf(sequentialFiles);
+            for (var file : sequentialFiles) {
+                assertThat(concurrentDir.resolve(file)).hasSameTextualContentAs(sequentialDir.resolve(file));
+            }
+            try (var children = Files.list(tempDir)) {
+                assertThat(children.map(p -> p.getFileName().toString())).containsExactlyInAnyOrder("sequential",
+                    "concurrent");
+            }
+            assertThat(StandaloneLoader.load(concurrentDir.toFile()).getContents())
+                .isEqualTo(StandaloneLoader.load(sequentialDir.toFile()).getContents());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * A concurrent writer must fail the save if a node cannot be saved.
+     *
+     * @throws Exception
+     */
+    @Test
+    void testConcurrentSaveFailsOnNodeFailure(@TempDir final Path tempDir) throws Exception {
+        var standalone = StandaloneLoader.load(NodeLoaderTestUtils.readResourceFolder("Workflow_Test"));
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            // the node directories cannot be created in a workflow directory that does not exist
+            var writer = new SettingsWriter.Concurrent(executor);
+            new WorkflowSaver((RootWorkflowDef)standalone.getContents(), standalone.getCreator(), writer)
+                .save(tempDir.resolve("missing").toFile());
+            assertThatExceptionOfType(IOException.class).isThrownBy(writer::awaitCompletion)
+                .withMessageContaining("does not exist");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Saving incrementally must only rewrite the settings files of modified nodes and delete those of removed nodes.
+     *
+     * @throws Exception
+     */
+    @Test
+    void testIncrementalSave(@TempDir final Path tempDir) throws Exception {
+        var standalone = StandaloneLoader.load(NodeLoaderTestUtils.readResourceFolder("Workflow_Test"));
+        var saver = new StandaloneSaver(standalone);
+        var first = saver.saveIncrementally(tempDir.toFile(), "workflow");
+        assertThat(first.filesWritten()).isPositive();
+        assertThat(first.filesUnchanged()).isZero();
+
+        var second = saver.saveIncrementally(tempDir.toFile(), "workflow");
+        assertThat(second).isEqualTo(new StandaloneSaver.IncrementalSaveResult(0, first.filesWritten(), 0));
+
+        // modify one native node and remove another one
+        var workflow = (RootWorkflowDef)standalone.getContents();
+        var nativeNodeKeys = workflow.getNodes().entrySet().stream() //
+            .filter(e -> e.getValue() instanceof NativeNodeDef) //
+            .map(Map.Entry::getKey) //
+            .toList();
+        var modified = new NativeNodeDefBuilder((NativeNodeDef)workflow.getNodes().get(nativeNodeKeys.get(0))) //
+            .setCustomDescription("modified") //
+            .build();
+        var changedWorkflow =
+            spy(new RootWorkflowDefBuilder(workflow).putToNodes(nativeNodeKeys.get(0), modified).build());
+        // the builder has no means to remove a node
+        var nodes = new LinkedHashMap<>(changedWorkflow.getNodes());
+        nodes.remove(nativeNodeKeys.get(1));
+        doReturn(nodes).when(changedWorkflow).getNodes();
+        var changed = new StandaloneDefBuilder(standalone).setContents(changedWorkflow).build();
+
+        var third = new StandaloneSaver(changed).saveIncrementally(tempDir.toFile(), "workflow");
+        // the node's settings.xml and the workflow.knime (which no longer lists the removed node)
+        assertThat(third.filesWritten()).isEqualTo(2);
+        assertThat(third.filesDeleted()).isEqualTo(1);
+        assertThat(third.filesUnchanged()).isEqualTo(first.filesWritten() - 3);
+        assertThat(tempDir.resolve("workflow").toFile().list()).hasSize(nodes.size() + 2);
+
+        // the result is the same as saving the changed workflow from scratch
+        new StandaloneSaver(changed).save(tempDir.toFile(), "full");
+        assertThat(StandaloneLoader.load(tempDir.resolve("workflow").toFile()).getContents())
+            .isEqualTo(StandaloneLoader.load(tempDir.resolve("full").toFile()).getContents());
+    }
+
+    /**
+     * Entries of a manifest that do not denote a file within the saved directory must not be deleted.
+     *
+     * @throws Exception
+     */
+    @Test
+    void testIncrementalSaveIgnoresForeignManifestEntries(@TempDir final Path tempDir) throws Exception {
+        var standalone = StandaloneLoader.load(NodeLoaderTestUtils.readResourceFolder("Workflow_Test"));
+        var saver = new StandaloneSaver(standalone);
+        saver.saveIncrementally(tempDir.toFile(), "workflow");
+
+        var outside = Files.writeString(tempDir.resolve("outside.xml"), "outside");
+        var absolute = Files.writeString(tempDir.resolve("absolute.xml"), "absolute");
+        var manifest = tempDir.resolve("workflow").resolve(IncrementalSettingsWriter.MANIFEST_FILE_NAME);
+        var record = "0123 7 0 ";
+        Files.writeString(manifest, String.join("\n", //
+            record + "../outside.xml", //
+            record + "node/../../outside.xml", //
+            record + absolute.toAbsolutePath(), //
+            record + "."), StandardOpenOption.APPEND);
+
+        var result = saver.saveIncrementally(tempDir.toFile(), "workflow");
+        assertThat(result.filesDeleted()).isZero();
+        assertThat(outside).exists();
+        assertThat(absolute).exists();
+        assertThat(tempDir.resolve("workflow")).isDirectory();
+        assertThat(Files.readString(manifest)).doesNotContain("outside.xml", "absolute.xml");
+    }
+
+    private static List<Path> relativeFiles(final Path dir) throws IOException {
+        try (var files = Files.walk(dir)) {
+            return files.filter(Files::isRegularFile).map(dir::relativize).sorted().toList();
+        }
+    }
+
     @AfterEach
     void cleanup() throws IOException {
         FileUtils.cleanDirectory(OUTPUT_DIR);
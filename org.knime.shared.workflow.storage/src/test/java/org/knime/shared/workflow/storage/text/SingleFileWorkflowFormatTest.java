@@ -0,0 +1,164 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.shared.workflow.storage.text;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.knime.shared.workflow.def.StandaloneDef;
+import org.knime.shared.workflow.def.WorkflowDef;
+import org.knime.shared.workflow.storage.multidir.loader.NodeLoaderTestUtils;
+import org.knime.shared.workflow.storage.multidir.loader.StandaloneLoader;
+import org.knime.shared.workflow.storage.multidir.saver.StandaloneSaver;
+
+import com.fasterxml.jackson.core.JsonParseException;
+
+/**
+ * Tests for {@link SingleFileWorkflowFormat}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+class SingleFileWorkflowFormatTest {
+
+    private static void assertSameStandalone(final StandaloneDef actual, final StandaloneDef expected) {
+        assertThat(actual.getContentType()).isEqualTo(expected.getContentType());
+        assertThat(actual.getCreator()).isEqualTo(expected.getCreator());
+        assertThat(actual.getContents()).isEqualTo(expected.getContents());
+    }
+
+    /**
+     * Loading from the multidir format, writing a single file, reading it, and saving it to the multidir format again
+     * must not lose anything, i.e., result in the same files as saving the loaded def right away.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"Workflow_Test", "Component_Template", "Metanode_Template"})
+    void testRoundTripWithMultidirFormat(final String resource, @TempDir final Path tempDir) throws IOException {
+        var standalone = StandaloneLoader.load(NodeLoaderTestUtils.readResourceFolder(resource));
+        new StandaloneSaver(standalone).save(tempDir.toFile(), resource + "_expected");
+        var expectedDir = tempDir.resolve(resource + "_expected");
+
+        for (var format : new SingleFileWorkflowFormat[]{SingleFileWorkflowFormat.json(),
+            SingleFileWorkflowFormat.json().withCompression(true)}) {
+            var file = tempDir.resolve(resource + (format.isCompressed() ? ".json.gz" : ".json"));
+            format.write(standalone, file);
+            // compression is detected when reading, regardless of the format instance
+            var read = SingleFileWorkflowFormat.json().read(file);
+            assertSameStandalone(read, standalone);
+
+            var dirName = resource + (format.isCompressed() ? "_compressed" : "");
+            new StandaloneSaver(read).save(tempDir.toFile(), dirName);
+            assertSameFiles(tempDir.resolve(dirName), expectedDir);
+        }
+    }
+
+    private static void assertSameFiles(final Path actualDir, final Path expectedDir) throws IOException {
+        var expectedFiles = relativeFiles(expectedDir);
+        assertThat(relativeFiles(actualDir)).containsExactlyElementsOf(expectedFiles);
+        for (var file : expectedFiles) {
+            assertThat(actualDir.resolve(file)).hasSameBinaryContentAs(expectedDir.resolve(file));
+        }
+    }
+
+    private static List<Path> relativeFiles(final Path dir) throws IOException {
+        try (var files = Files.walk(dir)) {
+            return files.filter(Files::isRegularFile).map(dir::relativize).sorted().toList();
+        }
+    }
+
+    @Test
+    void testCompressionAndDocumentStructure() throws IOException {
+        var standalone = StandaloneLoader.load(NodeLoaderTestUtils.readResourceFolder("Workflow_Test"));
+        var plain = new ByteArrayOutputStream();
+        SingleFileWorkflowFormat.json().write(standalone, plain);
+        var compressed = new ByteArrayOutputStream();
+        SingleFileWorkflowFormat.json().withCompression(true).write(standalone, compressed);
+
+        assertThat(compressed.size()).isLessThan(plain.size() / 3);
+        assertThat(plain.toString(StandardCharsets.UTF_8))
+            .startsWith("{\"format\":\"knime-standalone\",\"formatVersion\":1,\"creator\":");
+    }
+
+    @Test
+    void testInvalidDocuments() {
+        var format = SingleFileWorkflowFormat.json();
+        assertThatExceptionOfType(JsonParseException.class)
+            .isThrownBy(() -> format.read(stream("[1, 2, 3]")));
+        assertThatExceptionOfType(JsonParseException.class)
+            .isThrownBy(() -> format.read(stream("{\"format\":\"something else\",\"contentType\":\"Workflow\"}")));
+        assertThatExceptionOfType(JsonParseException.class)
+            .isThrownBy(() -> format.read(stream("{\"format\":\"knime-standalone\",\"formatVersion\":2}")));
+        assertThatExceptionOfType(JsonParseException.class)
+            .isThrownBy(() -> format.read(stream("{\"format\":\"knime-standalone\",\"formatVersion\":1}")));
+    }
+
+    /** The contents may precede their type, e.g., if the document has been written by another tool. */
+    @Test
+    void testContentsBeforeContentType() throws IOException {
+        var document = "{\"contents\":{\"name\":\"wf\"},\"format\":\"knime-standalone\",\"contentType\":\"Workflow\"}";
+        var read = SingleFileWorkflowFormat.json().read(stream(document));
+        assertThat(read.getContentType()).isEqualTo(StandaloneDef.ContentTypeEnum.WORKFLOW);
+        assertThat(((WorkflowDef)read.getContents()).getName()).isEqualTo("wf");
+    }
+
+    private static ByteArrayInputStream stream(final String document) {
+        return new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -51,11 +51,17 @@
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Collections;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+
 import org.junit.jupiter.api.Test;
 import org.knime.shared.workflow.def.AnnotationDataDef;
+import org.knime.shared.workflow.def.ConfigDef;
 import org.knime.shared.workflow.def.WorkflowDef;
 import org.knime.shared.workflow.def.impl.AnnotationDataDefBuilder;
 import org.knime.shared.workflow.def.impl.WorkflowDefBuilder;
+import org.knime.shared.workflow.storage.multidir.util.LoaderUtils;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 
@@ -88,4 +94,46 @@ void testSpecialCharacters() throws JsonProcessingException {
             .as("Read annotation text differs from the text that was written.").isEqualTo(annotationText);
     }
 
+    /**
+     * The shared mapper must produce the same results when used by several threads at once.
+     */
+    @Test
+    void testConcurrentUse() throws Exception {
+        var util = ObjectMapperUtil.getInstance();
+        assertThat(util.getObjectMapper()).isSameAs(ObjectMapperUtil.getInstance().getObjectMapper());
+
+        var builder = new WorkflowDefBuilder().setName("concurrent");
+        for (var i = 0; i < 50; i++) {
+            builder.putToAnnotations(Integer.toString(i), new AnnotationDataDefBuilder().setText("text " + i).build());
+        }
+        var wf = builder.build();
+        var expected = util.getObjectMapper().writeValueAsString(wf);
+
+        Callable<Boolean> roundTrip = () -> {
+            var json = ObjectMapperUtil.toString(wf);
+            return json.equals(expected) && ObjectMapperUtil.fromString(json, WorkflowDef.class).equals(wf);
+        };
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            var results = executor.invokeAll(Collections.nCopies(16, roundTrip));
+            for (var result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(ObjectMapperUtil.toString(null)).isEqualTo("null");
+    }
+
+    /**
+     * The default config map is written with its type, such that it can be read back as a {@link ConfigDef}, like the
+     * config maps loaded from a workflow.
+     * @throws JsonProcessingException
+     */
+    @Test
+    void testDefaultConfigMapRoundTrip() throws JsonProcessingException {
+        var json = ObjectMapperUtil.toString(LoaderUtils.DEFAULT_CONFIG_MAP);
+        assertThat(ObjectMapperUtil.fromString(json, ConfigDef.class)).isEqualTo(LoaderUtils.DEFAULT_CONFIG_MAP);
+    }
+
 }
@@ -0,0 +1,137 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.shared.workflow.storage.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.config.base.SimpleConfig;
+import org.knime.shared.workflow.def.NativeNodeDef;
+import org.knime.shared.workflow.def.WorkflowDef;
+import org.knime.shared.workflow.def.impl.ConfigMapDefBuilder;
+import org.knime.shared.workflow.def.impl.ConfigValueDoubleDefBuilder;
+import org.knime.shared.workflow.def.impl.NativeNodeDefBuilder;
+import org.knime.shared.workflow.def.impl.WorkflowDefBuilder;
+import org.knime.shared.workflow.storage.multidir.util.LoaderUtils;
+
+/**
+ * Tests for {@link DefDiff}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@SuppressWarnings("static-method")
+class DefDiffTest {
+
+    private static WorkflowDef createWorkflow(final int numNodes) throws InvalidSettingsException {
+        var builder = new WorkflowDefBuilder().setName("workflow");
+        for (var i = 0; i < numNodes; i++) {
+            var settings = new SimpleConfig("model");
+            settings.addDouble("threshold", 0.5);
+            settings.addString("column", "column " + i);
+            builder.putToNodes("node_" + i, new NativeNodeDefBuilder() //
+                .setId(i) //
+                .setNodeName("Node " + i) //
+                .setModelSettings(LoaderUtils.toConfigMapDef(settings)) //
+                .build());
+        }
+        return builder.build();
+    }
+
+    private static WorkflowDef changeThreshold(final WorkflowDef workflow, final String nodeKey, final double value) {
+        var node = (NativeNodeDef)workflow.getNodes().get(nodeKey);
+        var settings = new ConfigMapDefBuilder(node.getModelSettings()) //
+            .putToChildren("threshold", new ConfigValueDoubleDefBuilder() //
+                .setValue(value) //
+                .setConfigType("ConfigValueDouble") //
+                .build()) //
+            .build();
+        return new WorkflowDefBuilder(workflow) //
+            .putToNodes(nodeKey, new NativeNodeDefBuilder(node).setModelSettings(settings).build()) //
+            .build();
+    }
+
+    @Test
+    void testEqualWorkflows() throws InvalidSettingsException {
+        var workflow = createWorkflow(100);
+        assertThat(DefDiff.changedPaths(workflow, workflow)).isEmpty();
+        // independently created, i.e., nothing is shared
+        var other = createWorkflow(100);
+        assertThat(other).isEqualTo(workflow).hasSameHashCodeAs(workflow);
+        assertThat(DefDiff.changedPaths(workflow, other)).isEmpty();
+    }
+
+    @Test
+    void testChangedSetting() throws InvalidSettingsException {
+        var workflow = createWorkflow(1_000);
+        var changed = changeThreshold(changeThreshold(workflow, "node_17", 0.7), "node_512", 0.1);
+
+        assertThat(changed).isNotEqualTo(workflow);
+        assertThat(changed.getNodes().get("node_18")).isSameAs(workflow.getNodes().get("node_18"));
+        assertThat(DefDiff.changedPaths(workflow, changed)).containsExactly( //
+            "nodes/node_17/modelSettings/children/threshold/value", //
+            "nodes/node_512/modelSettings/children/threshold/value");
+
+        // changing it back results in an equal (but not identical) workflow
+        var reverted = changeThreshold(changed, "node_17", 0.5);
+        assertThat(DefDiff.changedPaths(workflow, reverted)).containsExactly(
+            "nodes/node_512/modelSettings/children/threshold/value");
+    }
+
+    @Test
+    void testAddedAndRemovedNodes() throws InvalidSettingsException {
+        var workflow = createWorkflow(10);
+        var changed = new WorkflowDefBuilder(workflow) //
+            .setName("renamed") //
+            .putToNodes("node_10", new NativeNodeDefBuilder().setId(10).setNodeName("New").build()) //
+            .build();
+        assertThat(DefDiff.changedPaths(workflow, changed)).containsExactly("name", "nodes/node_10");
+        assertThat(DefDiff.changedPaths(changed, workflow)).containsExactly("name", "nodes/node_10");
+    }
+}
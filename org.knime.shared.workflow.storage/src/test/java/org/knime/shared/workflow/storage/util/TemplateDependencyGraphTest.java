@@ -0,0 +1,144 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026: created
+ */
+package org.knime.shared.workflow.storage.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.knime.shared.workflow.storage.multidir.loader.NodeLoaderTestUtils;
+import org.knime.shared.workflow.storage.multidir.loader.StandaloneLoader;
+import org.knime.shared.workflow.storage.util.TemplateDependencyGraph.Link;
+
+/**
+ * Tests for {@link TemplateDependencyGraph}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@SuppressWarnings("static-method")
+class TemplateDependencyGraphTest {
+
+    private static final OffsetDateTime T1 = OffsetDateTime.parse("2022-01-01T00:00:00+01:00");
+
+    private static final OffsetDateTime T2 = OffsetDateTime.parse("2022-02-01T00:00:00+01:00");
+
+    private static final OffsetDateTime T3 = OffsetDateTime.parse("2022-03-01T00:00:00+01:00");
+
+    /**
+     * The links of loaded workflows and templates are found, also in nested nodes.
+     */
+    @Test
+    void testLoadedItems() throws Exception {
+        final var graph = new TemplateDependencyGraph((item, link) -> link.replace("knime.mountpoint", "hub"));
+        graph.put("knime://hub/Workflow_Test",
+            StandaloneLoader.load(NodeLoaderTestUtils.readResourceFolder("Workflow_Test")));
+        graph.put("knime://hub/Component",
+            StandaloneLoader.load(NodeLoaderTestUtils.readResourceFolder("Component_Template")));
+
+        assertThat(graph.getLinks("knime://hub/Workflow_Test")).extracting(Link::templateUri)
+            .contains("knime://hub/Component");
+        assertThat(graph.getLinks("knime://hub/Component")).isEmpty();
+        assertThat(graph.getDependents("knime://hub/Component")).containsExactly("knime://hub/Workflow_Test");
+        // the link is newer than the template
+        assertThat(graph.getStaleLinksTo("knime://hub/Component")).isEmpty();
+        assertThat(graph.getStaleLinks("knime://hub/Workflow_Test")).isEmpty();
+    }
+
+    /**
+     * Stale links are links older than the current timestamp of their template; updating a template's timestamp
+     * updates the result.
+     */
+    @Test
+    void testStaleLinks() {
+        final var graph = new TemplateDependencyGraph();
+        graph.put("a", null, List.of(new Link("a", "1", "t", T1), new Link("a", "2:3", "t", T2)));
+        graph.put("b", null, List.of(new Link("b", "1", "t", T3), new Link("b", "2", "u", null)));
+        // unknown templates have no stale links
+        assertThat(graph.getStaleLinksTo("t")).isEmpty();
+
+        graph.put("t", T2, List.of());
+        assertThat(graph.getStaleLinksTo("t")).containsExactly(new Link("a", "1", "t", T1));
+        assertThat(graph.getStaleLinks("a")).containsExactly(new Link("a", "1", "t", T1));
+        assertThat(graph.getStaleLinks("b")).isEmpty();
+
+        graph.put("t", T3, List.of());
+        assertThat(graph.getStaleLinksTo("t")).extracting(Link::nodePath).containsExactly("1", "2:3");
+        graph.put("u", T1, List.of());
+        assertThat(graph.getStaleLinks("b")).containsExactly(new Link("b", "2", "u", null));
+
+        // updating an item replaces its links
+        graph.put("a", null, List.of(new Link("a", "1", "t", T3)));
+        assertThat(graph.getStaleLinksTo("t")).isEmpty();
+        assertThat(graph.getLinksTo("t")).extracting(Link::itemUri).containsExactly("a", "b");
+    }
+
+    /**
+     * Dependents and dependencies are found transitively, removed items are not reported anymore.
+     */
+    @Test
+    void testTransitiveClosure() {
+        final var graph = new TemplateDependencyGraph();
+        graph.put("workflow", null, List.of(new Link("workflow", "1", "outer", T1)));
+        graph.put("outer", T1, List.of(new Link("outer", "4", "inner", T1), new Link("outer", "5", "other", T1)));
+        graph.put("inner", T1, List.of());
+        graph.put("other", T1, List.of(new Link("other", "1", "inner", T1)));
+
+        assertThat(graph.getDependents("inner")).containsExactlyInAnyOrder("outer", "other");
+        assertThat(graph.getTransitiveDependents("inner")).containsExactlyInAnyOrder("outer", "other", "workflow");
+        assertThat(graph.getTransitiveDependencies("workflow")).containsExactly("outer", "inner", "other");
+
+        assertThat(graph.remove("outer")).isTrue();
+        assertThat(graph.remove("outer")).isFalse();
+        assertThat(graph.getTransitiveDependents("inner")).containsExactly("other");
+        // the link to the removed template is kept
+        assertThat(graph.getTransitiveDependencies("workflow")).containsExactly("outer");
+    }
+}